@@ -0,0 +1,260 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration test for GoalRepositoryImpl and AsyncGoalRepositoryImpl against
+ * DynamoDB Local, so request shapes, key and condition expressions and
+ * transactions are checked by a real DynamoDB engine. Each test works in its
+ * own user's partition of one shared table.
+ */
+class GoalRepositoryImplIntegrationTest {
+    private static final String CHARACTER = "Zezima";
+
+    private static LocalGoalTable table;
+
+    private GoalRepositoryImpl repository;
+    private String userId;
+    private Instant start;
+
+    @BeforeAll
+    static void startTable() {
+        table = LocalGoalTable.start();
+    }
+
+    @AfterAll
+    static void stopTable() {
+        table.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = table.repository(ProgressWriteSuppressor.DISABLED, ProgressHistoryLayout.USER);
+        userId = UUID.randomUUID().toString();
+        start = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Test
+    void createGoal_NewGoal_IsReadBackWithItsProgress() {
+        // Act
+        Goal created = repository.createGoal(newGoal(500L));
+
+        // Assert
+        Goal read = repository.getGoal(userId, CHARACTER, created.getGoalId()).orElseThrow();
+        assertEquals("WOODCUTTING", read.getTargetAttribute());
+        assertEquals(500L, read.getCurrentProgress());
+        assertEquals(List.of(created.getGoalId()), repository.listGoalsForCharacter(userId, CHARACTER, null, 10)
+                .getItems().stream().map(Goal::getGoalId).toList());
+        GoalProgressSnapshot snapshot = repository.getGoalProgressSnapshot(userId, CHARACTER, created.getGoalId())
+                .orElseThrow();
+        assertEquals(500L, snapshot.getEarliest().getProgressValue());
+        assertEquals(500L, snapshot.getLatest().getProgressValue());
+    }
+
+    @Test
+    void createGoalProgress_SeveralUpdates_AreListedInTimeOrder() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal(0L)).getGoalId();
+
+        // Act
+        for (int i = 1; i <= 5; i++) {
+            repository.createGoalProgress(progress(goalId, start.plusSeconds(i), i * 100L));
+        }
+
+        // Assert
+        List<Long> values = Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(userId, CHARACTER,
+                goalId, start.plusSeconds(1), start.plusSeconds(60), cursor, 2))
+                .map(GoalProgressPoint::getProgressValue)
+                .toList();
+        assertEquals(List.of(100L, 200L, 300L, 400L, 500L), values);
+        assertEquals(500L, repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress());
+    }
+
+    @Test
+    void createGoalProgress_RedeliveredEvent_IsWrittenOnce() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal(0L)).getGoalId();
+        Goal update = progress(goalId, start.plusSeconds(1), 100L);
+        update.setProgressEventId("event-1");
+
+        // Act
+        repository.createGoalProgress(update);
+        table.repository(ProgressWriteSuppressor.DISABLED, ProgressHistoryLayout.USER).createGoalProgress(update);
+
+        // Assert
+        assertEquals(1, repository.listGoalProgress(userId, CHARACTER, goalId, start.plusSeconds(1),
+                start.plusSeconds(60), null, 10).getItems().size());
+    }
+
+    @Test
+    void createGoalProgressBatch_MoreRowsThanOneBatchWrite_WritesEveryUpdate() {
+        // Arrange
+        List<String> goalIds = List.of(repository.createGoal(newGoal(0L)).getGoalId(),
+                repository.createGoal(newGoal(0L)).getGoalId());
+        List<Goal> updates = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            for (String goalId : goalIds) {
+                updates.add(progress(goalId, start.plusSeconds(i), i * 10L));
+            }
+        }
+
+        // Act
+        List<GoalProgressWriteResult> results = repository.createGoalProgressBatch(updates);
+
+        // Assert
+        assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+        for (String goalId : goalIds) {
+            assertEquals(300L, repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress());
+            assertEquals(30L, Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(userId,
+                    CHARACTER, goalId, start.plusSeconds(1), start.plusSeconds(60), cursor, 7)).count());
+        }
+    }
+
+    @Test
+    void createGoalProgress_CoalescingLatest_UpdatesLatestOnlyOnFlush() {
+        // Arrange
+        GoalRepositoryImpl coalescingRepository = table.repository(ProgressWriteSuppressor.DISABLED,
+                ProgressHistoryLayout.USER, LatestProgressBuffer.coalescing(100, Duration.ofHours(1)));
+        String goalId = coalescingRepository.createGoal(newGoal(0L)).getGoalId();
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            coalescingRepository.createGoalProgress(progress(goalId, start.plusSeconds(i), i * 100L));
+        }
+        coalescingRepository.createGoalProgress(progress(goalId, start.plusSeconds(3), 300L));
+        long latestBeforeFlush = repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress();
+        coalescingRepository.flushProgress();
+
+        // Assert
+        assertEquals(0L, latestBeforeFlush);
+        assertEquals(300L, repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress());
+        assertEquals(3, repository.listGoalProgress(userId, CHARACTER, goalId, start.plusSeconds(1),
+                start.plusSeconds(60), null, 10).getItems().size());
+    }
+
+    @Test
+    void createGoalProgress_OlderUpdateAfterNewer_KeepsNewerLatestAndBothHistoryRows() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal(0L)).getGoalId();
+
+        // Act
+        repository.createGoalProgress(progress(goalId, start.plusSeconds(2), 200L));
+        repository.createGoalProgress(progress(goalId, start.plusSeconds(1), 100L));
+
+        // Assert
+        assertEquals(200L, repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress());
+        assertEquals(List.of(100L, 200L), repository.listGoalProgress(userId, CHARACTER, goalId,
+                start.plusSeconds(1), start.plusSeconds(60), null, 10).getItems().stream()
+                .map(GoalProgressPoint::getProgressValue).toList());
+    }
+
+    @Test
+    void listGoalProgress_LayoutSwitchedMidHistory_ReadsBothPartitions() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal(0L)).getGoalId();
+        GoalRepositoryImpl goalLayoutRepository = table.repository(ProgressWriteSuppressor.DISABLED,
+                ProgressHistoryLayout.GOAL);
+        for (int i = 1; i <= 6; i++) {
+            GoalRepositoryImpl writer = i % 2 == 0 ? goalLayoutRepository : repository;
+            writer.createGoalProgress(progress(goalId, start.plusSeconds(i), i * 100L));
+        }
+
+        // Act
+        List<Long> values = Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(userId, CHARACTER,
+                goalId, start.plusSeconds(1), start.plusSeconds(60), cursor, 4))
+                .map(GoalProgressPoint::getProgressValue)
+                .toList();
+
+        // Assert
+        assertEquals(List.of(100L, 200L, 300L, 400L, 500L, 600L), values);
+    }
+
+    @Test
+    void compactGoalProgress_OldWeeks_RollsUpAndDeletesRawRecords() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal(0L)).getGoalId();
+        Instant weekStart = ProgressInterval.WEEK.bucketStart(start).minus(21, ChronoUnit.DAYS);
+        for (int i = 0; i < 10; i++) {
+            repository.createGoalProgress(progress(goalId, weekStart.plus(i, ChronoUnit.DAYS), i * 100L));
+        }
+
+        // Act
+        ProgressCompactionResult result = repository.compactGoalProgress(userId, CHARACTER, goalId,
+                weekStart.plus(14, ChronoUnit.DAYS));
+
+        // Assert
+        assertEquals(2, result.getWeeksCompacted());
+        assertEquals(10L, result.getRecordsDeleted());
+        List<GoalProgressRollup> weeks = repository.listGoalProgressRollups(userId, CHARACTER, goalId,
+                ProgressInterval.WEEK, weekStart, start, null, 10).getItems();
+        assertEquals(List.of(7L, 3L), weeks.stream().map(GoalProgressRollup::getCount).toList());
+        assertEquals(900L, weeks.get(1).getLastValue());
+        assertTrue(repository.listGoalProgress(userId, CHARACTER, goalId, weekStart,
+                weekStart.plus(14, ChronoUnit.DAYS), null, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void asyncRepository_CreateGoalAndProgress_IsReadBackBySyncRepository() {
+        // Arrange
+        AsyncGoalRepositoryImpl asyncRepository = table.asyncRepository(8);
+
+        // Act
+        String goalId = asyncRepository.createGoal(newGoal(0L)).getGoalId();
+        asyncRepository.createGoalProgress(progress(goalId, start.plusSeconds(1), 100L));
+        List<GoalProgressWriteResult> results = asyncRepository.createGoalProgressBatch(List.of(
+                progress(goalId, start.plusSeconds(2), 200L), progress(goalId, start.plusSeconds(3), 300L)));
+
+        // Assert
+        assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+        assertEquals(300L, repository.getGoal(userId, CHARACTER, goalId).orElseThrow().getCurrentProgress());
+        assertEquals(3, repository.listGoalProgress(userId, CHARACTER, goalId, start.plusSeconds(1),
+                start.plusSeconds(60), null, 10).getItems().size());
+    }
+
+    private Goal newGoal(long currentProgress) {
+        return Goal.builder()
+                .userId(userId)
+                .characterName(CHARACTER)
+                .goalId("new")
+                .targetAttribute("WOODCUTTING")
+                .targetType("xp")
+                .targetValue(13_034_431L)
+                .currentProgress(currentProgress)
+                .targetDate(start.plus(90, ChronoUnit.DAYS))
+                .notificationChannelType("DISCORD")
+                .frequency("daily")
+                .build();
+    }
+
+    private Goal progress(String goalId, Instant timestamp, long value) {
+        return Goal.builder()
+                .userId(userId)
+                .characterName(CHARACTER)
+                .goalId(goalId)
+                .currentProgress(value)
+                .progressTimestamp(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,273 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.GoalRepository;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Drives a GoalRepository with progress updates from many users and reports
+ * throughput and latency. Users are spread over a fixed number of worker
+ * threads; each worker creates its users' goals and then writes every goal's
+ * updates in time order, one call per update or one call per batch.
+ */
+final class GoalRepositoryLoadDriver {
+    private final GoalRepository repository;
+    private final LoadSettings settings;
+
+    /**
+     * Creates a driver.
+     *
+     * @param repository The repository to drive
+     * @param settings   The size and shape of the load
+     */
+    GoalRepositoryLoadDriver(GoalRepository repository, LoadSettings settings) {
+        this.repository = repository;
+        this.settings = settings;
+    }
+
+    /**
+     * Creates every goal, writes every progress update and measures the
+     * progress writes.
+     *
+     * @return The report of the progress writes
+     * @throws Exception if a worker fails
+     */
+    LoadReport run() throws Exception {
+        String runId = Long.toString(System.nanoTime(), 36);
+        Instant start = Instant.now();
+        AtomicLong failures = new AtomicLong();
+        List<Future<long[]>> workers = new ArrayList<>(settings.getConcurrency());
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getConcurrency());
+        long startNanos;
+        try {
+            startNanos = System.nanoTime();
+            for (int worker = 0; worker < settings.getConcurrency(); worker++) {
+                int firstUser = worker;
+                workers.add(executor.submit(() -> runUsers(runId, firstUser, start, failures)));
+            }
+            List<long[]> latencies = new ArrayList<>(workers.size());
+            for (Future<long[]> worker : workers) {
+                latencies.add(worker.get());
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            return LoadReport.of(settings, merge(latencies), failures.get(), elapsedNanos);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] runUsers(String runId, int firstUser, Instant start, AtomicLong failures) {
+        long[] latencies = new long[0];
+        int written = 0;
+        for (int user = firstUser; user < settings.getUsers(); user += settings.getConcurrency()) {
+            String userId = "load-" + runId + "-" + user;
+            List<String> goalIds = new ArrayList<>(settings.getGoalsPerUser());
+            for (int goal = 0; goal < settings.getGoalsPerUser(); goal++) {
+                goalIds.add(repository.createGoal(newGoal(userId, start)).getGoalId());
+            }
+            List<Goal> updates = new ArrayList<>(settings.getGoalsPerUser() * settings.getUpdatesPerGoal());
+            for (int update = 1; update <= settings.getUpdatesPerGoal(); update++) {
+                for (String goalId : goalIds) {
+                    updates.add(progress(userId, goalId, start.plusMillis(update), update * 1_000L));
+                }
+            }
+            latencies = Arrays.copyOf(latencies, written + calls(updates.size()));
+            for (int from = 0; from < updates.size(); from += settings.getBatchSize()) {
+                List<Goal> batch = updates.subList(from, Math.min(updates.size(), from + settings.getBatchSize()));
+                long callStart = System.nanoTime();
+                failures.addAndGet(write(batch));
+                latencies[written++] = System.nanoTime() - callStart;
+            }
+        }
+        return latencies;
+    }
+
+    private long write(List<Goal> batch) {
+        if (settings.getBatchSize() == 1) {
+            try {
+                repository.createGoalProgress(batch.get(0));
+                return 0L;
+            } catch (RuntimeException e) {
+                return 1L;
+            }
+        }
+        return repository.createGoalProgressBatch(batch).stream().filter(result -> !result.isSuccess()).count();
+    }
+
+    private int calls(int updates) {
+        return (updates + settings.getBatchSize() - 1) / settings.getBatchSize();
+    }
+
+    private static long[] merge(List<long[]> latencies) {
+        long[] merged = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static Goal newGoal(String userId, Instant start) {
+        return Goal.builder()
+                .userId(userId)
+                .characterName("Zezima")
+                .goalId("new")
+                .targetAttribute("WOODCUTTING")
+                .targetType("xp")
+                .targetValue(13_034_431L)
+                .targetDate(start)
+                .frequency("daily")
+                .build();
+    }
+
+    private static Goal progress(String userId, String goalId, Instant timestamp, long value) {
+        return Goal.builder()
+                .userId(userId)
+                .characterName("Zezima")
+                .goalId(goalId)
+                .currentProgress(value)
+                .progressTimestamp(timestamp)
+                .build();
+    }
+
+    /**
+     * The size and shape of a load run.
+     */
+    @Value
+    @Builder
+    static class LoadSettings {
+        /**
+         * The number of users.
+         */
+        int users;
+
+        /**
+         * The number of goals per user.
+         */
+        int goalsPerUser;
+
+        /**
+         * The number of progress updates per goal.
+         */
+        int updatesPerGoal;
+
+        /**
+         * The number of worker threads writing at once.
+         */
+        int concurrency;
+
+        /**
+         * The number of updates per repository call; 1 writes each update
+         * with createGoalProgress, more writes them with
+         * createGoalProgressBatch.
+         */
+        int batchSize;
+
+        /**
+         * Reads the settings from system properties, falling back to a small
+         * run that finishes in seconds.
+         *
+         * @return The settings
+         */
+        static LoadSettings fromSystemProperties() {
+            return LoadSettings.builder()
+                    .users(Integer.getInteger("loadUsers", 8))
+                    .goalsPerUser(Integer.getInteger("loadGoalsPerUser", 3))
+                    .updatesPerGoal(Integer.getInteger("loadUpdatesPerGoal", 25))
+                    .concurrency(Integer.getInteger("loadConcurrency", 4))
+                    .batchSize(Integer.getInteger("loadBatchSize", 1))
+                    .build();
+        }
+    }
+
+    /**
+     * Throughput and latency of the progress writes of a load run.
+     */
+    @Value
+    @Builder
+    static class LoadReport {
+        /**
+         * The settings of the run.
+         */
+        LoadSettings settings;
+
+        /**
+         * The number of progress updates written or attempted.
+         */
+        long updates;
+
+        /**
+         * The number of progress updates that failed.
+         */
+        long failures;
+
+        /**
+         * Progress updates per second over the whole run.
+         */
+        double updatesPerSecond;
+
+        /**
+         * Median latency of a repository call in milliseconds.
+         */
+        double p50Millis;
+
+        /**
+         * 95th percentile latency of a repository call in milliseconds.
+         */
+        double p95Millis;
+
+        /**
+         * 99th percentile latency of a repository call in milliseconds.
+         */
+        double p99Millis;
+
+        /**
+         * Slowest repository call in milliseconds.
+         */
+        double maxMillis;
+
+        private static LoadReport of(LoadSettings settings, long[] sortedLatencies, long failures,
+                long elapsedNanos) {
+            long updates = (long) settings.getUsers() * settings.getGoalsPerUser() * settings.getUpdatesPerGoal();
+            return LoadReport.builder()
+                    .settings(settings)
+                    .updates(updates)
+                    .failures(failures)
+                    .updatesPerSecond(updates * 1e9 / Math.max(1L, elapsedNanos))
+                    .p50Millis(percentileMillis(sortedLatencies, 0.50))
+                    .p95Millis(percentileMillis(sortedLatencies, 0.95))
+                    .p99Millis(percentileMillis(sortedLatencies, 0.99))
+                    .maxMillis(percentileMillis(sortedLatencies, 1.0))
+                    .build();
+        }
+
+        private static double percentileMillis(long[] sortedLatencies, double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        /**
+         * Formats the report as one line for test output.
+         *
+         * @return The formatted report
+         */
+        String format() {
+            return String.format("users=%d goalsPerUser=%d updatesPerGoal=%d concurrency=%d batchSize=%d"
+                    + " updates=%d failures=%d updates/s=%.1f p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                    settings.getUsers(), settings.getGoalsPerUser(), settings.getUpdatesPerGoal(),
+                    settings.getConcurrency(), settings.getBatchSize(), updates, failures, updatesPerSecond,
+                    p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryLoadDriver.LoadReport;
+import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryLoadDriver.LoadSettings;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the load driver against DynamoDB Local and against the in-memory
+ * repository and prints their reports; the in-memory run is the cost of our
+ * own code without DynamoDB's. The size of the runs comes from the loadUsers, loadGoalsPerUser,
+ * loadUpdatesPerGoal, loadConcurrency and loadBatchSize system properties,
+ * which Gradle passes through from project properties of the same names.
+ */
+class GoalRepositoryLoadTest {
+    @Test
+    void createGoalProgress_ConfiguredLoad_ReportsThroughputAndLatency() throws Exception {
+        // Arrange
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+
+        try (LocalGoalTable table = LocalGoalTable.start()) {
+            GoalRepositoryImpl repository = table.repository(ProgressWriteSuppressor.DISABLED,
+                    ProgressHistoryLayout.USER);
+
+            // Act
+            LoadReport report = new GoalRepositoryLoadDriver(repository, settings).run();
+
+            // Assert
+            System.out.println("Goal progress load: " + report.format());
+            assertEquals(0L, report.getFailures());
+        }
+    }
+
+    @Test
+    void createGoalProgress_ConfiguredLoadInMemory_ReportsThroughputAndLatency() throws Exception {
+        // Arrange
+        LoadSettings settings = LoadSettings.fromSystemProperties();
+
+        // Act
+        LoadReport report = new GoalRepositoryLoadDriver(new InMemoryGoalRepository(), settings).run();
+
+        // Assert
+        System.out.println("Goal progress load in memory: " + report.format());
+        assertEquals(0L, report.getFailures());
+    }
+}
@@ -0,0 +1,124 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import com.amazonaws.services.dynamodbv2.local.embedded.DynamoDBEmbedded;
+import com.amazonaws.services.dynamodbv2.local.shared.access.AmazonDynamoDBLocal;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * The goal table in an in-process DynamoDB Local, with the same key schema
+ * as the deployed table. Nothing listens on the network and the data lives
+ * in memory, so every instance starts empty.
+ */
+final class LocalGoalTable implements AutoCloseable {
+    static final String TABLE_NAME = "goals";
+
+    private final AmazonDynamoDBLocal dynamoDbLocal;
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    private LocalGoalTable(AmazonDynamoDBLocal dynamoDbLocal) {
+        this.dynamoDbLocal = dynamoDbLocal;
+        this.dynamoDbClient = dynamoDbLocal.dynamoDbClient();
+        this.dynamoDbAsyncClient = dynamoDbLocal.dynamoDbAsyncClient();
+    }
+
+    /**
+     * Starts DynamoDB Local and creates the goal table.
+     *
+     * @return The running table
+     */
+    static LocalGoalTable start() {
+        LocalGoalTable table = new LocalGoalTable(DynamoDBEmbedded.create());
+        table.dynamoDbClient.createTable(request -> request
+                .tableName(TABLE_NAME)
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName("pk").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName("sk").attributeType(ScalarAttributeType.S).build())
+                .keySchema(
+                        KeySchemaElement.builder().attributeName("pk").keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName("sk").keyType(KeyType.RANGE).build()));
+        return table;
+    }
+
+    /**
+     * Creates a synchronous repository over the table.
+     *
+     * @param suppressor    Decides which unchanged progress writes are skipped
+     * @param historyLayout Decides which partition progress history rows are
+     *                      written to
+     * @return The repository
+     */
+    GoalRepositoryImpl repository(ProgressWriteSuppressor suppressor, ProgressHistoryLayout historyLayout) {
+        return repository(suppressor, historyLayout, LatestProgressBuffer.DISABLED);
+    }
+
+    /**
+     * Creates a synchronous repository over the table that may hold #LATEST
+     * rows back.
+     *
+     * @param suppressor           Decides which unchanged progress writes are
+     *                             skipped
+     * @param historyLayout        Decides which partition progress history
+     *                             rows are written to
+     * @param latestProgressBuffer Decides whether #LATEST rows are coalesced
+     * @return The repository
+     */
+    GoalRepositoryImpl repository(ProgressWriteSuppressor suppressor, ProgressHistoryLayout historyLayout,
+            LatestProgressBuffer latestProgressBuffer) {
+        DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                .dynamoDbClient(dynamoDbClient)
+                .build();
+        DynamoDbTable<DynamoGoalMetadataItem> metadataTable = enhancedClient.table(TABLE_NAME,
+                GoalTableSchemas.METADATA);
+        DynamoDbTable<DynamoGoalProgressItem> progressTable = enhancedClient.table(TABLE_NAME,
+                GoalTableSchemas.PROGRESS);
+        return new GoalRepositoryImpl(dynamoDbClient, metadataTable, progressTable, suppressor,
+                ProgressRetentionPolicy.DISABLED, historyLayout, latestProgressBuffer);
+    }
+
+    /**
+     * Creates an asynchronous repository over the table.
+     *
+     * @param maxInFlightRequests The most DynamoDB requests in flight at once
+     * @return The repository
+     */
+    AsyncGoalRepositoryImpl asyncRepository(int maxInFlightRequests) {
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+        DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable = enhancedClient.table(TABLE_NAME,
+                GoalTableSchemas.METADATA);
+        DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable = enhancedClient.table(TABLE_NAME,
+                GoalTableSchemas.PROGRESS);
+        return new AsyncGoalRepositoryImpl(dynamoDbAsyncClient, metadataTable, progressTable, maxInFlightRequests);
+    }
+
+    /**
+     * Returns the client used to create the table.
+     *
+     * @return The client
+     */
+    DynamoDbClient client() {
+        return dynamoDbClient;
+    }
+
+    @Override
+    public void close() {
+        dynamoDbLocal.shutdown();
+    }
+}
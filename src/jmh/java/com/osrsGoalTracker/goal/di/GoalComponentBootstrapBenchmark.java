@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks handler initialization on a cold JVM: building the goal object
+ * graph with a Guice injector from GoalModule against wiring it by hand,
+ * including class loading and creating the synchronous DynamoDB client. Only
+ * the first call in a fresh JVM is cold, so each fork measures a single shot;
+ * the build's default jmh settings run warm iterations in one fork, so run it
+ * with -PjmhFork=20 -PjmhWarmupIterations=0 -PjmhIterations=1.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class GoalComponentBootstrapBenchmark {
+    @Param({"guice", "manual"})
+    private String wiringMode;
+
+    /**
+     * Builds the default DynamoDB-backed graph and resolves the goal service,
+     * as a handler's no-arg constructor does.
+     *
+     * @return The goal service
+     */
+    @Benchmark
+    public GoalService createComponent() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.WIRING_MODE_ENV, wiringMode);
+        return GoalComponent.create(new GoalModule(environment::get)).goalService();
+    }
+}
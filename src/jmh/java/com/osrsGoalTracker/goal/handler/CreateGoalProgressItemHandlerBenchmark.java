@@ -0,0 +1,89 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalRepository;
+import com.osrsGoalTracker.goal.service.impl.GoalServiceImpl;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the goal progress handler path: the full handleRequest call
+ * against an in-memory repository, and the ObjectMapper conversion of the
+ * event detail on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateGoalProgressItemHandlerBenchmark {
+    private static final Instant EVENT_TIME = Instant.parse("2025-03-19T04:25:06Z");
+    private static final Long PROGRESS_A = 13_034_431L;
+    private static final Long PROGRESS_B = 13_034_432L;
+
+    private CreateGoalProgressItemHandler handler;
+    private ObjectMapper objectMapper;
+    private ScheduledEvent event;
+    private long invocations;
+
+    /**
+     * Builds the handler over an in-memory repository and a representative
+     * progress update event.
+     */
+    @Setup
+    public void setUp() {
+        handler = new CreateGoalProgressItemHandler(new GoalServiceImpl(new InMemoryGoalRepository()));
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "c0e5f0b2-7c2a-4a53-9a5e-0f6c9e0d1a27");
+        detail.put("characterName", "Zezima");
+        detail.put("goalId", "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11");
+        detail.put("progressValue", 13_034_431L);
+        event = new ScheduledEvent();
+        event.setDetail(detail);
+        event.setTime(new DateTime(EVENT_TIME.toEpochMilli()));
+    }
+
+    /**
+     * End-to-end handleRequest: validation, conversion, service and repository.
+     * Every call carries the same event time with a value alternating between
+     * two progress values, so each call overwrites the same history row and
+     * the #LATEST row and the repository does not grow during the run.
+     *
+     * @return The goal returned by the handler
+     */
+    @Benchmark
+    public Goal handleRequest() {
+        event.getDetail().put("progressValue", (invocations++ & 1) == 0 ? PROGRESS_A : PROGRESS_B);
+        return handler.handleRequest(event, null);
+    }
+
+    /**
+     * ObjectMapper.convertValue of the event detail into a
+     * GoalProgressUpdateEvent.
+     *
+     * @return The converted event
+     */
+    @Benchmark
+    public GoalProgressUpdateEvent convertEventDetail() {
+        return objectMapper.convertValue(event.getDetail(), GoalProgressUpdateEvent.class);
+    }
+}
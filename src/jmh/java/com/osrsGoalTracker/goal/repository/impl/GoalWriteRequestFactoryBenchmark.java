@@ -0,0 +1,83 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+/**
+ * Benchmarks building the progress transaction that every
+ * GoalRepositoryImpl.createGoalProgress call sends, using the static table
+ * schemas the service is wired with so that tableSchema().itemToMap is
+ * included. The bean schema is kept as a baseline for itemToMap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GoalWriteRequestFactoryBenchmark {
+    private static final String TABLE_NAME = "goals";
+
+    private GoalWriteRequestFactory requestFactory;
+    private TableSchema<DynamoGoalProgressItem> progressSchema;
+    private TableSchema<DynamoGoalProgressItem> beanProgressSchema;
+    private DynamoGoalProgressItem progressItem;
+    private Instant timestamp;
+
+    /**
+     * Builds the request factory over the static table schemas.
+     */
+    @Setup
+    public void setUp() {
+        progressSchema = GoalTableSchemas.PROGRESS;
+        beanProgressSchema = TableSchema.fromClass(DynamoGoalProgressItem.class);
+        requestFactory = new GoalWriteRequestFactory(TABLE_NAME, GoalTableSchemas.METADATA, TABLE_NAME,
+                progressSchema);
+        timestamp = Instant.parse("2025-03-19T04:25:06.123456Z");
+        progressItem = requestFactory.createProgressItem("c0e5f0b2-7c2a-4a53-9a5e-0f6c9e0d1a27", "Zezima",
+                "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11", timestamp,
+                "CHARACTER#Zezima#GOAL#c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11#LATEST", 13_034_431L);
+    }
+
+    /**
+     * Builds the progress history and LATEST puts for one update.
+     *
+     * @return The transaction request
+     */
+    @Benchmark
+    public TransactWriteItemsRequest createProgressTransactionRequest() {
+        return requestFactory.createProgressTransactionRequest("c0e5f0b2-7c2a-4a53-9a5e-0f6c9e0d1a27", "Zezima",
+                "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11", timestamp, 13_034_431L);
+    }
+
+    /**
+     * Converts a single progress item to its attribute map.
+     *
+     * @return The attribute map size
+     */
+    @Benchmark
+    public int progressItemToMap() {
+        return progressSchema.itemToMap(progressItem, true).size();
+    }
+
+    /**
+     * Baseline conversion of a single progress item with the bean schema.
+     *
+     * @return The attribute map size
+     */
+    @Benchmark
+    public int beanProgressItemToMap() {
+        return beanProgressSchema.itemToMap(progressItem, true).size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.osrsGoalTracker.goal.repository.util;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the String.format sort key builders SortKeyUtil used to rely on
+ * with SortKeyCodec. Run with the gc profiler to see allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SortKeyBenchmark {
+    private String characterName;
+    private String goalId;
+    private Instant timestamp;
+    private String progressSortKey;
+
+    /**
+     * Prepares the inputs shared by every benchmark.
+     */
+    @Setup
+    public void setUp() {
+        characterName = "Zezima";
+        goalId = "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11";
+        timestamp = Instant.parse("2025-03-19T04:25:06.123456Z");
+        progressSortKey = SortKeyCodec.encodeGoalProgress(characterName, goalId, timestamp);
+    }
+
+    /**
+     * Baseline progress sort key built with String.format.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String formatProgressSortKey() {
+        return String.format("CHARACTER#%s#GOAL#%s#%s", characterName, goalId, timestamp.toString());
+    }
+
+    /**
+     * Progress sort key built by the codec.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String encodeProgressSortKey() {
+        return SortKeyCodec.encodeGoalProgress(characterName, goalId, timestamp);
+    }
+
+    /**
+     * Baseline latest sort key built with String.format.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String formatLatestSortKey() {
+        return String.format("CHARACTER#%s#GOAL#%s#LATEST", characterName, goalId);
+    }
+
+    /**
+     * Latest sort key built by the codec.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String encodeLatestSortKey() {
+        return SortKeyCodec.encodeGoalLatest(characterName, goalId);
+    }
+
+    /**
+     * Baseline parse of a progress sort key using a regular expression split.
+     *
+     * @return The timestamp
+     */
+    @Benchmark
+    public Instant splitProgressSortKey() {
+        String[] parts = progressSortKey.split("#");
+        return Instant.parse(parts[4]);
+    }
+
+    /**
+     * Parse of a progress sort key by the codec.
+     *
+     * @return The decoded sort key
+     */
+    @Benchmark
+    public SortKey parseProgressSortKey() {
+        return SortKeyCodec.parse(progressSortKey);
+    }
+}
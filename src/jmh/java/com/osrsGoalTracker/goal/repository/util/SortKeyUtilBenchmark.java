@@ -0,0 +1,74 @@
+package com.osrsGoalTracker.goal.repository.util;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the SortKeyUtil builders used on the goal write path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SortKeyUtilBenchmark {
+    private String characterName;
+    private String goalId;
+    private Instant timestamp;
+
+    /**
+     * Prepares the inputs shared by every benchmark.
+     */
+    @Setup
+    public void setUp() {
+        characterName = "Zezima";
+        goalId = "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11";
+        timestamp = Instant.parse("2025-03-19T04:25:06.123456Z");
+    }
+
+    /**
+     * Builds a goal metadata sort key.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String buildGoalMetadataSortKey() {
+        return SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId);
+    }
+
+    /**
+     * Builds a goal progress sort key.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String buildGoalProgressSortKey() {
+        return SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp);
+    }
+
+    /**
+     * Builds a goal latest progress sort key.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String buildGoalLatestSortKey() {
+        return SortKeyUtil.buildGoalLatestSortKey(characterName, goalId);
+    }
+
+    /**
+     * Builds a goal earliest progress sort key.
+     *
+     * @return The sort key
+     */
+    @Benchmark
+    public String buildGoalEarliestSortKey() {
+        return SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId);
+    }
+}
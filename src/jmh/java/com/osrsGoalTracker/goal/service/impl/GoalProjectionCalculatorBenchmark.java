@@ -0,0 +1,61 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
+import com.osrsGoalTracker.goal.service.impl.GoalProjectionCalculator.Series;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks goal projection over a year of hourly progress points for each
+ * estimator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GoalProjectionCalculatorBenchmark {
+    private static final int HOURLY_POINTS_PER_YEAR = 24 * 365;
+
+    @Param({"LINEAR_FROM_EARLIEST", "EWMA", "LEAST_SQUARES"})
+    private ProjectionEstimator estimator;
+
+    private Series series;
+    private Instant now;
+    private Instant targetDate;
+
+    /**
+     * Builds a year of hourly progress points growing by a varying amount.
+     */
+    @Setup
+    public void setUp() {
+        long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        series = new Series(HOURLY_POINTS_PER_YEAR);
+        long value = 0;
+        for (int hour = 0; hour < HOURLY_POINTS_PER_YEAR; hour++) {
+            value += 1_000 + hour % 24 * 50;
+            series.add(start + hour * 3_600_000L, value);
+        }
+        now = Instant.ofEpochMilli(start + HOURLY_POINTS_PER_YEAR * 3_600_000L);
+        targetDate = now.plusSeconds(90L * 86_400L);
+    }
+
+    /**
+     * Projects completion of a goal that is far from its target.
+     *
+     * @return The projection
+     */
+    @Benchmark
+    public GoalProjection project() {
+        return GoalProjectionCalculator.project(estimator, series, 200_000_000L, targetDate, now);
+    }
+}
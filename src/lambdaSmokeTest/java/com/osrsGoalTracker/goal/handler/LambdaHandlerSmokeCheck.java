@@ -0,0 +1,97 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.net.ConnectException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.goal.di.GoalComponent;
+
+/**
+ * Checks that a packaged Lambda handler jar holds every class its cold start
+ * and request path need, so a class dropped by minimization fails the build
+ * instead of the first invocation. It runs with nothing but the handler jar
+ * and this class on the classpath, and:
+ * <ul>
+ * <li>constructs the handler through its no-arg constructor, as Lambda does,
+ * which builds the goal object graph and the DynamoDB clients</li>
+ * <li>converts an event detail into the event class the handler reads, with
+ * the handlers' Jackson setup; the compaction handler reads no event, so its
+ * jar leaves the event classes and the Jackson time module out</li>
+ * <li>sends DescribeTable through the synchronous and asynchronous DynamoDB
+ * clients to an endpoint nothing listens on; the call has to fail with a
+ * connection error, which it only reaches after marshalling, interceptors,
+ * signing and the HTTP client have run</li>
+ * </ul>
+ * The Gradle task sets DYNAMODB_ENDPOINT to a closed port, DYNAMODB_MAX_RETRIES
+ * to 0 and dummy credentials.
+ */
+public final class LambdaHandlerSmokeCheck {
+    private static final String TABLE_NAME = "smoke";
+
+    private LambdaHandlerSmokeCheck() {
+    }
+
+    /**
+     * Runs the check.
+     *
+     * @param args The fully qualified class name of the handler, then that of
+     *             the event it reads, or none
+     * @throws Exception if the handler cannot be loaded or constructed
+     * @throws IllegalStateException if a DynamoDB call does not fail with a
+     *                               connection error
+     */
+    public static void main(String[] args) throws Exception {
+        Class<?> handlerClass = Class.forName(args[0]);
+        if (!RequestHandler.class.isAssignableFrom(handlerClass)) {
+            throw new IllegalStateException(args[0] + " is not a RequestHandler");
+        }
+        handlerClass.getDeclaredConstructor().newInstance();
+
+        if (!"none".equalsIgnoreCase(args[1])) {
+            EventCheck.run(Class.forName(args[1]));
+        }
+
+        GoalComponent component = GoalComponent.create();
+        expectConnectionFailure("DynamoDbClient",
+                () -> component.dynamoDbClient().describeTable(request -> request.tableName(TABLE_NAME)));
+        expectConnectionFailure("DynamoDbAsyncClient",
+                () -> component.dynamoDbAsyncClient().describeTable(request -> request.tableName(TABLE_NAME)).join());
+        System.out.println(handlerClass.getSimpleName() + " passed the smoke check");
+        System.exit(0);
+    }
+
+    private static void expectConnectionFailure(String client, Runnable call) {
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null && !(cause instanceof ConnectException)) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof ConnectException) {
+                return;
+            }
+            throw new IllegalStateException(client + " failed before reaching the network", e);
+        }
+        throw new IllegalStateException(client + " reached a DynamoDB endpoint that should be closed");
+    }
+
+    /**
+     * Converts an event detail. It is a class of its own so the JVM only
+     * loads the Jackson time module for handlers that read events.
+     */
+    private static final class EventCheck {
+        private EventCheck() {
+        }
+
+        private static void run(Class<?> eventClass) {
+            Map<String, Object> detail = new HashMap<>();
+            detail.put("userId", "smoke");
+            detail.put("characterName", "smoke");
+            new ObjectMapper().registerModule(new JavaTimeModule()).convertValue(detail, eventClass);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.osrsGoalTracker.goal.di;
+
+import com.osrsGoalTracker.goal.metrics.DynamoDbMetricsInterceptor;
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.metrics.NoOpGoalMetrics;
+import com.osrsGoalTracker.goal.repository.impl.AdaptiveRateLimiter;
+import com.osrsGoalTracker.goal.repository.impl.RateLimitingInterceptor;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+
+/**
+ * Builds DynamoDB clients from DynamoDbClientSettings.
+ * The HTTP implementations are set explicitly, so the SDK does not search the
+ * classpath for one at startup. The sync client uses the Apache client
+ * because it supports a bounded pool and connection time-to-live;
+ * UrlConnectionHttpClient supports neither. The async client uses the Netty
+ * client. Retries use the standard retry mode with separate full jitter
+ * backoffs for throttling and other retryable errors. When metrics are
+ * enabled, each client also reports consumed capacity, retries and
+ * transaction cancellations through a DynamoDbMetricsInterceptor. When an
+ * AdaptiveRateLimiter is enabled, both clients share it through a
+ * RateLimitingInterceptor and throttling errors are no longer retried by the
+ * SDK: the limiter lowers the rate instead and the failure reaches the
+ * caller, which can hand the work back for a later retry.
+ */
+public class DynamoDbClientFactory {
+    private final DynamoDbClientSettings settings;
+    private final GoalMetrics metrics;
+    private final AdaptiveRateLimiter rateLimiter;
+
+    /**
+     * Constructor for a DynamoDbClientFactory without metrics.
+     *
+     * @param settings
+     *            The settings applied to every client built by this factory.
+     */
+    public DynamoDbClientFactory(DynamoDbClientSettings settings) {
+        this(settings, NoOpGoalMetrics.INSTANCE);
+    }
+
+    /**
+     * Constructor for DynamoDbClientFactory.
+     *
+     * @param settings
+     *            The settings applied to every client built by this factory.
+     * @param metrics
+     *            Where client metrics are recorded when enabled.
+     */
+    public DynamoDbClientFactory(DynamoDbClientSettings settings, GoalMetrics metrics) {
+        this(settings, metrics, AdaptiveRateLimiter.DISABLED);
+    }
+
+    /**
+     * Constructor for a DynamoDbClientFactory whose clients share a rate
+     * limiter.
+     *
+     * @param settings
+     *            The settings applied to every client built by this factory.
+     * @param metrics
+     *            Where client metrics are recorded when enabled.
+     * @param rateLimiter
+     *            The limiter shared by every client built by this factory.
+     */
+    public DynamoDbClientFactory(DynamoDbClientSettings settings, GoalMetrics metrics,
+            AdaptiveRateLimiter rateLimiter) {
+        this.settings = settings;
+        this.metrics = metrics;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Builds a synchronous DynamoDB client.
+     *
+     * @return The client
+     */
+    public DynamoDbClient createClient() {
+        DynamoDbClientBuilder builder = DynamoDbClient.builder()
+                .region(Region.of(settings.getRegion()))
+                .overrideConfiguration(overrideConfiguration(true))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(settings.getMaxConnections())
+                        .connectionTimeToLive(settings.getConnectionTimeToLive())
+                        .connectionTimeout(settings.getConnectionTimeout()));
+        if (settings.getEndpointOverride() != null) {
+            builder.endpointOverride(settings.getEndpointOverride());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds an asynchronous DynamoDB client.
+     *
+     * @return The client
+     */
+    public DynamoDbAsyncClient createAsyncClient() {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                .region(Region.of(settings.getRegion()))
+                .overrideConfiguration(overrideConfiguration(false))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(settings.getMaxConnections())
+                        .connectionTimeToLive(settings.getConnectionTimeToLive())
+                        .connectionTimeout(settings.getConnectionTimeout()));
+        if (settings.getEndpointOverride() != null) {
+            builder.endpointOverride(settings.getEndpointOverride());
+        }
+        return builder.build();
+    }
+
+    private ClientOverrideConfiguration overrideConfiguration(boolean mayWaitForRateLimit) {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        RetryPolicy.Builder retryPolicy = RetryPolicy.builder(RetryMode.STANDARD);
+        if (rateLimiter.isEnabled()) {
+            builder.addExecutionInterceptor(new RateLimitingInterceptor(rateLimiter, mayWaitForRateLimit, metrics));
+            RetryCondition defaultCondition = RetryCondition.defaultRetryCondition();
+            retryPolicy.retryCondition(retry -> !RateLimitingInterceptor.isThrottle(retry.exception())
+                    && defaultCondition.shouldRetry(retry));
+        }
+        if (metrics.isEnabled()) {
+            builder.addExecutionInterceptor(new DynamoDbMetricsInterceptor(metrics));
+        }
+        return builder
+                .apiCallTimeout(settings.getApiCallTimeout())
+                .apiCallAttemptTimeout(settings.getApiCallAttemptTimeout())
+                .retryPolicy(retryPolicy
+                        .numRetries(settings.getMaxRetries())
+                        .backoffStrategy(FullJitterBackoffStrategy.builder()
+                                .baseDelay(settings.getRetryBaseDelay())
+                                .maxBackoffTime(settings.getMaxBackoff())
+                                .build())
+                        .throttlingBackoffStrategy(FullJitterBackoffStrategy.builder()
+                                .baseDelay(settings.getThrottlingBaseDelay())
+                                .maxBackoffTime(settings.getMaxBackoff())
+                                .build())
+                        .build())
+                .build();
+    }
+}
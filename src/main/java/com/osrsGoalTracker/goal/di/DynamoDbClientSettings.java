@@ -0,0 +1,71 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.net.URI;
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Connection, timeout and retry settings shared by the DynamoDB sync and async
+ * clients.
+ */
+@Value
+@Builder
+public class DynamoDbClientSettings {
+    /**
+     * The region the clients connect to.
+     */
+    String region;
+
+    /**
+     * Endpoint to use instead of the regional endpoint, such as DynamoDB Local,
+     * or null for the regional endpoint.
+     */
+    URI endpointOverride;
+
+    /**
+     * Maximum number of pooled connections per client.
+     */
+    int maxConnections;
+
+    /**
+     * How long a pooled connection may live before it is closed and replaced.
+     */
+    Duration connectionTimeToLive;
+
+    /**
+     * How long to wait when establishing a connection.
+     */
+    Duration connectionTimeout;
+
+    /**
+     * Total time allowed for an API call, including every retry.
+     */
+    Duration apiCallTimeout;
+
+    /**
+     * Time allowed for a single HTTP attempt of an API call.
+     */
+    Duration apiCallAttemptTimeout;
+
+    /**
+     * Maximum number of retries after the first attempt.
+     */
+    int maxRetries;
+
+    /**
+     * Base delay of the full jitter backoff applied to retryable errors.
+     */
+    Duration retryBaseDelay;
+
+    /**
+     * Base delay of the full jitter backoff applied to throttling errors.
+     */
+    Duration throttlingBaseDelay;
+
+    /**
+     * Upper bound on any single backoff delay.
+     */
+    Duration maxBackoff;
+}
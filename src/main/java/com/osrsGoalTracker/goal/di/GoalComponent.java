@@ -0,0 +1,120 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.time.Duration;
+
+import com.google.inject.Guice;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * The objects a handler takes from the goal object graph. The graph is built
+ * from GoalModule, either by a Guice injector or, with GOAL_WIRING_MODE set to
+ * "manual", by WiredGoalComponent calling the module's provider methods and
+ * the implementations' constructors directly. Both read the same
+ * configuration and produce the same implementations; the hand-wired graph
+ * skips creating an injector, which costs cold start time.
+ * DynamoDB clients and tables are created on first use, so a graph that does
+ * not need them, such as the in-memory one, never builds them.
+ */
+public interface GoalComponent {
+    /**
+     * Builds the graph configured from the process environment.
+     *
+     * @return The component
+     */
+    static GoalComponent create() {
+        return create(new GoalModule());
+    }
+
+    /**
+     * Builds the graph configured by the given module, with an injector or by
+     * hand as the module's GOAL_WIRING_MODE selects.
+     *
+     * @param module The module holding the configuration
+     * @return The component
+     */
+    static GoalComponent create(GoalModule module) {
+        if (module.manualWiring()) {
+            return new WiredGoalComponent(module);
+        }
+        return new GuiceGoalComponent(Guice.createInjector(module));
+    }
+
+    /**
+     * Returns the goal service.
+     *
+     * @return The service
+     */
+    GoalService goalService();
+
+    /**
+     * Returns the executor for batches of progress updates.
+     *
+     * @return The executor
+     */
+    GoalProgressBatchExecutor goalProgressBatchExecutor();
+
+    /**
+     * Returns how old a raw progress record must be before it is compacted.
+     *
+     * @return The compaction age
+     */
+    Duration progressCompactionAge();
+
+    /**
+     * Returns whether GoalService is backed by the async repository, and so
+     * by the async client and tables.
+     *
+     * @return true if the repository is async
+     */
+    boolean isAsyncRepository();
+
+    /**
+     * Returns the synchronous DynamoDB client.
+     *
+     * @return The client
+     */
+    DynamoDbClient dynamoDbClient();
+
+    /**
+     * Returns the asynchronous DynamoDB client.
+     *
+     * @return The client
+     */
+    DynamoDbAsyncClient dynamoDbAsyncClient();
+
+    /**
+     * Returns the synchronous table of goal metadata rows.
+     *
+     * @return The table
+     */
+    DynamoDbTable<DynamoGoalMetadataItem> metadataTable();
+
+    /**
+     * Returns the synchronous table of goal progress rows.
+     *
+     * @return The table
+     */
+    DynamoDbTable<DynamoGoalProgressItem> progressTable();
+
+    /**
+     * Returns the asynchronous table of goal metadata rows.
+     *
+     * @return The table
+     */
+    DynamoDbAsyncTable<DynamoGoalMetadataItem> asyncMetadataTable();
+
+    /**
+     * Returns the asynchronous table of goal progress rows.
+     *
+     * @return The table
+     */
+    DynamoDbAsyncTable<DynamoGoalProgressItem> asyncProgressTable();
+}
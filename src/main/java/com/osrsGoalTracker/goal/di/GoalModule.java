@@ -1,39 +1,251 @@
 package com.osrsGoalTracker.goal.di;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import com.osrsGoalTracker.goal.metrics.EmfGoalMetrics;
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.metrics.MetricsClock;
+import com.osrsGoalTracker.goal.metrics.MetricsSink;
+import com.osrsGoalTracker.goal.metrics.NoOpGoalMetrics;
+import com.osrsGoalTracker.goal.repository.AsyncGoalRepository;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.AdaptiveRateLimiter;
+import com.osrsGoalTracker.goal.repository.impl.AsyncGoalRepositoryImpl;
 import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryImpl;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.InstrumentedGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.LatestProgressBuffer;
+import com.osrsGoalTracker.goal.repository.impl.ProgressHistoryLayout;
+import com.osrsGoalTracker.goal.repository.impl.ProgressRetentionPolicy;
+import com.osrsGoalTracker.goal.repository.impl.ProgressWriteSuppressor;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
 import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.BulkGoalProgressBatchExecutor;
 import com.osrsGoalTracker.goal.service.impl.GoalServiceImpl;
+import com.osrsGoalTracker.goal.service.impl.InstrumentedGoalService;
+import com.osrsGoalTracker.goal.service.impl.VirtualThreadGoalProgressBatchExecutor;
 
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 /**
  * Guice module for goal-related bindings.
+ * Set GOAL_REPOSITORY_MODE to "async" to back GoalRepository with the
+ * non-blocking DynamoDB repository, and GOAL_REPOSITORY_MAX_IN_FLIGHT to cap
+ * its concurrent requests, or to "memory" to keep goals in memory without
+ * DynamoDB, for local development. Set GOAL_PROGRESS_BATCH_MODE to "virtual-threads"
+ * to fan batch progress writes out onto virtual threads, capped by
+ * GOAL_PROGRESS_MAX_CONCURRENCY. The DynamoDB clients are configured from the
+ * DYNAMODB_* variables; set DYNAMODB_ENDPOINT to target DynamoDB Local.
+ * Set GOAL_METRICS_ENABLED to "true" to decorate GoalService and
+ * GoalRepository with latency metrics and to report DynamoDB capacity, retries
+ * and transaction cancellations, all as CloudWatch EMF log lines.
+ * Set GOAL_PROGRESS_WRITE_MODE to "on-change" to skip progress updates whose
+ * value is unchanged, still recording one point per
+ * GOAL_PROGRESS_HEARTBEAT_MS for inactive goals.
+ * Set GOAL_PROGRESS_LATEST_MODE to "coalesce" to hold #LATEST rows back and
+ * write each goal's newest one per batch, or sooner once
+ * GOAL_PROGRESS_LATEST_MAX_PENDING goals are held or one has waited
+ * GOAL_PROGRESS_LATEST_MAX_DELAY_MS.
+ * Set DYNAMODB_RATE_LIMIT_MODE to "adaptive" to pass every DynamoDB request
+ * through a rate limiter that halves its rate on throttling and refuses
+ * requests that would wait longer than DYNAMODB_RATE_LIMIT_MAX_WAIT_MS.
+ * Set GOAL_WIRING_MODE to "manual" to have handlers build the same graph
+ * with WiredGoalComponent instead of an injector from this module; see
+ * GoalComponent.
  */
 public class GoalModule extends AbstractModule {
+    /**
+     * Name of the boolean binding that is true when GoalRepository is backed
+     * by the async repository.
+     */
+    public static final String ASYNC_REPOSITORY = "goalRepositoryAsync";
+
+    /**
+     * Name of the binding holding how old a raw progress record must be
+     * before it is compacted.
+     */
+    public static final String COMPACTION_AGE = "goalProgressCompactionAge";
+
+    static final String TABLE_NAME_ENV = "GOAL_TRACKER_TABLE_NAME";
+    static final String WIRING_MODE_ENV = "GOAL_WIRING_MODE";
+    static final String MANUAL_WIRING_MODE = "manual";
+    static final String REPOSITORY_MODE_ENV = "GOAL_REPOSITORY_MODE";
+    static final String MAX_IN_FLIGHT_ENV = "GOAL_REPOSITORY_MAX_IN_FLIGHT";
+    static final String ASYNC_REPOSITORY_MODE = "async";
+    static final String MEMORY_REPOSITORY_MODE = "memory";
+    static final int DEFAULT_MAX_IN_FLIGHT = 64;
+    static final String BATCH_MODE_ENV = "GOAL_PROGRESS_BATCH_MODE";
+    static final String MAX_CONCURRENCY_ENV = "GOAL_PROGRESS_MAX_CONCURRENCY";
+    static final String VIRTUAL_THREADS_BATCH_MODE = "virtual-threads";
+    static final int DEFAULT_MAX_CONCURRENCY = 32;
+    static final String REGION_ENV = "DYNAMODB_REGION";
+    static final String ENDPOINT_ENV = "DYNAMODB_ENDPOINT";
+    static final String MAX_CONNECTIONS_ENV = "DYNAMODB_MAX_CONNECTIONS";
+    static final String CONNECTION_TTL_ENV = "DYNAMODB_CONNECTION_TTL_MS";
+    static final String CONNECTION_TIMEOUT_ENV = "DYNAMODB_CONNECTION_TIMEOUT_MS";
+    static final String API_CALL_TIMEOUT_ENV = "DYNAMODB_API_CALL_TIMEOUT_MS";
+    static final String API_CALL_ATTEMPT_TIMEOUT_ENV = "DYNAMODB_API_CALL_ATTEMPT_TIMEOUT_MS";
+    static final String MAX_RETRIES_ENV = "DYNAMODB_MAX_RETRIES";
+    static final String RETRY_BASE_DELAY_ENV = "DYNAMODB_RETRY_BASE_DELAY_MS";
+    static final String THROTTLING_BASE_DELAY_ENV = "DYNAMODB_THROTTLING_BASE_DELAY_MS";
+    static final String MAX_BACKOFF_ENV = "DYNAMODB_MAX_BACKOFF_MS";
+    static final String DEFAULT_REGION = "us-west-2";
+    static final int DEFAULT_MAX_CONNECTIONS = 50;
+    static final long DEFAULT_CONNECTION_TTL_MS = 60_000L;
+    static final long DEFAULT_CONNECTION_TIMEOUT_MS = 1_000L;
+    static final long DEFAULT_API_CALL_TIMEOUT_MS = 5_000L;
+    static final long DEFAULT_API_CALL_ATTEMPT_TIMEOUT_MS = 1_000L;
+    static final int DEFAULT_MAX_RETRIES = 5;
+    static final long DEFAULT_RETRY_BASE_DELAY_MS = 25L;
+    static final long DEFAULT_THROTTLING_BASE_DELAY_MS = 100L;
+    static final long DEFAULT_MAX_BACKOFF_MS = 2_000L;
+    static final String RATE_LIMIT_MODE_ENV = "DYNAMODB_RATE_LIMIT_MODE";
+    static final String ADAPTIVE_RATE_LIMIT_MODE = "adaptive";
+    static final String RATE_LIMIT_INITIAL_ENV = "DYNAMODB_RATE_LIMIT_INITIAL_RPS";
+    static final int DEFAULT_RATE_LIMIT_INITIAL = 100;
+    static final String RATE_LIMIT_MIN_ENV = "DYNAMODB_RATE_LIMIT_MIN_RPS";
+    static final int DEFAULT_RATE_LIMIT_MIN = 5;
+    static final String RATE_LIMIT_MAX_ENV = "DYNAMODB_RATE_LIMIT_MAX_RPS";
+    static final int DEFAULT_RATE_LIMIT_MAX = 1_000;
+    static final String RATE_LIMIT_MAX_WAIT_ENV = "DYNAMODB_RATE_LIMIT_MAX_WAIT_MS";
+    static final long DEFAULT_RATE_LIMIT_MAX_WAIT_MS = 100L;
+    static final String METRICS_ENABLED_ENV = "GOAL_METRICS_ENABLED";
+    static final String METRICS_NAMESPACE_ENV = "GOAL_METRICS_NAMESPACE";
+    static final String DEFAULT_METRICS_NAMESPACE = "GoalService";
+    static final String PROGRESS_WRITE_MODE_ENV = "GOAL_PROGRESS_WRITE_MODE";
+    static final String ON_CHANGE_WRITE_MODE = "on-change";
+    static final String PROGRESS_HEARTBEAT_ENV = "GOAL_PROGRESS_HEARTBEAT_MS";
+    static final long DEFAULT_PROGRESS_HEARTBEAT_MS = 86_400_000L;
+    static final String COMPACTION_AGE_ENV = "GOAL_PROGRESS_COMPACTION_AGE_DAYS";
+    static final int DEFAULT_COMPACTION_AGE_DAYS = 30;
+    static final String RETENTION_DAYS_ENV = "GOAL_PROGRESS_RETENTION_DAYS";
+    static final String RETENTION_DAYS_BY_FREQUENCY_ENV = "GOAL_PROGRESS_RETENTION_DAYS_BY_FREQUENCY";
+    static final String PARTITION_LAYOUT_ENV = "GOAL_PROGRESS_PARTITION_LAYOUT";
+    static final String LATEST_WRITE_MODE_ENV = "GOAL_PROGRESS_LATEST_MODE";
+    static final String COALESCE_LATEST_MODE = "coalesce";
+    static final String LATEST_MAX_PENDING_ENV = "GOAL_PROGRESS_LATEST_MAX_PENDING";
+    static final int DEFAULT_LATEST_MAX_PENDING = 100;
+    static final String LATEST_MAX_DELAY_ENV = "GOAL_PROGRESS_LATEST_MAX_DELAY_MS";
+    static final long DEFAULT_LATEST_MAX_DELAY_MS = 1_000L;
+
+    private final Function<String, String> environment;
+
+    /**
+     * Creates a module configured from the process environment.
+     */
+    public GoalModule() {
+        this(System::getenv);
+    }
+
+    /**
+     * Creates a module configured from the given environment lookup.
+     *
+     * @param environment Looks up configuration values by environment variable name
+     */
+    public GoalModule(Function<String, String> environment) {
+        this.environment = environment;
+    }
+
     @Override
     protected void configure() {
-        bind(GoalService.class).to(GoalServiceImpl.class);
-        bind(GoalRepository.class).to(GoalRepositoryImpl.class);
+        Class<? extends GoalRepository> repositoryClass = GoalRepositoryImpl.class;
+        if (asyncRepository()) {
+            repositoryClass = AsyncGoalRepositoryImpl.class;
+        } else if (inMemoryRepository()) {
+            repositoryClass = InMemoryGoalRepository.class;
+        }
+        bindConstant().annotatedWith(Names.named(ASYNC_REPOSITORY)).to(asyncRepository());
+        bind(AsyncGoalRepository.class).to(AsyncGoalRepositoryImpl.class);
+        if (metricsEnabled()) {
+            bind(GoalService.class).to(InstrumentedGoalService.class);
+            bind(GoalService.class).annotatedWith(Names.named(InstrumentedGoalService.DELEGATE))
+                    .to(GoalServiceImpl.class);
+            bind(GoalRepository.class).to(InstrumentedGoalRepository.class);
+            bind(GoalRepository.class).annotatedWith(Names.named(InstrumentedGoalRepository.DELEGATE))
+                    .to(repositoryClass);
+        } else {
+            bind(GoalService.class).to(GoalServiceImpl.class);
+            bind(GoalRepository.class).to(repositoryClass);
+        }
+        if (virtualThreadBatches()) {
+            bind(GoalProgressBatchExecutor.class).to(VirtualThreadGoalProgressBatchExecutor.class);
+        } else {
+            bind(GoalProgressBatchExecutor.class).to(BulkGoalProgressBatchExecutor.class);
+        }
     }
 
     @Provides
     @Singleton
-    DynamoDbClient provideDynamoDbClient() {
-        return DynamoDbClient.builder()
-                .region(Region.of(Region.US_WEST_2.toString()))
+    DynamoDbClientSettings provideDynamoDbClientSettings() {
+        String endpoint = environment.apply(ENDPOINT_ENV);
+        return DynamoDbClientSettings.builder()
+                .region(stringSetting(REGION_ENV, DEFAULT_REGION))
+                .endpointOverride(endpoint == null || endpoint.isBlank() ? null : URI.create(endpoint.trim()))
+                .maxConnections(intSetting(MAX_CONNECTIONS_ENV, DEFAULT_MAX_CONNECTIONS))
+                .connectionTimeToLive(millisSetting(CONNECTION_TTL_ENV, DEFAULT_CONNECTION_TTL_MS))
+                .connectionTimeout(millisSetting(CONNECTION_TIMEOUT_ENV, DEFAULT_CONNECTION_TIMEOUT_MS))
+                .apiCallTimeout(millisSetting(API_CALL_TIMEOUT_ENV, DEFAULT_API_CALL_TIMEOUT_MS))
+                .apiCallAttemptTimeout(millisSetting(API_CALL_ATTEMPT_TIMEOUT_ENV,
+                        DEFAULT_API_CALL_ATTEMPT_TIMEOUT_MS))
+                .maxRetries(intSetting(MAX_RETRIES_ENV, DEFAULT_MAX_RETRIES))
+                .retryBaseDelay(millisSetting(RETRY_BASE_DELAY_ENV, DEFAULT_RETRY_BASE_DELAY_MS))
+                .throttlingBaseDelay(millisSetting(THROTTLING_BASE_DELAY_ENV, DEFAULT_THROTTLING_BASE_DELAY_MS))
+                .maxBackoff(millisSetting(MAX_BACKOFF_ENV, DEFAULT_MAX_BACKOFF_MS))
                 .build();
     }
 
+    @Provides
+    @Singleton
+    DynamoDbClientFactory provideDynamoDbClientFactory(DynamoDbClientSettings settings, GoalMetrics metrics,
+            AdaptiveRateLimiter rateLimiter) {
+        return new DynamoDbClientFactory(settings, metrics, rateLimiter);
+    }
+
+    @Provides
+    @Singleton
+    AdaptiveRateLimiter provideAdaptiveRateLimiter() {
+        if (!ADAPTIVE_RATE_LIMIT_MODE.equalsIgnoreCase(environment.apply(RATE_LIMIT_MODE_ENV))) {
+            return AdaptiveRateLimiter.DISABLED;
+        }
+        return AdaptiveRateLimiter.aimd(intSetting(RATE_LIMIT_INITIAL_ENV, DEFAULT_RATE_LIMIT_INITIAL),
+                intSetting(RATE_LIMIT_MIN_ENV, DEFAULT_RATE_LIMIT_MIN),
+                intSetting(RATE_LIMIT_MAX_ENV, DEFAULT_RATE_LIMIT_MAX),
+                millisSetting(RATE_LIMIT_MAX_WAIT_ENV, DEFAULT_RATE_LIMIT_MAX_WAIT_MS));
+    }
+
+    @Provides
+    @Singleton
+    GoalMetrics provideGoalMetrics() {
+        if (!metricsEnabled()) {
+            return NoOpGoalMetrics.INSTANCE;
+        }
+        return new EmfGoalMetrics(MetricsSink.STDOUT, MetricsClock.SYSTEM,
+                stringSetting(METRICS_NAMESPACE_ENV, DEFAULT_METRICS_NAMESPACE));
+    }
+
+    @Provides
+    @Singleton
+    DynamoDbClient provideDynamoDbClient(DynamoDbClientFactory clientFactory) {
+        return clientFactory.createClient();
+    }
+
     @Provides
     @Singleton
     DynamoDbEnhancedClient provideDynamoDbEnhancedClient(DynamoDbClient dynamoDbClient) {
@@ -45,14 +257,174 @@ public class GoalModule extends AbstractModule {
     @Provides
     @Singleton
     DynamoDbTable<DynamoGoalMetadataItem> provideMetadataTable(DynamoDbEnhancedClient enhancedClient) {
-        String tableName = System.getenv("GOAL_TRACKER_TABLE_NAME");
-        return enhancedClient.table(tableName, TableSchema.fromClass(DynamoGoalMetadataItem.class));
+        return enhancedClient.table(environment.apply(TABLE_NAME_ENV), GoalTableSchemas.METADATA);
     }
 
     @Provides
     @Singleton
     DynamoDbTable<DynamoGoalProgressItem> provideProgressTable(DynamoDbEnhancedClient enhancedClient) {
-        String tableName = System.getenv("GOAL_TRACKER_TABLE_NAME");
-        return enhancedClient.table(tableName, TableSchema.fromClass(DynamoGoalProgressItem.class));
+        return enhancedClient.table(environment.apply(TABLE_NAME_ENV), GoalTableSchemas.PROGRESS);
+    }
+
+    @Provides
+    @Singleton
+    DynamoDbAsyncClient provideDynamoDbAsyncClient(DynamoDbClientFactory clientFactory) {
+        return clientFactory.createAsyncClient();
+    }
+
+    @Provides
+    @Singleton
+    DynamoDbEnhancedAsyncClient provideDynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(dynamoDbAsyncClient)
+                .build();
+    }
+
+    @Provides
+    @Singleton
+    DynamoDbAsyncTable<DynamoGoalMetadataItem> provideAsyncMetadataTable(
+            DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+        return enhancedAsyncClient.table(environment.apply(TABLE_NAME_ENV), GoalTableSchemas.METADATA);
+    }
+
+    @Provides
+    @Singleton
+    DynamoDbAsyncTable<DynamoGoalProgressItem> provideAsyncProgressTable(
+            DynamoDbEnhancedAsyncClient enhancedAsyncClient) {
+        return enhancedAsyncClient.table(environment.apply(TABLE_NAME_ENV), GoalTableSchemas.PROGRESS);
+    }
+
+    @Provides
+    @Named(AsyncGoalRepositoryImpl.MAX_IN_FLIGHT)
+    int provideMaxInFlightRequests() {
+        return intSetting(MAX_IN_FLIGHT_ENV, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    @Provides
+    @Named(VirtualThreadGoalProgressBatchExecutor.MAX_CONCURRENCY)
+    int provideMaxProgressConcurrency() {
+        return intSetting(MAX_CONCURRENCY_ENV, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Provides
+    @Singleton
+    ProgressWriteSuppressor provideProgressWriteSuppressor() {
+        if (!ON_CHANGE_WRITE_MODE.equalsIgnoreCase(environment.apply(PROGRESS_WRITE_MODE_ENV))) {
+            return ProgressWriteSuppressor.DISABLED;
+        }
+        return ProgressWriteSuppressor.onChange(millisSetting(PROGRESS_HEARTBEAT_ENV, DEFAULT_PROGRESS_HEARTBEAT_MS));
+    }
+
+    @Provides
+    @Singleton
+    LatestProgressBuffer provideLatestProgressBuffer() {
+        if (!COALESCE_LATEST_MODE.equalsIgnoreCase(environment.apply(LATEST_WRITE_MODE_ENV))) {
+            return LatestProgressBuffer.DISABLED;
+        }
+        return LatestProgressBuffer.coalescing(intSetting(LATEST_MAX_PENDING_ENV, DEFAULT_LATEST_MAX_PENDING),
+                millisSetting(LATEST_MAX_DELAY_ENV, DEFAULT_LATEST_MAX_DELAY_MS));
+    }
+
+    @Provides
+    @Singleton
+    ProgressRetentionPolicy provideProgressRetentionPolicy() {
+        int defaultDays = intSetting(RETENTION_DAYS_ENV, 0);
+        Map<String, Duration> retentionByFrequency = new HashMap<>();
+        String byFrequency = stringSetting(RETENTION_DAYS_BY_FREQUENCY_ENV, "");
+        for (String entry : byFrequency.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(RETENTION_DAYS_BY_FREQUENCY_ENV
+                        + " entries must look like frequency=days: " + entry);
+            }
+            retentionByFrequency.put(parts[0].trim(), Duration.ofDays(Integer.parseInt(parts[1].trim())));
+        }
+        if (defaultDays <= 0 && retentionByFrequency.isEmpty()) {
+            return ProgressRetentionPolicy.DISABLED;
+        }
+        return ProgressRetentionPolicy.of(defaultDays > 0 ? Duration.ofDays(defaultDays) : null,
+                retentionByFrequency);
+    }
+
+    @Provides
+    ProgressHistoryLayout provideProgressHistoryLayout() {
+        String layout = stringSetting(PARTITION_LAYOUT_ENV, ProgressHistoryLayout.USER.name());
+        for (ProgressHistoryLayout candidate : ProgressHistoryLayout.values()) {
+            if (candidate.name().equalsIgnoreCase(layout)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(PARTITION_LAYOUT_ENV + " must be user or goal: " + layout);
+    }
+
+    @Provides
+    @Named(COMPACTION_AGE)
+    Duration provideProgressCompactionAge() {
+        return Duration.ofDays(intSetting(COMPACTION_AGE_ENV, DEFAULT_COMPACTION_AGE_DAYS));
+    }
+
+    /**
+     * Returns whether handlers should wire their object graph by hand
+     * instead of creating an injector from this module.
+     *
+     * @return true if GOAL_WIRING_MODE is "manual"
+     */
+    boolean manualWiring() {
+        return MANUAL_WIRING_MODE.equalsIgnoreCase(environment.apply(WIRING_MODE_ENV));
+    }
+
+    /**
+     * Returns whether GoalRepository is backed by the async repository.
+     *
+     * @return true if GOAL_REPOSITORY_MODE is "async"
+     */
+    boolean asyncRepository() {
+        return ASYNC_REPOSITORY_MODE.equalsIgnoreCase(environment.apply(REPOSITORY_MODE_ENV));
+    }
+
+    /**
+     * Returns whether GoalRepository keeps goals in memory.
+     *
+     * @return true if GOAL_REPOSITORY_MODE is "memory"
+     */
+    boolean inMemoryRepository() {
+        return MEMORY_REPOSITORY_MODE.equalsIgnoreCase(environment.apply(REPOSITORY_MODE_ENV));
+    }
+
+    /**
+     * Returns whether batch progress writes fan out onto virtual threads.
+     *
+     * @return true if GOAL_PROGRESS_BATCH_MODE is "virtual-threads"
+     */
+    boolean virtualThreadBatches() {
+        return VIRTUAL_THREADS_BATCH_MODE.equalsIgnoreCase(environment.apply(BATCH_MODE_ENV));
+    }
+
+    /**
+     * Returns whether GoalService and GoalRepository are decorated with
+     * metrics.
+     *
+     * @return true if GOAL_METRICS_ENABLED is "true"
+     */
+    boolean metricsEnabled() {
+        return Boolean.TRUE.toString().equalsIgnoreCase(environment.apply(METRICS_ENABLED_ENV));
+    }
+
+    private int intSetting(String name, int defaultValue) {
+        String value = environment.apply(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private Duration millisSetting(String name, long defaultMillis) {
+        String value = environment.apply(name);
+        return Duration.ofMillis(value == null || value.isBlank() ? defaultMillis : Long.parseLong(value.trim()));
+    }
+
+    private String stringSetting(String name, String defaultValue) {
+        String value = environment.apply(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
     }
 }
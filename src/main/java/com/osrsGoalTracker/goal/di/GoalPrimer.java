@@ -0,0 +1,152 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+
+/**
+ * CRaC resource that warms a handler's object graph before a Lambda SnapStart
+ * snapshot is taken and reconnects to DynamoDB after the snapshot is restored.
+ * Before the checkpoint it resolves the bindings handlers use, round-trips a
+ * dummy item through both table schemas, runs the handler's own priming (such
+ * as event conversion) and makes a DescribeTable call so the SDK request path
+ * is loaded. After restore it makes the DescribeTable call again so the first
+ * invocation does not pay for a new connection.
+ * CRaC only keeps weak references to resources, so the handler that registers
+ * a primer must keep a reference to it.
+ */
+@Slf4j
+public class GoalPrimer implements Resource {
+    private static final String PRIMING_ID = "priming";
+
+    private final GoalComponent component;
+    private final Runnable handlerPriming;
+    private final boolean asyncRepository;
+
+    /**
+     * Constructor for GoalPrimer.
+     *
+     * @param component
+     *            The handler's object graph.
+     * @param handlerPriming
+     *            Handler specific priming, such as converting a dummy event.
+     */
+    public GoalPrimer(GoalComponent component, Runnable handlerPriming) {
+        this.component = component;
+        this.handlerPriming = handlerPriming;
+        this.asyncRepository = component.isAsyncRepository();
+    }
+
+    /**
+     * Creates a primer and registers it with the global CRaC context.
+     *
+     * @param component
+     *            The handler's object graph.
+     * @param handlerPriming
+     *            Handler specific priming, such as converting a dummy event.
+     * @return The registered primer, which the caller must keep a reference to
+     */
+    public static GoalPrimer register(GoalComponent component, Runnable handlerPriming) {
+        GoalPrimer primer = new GoalPrimer(component, handlerPriming);
+        Core.getGlobalContext().register(primer);
+        return primer;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        log.info("Priming goal service before checkpoint");
+        prime();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        log.info("Reconnecting to DynamoDB after restore");
+        connect();
+    }
+
+    /**
+     * Loads and exercises the classes used on the request path and opens a
+     * DynamoDB connection. Failures are logged rather than thrown so a
+     * priming problem never blocks a snapshot.
+     */
+    public void prime() {
+        component.goalService();
+        component.goalProgressBatchExecutor();
+        primeTableSchemas();
+        try {
+            handlerPriming.run();
+        } catch (RuntimeException e) {
+            log.warn("Handler priming failed: {}", e.getMessage());
+        }
+        connect();
+    }
+
+    private void primeTableSchemas() {
+        TableSchema<DynamoGoalMetadataItem> metadataSchema;
+        TableSchema<DynamoGoalProgressItem> progressSchema;
+        if (asyncRepository) {
+            metadataSchema = component.asyncMetadataTable().tableSchema();
+            progressSchema = component.asyncProgressTable().tableSchema();
+        } else {
+            metadataSchema = component.metadataTable().tableSchema();
+            progressSchema = component.progressTable().tableSchema();
+        }
+        Instant now = Instant.now();
+
+        roundTrip(metadataSchema, DynamoGoalMetadataItem.builder()
+                .pk("USER#" + PRIMING_ID)
+                .sk(PRIMING_ID)
+                .userId(PRIMING_ID)
+                .characterName(PRIMING_ID)
+                .goalId(PRIMING_ID)
+                .targetAttribute(PRIMING_ID)
+                .targetType(PRIMING_ID)
+                .targetValue(0L)
+                .targetDate(now)
+                .notificationChannelType(PRIMING_ID)
+                .frequency(PRIMING_ID)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        roundTrip(progressSchema, DynamoGoalProgressItem.builder()
+                .pk("USER#" + PRIMING_ID)
+                .sk(PRIMING_ID)
+                .userId(PRIMING_ID)
+                .characterName(PRIMING_ID)
+                .goalId(PRIMING_ID)
+                .progressValue(0L)
+                .createdAt(now)
+                .build());
+    }
+
+    private <T> void roundTrip(TableSchema<T> schema, T item) {
+        schema.mapToItem(schema.itemToMap(item, true));
+    }
+
+    private void connect() {
+        try {
+            if (asyncRepository) {
+                String tableName = component.asyncProgressTable().tableName();
+                component.dynamoDbAsyncClient().describeTable(describe(tableName)).join();
+            } else {
+                String tableName = component.progressTable().tableName();
+                component.dynamoDbClient().describeTable(describe(tableName));
+            }
+        } catch (RuntimeException e) {
+            log.warn("DynamoDB priming call failed: {}", e.getMessage());
+        }
+    }
+
+    private DescribeTableRequest describe(String tableName) {
+        return DescribeTableRequest.builder().tableName(tableName).build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.time.Duration;
+
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * GoalComponent that looks every object up in an injector built from
+ * GoalModule. The service, repository and executor are singletons, so
+ * every call returns the same instance, as WiredGoalComponent does.
+ */
+final class GuiceGoalComponent implements GoalComponent {
+    private final Injector injector;
+
+    /**
+     * Constructor for GuiceGoalComponent.
+     *
+     * @param injector The injector built from GoalModule
+     */
+    GuiceGoalComponent(Injector injector) {
+        this.injector = injector;
+    }
+
+    @Override
+    public GoalService goalService() {
+        return injector.getInstance(GoalService.class);
+    }
+
+    @Override
+    public GoalProgressBatchExecutor goalProgressBatchExecutor() {
+        return injector.getInstance(GoalProgressBatchExecutor.class);
+    }
+
+    @Override
+    public Duration progressCompactionAge() {
+        return injector.getInstance(Key.get(Duration.class, Names.named(GoalModule.COMPACTION_AGE)));
+    }
+
+    @Override
+    public boolean isAsyncRepository() {
+        return injector.getInstance(Key.get(Boolean.class, Names.named(GoalModule.ASYNC_REPOSITORY)));
+    }
+
+    @Override
+    public DynamoDbClient dynamoDbClient() {
+        return injector.getInstance(DynamoDbClient.class);
+    }
+
+    @Override
+    public DynamoDbAsyncClient dynamoDbAsyncClient() {
+        return injector.getInstance(DynamoDbAsyncClient.class);
+    }
+
+    @Override
+    public DynamoDbTable<DynamoGoalMetadataItem> metadataTable() {
+        return injector.getInstance(Key.get(new TypeLiteral<DynamoDbTable<DynamoGoalMetadataItem>>() { }));
+    }
+
+    @Override
+    public DynamoDbTable<DynamoGoalProgressItem> progressTable() {
+        return injector.getInstance(Key.get(new TypeLiteral<DynamoDbTable<DynamoGoalProgressItem>>() { }));
+    }
+
+    @Override
+    public DynamoDbAsyncTable<DynamoGoalMetadataItem> asyncMetadataTable() {
+        return injector.getInstance(Key.get(new TypeLiteral<DynamoDbAsyncTable<DynamoGoalMetadataItem>>() { }));
+    }
+
+    @Override
+    public DynamoDbAsyncTable<DynamoGoalProgressItem> asyncProgressTable() {
+        return injector.getInstance(Key.get(new TypeLiteral<DynamoDbAsyncTable<DynamoGoalProgressItem>>() { }));
+    }
+}
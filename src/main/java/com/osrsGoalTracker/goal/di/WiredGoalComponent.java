@@ -0,0 +1,174 @@
+package com.osrsGoalTracker.goal.di;
+
+import java.time.Duration;
+
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.AsyncGoalRepositoryImpl;
+import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryImpl;
+import com.osrsGoalTracker.goal.repository.impl.InMemoryGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.InstrumentedGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.ProgressHistoryLayout;
+import com.osrsGoalTracker.goal.repository.impl.ProgressRetentionPolicy;
+import com.osrsGoalTracker.goal.repository.impl.ProgressWriteSuppressor;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.BulkGoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.impl.GoalServiceImpl;
+import com.osrsGoalTracker.goal.service.impl.InstrumentedGoalService;
+import com.osrsGoalTracker.goal.service.impl.VirtualThreadGoalProgressBatchExecutor;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * GoalComponent wired by hand, without an injector. Configuration comes from
+ * GoalModule's provider methods and the same mode switches its configure()
+ * binds by, so both paths build the same implementations; a binding added to
+ * GoalModule has to be added here as well. Every object is created once:
+ * the service, repository and executor when the component is built, and the
+ * DynamoDB clients and tables on first use.
+ */
+final class WiredGoalComponent implements GoalComponent {
+    private final GoalModule module;
+    private final GoalMetrics metrics;
+    private final DynamoDbClientFactory clientFactory;
+    private final GoalService goalService;
+    private final GoalProgressBatchExecutor batchExecutor;
+    private DynamoDbClient dynamoDbClient;
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+    private DynamoDbTable<DynamoGoalMetadataItem> metadataTable;
+    private DynamoDbTable<DynamoGoalProgressItem> progressTable;
+    private DynamoDbAsyncTable<DynamoGoalMetadataItem> asyncMetadataTable;
+    private DynamoDbAsyncTable<DynamoGoalProgressItem> asyncProgressTable;
+
+    /**
+     * Builds the graph configured by the given module.
+     *
+     * @param module The module holding the configuration
+     */
+    WiredGoalComponent(GoalModule module) {
+        this.module = module;
+        this.metrics = module.provideGoalMetrics();
+        this.clientFactory = module.provideDynamoDbClientFactory(module.provideDynamoDbClientSettings(), metrics,
+                module.provideAdaptiveRateLimiter());
+
+        GoalRepository repository = createRepository();
+        GoalService service = new GoalServiceImpl(repository);
+        if (module.metricsEnabled()) {
+            service = new InstrumentedGoalService(service, metrics);
+        }
+        this.goalService = service;
+        this.batchExecutor = module.virtualThreadBatches()
+                ? new VirtualThreadGoalProgressBatchExecutor(service, module.provideMaxProgressConcurrency())
+                : new BulkGoalProgressBatchExecutor(service);
+    }
+
+    @Override
+    public GoalService goalService() {
+        return goalService;
+    }
+
+    @Override
+    public GoalProgressBatchExecutor goalProgressBatchExecutor() {
+        return batchExecutor;
+    }
+
+    @Override
+    public Duration progressCompactionAge() {
+        return module.provideProgressCompactionAge();
+    }
+
+    @Override
+    public boolean isAsyncRepository() {
+        return module.asyncRepository();
+    }
+
+    @Override
+    public synchronized DynamoDbClient dynamoDbClient() {
+        if (dynamoDbClient == null) {
+            dynamoDbClient = clientFactory.createClient();
+        }
+        return dynamoDbClient;
+    }
+
+    @Override
+    public synchronized DynamoDbAsyncClient dynamoDbAsyncClient() {
+        if (dynamoDbAsyncClient == null) {
+            dynamoDbAsyncClient = clientFactory.createAsyncClient();
+        }
+        return dynamoDbAsyncClient;
+    }
+
+    @Override
+    public synchronized DynamoDbTable<DynamoGoalMetadataItem> metadataTable() {
+        if (metadataTable == null) {
+            createTables();
+        }
+        return metadataTable;
+    }
+
+    @Override
+    public synchronized DynamoDbTable<DynamoGoalProgressItem> progressTable() {
+        if (progressTable == null) {
+            createTables();
+        }
+        return progressTable;
+    }
+
+    @Override
+    public synchronized DynamoDbAsyncTable<DynamoGoalMetadataItem> asyncMetadataTable() {
+        if (asyncMetadataTable == null) {
+            createAsyncTables();
+        }
+        return asyncMetadataTable;
+    }
+
+    @Override
+    public synchronized DynamoDbAsyncTable<DynamoGoalProgressItem> asyncProgressTable() {
+        if (asyncProgressTable == null) {
+            createAsyncTables();
+        }
+        return asyncProgressTable;
+    }
+
+    private GoalRepository createRepository() {
+        ProgressWriteSuppressor suppressor = module.provideProgressWriteSuppressor();
+        ProgressRetentionPolicy retentionPolicy = module.provideProgressRetentionPolicy();
+        ProgressHistoryLayout historyLayout = module.provideProgressHistoryLayout();
+        GoalRepository repository;
+        if (module.asyncRepository()) {
+            repository = new AsyncGoalRepositoryImpl(dynamoDbAsyncClient(), asyncMetadataTable(),
+                    asyncProgressTable(), module.provideMaxInFlightRequests(), suppressor, retentionPolicy,
+                    historyLayout);
+        } else if (module.inMemoryRepository()) {
+            repository = new InMemoryGoalRepository();
+        } else {
+            repository = new GoalRepositoryImpl(dynamoDbClient(), metadataTable(), progressTable(), suppressor,
+                    retentionPolicy, historyLayout, module.provideLatestProgressBuffer());
+        }
+        if (module.metricsEnabled()) {
+            repository = new InstrumentedGoalRepository(repository, metrics);
+        }
+        return repository;
+    }
+
+    private void createTables() {
+        DynamoDbEnhancedClient enhancedClient = module.provideDynamoDbEnhancedClient(dynamoDbClient());
+        metadataTable = module.provideMetadataTable(enhancedClient);
+        progressTable = module.provideProgressTable(enhancedClient);
+    }
+
+    private void createAsyncTables() {
+        DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+                module.provideDynamoDbEnhancedAsyncClient(dynamoDbAsyncClient());
+        asyncMetadataTable = module.provideAsyncMetadataTable(enhancedAsyncClient);
+        asyncProgressTable = module.provideAsyncProgressTable(enhancedAsyncClient);
+    }
+}
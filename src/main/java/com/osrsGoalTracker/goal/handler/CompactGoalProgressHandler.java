@@ -0,0 +1,116 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.osrsGoalTracker.goal.di.GoalComponent;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for the scheduled progress compaction job.
+ * Rolls raw progress records older than the configured age up into daily and
+ * weekly rollups and deletes them. The event detail names a user and
+ * optionally a character and goal; every goal in that scope is compacted in
+ * turn until the invocation runs low on time. Compaction is checkpointed, so
+ * the next scheduled run picks up whatever this one did not finish.
+ */
+@Slf4j
+public class CompactGoalProgressHandler implements RequestHandler<ScheduledEvent, ProgressCompactionResult> {
+    static final long MIN_REMAINING_MILLIS = 30_000L;
+    private static final int GOAL_PAGE_SIZE = 100;
+
+    private final GoalService goalService;
+    private final Duration compactionAge;
+
+    /**
+     * Default constructor that builds the goal object graph, with Guice or by
+     * hand as GOAL_WIRING_MODE selects.
+     */
+    public CompactGoalProgressHandler() {
+        GoalComponent component = GoalComponent.create();
+        this.goalService = component.goalService();
+        this.compactionAge = component.progressCompactionAge();
+    }
+
+    /**
+     * Test constructor that accepts a GoalService instance.
+     *
+     * @param goalService
+     *            The service to use for compaction.
+     * @param compactionAge
+     *            How old a raw progress record must be before it is
+     *            compacted.
+     */
+    public CompactGoalProgressHandler(GoalService goalService, Duration compactionAge) {
+        this.goalService = goalService;
+        this.compactionAge = compactionAge;
+    }
+
+    /**
+     * Handles the scheduled event by compacting the progress history of every
+     * goal it names.
+     *
+     * @param event
+     *            The scheduled event whose detail holds userId and optionally
+     *            characterName and goalId.
+     * @param context
+     *            The AWS Lambda context.
+     * @return What was compacted
+     * @throws IllegalArgumentException
+     *             if the event or event detail is null, userId is missing, or
+     *             goalId is given without characterName.
+     */
+    @Override
+    public ProgressCompactionResult handleRequest(ScheduledEvent event, Context context) {
+        if (event == null || event.getDetail() == null) {
+            throw new IllegalArgumentException("Event or event detail cannot be null");
+        }
+        Map<String, Object> detail = event.getDetail();
+        String userId = stringField(detail, "userId");
+        String characterName = stringField(detail, "characterName");
+        String goalId = stringField(detail, "goalId");
+        if (userId == null) {
+            throw new IllegalArgumentException("Event detail is missing required fields: userId");
+        }
+        if (goalId != null && characterName == null) {
+            throw new IllegalArgumentException("characterName is required when goalId is given");
+        }
+
+        if (goalId != null) {
+            return goalService.compactGoalProgress(userId, characterName, goalId, compactionAge);
+        }
+
+        ProgressCompactionResult result = ProgressCompactionResult.EMPTY;
+        try (Stream<Goal> goals = characterName == null
+                ? goalService.streamGoalsForUser(userId, GOAL_PAGE_SIZE)
+                : goalService.streamGoalsForCharacter(userId, characterName, GOAL_PAGE_SIZE)) {
+            Iterator<Goal> iterator = goals.iterator();
+            while (iterator.hasNext()) {
+                if (context != null && context.getRemainingTimeInMillis() < MIN_REMAINING_MILLIS) {
+                    log.warn("Stopping compaction for user: {} after {} goals, time is running out", userId,
+                            result.getGoalsProcessed());
+                    break;
+                }
+                Goal goal = iterator.next();
+                result = result.plus(goalService.compactGoalProgress(userId, goal.getCharacterName(),
+                        goal.getGoalId(), compactionAge));
+            }
+        }
+        log.info("Compacted progress of {} goals for user: {}: {}", result.getGoalsProcessed(), userId, result);
+        return result;
+    }
+
+    private String stringField(Map<String, Object> detail, String field) {
+        Object value = detail.get(field);
+        return value == null || value.toString().isBlank() ? null : value.toString();
+    }
+}
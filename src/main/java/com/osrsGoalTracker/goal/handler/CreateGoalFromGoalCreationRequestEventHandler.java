@@ -1,7 +1,10 @@
 package com.osrsGoalTracker.goal.handler;
 
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.amazonaws.services.lambda.runtime.Context;
@@ -10,9 +13,8 @@ import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.google.inject.Guice;
-import com.google.inject.Injector;
-import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.di.GoalComponent;
+import com.osrsGoalTracker.goal.di.GoalPrimer;
 import com.osrsGoalTracker.goal.model.Goal;
 import com.osrsGoalTracker.goal.service.GoalService;
 import com.osrsGoalTracker.orchestration.events.GoalCreationRequestEvent;
@@ -28,16 +30,20 @@ import lombok.extern.slf4j.Slf4j;
 public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHandler<ScheduledEvent, Goal> {
     private final GoalService goalService;
     private final ObjectMapper objectMapper;
+    private final GoalPrimer primer;
 
     /**
-     * Default constructor that initializes dependencies using Guice.
+     * Default constructor that builds the goal object graph, with Guice or by
+     * hand as GOAL_WIRING_MODE selects, and registers the SnapStart priming
+     * hooks.
      */
     public CreateGoalFromGoalCreationRequestEventHandler() {
-        Injector injector = Guice.createInjector(new GoalModule());
-        this.goalService = injector.getInstance(GoalService.class);
+        GoalComponent component = GoalComponent.create();
+        this.goalService = component.goalService();
         this.objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = GoalPrimer.register(component, this::primeEventConversion);
     }
 
     /**
@@ -50,6 +56,7 @@ public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHan
         this.objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = null;
     }
 
     /**
@@ -120,4 +127,26 @@ public class CreateGoalFromGoalCreationRequestEventHandler implements RequestHan
                     "Event detail is missing required fields: " + String.join(", ", missingFields));
         }
     }
+
+    /**
+     * Validates and converts a dummy event so the Jackson deserializers are
+     * built before a snapshot is taken.
+     */
+    private void primeEventConversion() {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "priming");
+        detail.put("characterName", "priming");
+        detail.put("targetAttribute", "priming");
+        detail.put("targetType", "priming");
+        detail.put("targetValue", 0L);
+        detail.put("currentValue", 0L);
+        detail.put("targetDate", Instant.EPOCH.toString());
+        detail.put("notificationChannelType", "priming");
+        detail.put("frequency", "priming");
+        ScheduledEvent event = new ScheduledEvent();
+        event.setDetail(detail);
+
+        validateEventDetail(event);
+        objectMapper.convertValue(event.getDetail(), GoalCreationRequestEvent.class);
+    }
 }
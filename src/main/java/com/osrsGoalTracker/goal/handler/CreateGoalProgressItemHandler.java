@@ -1,7 +1,10 @@
 package com.osrsGoalTracker.goal.handler;
 
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.amazonaws.services.lambda.runtime.Context;
@@ -10,9 +13,8 @@ import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.google.inject.Guice;
-import com.google.inject.Injector;
-import com.osrsGoalTracker.goal.di.GoalModule;
+import com.osrsGoalTracker.goal.di.GoalComponent;
+import com.osrsGoalTracker.goal.di.GoalPrimer;
 import com.osrsGoalTracker.goal.model.Goal;
 import com.osrsGoalTracker.goal.service.GoalService;
 import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
@@ -23,21 +25,27 @@ import lombok.extern.slf4j.Slf4j;
  * AWS Lambda handler for processing goal progress update events from
  * EventBridge.
  * Validates the event and creates a new progress record for the specified goal.
+ * The record is keyed by the event's time and ID, so a redelivered event is
+ * recognized and not written twice.
  */
 @Slf4j
 public class CreateGoalProgressItemHandler implements RequestHandler<ScheduledEvent, Goal> {
     private final GoalService goalService;
     private final ObjectMapper objectMapper;
+    private final GoalPrimer primer;
 
     /**
-     * Default constructor that initializes dependencies using Guice.
+     * Default constructor that builds the goal object graph, with Guice or by
+     * hand as GOAL_WIRING_MODE selects, and registers the SnapStart priming
+     * hooks.
      */
     public CreateGoalProgressItemHandler() {
-        Injector injector = Guice.createInjector(new GoalModule());
-        this.goalService = injector.getInstance(GoalService.class);
+        GoalComponent component = GoalComponent.create();
+        this.goalService = component.goalService();
         this.objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = GoalPrimer.register(component, this::primeEventConversion);
     }
 
     /**
@@ -51,6 +59,7 @@ public class CreateGoalProgressItemHandler implements RequestHandler<ScheduledEv
         this.objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = null;
     }
 
     /**
@@ -65,6 +74,9 @@ public class CreateGoalProgressItemHandler implements RequestHandler<ScheduledEv
      * @throws IllegalArgumentException
      *             if the event or event detail is null or if
      *             any required fields are missing.
+     * @throws IllegalStateException
+     *             if the goal's latest progress could not be flushed, so the
+     *             event is retried.
      */
     @Override
     public Goal handleRequest(ScheduledEvent event, Context context) {
@@ -83,9 +95,18 @@ public class CreateGoalProgressItemHandler implements RequestHandler<ScheduledEv
                 .characterName(progressEvent.getCharacterName())
                 .goalId(progressEvent.getGoalId())
                 .currentProgress(progressEvent.getProgressValue())
+                .progressTimestamp(event.getTime() == null ? null : Instant.ofEpochMilli(event.getTime().getMillis()))
+                .progressEventId(event.getId())
                 .build();
 
         goalService.createGoalProgress(goal);
+        boolean unflushed = goalService.flushProgress().stream()
+                .anyMatch(failed -> failed.getUserId().equalsIgnoreCase(goal.getUserId())
+                        && failed.getCharacterName().equalsIgnoreCase(goal.getCharacterName())
+                        && failed.getGoalId().equalsIgnoreCase(goal.getGoalId()));
+        if (unflushed) {
+            throw new IllegalStateException("Latest progress of goal " + goal.getGoalId() + " could not be written");
+        }
         return goal;
     }
 
@@ -117,4 +138,21 @@ public class CreateGoalProgressItemHandler implements RequestHandler<ScheduledEv
                     "Event detail is missing required fields: " + String.join(", ", missingFields));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Validates and converts a dummy event so the Jackson deserializers are
+     * built before a snapshot is taken.
+     */
+    private void primeEventConversion() {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "priming");
+        detail.put("characterName", "priming");
+        detail.put("goalId", "priming");
+        detail.put("progressValue", 0L);
+        ScheduledEvent event = new ScheduledEvent();
+        event.setDetail(detail);
+
+        validateEventDetail(event);
+        objectMapper.convertValue(event.getDetail(), GoalProgressUpdateEvent.class);
+    }
+}
@@ -0,0 +1,295 @@
+package com.osrsGoalTracker.goal.handler;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent.SQSMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.osrsGoalTracker.goal.di.GoalComponent;
+import com.osrsGoalTracker.goal.di.GoalPrimer;
+import com.osrsGoalTracker.goal.model.BackpressureException;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.BulkGoalProgressBatchExecutor;
+import com.osrsGoalTracker.orchestration.events.GoalProgressUpdateEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AWS Lambda handler for processing batches of goal progress update events
+ * delivered through SQS.
+ * Each message body is either an EventBridge event envelope whose detail is a
+ * GoalProgressUpdateEvent, or the GoalProgressUpdateEvent itself. Messages that
+ * cannot be parsed or written are reported back as batch item failures so that
+ * only those messages are redriven; if the batch as a whole is refused by the
+ * DynamoDB rate limiter or fails, every parsed message is reported. Each
+ * update carries the time and ID of its EventBridge event, or of its SQS
+ * message when it has no envelope, so a redelivered update is recognized and
+ * not written twice.
+ */
+@Slf4j
+public class CreateGoalProgressItemsBatchHandler implements RequestHandler<SQSEvent, SQSBatchResponse> {
+    private static final List<String> REQUIRED_FIELDS = Arrays.asList(
+            "userId",
+            "characterName",
+            "goalId",
+            "progressValue");
+    private static final String SENT_TIMESTAMP_ATTRIBUTE = "SentTimestamp";
+
+    private final GoalProgressBatchExecutor batchExecutor;
+    private final ObjectMapper objectMapper;
+    private final GoalPrimer primer;
+
+    /**
+     * Default constructor that builds the goal object graph, with Guice or by
+     * hand as GOAL_WIRING_MODE selects, and registers the SnapStart priming
+     * hooks.
+     */
+    public CreateGoalProgressItemsBatchHandler() {
+        GoalComponent component = GoalComponent.create();
+        this.batchExecutor = component.goalProgressBatchExecutor();
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = GoalPrimer.register(component, this::primeMessageParsing);
+    }
+
+    /**
+     * Test constructor that accepts a GoalService instance.
+     *
+     * @param goalService
+     *            The service to use for goal progress creation.
+     */
+    public CreateGoalProgressItemsBatchHandler(GoalService goalService) {
+        this(new BulkGoalProgressBatchExecutor(goalService));
+    }
+
+    /**
+     * Test constructor that accepts a GoalProgressBatchExecutor instance.
+     *
+     * @param batchExecutor
+     *            The executor to use for writing the batch.
+     */
+    public CreateGoalProgressItemsBatchHandler(GoalProgressBatchExecutor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        this.primer = null;
+    }
+
+    /**
+     * Handles a batch of SQS messages by parsing each into a goal progress
+     * update and writing the valid updates as a single batch.
+     *
+     * @param event
+     *            The SQS event containing the messages.
+     * @param context
+     *            The AWS Lambda context.
+     * @return The identifiers of the messages that failed and should be retried
+     * @throws IllegalArgumentException
+     *             if the event or its records are null.
+     */
+    @Override
+    public SQSBatchResponse handleRequest(SQSEvent event, Context context) {
+        validateEvent(event);
+
+        List<SQSBatchResponse.BatchItemFailure> failures = new ArrayList<>();
+        List<SQSMessage> parsedMessages = new ArrayList<>();
+        List<Goal> goals = parseMessages(event.getRecords(), parsedMessages, failures);
+
+        List<GoalProgressWriteResult> results;
+        try {
+            results = batchExecutor.createGoalProgressBatch(goals);
+        } catch (BackpressureException e) {
+            log.warn("Batch refused by the DynamoDB rate limit, returning {} messages: {}", parsedMessages.size(),
+                    e.getMessage());
+            results = failAll(goals, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Batch write failed, returning {} messages: {}", parsedMessages.size(), e.getMessage(), e);
+            results = failAll(goals, e.getMessage());
+        }
+
+        return buildResponse(parsedMessages, results, failures);
+    }
+
+    /**
+     * Validates that the SQS event and its records are present.
+     *
+     * @param event
+     *            The SQS event.
+     * @throws IllegalArgumentException
+     *             if the event or its records are null.
+     */
+    private void validateEvent(SQSEvent event) {
+        if (event == null || event.getRecords() == null) {
+            throw new IllegalArgumentException("Event or event records cannot be null");
+        }
+    }
+
+    /**
+     * Parses every message into a goal. Messages that cannot be parsed are
+     * added to the failures list; the rest are added to parsedMessages in the
+     * same order as the returned goals.
+     */
+    private List<Goal> parseMessages(List<SQSMessage> messages, List<SQSMessage> parsedMessages,
+            List<SQSBatchResponse.BatchItemFailure> failures) {
+        List<Goal> goals = new ArrayList<>(messages.size());
+        for (SQSMessage message : messages) {
+            try {
+                goals.add(parseMessage(message));
+                parsedMessages.add(message);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                log.error("Failed to parse message {}: {}", message.getMessageId(), e.getMessage());
+                failures.add(toFailure(message));
+            }
+        }
+        return goals;
+    }
+
+    /**
+     * Parses a single message body into a goal.
+     *
+     * @param message
+     *            The SQS message.
+     * @return The goal carrying the progress update
+     * @throws JsonProcessingException
+     *             if the body is not valid JSON
+     * @throws IllegalArgumentException
+     *             if the body is missing required fields
+     */
+    private Goal parseMessage(SQSMessage message) throws JsonProcessingException {
+        if (message.getBody() == null) {
+            throw new IllegalArgumentException("Message body cannot be null");
+        }
+        JsonNode body = objectMapper.readTree(message.getBody());
+        boolean enveloped = body.has("detail");
+        JsonNode detail = enveloped ? body.get("detail") : body;
+        validateEventDetail(detail);
+
+        GoalProgressUpdateEvent progressEvent = objectMapper.treeToValue(detail, GoalProgressUpdateEvent.class);
+        return Goal.builder()
+                .userId(progressEvent.getUserId())
+                .characterName(progressEvent.getCharacterName())
+                .goalId(progressEvent.getGoalId())
+                .currentProgress(progressEvent.getProgressValue())
+                .progressTimestamp(enveloped ? envelopeTime(body) : sentTime(message))
+                .progressEventId(enveloped && body.hasNonNull("id") ? body.get("id").asText()
+                        : message.getMessageId())
+                .build();
+    }
+
+    /**
+     * Returns the time of an EventBridge envelope, or null if it has none.
+     *
+     * @param body
+     *            The EventBridge envelope.
+     * @return The event time
+     * @throws IllegalArgumentException
+     *             if the time is not an ISO-8601 instant
+     */
+    private Instant envelopeTime(JsonNode body) {
+        if (!body.hasNonNull("time")) {
+            return null;
+        }
+        try {
+            return Instant.parse(body.get("time").asText());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Event time is not a valid instant: " + body.get("time").asText());
+        }
+    }
+
+    /**
+     * Returns when SQS first received the message, which stays the same across
+     * redeliveries, or null if the attribute was not delivered.
+     *
+     * @param message
+     *            The SQS message.
+     * @return The sent time
+     */
+    private Instant sentTime(SQSMessage message) {
+        Map<String, String> attributes = message.getAttributes();
+        String sentTimestamp = attributes == null ? null : attributes.get(SENT_TIMESTAMP_ATTRIBUTE);
+        if (sentTimestamp == null) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(sentTimestamp));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("SentTimestamp is not a valid epoch millisecond: " + sentTimestamp);
+        }
+    }
+
+    /**
+     * Validates the required fields in the event detail.
+     *
+     * @param detail
+     *            The event detail.
+     * @throws IllegalArgumentException
+     *             if any required field is missing.
+     */
+    private void validateEventDetail(JsonNode detail) {
+        List<String> missingFields = REQUIRED_FIELDS.stream()
+                .filter(field -> !detail.hasNonNull(field))
+                .collect(Collectors.toList());
+
+        if (!missingFields.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Event detail is missing required fields: " + String.join(", ", missingFields));
+        }
+    }
+
+    private List<GoalProgressWriteResult> failAll(List<Goal> goals, String errorMessage) {
+        return goals.stream().map(goal -> GoalProgressWriteResult.failed(goal, errorMessage)).toList();
+    }
+
+    private SQSBatchResponse buildResponse(List<SQSMessage> parsedMessages, List<GoalProgressWriteResult> results,
+            List<SQSBatchResponse.BatchItemFailure> failures) {
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).isSuccess()) {
+                failures.add(toFailure(parsedMessages.get(i)));
+            }
+        }
+        log.info("Batch completed with {} failed messages", failures.size());
+        return SQSBatchResponse.builder()
+                .withBatchItemFailures(failures)
+                .build();
+    }
+
+    private SQSBatchResponse.BatchItemFailure toFailure(SQSMessage message) {
+        return SQSBatchResponse.BatchItemFailure.builder()
+                .withItemIdentifier(message.getMessageId())
+                .build();
+    }
+
+    /**
+     * Parses a dummy message so the Jackson tree and deserializers are built
+     * before a snapshot is taken.
+     */
+    private void primeMessageParsing() {
+        SQSMessage message = new SQSMessage();
+        message.setMessageId("priming");
+        message.setBody("{\"detail\":{\"userId\":\"priming\",\"characterName\":\"priming\","
+                + "\"goalId\":\"priming\",\"progressValue\":0}}");
+        try {
+            parseMessage(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse priming message", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.osrsGoalTracker.goal.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * SDK interceptor that reports DynamoDB consumed capacity, retry counts and
+ * transaction cancellation reasons to GoalMetrics. Write requests are asked
+ * to return their total consumed capacity unless the caller already chose a
+ * setting. Only registered on clients when metrics are enabled.
+ */
+public class DynamoDbMetricsInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<AtomicInteger> ATTEMPTS = new ExecutionAttribute<>("GoalMetricsAttempts");
+    private static final String NO_CANCELLATION = "None";
+
+    private final GoalMetrics metrics;
+
+    /**
+     * Constructor for DynamoDbMetricsInterceptor.
+     *
+     * @param metrics
+     *            Where the metrics are recorded.
+     */
+    public DynamoDbMetricsInterceptor(GoalMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(ATTEMPTS, new AtomicInteger());
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        if (request instanceof TransactWriteItemsRequest transactRequest
+                && transactRequest.returnConsumedCapacity() == null) {
+            return transactRequest.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof BatchWriteItemRequest batchRequest && batchRequest.returnConsumedCapacity() == null) {
+            return batchRequest.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        if (request instanceof PutItemRequest putRequest && putRequest.returnConsumedCapacity() == null) {
+            return putRequest.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+        }
+        return request;
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (attempts != null) {
+            attempts.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        String operation = operationName(executionAttributes);
+        recordRetries(operation, executionAttributes);
+        double capacity = consumedCapacity(context.response());
+        if (capacity > 0) {
+            metrics.recordConsumedCapacity(operation, capacity);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        String operation = operationName(executionAttributes);
+        recordRetries(operation, executionAttributes);
+        if (context.exception() instanceof TransactionCanceledException cancelled
+                && cancelled.hasCancellationReasons()) {
+            for (CancellationReason reason : cancelled.cancellationReasons()) {
+                if (reason.code() != null && !NO_CANCELLATION.equalsIgnoreCase(reason.code())) {
+                    metrics.recordTransactionCancellation(operation, reason.code());
+                }
+            }
+        }
+    }
+
+    private void recordRetries(String operation, ExecutionAttributes executionAttributes) {
+        AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (attempts != null) {
+            metrics.recordRetries(operation, Math.max(0, attempts.get() - 1));
+        }
+    }
+
+    private String operationName(ExecutionAttributes executionAttributes) {
+        return executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    }
+
+    private double consumedCapacity(SdkResponse response) {
+        if (response instanceof TransactWriteItemsResponse transactResponse
+                && transactResponse.hasConsumedCapacity()) {
+            return sum(transactResponse.consumedCapacity());
+        }
+        if (response instanceof BatchWriteItemResponse batchResponse && batchResponse.hasConsumedCapacity()) {
+            return sum(batchResponse.consumedCapacity());
+        }
+        if (response instanceof PutItemResponse putResponse && putResponse.consumedCapacity() != null) {
+            Double units = putResponse.consumedCapacity().capacityUnits();
+            return units == null ? 0 : units;
+        }
+        return 0;
+    }
+
+    private double sum(List<ConsumedCapacity> capacities) {
+        double total = 0;
+        for (ConsumedCapacity capacity : capacities) {
+            if (capacity.capacityUnits() != null) {
+                total += capacity.capacityUnits();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,169 @@
+package com.osrsGoalTracker.goal.metrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GoalMetrics implementation that writes each measurement as a CloudWatch
+ * Embedded Metric Format (EMF) JSON line. CloudWatch Logs extracts the
+ * metrics from the log stream, so the raw latency values keep their full
+ * distribution and percentiles can be graphed per operation.
+ * The first latency recorded by an instance is flagged with ColdStart = 1,
+ * later ones with 0.
+ */
+public class EmfGoalMetrics implements GoalMetrics {
+    static final String OPERATION_DIMENSION = "Operation";
+    static final String REASON_DIMENSION = "Reason";
+    static final String LATENCY = "Latency";
+    static final String ERRORS = "Errors";
+    static final String COLD_START = "ColdStart";
+    static final String CONSUMED_CAPACITY = "ConsumedCapacity";
+    static final String RETRIES = "Retries";
+    static final String TRANSACTION_CANCELLATIONS = "TransactionCancellations";
+    static final String THROTTLES = "Throttles";
+    static final String BACKPRESSURE_REJECTIONS = "BackpressureRejections";
+    static final String RATE_LIMIT = "RateLimit";
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final MetricsSink sink;
+    private final MetricsClock clock;
+    private final String namespace;
+    private final AtomicBoolean coldStart = new AtomicBoolean(true);
+
+    /**
+     * Constructor for EmfGoalMetrics.
+     *
+     * @param sink
+     *            Where the EMF lines are written.
+     * @param clock
+     *            The time source for durations and timestamps.
+     * @param namespace
+     *            The CloudWatch namespace of the metrics.
+     */
+    public EmfGoalMetrics(MetricsSink sink, MetricsClock clock, String namespace) {
+        this.sink = sink;
+        this.clock = clock;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public long startTimer() {
+        return clock.nanoTime();
+    }
+
+    @Override
+    public void recordLatency(String operation, long startNanos, boolean success) {
+        double latencyMillis = (clock.nanoTime() - startNanos) / NANOS_PER_MILLI;
+        StringBuilder line = header(operation, null);
+        appendMetricDefinition(line, LATENCY, "Milliseconds").append(',');
+        appendMetricDefinition(line, ERRORS, "Count").append(',');
+        appendMetricDefinition(line, COLD_START, "Count");
+        closeHeader(line, operation, null);
+        appendValue(line, LATENCY, latencyMillis);
+        appendValue(line, ERRORS, success ? 0 : 1);
+        appendValue(line, COLD_START, coldStart.getAndSet(false) ? 1 : 0);
+        emit(line);
+    }
+
+    @Override
+    public void recordConsumedCapacity(String operation, double capacityUnits) {
+        recordSingle(operation, null, CONSUMED_CAPACITY, "None", capacityUnits);
+    }
+
+    @Override
+    public void recordRetries(String operation, int retries) {
+        recordSingle(operation, null, RETRIES, "Count", retries);
+    }
+
+    @Override
+    public void recordTransactionCancellation(String operation, String reason) {
+        recordSingle(operation, reason, TRANSACTION_CANCELLATIONS, "Count", 1);
+    }
+
+    @Override
+    public void recordThrottle(String operation, double permitsPerSecond) {
+        recordWithRateLimit(operation, THROTTLES, permitsPerSecond);
+    }
+
+    @Override
+    public void recordBackpressure(String operation, double permitsPerSecond) {
+        recordWithRateLimit(operation, BACKPRESSURE_REJECTIONS, permitsPerSecond);
+    }
+
+    private void recordWithRateLimit(String operation, String name, double permitsPerSecond) {
+        StringBuilder line = header(operation, null);
+        appendMetricDefinition(line, name, "Count").append(',');
+        appendMetricDefinition(line, RATE_LIMIT, "Count/Second");
+        closeHeader(line, operation, null);
+        appendValue(line, name, 1);
+        appendValue(line, RATE_LIMIT, permitsPerSecond);
+        emit(line);
+    }
+
+    private void recordSingle(String operation, String reason, String name, String unit, double value) {
+        StringBuilder line = header(operation, reason);
+        appendMetricDefinition(line, name, unit);
+        closeHeader(line, operation, reason);
+        appendValue(line, name, value);
+        emit(line);
+    }
+
+    private StringBuilder header(String operation, String reason) {
+        StringBuilder line = new StringBuilder(384);
+        line.append("{\"_aws\":{\"Timestamp\":").append(clock.currentTimeMillis())
+                .append(",\"CloudWatchMetrics\":[{\"Namespace\":");
+        appendString(line, namespace);
+        line.append(",\"Dimensions\":[[\"").append(OPERATION_DIMENSION).append('"');
+        if (reason != null) {
+            line.append(",\"").append(REASON_DIMENSION).append('"');
+        }
+        return line.append("]],\"Metrics\":[");
+    }
+
+    private void closeHeader(StringBuilder line, String operation, String reason) {
+        line.append("]}]},\"").append(OPERATION_DIMENSION).append("\":");
+        appendString(line, operation);
+        if (reason != null) {
+            line.append(",\"").append(REASON_DIMENSION).append("\":");
+            appendString(line, reason);
+        }
+    }
+
+    private StringBuilder appendMetricDefinition(StringBuilder line, String name, String unit) {
+        return line.append("{\"Name\":\"").append(name).append("\",\"Unit\":\"").append(unit).append("\"}");
+    }
+
+    private void appendValue(StringBuilder line, String name, double value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE) {
+            line.append((long) value);
+        } else {
+            line.append(value);
+        }
+    }
+
+    private void emit(StringBuilder line) {
+        sink.emit(line.append('}').toString());
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        String text = String.valueOf(value);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,86 @@
+package com.osrsGoalTracker.goal.metrics;
+
+/**
+ * Records per-operation metrics for the goal service. Implementations must be
+ * thread safe. When metrics are disabled the NoOpGoalMetrics instance is bound,
+ * whose methods do nothing and allocate nothing.
+ */
+public interface GoalMetrics {
+    /**
+     * Returns whether metrics are being recorded.
+     *
+     * @return true if metrics are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return The start time to pass to recordLatency
+     */
+    long startTimer();
+
+    /**
+     * Records the latency and outcome of an operation.
+     *
+     * @param operation
+     *            The name of the operation.
+     * @param startNanos
+     *            The value returned by startTimer when the operation started.
+     * @param success
+     *            Whether the operation completed without throwing.
+     */
+    void recordLatency(String operation, long startNanos, boolean success);
+
+    /**
+     * Records DynamoDB capacity consumed by a request.
+     *
+     * @param operation
+     *            The name of the DynamoDB operation.
+     * @param capacityUnits
+     *            The capacity units consumed.
+     */
+    void recordConsumedCapacity(String operation, double capacityUnits);
+
+    /**
+     * Records how many times the SDK retried a request.
+     *
+     * @param operation
+     *            The name of the DynamoDB operation.
+     * @param retries
+     *            The number of attempts after the first.
+     */
+    void recordRetries(String operation, int retries);
+
+    /**
+     * Records the reason a DynamoDB transaction was cancelled.
+     *
+     * @param operation
+     *            The name of the DynamoDB operation.
+     * @param reason
+     *            The cancellation reason code, such as ConditionalCheckFailed.
+     */
+    void recordTransactionCancellation(String operation, String reason);
+
+    /**
+     * Records that DynamoDB throttled a request and the client-side rate
+     * limit that followed.
+     *
+     * @param operation
+     *            The name of the DynamoDB operation.
+     * @param permitsPerSecond
+     *            The requests per second allowed after the throttle.
+     */
+    void recordThrottle(String operation, double permitsPerSecond);
+
+    /**
+     * Records that a request was refused by the client-side rate limit
+     * before being sent.
+     *
+     * @param operation
+     *            The name of the DynamoDB operation.
+     * @param permitsPerSecond
+     *            The requests per second allowed when it was refused.
+     */
+    void recordBackpressure(String operation, double permitsPerSecond);
+}
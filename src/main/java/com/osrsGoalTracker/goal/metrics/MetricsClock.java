@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.goal.metrics;
+
+/**
+ * Time source for metrics, replaceable in tests.
+ */
+public interface MetricsClock {
+    /**
+     * Clock backed by System.nanoTime and System.currentTimeMillis.
+     */
+    MetricsClock SYSTEM = new MetricsClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    /**
+     * Returns a monotonic time in nanoseconds for measuring durations.
+     *
+     * @return The monotonic time
+     */
+    long nanoTime();
+
+    /**
+     * Returns the wall clock time in epoch milliseconds for metric timestamps.
+     *
+     * @return The wall clock time
+     */
+    long currentTimeMillis();
+}
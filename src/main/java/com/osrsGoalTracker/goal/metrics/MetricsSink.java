@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.goal.metrics;
+
+/**
+ * Destination for serialized metric lines.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    /**
+     * Sink that writes each line to standard output, where the Lambda runtime
+     * forwards it to CloudWatch Logs for EMF extraction.
+     */
+    MetricsSink STDOUT = System.out::println;
+
+    /**
+     * Emits one serialized metric line.
+     *
+     * @param line
+     *            The line to emit.
+     */
+    void emit(String line);
+}
@@ -0,0 +1,54 @@
+package com.osrsGoalTracker.goal.metrics;
+
+/**
+ * GoalMetrics implementation used when metrics are disabled.
+ */
+public final class NoOpGoalMetrics implements GoalMetrics {
+    /**
+     * The shared instance.
+     */
+    public static final NoOpGoalMetrics INSTANCE = new NoOpGoalMetrics();
+
+    private NoOpGoalMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public long startTimer() {
+        return 0L;
+    }
+
+    @Override
+    public void recordLatency(String operation, long startNanos, boolean success) {
+        // Metrics are disabled
+    }
+
+    @Override
+    public void recordConsumedCapacity(String operation, double capacityUnits) {
+        // Metrics are disabled
+    }
+
+    @Override
+    public void recordRetries(String operation, int retries) {
+        // Metrics are disabled
+    }
+
+    @Override
+    public void recordTransactionCancellation(String operation, String reason) {
+        // Metrics are disabled
+    }
+
+    @Override
+    public void recordThrottle(String operation, double permitsPerSecond) {
+        // Metrics are disabled
+    }
+
+    @Override
+    public void recordBackpressure(String operation, double permitsPerSecond) {
+        // Metrics are disabled
+    }
+}
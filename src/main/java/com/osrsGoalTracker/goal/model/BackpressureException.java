@@ -0,0 +1,47 @@
+package com.osrsGoalTracker.goal.model;
+
+/**
+ * Thrown when a DynamoDB request is refused before it is sent because the
+ * container's adaptive rate limit has no capacity within the allowed wait.
+ * Nothing was written, so the request is safe to retry later; batch handlers
+ * report the affected records as failed rather than waiting for capacity.
+ */
+public class BackpressureException extends RuntimeException {
+    private final double permitsPerSecond;
+
+    /**
+     * Constructor for BackpressureException.
+     *
+     * @param operation        The DynamoDB operation that was refused
+     * @param permitsPerSecond The request rate allowed when it was refused
+     */
+    public BackpressureException(String operation, double permitsPerSecond) {
+        super(String.format("%s refused by the DynamoDB rate limit of %.1f requests per second", operation,
+                permitsPerSecond));
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Returns the request rate allowed when the request was refused.
+     *
+     * @return The allowed requests per second
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Returns whether an error is, or was caused by, a BackpressureException.
+     *
+     * @param error The error, possibly wrapped
+     * @return true if backpressure caused the error
+     */
+    public static boolean isCause(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BackpressureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
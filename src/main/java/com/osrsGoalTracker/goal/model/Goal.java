@@ -60,4 +60,17 @@ public class Goal {
      * How often to check/notify about progress.
      */
     private String frequency;
+
+    /**
+     * When the progress update was observed, taken from the event that carried
+     * it. Redeliveries of the same event map to the same progress record; when
+     * null the time of the write is used.
+     */
+    private Instant progressTimestamp;
+
+    /**
+     * The ID of the event that carried the progress update, used to recognize
+     * redelivered events.
+     */
+    private String progressEventId;
 }
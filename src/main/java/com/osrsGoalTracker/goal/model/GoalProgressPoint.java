@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A goal's progress value at a point in time.
+ */
+@Value
+@Builder
+public class GoalProgressPoint {
+    /**
+     * When the progress was recorded, or the start of the bucket when the
+     * point is the result of downsampling.
+     */
+    Instant timestamp;
+
+    /**
+     * The progress value.
+     */
+    long progressValue;
+}
@@ -0,0 +1,59 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Summary of a goal's progress records within one day or week, kept in place
+ * of the raw records once they are compacted.
+ */
+@Value
+@Builder
+public class GoalProgressRollup {
+    /**
+     * The size of the bucket, DAY or WEEK.
+     */
+    ProgressInterval interval;
+
+    /**
+     * The start of the bucket.
+     */
+    Instant bucketStart;
+
+    /**
+     * The number of progress records rolled up.
+     */
+    long count;
+
+    /**
+     * The smallest progress value in the bucket.
+     */
+    long minValue;
+
+    /**
+     * The largest progress value in the bucket.
+     */
+    long maxValue;
+
+    /**
+     * The earliest progress value in the bucket.
+     */
+    long firstValue;
+
+    /**
+     * The latest progress value in the bucket.
+     */
+    long lastValue;
+
+    /**
+     * When the earliest progress record in the bucket was recorded.
+     */
+    Instant firstTimestamp;
+
+    /**
+     * When the latest progress record in the bucket was recorded.
+     */
+    Instant lastTimestamp;
+}
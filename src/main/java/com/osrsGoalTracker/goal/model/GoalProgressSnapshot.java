@@ -0,0 +1,26 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A goal together with its earliest and latest recorded progress.
+ */
+@Value
+@Builder
+public class GoalProgressSnapshot {
+    /**
+     * The goal, with currentProgress set from the latest progress.
+     */
+    Goal goal;
+
+    /**
+     * The progress recorded when the goal was created, or null if missing.
+     */
+    GoalProgressPoint earliest;
+
+    /**
+     * The most recently recorded progress, or null if missing.
+     */
+    GoalProgressPoint latest;
+}
@@ -0,0 +1,54 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of writing a single goal progress update as part of a batch.
+ */
+@Value
+@Builder
+public class GoalProgressWriteResult {
+    /**
+     * The goal progress update this result refers to.
+     */
+    Goal goal;
+
+    /**
+     * Whether the progress update was persisted.
+     */
+    boolean success;
+
+    /**
+     * A description of why the update failed, or null on success.
+     */
+    String errorMessage;
+
+    /**
+     * Creates a successful result for the given goal.
+     *
+     * @param goal The goal whose progress was written
+     * @return A successful result
+     */
+    public static GoalProgressWriteResult succeeded(Goal goal) {
+        return GoalProgressWriteResult.builder()
+                .goal(goal)
+                .success(true)
+                .build();
+    }
+
+    /**
+     * Creates a failed result for the given goal.
+     *
+     * @param goal         The goal whose progress could not be written
+     * @param errorMessage Why the write failed
+     * @return A failed result
+     */
+    public static GoalProgressWriteResult failed(Goal goal, String errorMessage) {
+        return GoalProgressWriteResult.builder()
+                .goal(goal)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
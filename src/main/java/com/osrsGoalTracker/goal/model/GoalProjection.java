@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Projected completion of a goal based on its progress history.
+ */
+@Value
+@Builder
+public class GoalProjection {
+    /**
+     * The estimator used for the projection.
+     */
+    ProjectionEstimator estimator;
+
+    /**
+     * The latest progress value.
+     */
+    long currentProgress;
+
+    /**
+     * The value the goal is working towards.
+     */
+    long targetValue;
+
+    /**
+     * The date by which the goal should be achieved, or null if none is set.
+     */
+    Instant targetDate;
+
+    /**
+     * The estimated progress gained per day.
+     */
+    double dailyRate;
+
+    /**
+     * The progress per day needed from now to reach the target by the target
+     * date. Zero once the goal is complete or when no target date is set, and
+     * positive infinity once the target date has passed without completion.
+     */
+    double requiredDailyRate;
+
+    /**
+     * When the goal is projected to be reached at the estimated rate, or null
+     * if the rate is not positive. For a completed goal this is when the
+     * latest progress was recorded.
+     */
+    Instant projectedCompletionDate;
+
+    /**
+     * Whether the goal is complete or projected to be reached no later than
+     * its target date. Without a target date, whether progress is being made.
+     */
+    boolean onTrack;
+}
@@ -0,0 +1,80 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One page of results from a paginated read.
+ *
+ * @param <T> The type of the items in the page
+ */
+@Value
+@Builder
+public class Page<T> {
+    /**
+     * The items in this page.
+     */
+    List<T> items;
+
+    /**
+     * Opaque cursor that fetches the next page, or null if this is the last
+     * page.
+     */
+    String nextCursor;
+
+    /**
+     * Returns whether another page may follow this one.
+     *
+     * @return true if nextCursor is set
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Streams the items of every page, fetching each page only when the
+     * stream reaches it.
+     *
+     * @param fetcher Fetches the page for a cursor; called with null for the
+     *                first page
+     * @param <T>     The type of the items
+     * @return A lazy, ordered stream of the items
+     */
+    public static <T> Stream<T> stream(Function<String, Page<T>> fetcher) {
+        Iterator<T> iterator = new Iterator<>() {
+            private Iterator<T> current = Collections.emptyIterator();
+            private String cursor;
+            private boolean lastPageFetched;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && !lastPageFetched) {
+                    Page<T> page = fetcher.apply(cursor);
+                    current = page.getItems().iterator();
+                    cursor = page.getNextCursor();
+                    lastPageFetched = cursor == null;
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,28 @@
+package com.osrsGoalTracker.goal.model;
+
+/**
+ * How the progress values that fall into one downsampling bucket are reduced
+ * to a single value.
+ */
+public enum ProgressAggregation {
+    /**
+     * The most recent value in the bucket.
+     */
+    LAST,
+    /**
+     * The largest value in the bucket.
+     */
+    MAX;
+
+    /**
+     * Combines the value accumulated so far for a bucket with the next value
+     * in time order.
+     *
+     * @param accumulated The value accumulated so far
+     * @param next        The next value in the bucket
+     * @return The new accumulated value
+     */
+    public long combine(long accumulated, long next) {
+        return this == MAX ? Math.max(accumulated, next) : next;
+    }
+}
@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.goal.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Outcome of compacting goal progress history into rollups.
+ */
+@Value
+@Builder
+public class ProgressCompactionResult {
+    /**
+     * A result for a run that compacted nothing.
+     */
+    public static final ProgressCompactionResult EMPTY = ProgressCompactionResult.builder().build();
+
+    /**
+     * The number of goals whose history was checked for compaction.
+     */
+    int goalsProcessed;
+
+    /**
+     * The number of weeks of history rolled up.
+     */
+    int weeksCompacted;
+
+    /**
+     * The number of daily and weekly rollup records written.
+     */
+    int rollupsWritten;
+
+    /**
+     * The number of raw progress records deleted.
+     */
+    long recordsDeleted;
+
+    /**
+     * The number of raw progress records that could not be deleted and are
+     * left for the next run.
+     */
+    long recordsNotDeleted;
+
+    /**
+     * Adds another result to this one.
+     *
+     * @param other The result to add
+     * @return The combined result
+     */
+    public ProgressCompactionResult plus(ProgressCompactionResult other) {
+        return ProgressCompactionResult.builder()
+                .goalsProcessed(goalsProcessed + other.goalsProcessed)
+                .weeksCompacted(weeksCompacted + other.weeksCompacted)
+                .rollupsWritten(rollupsWritten + other.rollupsWritten)
+                .recordsDeleted(recordsDeleted + other.recordsDeleted)
+                .recordsNotDeleted(recordsNotDeleted + other.recordsNotDeleted)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reduces a time-ordered stream of progress points to one point per fixed
+ * time bucket. Only the bucket being filled is held in memory, so the input
+ * is consumed as lazily as the output. Points within one bucket may arrive
+ * out of order and are still combined by their timestamps.
+ */
+public final class ProgressDownsampler {
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private ProgressDownsampler() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Downsamples time-ordered progress points into buckets. Each output point
+     * is stamped with the start of its bucket, and empty buckets produce no
+     * point.
+     *
+     * @param points      The progress points, in time order at least from one
+     *                    bucket to the next
+     * @param interval    The size of each bucket
+     * @param aggregation How the values in a bucket are reduced
+     * @return A lazy stream with one point per non-empty bucket
+     */
+    public static Stream<GoalProgressPoint> downsample(Stream<GoalProgressPoint> points, ProgressInterval interval,
+            ProgressAggregation aggregation) {
+        Iterator<GoalProgressPoint> source = points.iterator();
+        Iterator<GoalProgressPoint> buckets = new Iterator<>() {
+            private GoalProgressPoint pending;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null || source.hasNext();
+            }
+
+            @Override
+            public GoalProgressPoint next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                GoalProgressPoint first = pending != null ? pending : source.next();
+                pending = null;
+                Instant bucketStart = interval.bucketStart(first.getTimestamp());
+                Instant latest = first.getTimestamp();
+                long value = first.getProgressValue();
+                while (source.hasNext()) {
+                    GoalProgressPoint point = source.next();
+                    if (!interval.bucketStart(point.getTimestamp()).equals(bucketStart)) {
+                        pending = point;
+                        break;
+                    }
+                    if (point.getTimestamp().isBefore(latest)) {
+                        value = aggregation.combine(point.getProgressValue(), value);
+                    } else {
+                        value = aggregation.combine(value, point.getProgressValue());
+                        latest = point.getTimestamp();
+                    }
+                }
+                return GoalProgressPoint.builder()
+                        .timestamp(bucketStart)
+                        .progressValue(value)
+                        .build();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(buckets, Spliterator.ORDERED), false)
+                .onClose(points::close);
+    }
+}
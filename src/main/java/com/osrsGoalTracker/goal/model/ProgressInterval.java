@@ -0,0 +1,39 @@
+package com.osrsGoalTracker.goal.model;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Fixed-size UTC time buckets used to downsample goal progress history.
+ */
+public enum ProgressInterval {
+    HOUR,
+    DAY,
+    /**
+     * ISO weeks, starting on Monday.
+     */
+    WEEK;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    // 1970-01-01 was a Thursday, three days after the Monday that starts its week.
+    private static final long EPOCH_DAY_OF_WEEK = 3L;
+
+    /**
+     * Returns the start of the bucket containing the given instant.
+     *
+     * @param timestamp The instant to bucket
+     * @return The start of the bucket
+     */
+    public Instant bucketStart(Instant timestamp) {
+        switch (this) {
+            case HOUR:
+                return timestamp.truncatedTo(ChronoUnit.HOURS);
+            case DAY:
+                return timestamp.truncatedTo(ChronoUnit.DAYS);
+            default:
+                long epochDay = Math.floorDiv(timestamp.getEpochSecond(), SECONDS_PER_DAY);
+                long weekStartDay = epochDay - Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK, 7L);
+                return Instant.ofEpochSecond(weekStartDay * SECONDS_PER_DAY);
+        }
+    }
+}
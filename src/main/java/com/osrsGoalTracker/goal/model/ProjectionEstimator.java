@@ -0,0 +1,20 @@
+package com.osrsGoalTracker.goal.model;
+
+/**
+ * How a goal's rate of progress is estimated when projecting its completion.
+ */
+public enum ProjectionEstimator {
+    /**
+     * Average rate between the earliest and latest progress.
+     */
+    LINEAR_FROM_EARLIEST,
+    /**
+     * Exponentially weighted moving average of the rate over recent history,
+     * weighting each interval by its duration.
+     */
+    EWMA,
+    /**
+     * Least-squares slope over the most recent progress points.
+     */
+    LEAST_SQUARES
+}
@@ -0,0 +1,87 @@
+package com.osrsGoalTracker.goal.repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+
+/**
+ * Non-blocking repository for managing goals. The blocking GoalRepository
+ * methods wait for the corresponding asynchronous operation, so an
+ * implementation can be bound wherever a GoalRepository is expected.
+ */
+public interface AsyncGoalRepository extends GoalRepository {
+    /**
+     * Creates a new goal without blocking the calling thread.
+     *
+     * @param goal
+     *            The goal to create
+     * @return A future completing with the created goal
+     * @throws IllegalArgumentException
+     *             if the goal is invalid
+     */
+    CompletableFuture<Goal> createGoalAsync(Goal goal);
+
+    /**
+     * Creates a new goal progress item without blocking the calling thread.
+     *
+     * @param goal
+     *            The goal with updated progress
+     * @return A future completing once the progress item is written
+     * @throws IllegalArgumentException
+     *             if the goal is invalid
+     */
+    CompletableFuture<Void> createGoalProgressAsync(Goal goal);
+
+    /**
+     * Creates goal progress items for a batch of goals, pipelining the writes
+     * without blocking the calling thread. Updates for the same goal are
+     * written in the order they appear in the batch.
+     *
+     * @param goals
+     *            The goals with updated progress
+     * @return A future completing with one result per input goal, in the same
+     *         order as the input
+     * @throws IllegalArgumentException
+     *             if the list itself is null
+     */
+    CompletableFuture<List<GoalProgressWriteResult>> createGoalProgressBatchAsync(List<Goal> goals);
+
+    @Override
+    default Goal createGoal(Goal goal) {
+        return join(createGoalAsync(goal));
+    }
+
+    @Override
+    default void createGoalProgress(Goal goal) {
+        join(createGoalProgressAsync(goal));
+    }
+
+    @Override
+    default List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        return join(createGoalProgressBatchAsync(goals));
+    }
+
+    /**
+     * Waits for a future, rethrowing runtime failures without the
+     * CompletionException wrapper.
+     *
+     * @param future
+     *            The future to wait for
+     * @param <T>
+     *            The result type
+     * @return The result of the future
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
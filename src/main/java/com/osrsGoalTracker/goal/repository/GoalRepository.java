@@ -1,6 +1,17 @@
 package com.osrsGoalTracker.goal.repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
 
 /**
  * Repository interface for managing goals.
@@ -26,4 +37,166 @@ public interface GoalRepository {
      *             if the goal is invalid
      */
     void createGoalProgress(Goal goal);
-}
\ No newline at end of file
+
+    /**
+     * Creates goal progress items for a batch of goals without transactional
+     * guarantees between items. Each goal's timestamped progress row is
+     * written, and the latest progress row of each goal is set from the last
+     * update for that goal in the batch.
+     *
+     * @param goals
+     *            The goals with updated progress
+     * @return One result per input goal, in the same order as the input
+     * @throws IllegalArgumentException
+     *             if the list itself is null
+     */
+    List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals);
+
+    /**
+     * Writes any progress the repository has held back to coalesce writes.
+     * Callers flush at the end of each batch or invocation; repositories that
+     * write every update as it arrives have nothing to flush. Progress that
+     * cannot be written stays held for the next flush, but is lost if the
+     * container is recycled first, so callers report those goals' updates as
+     * failed.
+     *
+     * @return The goals whose held back progress could not be written, with
+     *         the progress value and timestamp that was held
+     */
+    default List<Goal> flushProgress() {
+        return List.of();
+    }
+
+    /**
+     * Fetches a single goal with its current progress taken from the goal's
+     * latest progress record.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @return The goal, or empty if it does not exist
+     */
+    Optional<Goal> getGoal(String userId, String characterName, String goalId);
+
+    /**
+     * Lists one page of a character's goals, ordered by goal ID, with their
+     * current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return, from 1 to 100
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if the cursor or limit is invalid
+     */
+    Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit);
+
+    /**
+     * Lists one page of every goal of a user, ordered by character name and
+     * then goal ID, with their current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return, from 1 to 100
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if the cursor or limit is invalid
+     */
+    Page<Goal> listGoalsForUser(String userId, String cursor, int limit);
+
+    /**
+     * Reads one page of a goal's timestamped progress records between two
+     * instants, in time order. A page may hold fewer points than the limit
+     * while a next cursor is still returned.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param from
+     *            The earliest timestamp to include
+     * @param to
+     *            The latest timestamp to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of records to read, from 1 to 1000
+     * @return The page of progress points
+     * @throws IllegalArgumentException
+     *             if the cursor or limit is invalid
+     */
+    Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId, Instant from,
+            Instant to, String cursor, int limit);
+
+    /**
+     * Fetches a goal with its earliest and latest progress records.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @return The snapshot, or empty if the goal does not exist
+     */
+    Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName, String goalId);
+
+    /**
+     * Reads one page of a goal's daily or weekly progress rollups whose
+     * buckets overlap the range between two instants, in time order.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param interval
+     *            DAY or WEEK
+     * @param from
+     *            An instant within the first bucket to include
+     * @param to
+     *            An instant within the last bucket to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of rollups to read, from 1 to 1000
+     * @return The page of rollups
+     * @throws IllegalArgumentException
+     *             if the interval, cursor or limit is invalid
+     */
+    Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit);
+
+    /**
+     * Rolls every complete week of a goal's raw progress records that ends at
+     * or before the given instant up into daily and weekly rollups, then
+     * deletes the raw records. Progress is checkpointed per week, so an
+     * interrupted run is resumed by calling this again.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param olderThan
+     *            Records in weeks that end after this instant are kept
+     * @return What was compacted
+     */
+    ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Instant olderThan);
+}
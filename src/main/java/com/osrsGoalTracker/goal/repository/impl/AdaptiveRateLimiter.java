@@ -0,0 +1,198 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket shared by every DynamoDB request of a container, whose rate
+ * adapts to throttling by additive increase, multiplicative decrease (AIMD).
+ * Each successful request raises the rate so that it grows by about one
+ * request per second for every second of traffic; a throttle halves it, at
+ * most once per DECREASE_INTERVAL so that one burst of throttles counts once.
+ * The rate stays between minRate and maxRate, and the bucket holds at most one
+ * second of requests, or one request if the rate is below one per second.
+ * A request that would wait longer than maxWait for a token is refused
+ * instead, so callers can hand the work back rather than sleep.
+ */
+public class AdaptiveRateLimiter {
+    static final double ADDITIVE_INCREASE = 1.0;
+    static final double DECREASE_FACTOR = 0.5;
+    static final Duration DECREASE_INTERVAL = Duration.ofMillis(250);
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /**
+     * Limiter that never limits and is not registered on the clients.
+     */
+    public static final AdaptiveRateLimiter DISABLED = new AdaptiveRateLimiter(false, 1, 1, 1, Duration.ZERO,
+            System::nanoTime);
+
+    private final boolean enabled;
+    private final double minRate;
+    private final double maxRate;
+    private final Duration maxWait;
+    private final LongSupplier nanoClock;
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long decreasedAt;
+    private long throttles;
+    private long rejections;
+
+    private AdaptiveRateLimiter(boolean enabled, double initialRate, double minRate, double maxRate,
+            Duration maxWait, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.maxWait = maxWait;
+        this.nanoClock = nanoClock;
+        this.rate = initialRate;
+        this.tokens = Math.max(1, initialRate);
+        this.refilledAt = nanoClock.getAsLong();
+        this.decreasedAt = refilledAt - DECREASE_INTERVAL.toNanos();
+    }
+
+    /**
+     * Creates an AIMD limiter.
+     *
+     * @param initialRate The requests per second allowed at first
+     * @param minRate     The lowest rate throttling can reduce it to
+     * @param maxRate     The highest rate successes can raise it to
+     * @param maxWait     How long a request may wait for a token before it is
+     *                    refused
+     * @return The limiter
+     * @throws IllegalArgumentException if the rates are not positive with
+     *                                  minRate &lt;= initialRate &lt;= maxRate,
+     *                                  or maxWait is negative
+     */
+    public static AdaptiveRateLimiter aimd(double initialRate, double minRate, double maxRate, Duration maxWait) {
+        return aimd(initialRate, minRate, maxRate, maxWait, System::nanoTime);
+    }
+
+    /**
+     * Creates an AIMD limiter reading time from the given clock.
+     */
+    static AdaptiveRateLimiter aimd(double initialRate, double minRate, double maxRate, Duration maxWait,
+            LongSupplier nanoClock) {
+        if (minRate <= 0 || initialRate < minRate || maxRate < initialRate) {
+            throw new IllegalArgumentException("rates must satisfy 0 < minRate <= initialRate <= maxRate");
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait cannot be negative");
+        }
+        return new AdaptiveRateLimiter(true, initialRate, minRate, maxRate, maxWait, nanoClock);
+    }
+
+    /**
+     * Returns whether requests are limited.
+     *
+     * @return true if the limiter is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the requests per second currently allowed.
+     *
+     * @return The current rate
+     */
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    /**
+     * Returns how many throttles have been reported.
+     *
+     * @return The throttle count
+     */
+    public synchronized long throttleCount() {
+        return throttles;
+    }
+
+    /**
+     * Returns how many requests have been refused.
+     *
+     * @return The refusal count
+     */
+    public synchronized long rejectionCount() {
+        return rejections;
+    }
+
+    /**
+     * Takes a token, waiting for one if it is due within maxWait, or within
+     * no time at all if waiting is not allowed.
+     *
+     * @param mayWait Whether the calling thread may block
+     * @return true if a token was taken, false if the request is refused
+     */
+    boolean tryAcquire(boolean mayWait) {
+        long waitNanos = reserve(mayWait ? maxWait.toNanos() : 0L);
+        if (waitNanos < 0) {
+            return false;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a token now or reserves the next one if it is due within
+     * maxWaitNanos.
+     *
+     * @return 0 if a token was taken, the nanoseconds to wait for a reserved
+     *         token, or -1 if the request is refused
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+        if (waitNanos > maxWaitNanos) {
+            rejections++;
+            return -1L;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Raises the rate after a request was not throttled.
+     */
+    synchronized void onSuccess() {
+        refill();
+        rate = Math.min(maxRate, rate + ADDITIVE_INCREASE / rate);
+    }
+
+    /**
+     * Lowers the rate after a request was throttled.
+     */
+    synchronized void onThrottle() {
+        refill();
+        throttles++;
+        long now = nanoClock.getAsLong();
+        if (now - decreasedAt >= DECREASE_INTERVAL.toNanos()) {
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, capacity());
+            decreasedAt = now;
+        }
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity(), tokens + (now - refilledAt) / NANOS_PER_SECOND * rate);
+        refilledAt = now;
+    }
+
+    private double capacity() {
+        return Math.max(1, rate);
+    }
+}
@@ -0,0 +1,345 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.AsyncGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+/**
+ * Non-blocking implementation of the goal repository built on the DynamoDB
+ * async client. The number of requests in flight is capped so that large
+ * batches are pipelined rather than fired all at once.
+ */
+@Slf4j
+@Singleton
+public class AsyncGoalRepositoryImpl implements AsyncGoalRepository {
+    /**
+     * Name of the binding holding the maximum number of in-flight requests.
+     */
+    public static final String MAX_IN_FLIGHT = "goalRepositoryMaxInFlightRequests";
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final GoalWriteRequestFactory requestFactory;
+    private final InFlightLimiter inFlightLimiter;
+    private final GoalReader goalReader;
+    private final ProgressCompactor progressCompactor;
+    private final ProgressWriteSuppressor progressWriteSuppressor;
+    private final RecentProgressEvents recentProgressEvents = new RecentProgressEvents();
+
+    /**
+     * Constructor for AsyncGoalRepositoryImpl that writes every progress
+     * update.
+     *
+     * @param dynamoDbAsyncClient
+     *            The DynamoDB async client.
+     * @param metadataTable
+     *            The DynamoDB table for goal metadata.
+     * @param progressTable
+     *            The DynamoDB table for goal progress.
+     * @param maxInFlightRequests
+     *            The maximum number of DynamoDB requests allowed in flight.
+     */
+    public AsyncGoalRepositoryImpl(
+            DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable,
+            int maxInFlightRequests) {
+        this(dynamoDbAsyncClient, metadataTable, progressTable, maxInFlightRequests,
+                ProgressWriteSuppressor.DISABLED);
+    }
+
+    /**
+     * Constructor for AsyncGoalRepositoryImpl.
+     *
+     * @param dynamoDbAsyncClient
+     *            The DynamoDB async client.
+     * @param metadataTable
+     *            The DynamoDB table for goal metadata.
+     * @param progressTable
+     *            The DynamoDB table for goal progress.
+     * @param maxInFlightRequests
+     *            The maximum number of DynamoDB requests allowed in flight.
+     * @param progressWriteSuppressor
+     *            Decides which unchanged progress updates are skipped.
+     */
+    public AsyncGoalRepositoryImpl(
+            DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable,
+            int maxInFlightRequests,
+            ProgressWriteSuppressor progressWriteSuppressor) {
+        this(dynamoDbAsyncClient, metadataTable, progressTable, maxInFlightRequests, progressWriteSuppressor,
+                ProgressRetentionPolicy.DISABLED, ProgressHistoryLayout.USER);
+    }
+
+    /**
+     * Constructor for AsyncGoalRepositoryImpl.
+     *
+     * @param dynamoDbAsyncClient
+     *            The DynamoDB async client.
+     * @param metadataTable
+     *            The DynamoDB table for goal metadata.
+     * @param progressTable
+     *            The DynamoDB table for goal progress.
+     * @param maxInFlightRequests
+     *            The maximum number of DynamoDB requests allowed in flight.
+     * @param progressWriteSuppressor
+     *            Decides which unchanged progress updates are skipped.
+     * @param retentionPolicy
+     *            Decides when progress history rows expire.
+     * @param historyLayout
+     *            Decides which partition progress history rows are written to.
+     */
+    @Inject
+    public AsyncGoalRepositoryImpl(
+            DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable,
+            @Named(MAX_IN_FLIGHT) int maxInFlightRequests,
+            ProgressWriteSuppressor progressWriteSuppressor,
+            ProgressRetentionPolicy retentionPolicy,
+            ProgressHistoryLayout historyLayout) {
+        this.progressWriteSuppressor = progressWriteSuppressor;
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.requestFactory = new GoalWriteRequestFactory(metadataTable.tableName(), metadataTable.tableSchema(),
+                progressTable.tableName(), progressTable.tableSchema(), retentionPolicy,
+                historyLayout);
+        this.inFlightLimiter = new InFlightLimiter(maxInFlightRequests);
+        this.goalReader = new GoalReader(metadataTable.tableName(), metadataTable.tableSchema(),
+                progressTable.tableSchema(),
+                request -> await(inFlightLimiter.submit(() -> dynamoDbAsyncClient.query(request))),
+                request -> await(inFlightLimiter.submit(() -> dynamoDbAsyncClient.batchGetItem(request))),
+                Thread::sleep);
+        this.progressCompactor = new ProgressCompactor(goalReader, requestFactory,
+                request -> await(transactWrite(request)), new BatchProgressWriter(
+                        request -> await(inFlightLimiter.submit(() -> dynamoDbAsyncClient.batchWriteItem(request)))));
+    }
+
+    @Override
+    public CompletableFuture<Goal> createGoalAsync(Goal goal) {
+        GoalWriteRequestFactory.validateGoal(goal);
+        log.info("Creating goal asynchronously for user: {}, character: {}, targetAttribute: {}",
+                goal.getUserId(), goal.getCharacterName(), goal.getTargetAttribute());
+
+        String goalId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        DynamoGoalMetadataItem metadataItem = requestFactory.createMetadataItem(goal.getUserId(),
+                goal.getCharacterName(), goalId, goal, now);
+        TransactWriteItemsRequest transactionRequest = requestFactory.createTransactionRequest(goal.getUserId(),
+                goal.getCharacterName(), goalId, metadataItem, now, goal.getCurrentProgress());
+
+        return transactWrite(transactionRequest).thenApply(ignored -> {
+            log.info("Successfully created goal with id: {} for user: {}, character: {}",
+                    goalId, goal.getUserId(), goal.getCharacterName());
+            goal.setGoalId(goalId);
+            return goal;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> createGoalProgressAsync(Goal goal) {
+        GoalWriteRequestFactory.validateGoalForProgress(goal);
+        log.debug("Creating goal progress asynchronously for user: {}, character: {}, goalId: {}",
+                goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
+
+        if (recentProgressEvents.isDuplicate(goal)) {
+            log.info("Skipping redelivered progress event {} for goalId: {}", goal.getProgressEventId(),
+                    goal.getGoalId());
+            return CompletableFuture.completedFuture(null);
+        }
+        Instant timestamp = requestFactory.progressTimestamp(goal);
+        if (progressWriteSuppressor.isKnownUnchanged(goal, timestamp)) {
+            log.debug("Skipping unchanged goal progress for goalId: {}", goal.getGoalId());
+            return CompletableFuture.completedFuture(null);
+        }
+        TransactWriteItemsRequest transactionRequest = requestFactory.createProgressTransactionRequest(
+                goal.getUserId(),
+                goal.getCharacterName(),
+                goal.getGoalId(),
+                timestamp,
+                goal.getCurrentProgress(),
+                goal.getFrequency(),
+                progressWriteSuppressor.heartbeatCutoff(timestamp));
+        return transactWrite(transactionRequest).handle((ignored, error) -> {
+            if (error == null) {
+                progressWriteSuppressor.recordWritten(goal, timestamp);
+                recentProgressEvents.recordWritten(goal);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            if (GoalWriteRequestFactory.isSupersededByNewerLatest(error, timestamp)) {
+                log.info("Goal progress for goalId: {} at {} is older than its latest progress, writing history only",
+                        goal.getGoalId(), timestamp);
+                return putHistoryRow(goal, timestamp).thenRun(() -> recentProgressEvents.recordWritten(goal));
+            }
+            if (GoalWriteRequestFactory.isCancelledByCondition(error)) {
+                log.debug("Goal progress for goalId: {} already recorded or unchanged, nothing written",
+                        goal.getGoalId());
+                recentProgressEvents.recordWritten(goal);
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            throw error instanceof CompletionException completionException
+                    ? completionException : new CompletionException(error);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Puts the history row of an out-of-order progress update without its
+     * #LATEST row. A row with the same value already recorded counts as
+     * written.
+     */
+    private CompletableFuture<Void> putHistoryRow(Goal goal, Instant timestamp) {
+        PutItemRequest request = requestFactory.createHistoryPutRequest(goal.getUserId(), goal.getCharacterName(),
+                goal.getGoalId(), timestamp, goal.getCurrentProgress(), goal.getFrequency());
+        return inFlightLimiter.submit(() -> dynamoDbAsyncClient.putItem(request))
+                .<Void>handle((response, error) -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause == null || cause instanceof ConditionalCheckFailedException) {
+                        return null;
+                    }
+                    throw error instanceof CompletionException completionException
+                            ? completionException : new CompletionException(error);
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<GoalProgressWriteResult>> createGoalProgressBatchAsync(List<Goal> goals) {
+        GoalWriteRequestFactory.validateNotNull(goals, "goals");
+        log.info("Creating goal progress asynchronously for batch of {} goals", goals.size());
+
+        List<CompletableFuture<GoalProgressWriteResult>> results = new ArrayList<>(goals.size());
+        Map<String, CompletableFuture<GoalProgressWriteResult>> lastWriteByGoal = new LinkedHashMap<>();
+        for (Goal goal : goals) {
+            String goalKey = goal == null ? null
+                    : goal.getUserId() + "#" + goal.getCharacterName() + "#" + goal.getGoalId();
+            CompletableFuture<GoalProgressWriteResult> previous = goalKey == null ? null
+                    : lastWriteByGoal.get(goalKey);
+            CompletableFuture<GoalProgressWriteResult> result = previous == null
+                    ? writeProgress(goal)
+                    : previous.thenCompose(ignored -> writeProgress(goal));
+            if (goalKey != null) {
+                lastWriteByGoal.put(goalKey, result);
+            }
+            results.add(result);
+        }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    @Override
+    public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        log.debug("Getting goal {} for user: {}, character: {}", goalId, userId, characterName);
+        return goalReader.getGoal(userId, characterName, goalId);
+    }
+
+    @Override
+    public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        log.debug("Listing goals for user: {}, character: {}", userId, characterName);
+        return goalReader.listGoalsForCharacter(userId, characterName, cursor, limit);
+    }
+
+    @Override
+    public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        log.debug("Listing goals for user: {}", userId);
+        return goalReader.listGoalsForUser(userId, cursor, limit);
+    }
+
+    @Override
+    public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        log.debug("Listing progress for user: {}, character: {}, goalId: {} between {} and {}", userId,
+                characterName, goalId, from, to);
+        return goalReader.listGoalProgress(userId, characterName, goalId, from, to, cursor, limit);
+    }
+
+    @Override
+    public Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName,
+            String goalId) {
+        log.debug("Getting progress snapshot of goal {} for user: {}, character: {}", goalId, userId,
+                characterName);
+        return goalReader.getGoalProgressSnapshot(userId, characterName, goalId);
+    }
+
+    @Override
+    public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        log.debug("Listing {} progress rollups for user: {}, character: {}, goalId: {} between {} and {}",
+                interval, userId, characterName, goalId, from, to);
+        return goalReader.listGoalProgressRollups(userId, characterName, goalId, interval, from, to, cursor, limit);
+    }
+
+    @Override
+    public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Instant olderThan) {
+        log.info("Compacting progress older than {} for user: {}, character: {}, goalId: {}", olderThan, userId,
+                characterName, goalId);
+        return progressCompactor.compact(userId, characterName, goalId, olderThan);
+    }
+
+    private CompletableFuture<GoalProgressWriteResult> writeProgress(Goal goal) {
+        CompletableFuture<Void> write;
+        try {
+            write = createGoalProgressAsync(goal);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(GoalProgressWriteResult.failed(goal, e.getMessage()));
+        }
+        return write.handle((ignored, error) -> {
+            if (error == null) {
+                return GoalProgressWriteResult.succeeded(goal);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            log.error("Failed to create goal progress for user: {}, goalId: {}, error: {}",
+                    goal.getUserId(), goal.getGoalId(), cause.getMessage());
+            return GoalProgressWriteResult.failed(goal, cause.getMessage());
+        });
+    }
+
+    private CompletableFuture<Void> transactWrite(TransactWriteItemsRequest request) {
+        return inFlightLimiter.submit(() -> dynamoDbAsyncClient.transactWriteItems(request))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Waits for a read issued through the limiter, rethrowing runtime
+     * failures without the CompletionException wrapper.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
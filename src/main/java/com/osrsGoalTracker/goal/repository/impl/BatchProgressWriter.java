@@ -0,0 +1,268 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.goal.model.BackpressureException;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes and deletes items through BatchWriteItem in chunks of at most 25,
+ * retrying unprocessed items with jittered exponential backoff.
+ * Each item is tagged with the index of the goal it belongs to so that failures
+ * can be reported per goal. Once a request is refused by the rate limiter, the
+ * remaining chunks are reported as failed without being sent.
+ */
+@Slf4j
+class BatchProgressWriter {
+    static final int MAX_BATCH_SIZE = 25;
+    static final int DEFAULT_MAX_ATTEMPTS = 5;
+    static final long DEFAULT_BASE_DELAY_MILLIS = 50;
+    static final long DEFAULT_MAX_DELAY_MILLIS = 1000;
+
+    /**
+     * Pauses the calling thread between retries. Replaceable for tests.
+     */
+    @FunctionalInterface
+    interface Sleeper {
+        /**
+         * Sleeps for the given number of milliseconds.
+         *
+         * @param millis The time to sleep
+         * @throws InterruptedException if the thread is interrupted
+         */
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * An item to put, tagged with the goal it belongs to. Deletes reuse it
+     * with the item's key as the attribute map.
+     *
+     * @param goalIndex The index of the goal in the caller's batch
+     * @param pk        The partition key of the item
+     * @param sk        The sort key of the item
+     * @param item      The attribute map of the item
+     */
+    record TaggedPut(int goalIndex, String pk, String sk, Map<String, AttributeValue> item) {
+    }
+
+    private final Function<BatchWriteItemRequest, BatchWriteItemResponse> batchWrite;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Sleeper sleeper;
+
+    /**
+     * Creates a writer with the default retry settings.
+     *
+     * @param dynamoDbClient The DynamoDB client
+     */
+    BatchProgressWriter(DynamoDbClient dynamoDbClient) {
+        this(dynamoDbClient, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS,
+                Thread::sleep);
+    }
+
+    /**
+     * Creates a writer with explicit retry settings.
+     *
+     * @param dynamoDbClient  The DynamoDB client
+     * @param maxAttempts     The maximum number of attempts per chunk
+     * @param baseDelayMillis The backoff delay before the first retry
+     * @param maxDelayMillis  The upper bound on any single backoff delay
+     * @param sleeper         Used to wait between retries
+     */
+    BatchProgressWriter(DynamoDbClient dynamoDbClient, int maxAttempts, long baseDelayMillis, long maxDelayMillis,
+            Sleeper sleeper) {
+        this(dynamoDbClient::batchWriteItem, maxAttempts, baseDelayMillis, maxDelayMillis, sleeper);
+    }
+
+    /**
+     * Creates a writer with the default retry settings over any way of running
+     * a BatchWriteItem request.
+     *
+     * @param batchWrite Runs a BatchWriteItem request
+     */
+    BatchProgressWriter(Function<BatchWriteItemRequest, BatchWriteItemResponse> batchWrite) {
+        this(batchWrite, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS, Thread::sleep);
+    }
+
+    /**
+     * Creates a writer with explicit retry settings over any way of running a
+     * BatchWriteItem request.
+     *
+     * @param batchWrite      Runs a BatchWriteItem request
+     * @param maxAttempts     The maximum number of attempts per chunk
+     * @param baseDelayMillis The backoff delay before the first retry
+     * @param maxDelayMillis  The upper bound on any single backoff delay
+     * @param sleeper         Used to wait between retries
+     */
+    BatchProgressWriter(Function<BatchWriteItemRequest, BatchWriteItemResponse> batchWrite, int maxAttempts,
+            long baseDelayMillis, long maxDelayMillis, Sleeper sleeper) {
+        this.batchWrite = batchWrite;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Writes all items to the table. Chunks are written in order, and an item
+     * whose key already appears in the current chunk starts a new chunk, so a
+     * later write for the same key always lands after an earlier one.
+     *
+     * @param tableName The table to write to
+     * @param puts      The items to write
+     * @return The goal indexes whose items could not be written, mapped to the
+     *         reason
+     */
+    Map<Integer, String> write(String tableName, List<TaggedPut> puts) {
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        String backpressure = null;
+        for (List<TaggedPut> chunk : chunk(puts)) {
+            Map<WriteRequest, TaggedPut> pending = new LinkedHashMap<>();
+            for (TaggedPut put : chunk) {
+                pending.put(WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(put.item()).build())
+                        .build(), put);
+            }
+            backpressure = writeOrFailChunk(tableName, pending, failures, backpressure);
+        }
+        return failures;
+    }
+
+    /**
+     * Deletes items from the table by key. Each item is tagged with its index
+     * in the given list.
+     *
+     * @param tableName The table to delete from
+     * @param keys      The primary keys of the items to delete, each with a
+     *                  pk and an sk attribute
+     * @return The indexes of the keys whose items could not be deleted, mapped
+     *         to the reason
+     */
+    Map<Integer, String> delete(String tableName, List<Map<String, AttributeValue>> keys) {
+        List<TaggedPut> tagged = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Map<String, AttributeValue> key = keys.get(i);
+            tagged.add(new TaggedPut(i, key.get("pk").s(), key.get("sk").s(), key));
+        }
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        String backpressure = null;
+        for (List<TaggedPut> chunk : chunk(tagged)) {
+            Map<WriteRequest, TaggedPut> pending = new LinkedHashMap<>();
+            for (TaggedPut key : chunk) {
+                pending.put(WriteRequest.builder()
+                        .deleteRequest(DeleteRequest.builder().key(key.item()).build())
+                        .build(), key);
+            }
+            backpressure = writeOrFailChunk(tableName, pending, failures, backpressure);
+        }
+        return failures;
+    }
+
+    private List<List<TaggedPut>> chunk(List<TaggedPut> puts) {
+        List<List<TaggedPut>> chunks = new ArrayList<>();
+        List<TaggedPut> current = new ArrayList<>(MAX_BATCH_SIZE);
+        Set<String> keys = new HashSet<>();
+        for (TaggedPut put : puts) {
+            String key = put.pk() + "|" + put.sk();
+            if (current.size() == MAX_BATCH_SIZE || keys.contains(key)) {
+                chunks.add(current);
+                current = new ArrayList<>(MAX_BATCH_SIZE);
+                keys.clear();
+            }
+            current.add(put);
+            keys.add(key);
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * Writes a chunk unless an earlier chunk was refused by the rate limiter,
+     * in which case the chunk fails with the same reason.
+     *
+     * @return The reason requests are being refused, or null if they are not
+     */
+    private String writeOrFailChunk(String tableName, Map<WriteRequest, TaggedPut> pending,
+            Map<Integer, String> failures, String backpressure) {
+        if (backpressure != null) {
+            recordFailures(pending, backpressure, failures);
+            return backpressure;
+        }
+        return writeChunk(tableName, pending, failures);
+    }
+
+    private String writeChunk(String tableName, Map<WriteRequest, TaggedPut> pending,
+            Map<Integer, String> failures) {
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            if (attempt > 1 && !backoff(attempt)) {
+                break;
+            }
+            try {
+                BatchWriteItemResponse response = batchWrite.apply(BatchWriteItemRequest.builder()
+                        .requestItems(Map.of(tableName, new ArrayList<>(pending.keySet())))
+                        .build());
+                pending = unprocessed(response, tableName, pending);
+            } catch (RuntimeException e) {
+                log.error("BatchWriteItem failed for {} items: {}", pending.size(), e.getMessage());
+                recordFailures(pending, e.getMessage(), failures);
+                return BackpressureException.isCause(e) ? e.getMessage() : null;
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn("{} items remained unprocessed after {} attempts", pending.size(), maxAttempts);
+            recordFailures(pending, "Unprocessed after " + maxAttempts + " attempts", failures);
+        }
+        return null;
+    }
+
+    private Map<WriteRequest, TaggedPut> unprocessed(BatchWriteItemResponse response, String tableName,
+            Map<WriteRequest, TaggedPut> pending) {
+        Map<WriteRequest, TaggedPut> remaining = new LinkedHashMap<>();
+        if (!response.hasUnprocessedItems() || !response.unprocessedItems().containsKey(tableName)) {
+            return remaining;
+        }
+        for (WriteRequest request : response.unprocessedItems().get(tableName)) {
+            TaggedPut put = pending.get(request);
+            if (put != null) {
+                remaining.put(request, put);
+            }
+        }
+        return remaining;
+    }
+
+    private boolean backoff(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 2, 20));
+        try {
+            sleeper.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordFailures(Map<WriteRequest, TaggedPut> pending, String reason, Map<Integer, String> failures) {
+        for (TaggedPut put : pending.values()) {
+            failures.putIfAbsent(put.goalIndex(), reason);
+        }
+    }
+}
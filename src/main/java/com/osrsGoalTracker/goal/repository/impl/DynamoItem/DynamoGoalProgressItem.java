@@ -27,6 +27,8 @@ public class DynamoGoalProgressItem {
     private String goalId;
     private Long progressValue;
     private Instant createdAt;
+    private Long createdAtNanos;
+    private Long ttl;
 
     @DynamoDbPartitionKey
     public String getPk() {
@@ -62,4 +64,20 @@ public class DynamoGoalProgressItem {
     public Instant getCreatedAt() {
         return createdAt;
     }
+
+    /**
+     * createdAt in nanoseconds since the epoch, set on #LATEST rows only so
+     * condition expressions can order rows numerically.
+     *
+     * @return The nanoseconds since the epoch, or null
+     */
+    @DynamoDbAttribute("createdAtNanos")
+    public Long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    @DynamoDbAttribute("ttl")
+    public Long getTtl() {
+        return ttl;
+    }
 }
\ No newline at end of file
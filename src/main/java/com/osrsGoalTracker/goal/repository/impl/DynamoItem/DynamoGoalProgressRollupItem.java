@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.goal.repository.impl.DynamoItem;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+/**
+ * Represents a daily or weekly rollup of goal progress records in the DynamoDB
+ * table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+public class DynamoGoalProgressRollupItem {
+    private String pk;
+    private String sk;
+    private String userId;
+    private String characterName;
+    private String goalId;
+    private String interval;
+    private Instant bucketStart;
+    private Long recordCount;
+    private Long minValue;
+    private Long maxValue;
+    private Long firstValue;
+    private Long lastValue;
+    private Instant firstAt;
+    private Instant lastAt;
+
+    @DynamoDbPartitionKey
+    public String getPk() {
+        return pk;
+    }
+
+    @DynamoDbSortKey
+    public String getSk() {
+        return sk;
+    }
+
+    @DynamoDbAttribute("userId")
+    public String getUserId() {
+        return userId;
+    }
+
+    @DynamoDbAttribute("characterName")
+    public String getCharacterName() {
+        return characterName;
+    }
+
+    @DynamoDbAttribute("goalId")
+    public String getGoalId() {
+        return goalId;
+    }
+
+    @DynamoDbAttribute("interval")
+    public String getInterval() {
+        return interval;
+    }
+
+    @DynamoDbAttribute("bucketStart")
+    public Instant getBucketStart() {
+        return bucketStart;
+    }
+
+    @DynamoDbAttribute("recordCount")
+    public Long getRecordCount() {
+        return recordCount;
+    }
+
+    @DynamoDbAttribute("minValue")
+    public Long getMinValue() {
+        return minValue;
+    }
+
+    @DynamoDbAttribute("maxValue")
+    public Long getMaxValue() {
+        return maxValue;
+    }
+
+    @DynamoDbAttribute("firstValue")
+    public Long getFirstValue() {
+        return firstValue;
+    }
+
+    @DynamoDbAttribute("lastValue")
+    public Long getLastValue() {
+        return lastValue;
+    }
+
+    @DynamoDbAttribute("firstAt")
+    public Instant getFirstAt() {
+        return firstAt;
+    }
+
+    @DynamoDbAttribute("lastAt")
+    public Instant getLastAt() {
+        return lastAt;
+    }
+}
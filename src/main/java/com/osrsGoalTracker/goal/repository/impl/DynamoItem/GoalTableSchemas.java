@@ -0,0 +1,162 @@
+package com.osrsGoalTracker.goal.repository.impl.DynamoItem;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Instant;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Static table schemas for the goal DynamoDB items. They produce the same
+ * attribute maps as TableSchema.fromClass on the annotated beans, but are
+ * declared with explicit getters and setters so no bean introspection or
+ * generated accessors are needed at startup.
+ */
+public final class GoalTableSchemas {
+    /**
+     * Schema for goal metadata records.
+     */
+    public static final TableSchema<DynamoGoalMetadataItem> METADATA =
+            StaticTableSchema.builder(DynamoGoalMetadataItem.class)
+                    .newItemSupplier(DynamoGoalMetadataItem::new)
+                    .addAttribute(String.class, a -> a.name("pk")
+                            .getter(DynamoGoalMetadataItem::getPk)
+                            .setter(DynamoGoalMetadataItem::setPk)
+                            .tags(primaryPartitionKey()))
+                    .addAttribute(String.class, a -> a.name("sk")
+                            .getter(DynamoGoalMetadataItem::getSk)
+                            .setter(DynamoGoalMetadataItem::setSk)
+                            .tags(primarySortKey()))
+                    .addAttribute(String.class, a -> a.name("userId")
+                            .getter(DynamoGoalMetadataItem::getUserId)
+                            .setter(DynamoGoalMetadataItem::setUserId))
+                    .addAttribute(String.class, a -> a.name("characterName")
+                            .getter(DynamoGoalMetadataItem::getCharacterName)
+                            .setter(DynamoGoalMetadataItem::setCharacterName))
+                    .addAttribute(String.class, a -> a.name("goalId")
+                            .getter(DynamoGoalMetadataItem::getGoalId)
+                            .setter(DynamoGoalMetadataItem::setGoalId))
+                    .addAttribute(String.class, a -> a.name("targetAttribute")
+                            .getter(DynamoGoalMetadataItem::getTargetAttribute)
+                            .setter(DynamoGoalMetadataItem::setTargetAttribute))
+                    .addAttribute(String.class, a -> a.name("targetType")
+                            .getter(DynamoGoalMetadataItem::getTargetType)
+                            .setter(DynamoGoalMetadataItem::setTargetType))
+                    .addAttribute(Long.class, a -> a.name("targetValue")
+                            .getter(DynamoGoalMetadataItem::getTargetValue)
+                            .setter(DynamoGoalMetadataItem::setTargetValue))
+                    .addAttribute(Instant.class, a -> a.name("targetDate")
+                            .getter(DynamoGoalMetadataItem::getTargetDate)
+                            .setter(DynamoGoalMetadataItem::setTargetDate))
+                    .addAttribute(String.class, a -> a.name("notificationChannelType")
+                            .getter(DynamoGoalMetadataItem::getNotificationChannelType)
+                            .setter(DynamoGoalMetadataItem::setNotificationChannelType))
+                    .addAttribute(String.class, a -> a.name("frequency")
+                            .getter(DynamoGoalMetadataItem::getFrequency)
+                            .setter(DynamoGoalMetadataItem::setFrequency))
+                    .addAttribute(Instant.class, a -> a.name("createdAt")
+                            .getter(DynamoGoalMetadataItem::getCreatedAt)
+                            .setter(DynamoGoalMetadataItem::setCreatedAt))
+                    .addAttribute(Instant.class, a -> a.name("updatedAt")
+                            .getter(DynamoGoalMetadataItem::getUpdatedAt)
+                            .setter(DynamoGoalMetadataItem::setUpdatedAt))
+                    .build();
+
+    /**
+     * Schema for goal progress records.
+     */
+    public static final TableSchema<DynamoGoalProgressItem> PROGRESS =
+            StaticTableSchema.builder(DynamoGoalProgressItem.class)
+                    .newItemSupplier(DynamoGoalProgressItem::new)
+                    .addAttribute(String.class, a -> a.name("pk")
+                            .getter(DynamoGoalProgressItem::getPk)
+                            .setter(DynamoGoalProgressItem::setPk)
+                            .tags(primaryPartitionKey()))
+                    .addAttribute(String.class, a -> a.name("sk")
+                            .getter(DynamoGoalProgressItem::getSk)
+                            .setter(DynamoGoalProgressItem::setSk)
+                            .tags(primarySortKey()))
+                    .addAttribute(String.class, a -> a.name("userId")
+                            .getter(DynamoGoalProgressItem::getUserId)
+                            .setter(DynamoGoalProgressItem::setUserId))
+                    .addAttribute(String.class, a -> a.name("characterName")
+                            .getter(DynamoGoalProgressItem::getCharacterName)
+                            .setter(DynamoGoalProgressItem::setCharacterName))
+                    .addAttribute(String.class, a -> a.name("goalId")
+                            .getter(DynamoGoalProgressItem::getGoalId)
+                            .setter(DynamoGoalProgressItem::setGoalId))
+                    .addAttribute(Long.class, a -> a.name("progressValue")
+                            .getter(DynamoGoalProgressItem::getProgressValue)
+                            .setter(DynamoGoalProgressItem::setProgressValue))
+                    .addAttribute(Instant.class, a -> a.name("createdAt")
+                            .getter(DynamoGoalProgressItem::getCreatedAt)
+                            .setter(DynamoGoalProgressItem::setCreatedAt))
+                    .addAttribute(Long.class, a -> a.name("createdAtNanos")
+                            .getter(DynamoGoalProgressItem::getCreatedAtNanos)
+                            .setter(DynamoGoalProgressItem::setCreatedAtNanos))
+                    .addAttribute(Long.class, a -> a.name("ttl")
+                            .getter(DynamoGoalProgressItem::getTtl)
+                            .setter(DynamoGoalProgressItem::setTtl))
+                    .build();
+
+    /**
+     * Schema for daily and weekly goal progress rollups.
+     */
+    public static final TableSchema<DynamoGoalProgressRollupItem> ROLLUP =
+            StaticTableSchema.builder(DynamoGoalProgressRollupItem.class)
+                    .newItemSupplier(DynamoGoalProgressRollupItem::new)
+                    .addAttribute(String.class, a -> a.name("pk")
+                            .getter(DynamoGoalProgressRollupItem::getPk)
+                            .setter(DynamoGoalProgressRollupItem::setPk)
+                            .tags(primaryPartitionKey()))
+                    .addAttribute(String.class, a -> a.name("sk")
+                            .getter(DynamoGoalProgressRollupItem::getSk)
+                            .setter(DynamoGoalProgressRollupItem::setSk)
+                            .tags(primarySortKey()))
+                    .addAttribute(String.class, a -> a.name("userId")
+                            .getter(DynamoGoalProgressRollupItem::getUserId)
+                            .setter(DynamoGoalProgressRollupItem::setUserId))
+                    .addAttribute(String.class, a -> a.name("characterName")
+                            .getter(DynamoGoalProgressRollupItem::getCharacterName)
+                            .setter(DynamoGoalProgressRollupItem::setCharacterName))
+                    .addAttribute(String.class, a -> a.name("goalId")
+                            .getter(DynamoGoalProgressRollupItem::getGoalId)
+                            .setter(DynamoGoalProgressRollupItem::setGoalId))
+                    .addAttribute(String.class, a -> a.name("interval")
+                            .getter(DynamoGoalProgressRollupItem::getInterval)
+                            .setter(DynamoGoalProgressRollupItem::setInterval))
+                    .addAttribute(Instant.class, a -> a.name("bucketStart")
+                            .getter(DynamoGoalProgressRollupItem::getBucketStart)
+                            .setter(DynamoGoalProgressRollupItem::setBucketStart))
+                    .addAttribute(Long.class, a -> a.name("recordCount")
+                            .getter(DynamoGoalProgressRollupItem::getRecordCount)
+                            .setter(DynamoGoalProgressRollupItem::setRecordCount))
+                    .addAttribute(Long.class, a -> a.name("minValue")
+                            .getter(DynamoGoalProgressRollupItem::getMinValue)
+                            .setter(DynamoGoalProgressRollupItem::setMinValue))
+                    .addAttribute(Long.class, a -> a.name("maxValue")
+                            .getter(DynamoGoalProgressRollupItem::getMaxValue)
+                            .setter(DynamoGoalProgressRollupItem::setMaxValue))
+                    .addAttribute(Long.class, a -> a.name("firstValue")
+                            .getter(DynamoGoalProgressRollupItem::getFirstValue)
+                            .setter(DynamoGoalProgressRollupItem::setFirstValue))
+                    .addAttribute(Long.class, a -> a.name("lastValue")
+                            .getter(DynamoGoalProgressRollupItem::getLastValue)
+                            .setter(DynamoGoalProgressRollupItem::setLastValue))
+                    .addAttribute(Instant.class, a -> a.name("firstAt")
+                            .getter(DynamoGoalProgressRollupItem::getFirstAt)
+                            .setter(DynamoGoalProgressRollupItem::setFirstAt))
+                    .addAttribute(Instant.class, a -> a.name("lastAt")
+                            .getter(DynamoGoalProgressRollupItem::getLastAt)
+                            .setter(DynamoGoalProgressRollupItem::setLastAt))
+                    .build();
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private GoalTableSchemas() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that serializes writes to the same goal within this
+ * container while writes to different goals proceed in parallel. Goals are
+ * hashed onto the stripes, so two goals may share a lock but one goal always
+ * maps to the same one. ReentrantLock is used rather than synchronized so a
+ * virtual thread blocked on DynamoDB while holding a stripe does not pin its
+ * carrier thread.
+ */
+final class GoalLockStripes {
+    static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] locks;
+
+    /**
+     * Creates DEFAULT_STRIPES locks.
+     */
+    GoalLockStripes() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates the given number of locks.
+     *
+     * @param stripes The number of locks, a power of two
+     * @throws IllegalArgumentException if stripes is not a positive power of
+     *                                  two
+     */
+    GoalLockStripes(int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes must be a positive power of two");
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Returns the lock guarding a goal's writes.
+     *
+     * @param userId The ID of the user
+     * @param goalId The ID of the goal
+     * @return The goal's lock
+     */
+    ReentrantLock lockFor(String userId, String goalId) {
+        int hash = 31 * userId.hashCode() + goalId.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+}
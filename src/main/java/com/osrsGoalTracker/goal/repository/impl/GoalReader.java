@@ -0,0 +1,697 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressRollupItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.repository.util.SortKey;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Reads goals using key-only access: begins_with queries over the goal
+ * metadata sort keys, and BatchGetItem for exact keys such as the #LATEST
+ * progress rows that fill in each goal's current progress. Every request uses
+ * a projection expression so only the attributes a Goal needs are read.
+ * Progress history is read with a BETWEEN condition on the timestamped
+ * progress sort keys in both the user's and the goal's partition, merged in
+ * sort key order and then put into time order one second at a time, and
+ * compacted history the same way over the daily or weekly rollup sort keys.
+ * Cursors are the URL-safe base64 encoding of the last sort key read.
+ * To list every goal of a user without reading progress history, the reader
+ * skips from one character's block of sort keys to the next with a
+ * single-item query, then pages through that character's metadata records.
+ */
+@Slf4j
+class GoalReader {
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    static final int MAX_BATCH_GET_ATTEMPTS = 5;
+    static final long BATCH_GET_BASE_DELAY_MILLIS = 25;
+
+    private static final String METADATA_PROJECTION = "#pk, #sk, #userId, #characterName, #goalId, "
+            + "#targetAttribute, #targetType, #targetValue, #targetDate, #notificationChannelType, #frequency";
+    private static final Map<String, String> METADATA_NAMES = attributeNames("pk", "sk", "userId", "characterName",
+            "goalId", "targetAttribute", "targetType", "targetValue", "targetDate", "notificationChannelType",
+            "frequency");
+    private static final String LATEST_PROJECTION = "#pk, #sk, #progressValue";
+    private static final Map<String, String> LATEST_NAMES = attributeNames("pk", "sk", "progressValue");
+    private static final String HISTORY_PROJECTION = "#pk, #sk, #progressValue";
+    private static final Map<String, String> KEY_NAMES = attributeNames("pk", "sk");
+    private static final String ROLLUP_PROJECTION = "#sk, #bucketStart, #recordCount, #minValue, #maxValue, "
+            + "#firstValue, #lastValue, #firstAt, #lastAt";
+    private static final Map<String, String> ROLLUP_NAMES = attributeNames("pk", "sk", "bucketStart", "recordCount",
+            "minValue", "maxValue", "firstValue", "lastValue", "firstAt", "lastAt");
+    private static final Map<String, String> CHECKPOINT_NAMES = attributeNames("pk", "sk", "compactedThrough");
+
+    private final String tableName;
+    private final TableSchema<DynamoGoalMetadataItem> metadataSchema;
+    private final TableSchema<DynamoGoalProgressItem> progressSchema;
+    private final Function<QueryRequest, QueryResponse> query;
+    private final Function<BatchGetItemRequest, BatchGetItemResponse> batchGet;
+    private final BatchProgressWriter.Sleeper sleeper;
+
+    /**
+     * Constructor for GoalReader.
+     *
+     * @param tableName      The table holding goals and progress
+     * @param metadataSchema The schema of goal metadata items
+     * @param progressSchema The schema of goal progress items
+     * @param query          Runs a Query request
+     * @param batchGet       Runs a BatchGetItem request
+     * @param sleeper        Used to wait before retrying unprocessed keys
+     */
+    GoalReader(String tableName,
+            TableSchema<DynamoGoalMetadataItem> metadataSchema,
+            TableSchema<DynamoGoalProgressItem> progressSchema,
+            Function<QueryRequest, QueryResponse> query,
+            Function<BatchGetItemRequest, BatchGetItemResponse> batchGet,
+            BatchProgressWriter.Sleeper sleeper) {
+        this.tableName = tableName;
+        this.metadataSchema = metadataSchema;
+        this.progressSchema = progressSchema;
+        this.query = query;
+        this.batchGet = batchGet;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Fetches a goal and its latest progress with a single BatchGetItem.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The goal, or empty if it does not exist
+     */
+    Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        String pk = partitionKey(userId);
+        String metadataSk = SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId);
+        String latestSk = SortKeyUtil.buildGoalLatestSortKey(characterName, goalId);
+
+        Map<String, Map<String, AttributeValue>> items = batchGetByKey(List.of(key(pk, metadataSk),
+                key(pk, latestSk)), METADATA_PROJECTION + ", #progressValue",
+                withNames(METADATA_NAMES, "progressValue"));
+        Map<String, AttributeValue> metadata = items.get(metadataSk);
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        Goal goal = toGoal(metadata);
+        goal.setCurrentProgress(progressValue(items.get(latestSk)));
+        return Optional.of(goal);
+    }
+
+    /**
+     * Fetches a goal with its earliest and latest progress records using a
+     * single BatchGetItem.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The snapshot, or empty if the goal does not exist
+     */
+    Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName, String goalId) {
+        String pk = partitionKey(userId);
+        String metadataSk = SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId);
+        String earliestSk = SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId);
+        String latestSk = SortKeyUtil.buildGoalLatestSortKey(characterName, goalId);
+
+        Map<String, Map<String, AttributeValue>> items = batchGetByKey(List.of(key(pk, metadataSk),
+                key(pk, earliestSk), key(pk, latestSk)), METADATA_PROJECTION + ", #progressValue, #createdAt",
+                withNames(METADATA_NAMES, "progressValue", "createdAt"));
+        Map<String, AttributeValue> metadata = items.get(metadataSk);
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        Goal goal = toGoal(metadata);
+        goal.setCurrentProgress(progressValue(items.get(latestSk)));
+        return Optional.of(GoalProgressSnapshot.builder()
+                .goal(goal)
+                .earliest(toProgressPoint(items.get(earliestSk)))
+                .latest(toProgressPoint(items.get(latestSk)))
+                .build());
+    }
+
+    /**
+     * Lists one page of a character's goals in goal ID order.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param cursor        The cursor from the previous page, or null
+     * @param limit         The maximum number of goals to return
+     * @return The page of goals
+     */
+    Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        validateLimit(limit, MAX_PAGE_SIZE);
+        String prefix = SortKeyUtil.buildGoalMetadataSortKeyPrefix(characterName);
+        String startSk = decodeGoalCursor(cursor, prefix);
+
+        List<Map<String, AttributeValue>> rows = new ArrayList<>(limit);
+        String lastEvaluatedSk = startSk;
+        do {
+            QueryResponse response = queryMetadata(userId, prefix, lastEvaluatedSk, limit - rows.size());
+            rows.addAll(response.items());
+            lastEvaluatedSk = lastEvaluatedSortKey(response);
+        } while (lastEvaluatedSk != null && rows.size() < limit);
+
+        return toPage(userId, rows, lastEvaluatedSk != null);
+    }
+
+    /**
+     * Lists one page of every goal of a user, ordered by character and then
+     * goal ID.
+     *
+     * @param userId The ID of the user
+     * @param cursor The cursor from the previous page, or null
+     * @param limit  The maximum number of goals to return
+     * @return The page of goals
+     */
+    Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        validateLimit(limit, MAX_PAGE_SIZE);
+        String startSk = decodeGoalCursor(cursor, SortKeyUtil.CHARACTER_PREFIX);
+        String characterName = startSk == null
+                ? nextCharacter(userId, SortKeyUtil.CHARACTER_PREFIX)
+                : SortKeyUtil.parseGoalSortKey(startSk).characterName();
+
+        List<Map<String, AttributeValue>> rows = new ArrayList<>(limit);
+        while (characterName != null && rows.size() < limit) {
+            QueryResponse response = queryMetadata(userId, SortKeyUtil.buildGoalMetadataSortKeyPrefix(characterName),
+                    startSk, limit - rows.size());
+            rows.addAll(response.items());
+            startSk = lastEvaluatedSortKey(response);
+            if (startSk == null) {
+                characterName = nextCharacter(userId, SortKeyUtil.buildCharacterSortKeyUpperBound(characterName));
+            }
+        }
+
+        return toPage(userId, rows, characterName != null);
+    }
+
+    /**
+     * Reads one page of a goal's progress records between two instants, in
+     * time order. A page may hold fewer points than the limit, or none, while
+     * a next cursor is still returned. Pages end between two seconds unless
+     * more records share one second than fit on a page.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param from          The earliest timestamp to include
+     * @param to            The latest timestamp to include
+     * @param cursor        The cursor from the previous page, or null
+     * @param limit         The maximum number of records to read
+     * @return The page of progress points
+     */
+    Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId, Instant from,
+            Instant to, String cursor, int limit) {
+        Page<Map<String, AttributeValue>> rows = listGoalProgressRows(userId, characterName, goalId, from, to,
+                cursor, limit);
+        List<GoalProgressPoint> points = new ArrayList<>(rows.getItems().size());
+        for (Map<String, AttributeValue> row : rows.getItems()) {
+            points.add(toHistoryPoint(row));
+        }
+        return Page.<GoalProgressPoint>builder()
+                .items(points)
+                .nextCursor(rows.getNextCursor())
+                .build();
+    }
+
+    /**
+     * Reads one page of a goal's raw progress rows between two instants, in
+     * time order, with their partition and sort keys. History rows may
+     * sit in the user's partition or the goal's own partition depending on
+     * the layout they were written with, so both partitions are queried from
+     * the cursor and the results merged. Rows are only returned up to the
+     * last sort key every partition with more rows has reached, so no row
+     * is skipped or returned twice across pages. The page is then put into
+     * time order by {@link #inTimeOrder}.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param from          The earliest timestamp to include
+     * @param to            The latest timestamp to include
+     * @param cursor        The cursor from the previous page, or null
+     * @param limit         The maximum number of rows to read per partition
+     * @return The page of rows
+     */
+    Page<Map<String, AttributeValue>> listGoalProgressRows(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        validateLimit(limit, MAX_HISTORY_PAGE_SIZE);
+        String startSk = decodeCursor(cursor, SortKeyUtil.buildGoalProgressSortKeyPrefix(characterName, goalId));
+        String fromSk = SortKeyUtil.buildGoalProgressSortKeyLowerBound(characterName, goalId, from);
+        String toSk = SortKeyUtil.buildGoalProgressSortKeyUpperBound(characterName, goalId, to);
+
+        TreeMap<String, Map<String, AttributeValue>> merged = new TreeMap<>();
+        String bound = null;
+        for (String pk : ProgressHistoryLayout.historyPartitionKeys(userId, goalId)) {
+            QueryRequest.Builder request = QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#pk = :pk AND #sk BETWEEN :from AND :to")
+                    .projectionExpression(HISTORY_PROJECTION)
+                    .expressionAttributeNames(LATEST_NAMES)
+                    .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.fromS(pk),
+                            ":from", AttributeValue.fromS(fromSk),
+                            ":to", AttributeValue.fromS(toSk)))
+                    .limit(limit);
+            if (startSk != null) {
+                request.exclusiveStartKey(key(pk, startSk));
+            }
+            QueryResponse response = query.apply(request.build());
+            for (Map<String, AttributeValue> row : response.items()) {
+                merged.putIfAbsent(row.get("sk").s(), row);
+            }
+            String lastEvaluatedSk = lastEvaluatedSortKey(response);
+            if (lastEvaluatedSk != null && (bound == null || lastEvaluatedSk.compareTo(bound) < 0)) {
+                bound = lastEvaluatedSk;
+            }
+        }
+
+        SortedMap<String, Map<String, AttributeValue>> candidates = bound == null ? merged
+                : merged.headMap(bound, true);
+        List<Map<String, AttributeValue>> rows = new ArrayList<>(Math.min(candidates.size(), limit));
+        String lastSk = null;
+        for (Map.Entry<String, Map<String, AttributeValue>> entry : candidates.entrySet()) {
+            if (rows.size() == limit) {
+                bound = lastSk;
+                break;
+            }
+            lastSk = entry.getKey();
+            SortKey sortKey = SortKeyUtil.parseGoalSortKey(lastSk);
+            if (sortKey.kind() == SortKey.Kind.PROGRESS
+                    && !sortKey.timestamp().isBefore(from) && !sortKey.timestamp().isAfter(to)) {
+                rows.add(entry.getValue());
+            }
+        }
+
+        bound = inTimeOrder(rows, row -> SortKeyUtil.parseGoalSortKey(row.get("sk").s()).timestamp(),
+                characterName, goalId, bound);
+        return Page.<Map<String, AttributeValue>>builder()
+                .items(rows)
+                .nextCursor(bound == null ? null : encodeCursor(bound))
+                .build();
+    }
+
+    /**
+     * Puts one page of a goal's progress records, read in sort key order,
+     * into time order. Timestamps are encoded with a variable number of
+     * fraction digits, so within one second sort key order is not time order
+     * ('.' sorts before 'Z'), while different seconds are in order and each
+     * second's records are adjacent. If the page ends within a second, that
+     * second's records are left to the next page, which starts at the
+     * second's lower bound; a page holding only part of one second keeps it,
+     * so a second with more records than a page is in time order per page.
+     *
+     * @param records       The page's records in sort key order, sorted in
+     *                      place
+     * @param timestamp     Reads the timestamp of a record
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param endSk         The sort key the page ends at, or null if it is
+     *                      the last page
+     * @param <T>           The type of the records
+     * @return The sort key the next page starts after, or null if it is the
+     *         last page
+     */
+    static <T> String inTimeOrder(List<T> records, Function<T, Instant> timestamp, String characterName,
+            String goalId, String endSk) {
+        String nextStartSk = endSk;
+        if (endSk != null && !records.isEmpty()) {
+            SortKey end = SortKeyUtil.parseGoalSortKey(endSk);
+            if (end.kind() == SortKey.Kind.PROGRESS) {
+                Instant second = end.timestamp().truncatedTo(ChronoUnit.SECONDS);
+                int keep = records.size();
+                while (keep > 0 && !timestamp.apply(records.get(keep - 1)).isBefore(second)) {
+                    keep--;
+                }
+                if (keep > 0 && keep < records.size()) {
+                    records.subList(keep, records.size()).clear();
+                    nextStartSk = SortKeyUtil.buildGoalProgressSortKeyLowerBound(characterName, goalId, second);
+                }
+            }
+        }
+        records.sort(Comparator.comparing(timestamp));
+        return nextStartSk;
+    }
+
+    /**
+     * Converts a raw progress history row to a progress point.
+     *
+     * @param row The row, holding at least its sort key and progress value
+     * @return The progress point
+     */
+    GoalProgressPoint toHistoryPoint(Map<String, AttributeValue> row) {
+        return GoalProgressPoint.builder()
+                .timestamp(SortKeyUtil.parseGoalSortKey(row.get("sk").s()).timestamp())
+                .progressValue(progressValue(row))
+                .build();
+    }
+
+    /**
+     * Reads one page of a goal's daily or weekly progress rollups whose
+     * buckets overlap the range between two instants, in time order.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param interval      DAY or WEEK
+     * @param from          An instant within the first bucket to include
+     * @param to            An instant within the last bucket to include
+     * @param cursor        The cursor from the previous page, or null
+     * @param limit         The maximum number of rollups to read
+     * @return The page of rollups
+     */
+    Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        validateLimit(limit, MAX_HISTORY_PAGE_SIZE);
+        String startSk = decodeCursor(cursor, SortKeyUtil.buildGoalProgressSortKeyPrefix(characterName, goalId));
+
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("#pk = :pk AND #sk BETWEEN :from AND :to")
+                .projectionExpression(ROLLUP_PROJECTION)
+                .expressionAttributeNames(ROLLUP_NAMES)
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.fromS(partitionKey(userId)),
+                        ":from", AttributeValue.fromS(SortKeyUtil.buildGoalRollupSortKey(characterName, goalId,
+                                interval, interval.bucketStart(from))),
+                        ":to", AttributeValue.fromS(SortKeyUtil.buildGoalRollupSortKey(characterName, goalId,
+                                interval, interval.bucketStart(to)))))
+                .limit(limit);
+        if (startSk != null) {
+            request.exclusiveStartKey(key(partitionKey(userId), startSk));
+        }
+        QueryResponse response = query.apply(request.build());
+
+        List<GoalProgressRollup> rollups = new ArrayList<>(response.items().size());
+        for (Map<String, AttributeValue> row : response.items()) {
+            DynamoGoalProgressRollupItem item = GoalTableSchemas.ROLLUP.mapToItem(row);
+            rollups.add(GoalProgressRollup.builder()
+                    .interval(interval)
+                    .bucketStart(item.getBucketStart())
+                    .count(valueOrZero(item.getRecordCount()))
+                    .minValue(valueOrZero(item.getMinValue()))
+                    .maxValue(valueOrZero(item.getMaxValue()))
+                    .firstValue(valueOrZero(item.getFirstValue()))
+                    .lastValue(valueOrZero(item.getLastValue()))
+                    .firstTimestamp(item.getFirstAt())
+                    .lastTimestamp(item.getLastAt())
+                    .build());
+        }
+
+        String lastEvaluatedSk = lastEvaluatedSortKey(response);
+        return Page.<GoalProgressRollup>builder()
+                .items(rollups)
+                .nextCursor(lastEvaluatedSk == null ? null : encodeCursor(lastEvaluatedSk))
+                .build();
+    }
+
+    /**
+     * Reads the instant before which a goal's progress history has already
+     * been rolled up.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The end of the compacted history, or null if none was compacted
+     */
+    Instant getCompactedThrough(String userId, String characterName, String goalId) {
+        String checkpointSk = SortKeyUtil.buildGoalCompactionSortKey(characterName, goalId);
+        Map<String, AttributeValue> checkpoint = batchGetByKey(List.of(key(partitionKey(userId), checkpointSk)),
+                "#pk, #sk, #compactedThrough", CHECKPOINT_NAMES).get(checkpointSk);
+        if (checkpoint == null || checkpoint.get("compactedThrough") == null) {
+            return null;
+        }
+        return Instant.parse(checkpoint.get("compactedThrough").s());
+    }
+
+    private QueryResponse queryMetadata(String userId, String prefix, String exclusiveStartSk, int limit) {
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("#pk = :pk AND begins_with(#sk, :prefix)")
+                .projectionExpression(METADATA_PROJECTION)
+                .expressionAttributeNames(METADATA_NAMES)
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.fromS(partitionKey(userId)),
+                        ":prefix", AttributeValue.fromS(prefix)))
+                .limit(limit);
+        if (exclusiveStartSk != null) {
+            request.exclusiveStartKey(key(partitionKey(userId), exclusiveStartSk));
+        }
+        return query.apply(request.build());
+    }
+
+    /**
+     * Finds the first character whose records sort at or after the given sort
+     * key, reading a single key.
+     */
+    private String nextCharacter(String userId, String fromSk) {
+        QueryResponse response = query.apply(QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("#pk = :pk AND #sk BETWEEN :from AND :to")
+                .projectionExpression("#pk, #sk")
+                .expressionAttributeNames(KEY_NAMES)
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.fromS(partitionKey(userId)),
+                        ":from", AttributeValue.fromS(fromSk),
+                        ":to", AttributeValue.fromS(SortKeyUtil.CHARACTER_PREFIX_UPPER_BOUND)))
+                .limit(1)
+                .build());
+        if (response.items().isEmpty()) {
+            return null;
+        }
+        String sk = response.items().get(0).get("sk").s();
+        int nameStart = SortKeyUtil.CHARACTER_PREFIX.length();
+        int nameEnd = sk.indexOf('#', nameStart);
+        return nameEnd < 0 ? sk.substring(nameStart) : sk.substring(nameStart, nameEnd);
+    }
+
+    private Page<Goal> toPage(String userId, List<Map<String, AttributeValue>> rows, boolean mayHaveMore) {
+        List<Goal> goals = new ArrayList<>(rows.size());
+        List<Map<String, AttributeValue>> latestKeys = new ArrayList<>(rows.size());
+        String pk = partitionKey(userId);
+        for (Map<String, AttributeValue> row : rows) {
+            Goal goal = toGoal(row);
+            goals.add(goal);
+            latestKeys.add(key(pk, SortKeyUtil.buildGoalLatestSortKey(goal.getCharacterName(), goal.getGoalId())));
+        }
+
+        Map<String, Map<String, AttributeValue>> latest = batchGetByKey(latestKeys, LATEST_PROJECTION, LATEST_NAMES);
+        for (Goal goal : goals) {
+            goal.setCurrentProgress(progressValue(latest.get(
+                    SortKeyUtil.buildGoalLatestSortKey(goal.getCharacterName(), goal.getGoalId()))));
+        }
+
+        String nextCursor = mayHaveMore && !rows.isEmpty()
+                ? encodeCursor(rows.get(rows.size() - 1).get("sk").s())
+                : null;
+        return Page.<Goal>builder()
+                .items(goals)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Fetches items by key in chunks of MAX_PAGE_SIZE, retrying unprocessed
+     * keys with jittered backoff, and returns them indexed by sort key.
+     */
+    private Map<String, Map<String, AttributeValue>> batchGetByKey(List<Map<String, AttributeValue>> keys,
+            String projection, Map<String, String> names) {
+        Map<String, Map<String, AttributeValue>> itemsBySortKey = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += MAX_PAGE_SIZE) {
+            Map<String, KeysAndAttributes> pending = Map.of(tableName, KeysAndAttributes.builder()
+                    .keys(keys.subList(from, Math.min(keys.size(), from + MAX_PAGE_SIZE)))
+                    .projectionExpression(projection)
+                    .expressionAttributeNames(names)
+                    .build());
+            for (int attempt = 1; !pending.isEmpty(); attempt++) {
+                if (attempt > MAX_BATCH_GET_ATTEMPTS) {
+                    throw new IllegalStateException("Failed to read goals: keys remained unprocessed after "
+                            + MAX_BATCH_GET_ATTEMPTS + " attempts");
+                }
+                if (attempt > 1) {
+                    backoff(attempt);
+                }
+                BatchGetItemResponse response = batchGet.apply(BatchGetItemRequest.builder()
+                        .requestItems(pending)
+                        .build());
+                for (Map<String, AttributeValue> item : response.responses().getOrDefault(tableName, List.of())) {
+                    itemsBySortKey.put(item.get("sk").s(), item);
+                }
+                pending = response.hasUnprocessedKeys() ? response.unprocessedKeys() : Map.of();
+            }
+        }
+        return itemsBySortKey;
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = BATCH_GET_BASE_DELAY_MILLIS << Math.min(attempt - 2, 10);
+        try {
+            sleeper.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading goals", e);
+        }
+    }
+
+    private Goal toGoal(Map<String, AttributeValue> row) {
+        DynamoGoalMetadataItem item = metadataSchema.mapToItem(row);
+        return Goal.builder()
+                .userId(item.getUserId())
+                .characterName(item.getCharacterName())
+                .goalId(item.getGoalId())
+                .targetAttribute(item.getTargetAttribute())
+                .targetType(item.getTargetType())
+                .targetValue(item.getTargetValue() == null ? 0L : item.getTargetValue())
+                .targetDate(item.getTargetDate())
+                .notificationChannelType(item.getNotificationChannelType())
+                .frequency(item.getFrequency())
+                .build();
+    }
+
+    private long progressValue(Map<String, AttributeValue> latestRow) {
+        if (latestRow == null) {
+            return 0L;
+        }
+        Long value = progressSchema.mapToItem(latestRow).getProgressValue();
+        return value == null ? 0L : value;
+    }
+
+    private static long valueOrZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private GoalProgressPoint toProgressPoint(Map<String, AttributeValue> progressRow) {
+        if (progressRow == null) {
+            return null;
+        }
+        DynamoGoalProgressItem item = progressSchema.mapToItem(progressRow);
+        return GoalProgressPoint.builder()
+                .timestamp(item.getCreatedAt())
+                .progressValue(item.getProgressValue() == null ? 0L : item.getProgressValue())
+                .build();
+    }
+
+    private String lastEvaluatedSortKey(QueryResponse response) {
+        if (!response.hasLastEvaluatedKey() || response.lastEvaluatedKey().isEmpty()) {
+            return null;
+        }
+        return response.lastEvaluatedKey().get("sk").s();
+    }
+
+    /**
+     * Rejects a page size outside 1 to maxLimit.
+     *
+     * @param limit    The requested page size
+     * @param maxLimit The largest page size allowed
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    static void validateLimit(int limit, int maxLimit) {
+        if (limit <= 0 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+    }
+
+    /**
+     * Encodes the sort key a page ended at as an opaque cursor.
+     *
+     * @param sortKey The last sort key of the page
+     * @return The cursor
+     */
+    static String encodeCursor(String sortKey) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sortKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor back into the sort key the previous page ended at.
+     *
+     * @param cursor         The cursor, or null for the first page
+     * @param expectedPrefix The prefix every sort key of the listing shares
+     * @return The sort key, or null for the first page
+     * @throws IllegalArgumentException if the cursor was not returned by the
+     *                                  same kind of listing
+     */
+    static String decodeCursor(String cursor, String expectedPrefix) {
+        if (cursor == null) {
+            return null;
+        }
+        String sortKey;
+        try {
+            sortKey = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (!sortKey.startsWith(expectedPrefix)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return sortKey;
+    }
+
+    /**
+     * Decodes a cursor of a goal listing, which must end at a goal metadata
+     * sort key.
+     *
+     * @param cursor         The cursor, or null for the first page
+     * @param expectedPrefix The prefix every sort key of the listing shares
+     * @return The sort key, or null for the first page
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    static String decodeGoalCursor(String cursor, String expectedPrefix) {
+        String sortKey = decodeCursor(cursor, expectedPrefix);
+        if (sortKey != null && !sortKey.contains("#GOAL#METADATA#")) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return sortKey;
+    }
+
+    private static String partitionKey(String userId) {
+        return "USER#" + userId;
+    }
+
+    private static Map<String, AttributeValue> key(String pk, String sk) {
+        return Map.of("pk", AttributeValue.fromS(pk), "sk", AttributeValue.fromS(sk));
+    }
+
+    private static Map<String, String> withNames(Map<String, String> names, String... attributes) {
+        Map<String, String> combined = new HashMap<>(names);
+        combined.putAll(attributeNames(attributes));
+        return combined;
+    }
+
+    private static Map<String, String> attributeNames(String... attributes) {
+        Map<String, String> names = new HashMap<>();
+        for (String attribute : attributes) {
+            names.put("#" + attribute, attribute);
+        }
+        return Map.copyOf(names);
+    }
+}
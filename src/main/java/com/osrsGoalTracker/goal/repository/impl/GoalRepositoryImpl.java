@@ -1,34 +1,57 @@
 package com.osrsGoalTracker.goal.repository.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.BatchProgressWriter.TaggedPut;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
-import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.Put;
-import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 
 /**
  * Implementation of the GoalRepository interface.
  */
 @Slf4j
+@Singleton
 public class GoalRepositoryImpl implements GoalRepository {
         private final DynamoDbClient dynamoDbClient;
-        private final DynamoDbTable<DynamoGoalMetadataItem> metadataTable;
-        private final DynamoDbTable<DynamoGoalProgressItem> progressTable;
+        private final GoalWriteRequestFactory requestFactory;
+        private final BatchProgressWriter batchProgressWriter;
+        private final GoalReader goalReader;
+        private final ProgressCompactor progressCompactor;
+        private final ProgressWriteSuppressor progressWriteSuppressor;
+        private final LatestProgressBuffer latestProgressBuffer;
+        private final GoalLockStripes goalLocks = new GoalLockStripes();
+        private final RecentProgressEvents recentProgressEvents = new RecentProgressEvents();
 
         /**
-         * Constructor for GoalRepositoryImpl.
+         * Constructor for GoalRepositoryImpl that writes every progress update.
          *
          * @param dynamoDbClient
          *                The DynamoDB client.
@@ -37,169 +60,141 @@ public class GoalRepositoryImpl implements GoalRepository {
          * @param progressTable
          *                The DynamoDB table for goal progress.
          */
-        @Inject
         public GoalRepositoryImpl(
                         DynamoDbClient dynamoDbClient,
                         DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
                         DynamoDbTable<DynamoGoalProgressItem> progressTable) {
-                this.dynamoDbClient = dynamoDbClient;
-                this.metadataTable = metadataTable;
-                this.progressTable = progressTable;
-        }
-
-        private void validateStringNotEmpty(String value, String fieldName) {
-                if (value == null || value.trim().isEmpty()) {
-                        throw new IllegalArgumentException(fieldName + " cannot be null or empty");
-                }
-        }
-
-        private void validateNotNull(Object value, String fieldName) {
-                if (value == null) {
-                        throw new IllegalArgumentException(fieldName + " cannot be null");
-                }
-        }
-
-        private void validateNonNegative(long value, String fieldName) {
-                if (value < 0) {
-                        throw new IllegalArgumentException(fieldName + " cannot be negative");
-                }
-        }
-
-        private void validateGoal(Goal goal) {
-                validateNotNull(goal, "goal");
-                validateStringNotEmpty(goal.getUserId(), "userId");
-                validateStringNotEmpty(goal.getCharacterName(), "characterName");
-                validateStringNotEmpty(goal.getTargetAttribute(), "targetAttribute");
-                validateStringNotEmpty(goal.getTargetType(), "targetType");
-                validateStringNotEmpty(goal.getGoalId(), "goalId");
-                validateNotNull(goal.getTargetValue(), "targetValue");
-                validateNotNull(goal.getCurrentProgress(), "currentProgress");
-                validateNonNegative(goal.getCurrentProgress(), "currentProgress");
+                this(dynamoDbClient, metadataTable, progressTable, ProgressWriteSuppressor.DISABLED);
         }
 
-        private void validateGoalForProgress(Goal goal) {
-                validateNotNull(goal, "goal");
-                validateStringNotEmpty(goal.getUserId(), "userId");
-                validateStringNotEmpty(goal.getCharacterName(), "characterName");
-                validateStringNotEmpty(goal.getGoalId(), "goalId");
-                validateNotNull(goal.getCurrentProgress(), "currentProgress");
-                validateNonNegative(goal.getCurrentProgress(), "currentProgress");
-        }
-
-        private DynamoGoalMetadataItem createMetadataItem(String userId, String characterName, String goalId,
-                        Goal goal, Instant timestamp) {
-                return DynamoGoalMetadataItem.builder()
-                                .pk("USER#" + userId)
-                                .sk(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId))
-                                .userId(userId)
-                                .characterName(characterName)
-                                .goalId(goalId)
-                                .targetAttribute(goal.getTargetAttribute())
-                                .targetType(goal.getTargetType())
-                                .targetValue(goal.getTargetValue())
-                                .targetDate(goal.getTargetDate())
-                                .notificationChannelType(goal.getNotificationChannelType())
-                                .frequency(goal.getFrequency())
-                                .createdAt(timestamp)
-                                .updatedAt(timestamp)
-                                .build();
+        /**
+         * Constructor for GoalRepositoryImpl.
+         *
+         * @param dynamoDbClient
+         *                The DynamoDB client.
+         * @param metadataTable
+         *                The DynamoDB table for goal metadata.
+         * @param progressTable
+         *                The DynamoDB table for goal progress.
+         * @param progressWriteSuppressor
+         *                Decides which unchanged progress updates are skipped.
+         */
+        public GoalRepositoryImpl(
+                        DynamoDbClient dynamoDbClient,
+                        DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+                        DynamoDbTable<DynamoGoalProgressItem> progressTable,
+                        ProgressWriteSuppressor progressWriteSuppressor) {
+                this(dynamoDbClient, metadataTable, progressTable, progressWriteSuppressor,
+                                ProgressRetentionPolicy.DISABLED, ProgressHistoryLayout.USER);
         }
 
-        private DynamoGoalProgressItem createProgressItem(String userId, String characterName, String goalId,
-                        Instant timestamp, String sortKey, long currentValue) {
-                return DynamoGoalProgressItem.builder()
-                                .pk("USER#" + userId)
-                                .sk(sortKey)
-                                .userId(userId)
-                                .characterName(characterName)
-                                .goalId(goalId)
-                                .progressValue(currentValue)
-                                .createdAt(timestamp)
-                                .build();
+        /**
+         * Constructor for GoalRepositoryImpl.
+         *
+         * @param dynamoDbClient
+         *                The DynamoDB client.
+         * @param metadataTable
+         *                The DynamoDB table for goal metadata.
+         * @param progressTable
+         *                The DynamoDB table for goal progress.
+         * @param progressWriteSuppressor
+         *                Decides which unchanged progress updates are skipped.
+         * @param retentionPolicy
+         *                Decides when progress history rows expire.
+         * @param historyLayout
+         *                Decides which partition progress history rows are
+         *                written to.
+         */
+        public GoalRepositoryImpl(
+                        DynamoDbClient dynamoDbClient,
+                        DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+                        DynamoDbTable<DynamoGoalProgressItem> progressTable,
+                        ProgressWriteSuppressor progressWriteSuppressor,
+                        ProgressRetentionPolicy retentionPolicy,
+                        ProgressHistoryLayout historyLayout) {
+                this(dynamoDbClient, metadataTable, progressTable, progressWriteSuppressor, retentionPolicy,
+                                historyLayout, LatestProgressBuffer.DISABLED);
         }
 
-        private TransactWriteItemsRequest createTransactionRequest(String userId, String characterName, String goalId,
-                        DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
-                // Create progress items
-                DynamoGoalProgressItem progressItem = createProgressItem(userId, characterName, goalId,
-                                timestamp, SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp),
-                                currentValue);
-                DynamoGoalProgressItem latestItem = createProgressItem(userId, characterName, goalId,
-                                timestamp, SortKeyUtil.buildGoalLatestSortKey(characterName, goalId), currentValue);
-                DynamoGoalProgressItem earliestItem = createProgressItem(userId, characterName, goalId,
-                                timestamp, SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId), currentValue);
-
-                return TransactWriteItemsRequest.builder()
-                                .transactItems(Arrays.asList(
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(metadataTable.tableName())
-                                                                                .item(metadataTable.tableSchema()
-                                                                                                .itemToMap(metadataItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build(),
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(progressTable.tableName())
-                                                                                .item(progressTable.tableSchema()
-                                                                                                .itemToMap(progressItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build(),
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(progressTable.tableName())
-                                                                                .item(progressTable.tableSchema()
-                                                                                                .itemToMap(latestItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build(),
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(progressTable.tableName())
-                                                                                .item(progressTable.tableSchema()
-                                                                                                .itemToMap(earliestItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build()))
-                                .build();
+        /**
+         * Constructor for GoalRepositoryImpl.
+         *
+         * @param dynamoDbClient
+         *                The DynamoDB client.
+         * @param metadataTable
+         *                The DynamoDB table for goal metadata.
+         * @param progressTable
+         *                The DynamoDB table for goal progress.
+         * @param progressWriteSuppressor
+         *                Decides which unchanged progress updates are skipped.
+         * @param retentionPolicy
+         *                Decides when progress history rows expire.
+         * @param historyLayout
+         *                Decides which partition progress history rows are
+         *                written to.
+         * @param latestProgressBuffer
+         *                Decides whether #LATEST rows are coalesced.
+         */
+        @Inject
+        public GoalRepositoryImpl(
+                        DynamoDbClient dynamoDbClient,
+                        DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+                        DynamoDbTable<DynamoGoalProgressItem> progressTable,
+                        ProgressWriteSuppressor progressWriteSuppressor,
+                        ProgressRetentionPolicy retentionPolicy,
+                        ProgressHistoryLayout historyLayout,
+                        LatestProgressBuffer latestProgressBuffer) {
+                this(dynamoDbClient, metadataTable, progressTable, new BatchProgressWriter(dynamoDbClient),
+                                progressWriteSuppressor, retentionPolicy, historyLayout, latestProgressBuffer);
         }
 
-        private TransactWriteItemsRequest createProgressTransactionRequest(String userId, String characterName,
-                        String goalId,
-                        Instant timestamp, long currentValue) {
-                // Create progress items
-                DynamoGoalProgressItem progressItem = createProgressItem(userId, characterName, goalId,
-                                timestamp, SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp),
-                                currentValue);
-                DynamoGoalProgressItem latestItem = createProgressItem(userId, characterName, goalId,
-                                timestamp, SortKeyUtil.buildGoalLatestSortKey(characterName, goalId), currentValue);
-
-                return TransactWriteItemsRequest.builder()
-                                .transactItems(Arrays.asList(
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(progressTable.tableName())
-                                                                                .item(progressTable.tableSchema()
-                                                                                                .itemToMap(progressItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build(),
-                                                TransactWriteItem.builder()
-                                                                .put(Put.builder()
-                                                                                .tableName(progressTable.tableName())
-                                                                                .item(progressTable.tableSchema()
-                                                                                                .itemToMap(latestItem,
-                                                                                                                true))
-                                                                                .build())
-                                                                .build()))
-                                .build();
+        /**
+         * Constructor for GoalRepositoryImpl with an explicit batch writer.
+         *
+         * @param dynamoDbClient
+         *                The DynamoDB client.
+         * @param metadataTable
+         *                The DynamoDB table for goal metadata.
+         * @param progressTable
+         *                The DynamoDB table for goal progress.
+         * @param batchProgressWriter
+         *                The writer used for bulk progress writes.
+         * @param progressWriteSuppressor
+         *                Decides which unchanged progress updates are skipped.
+         * @param retentionPolicy
+         *                Decides when progress history rows expire.
+         * @param historyLayout
+         *                Decides which partition progress history rows are
+         *                written to.
+         * @param latestProgressBuffer
+         *                Decides whether #LATEST rows are coalesced.
+         */
+        GoalRepositoryImpl(
+                        DynamoDbClient dynamoDbClient,
+                        DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+                        DynamoDbTable<DynamoGoalProgressItem> progressTable,
+                        BatchProgressWriter batchProgressWriter,
+                        ProgressWriteSuppressor progressWriteSuppressor,
+                        ProgressRetentionPolicy retentionPolicy,
+                        ProgressHistoryLayout historyLayout,
+                        LatestProgressBuffer latestProgressBuffer) {
+                this.dynamoDbClient = dynamoDbClient;
+                this.requestFactory = new GoalWriteRequestFactory(metadataTable.tableName(),
+                                metadataTable.tableSchema(), progressTable.tableName(), progressTable.tableSchema(),
+                                retentionPolicy, historyLayout);
+                this.batchProgressWriter = batchProgressWriter;
+                this.progressWriteSuppressor = progressWriteSuppressor;
+                this.latestProgressBuffer = latestProgressBuffer;
+                this.goalReader = new GoalReader(metadataTable.tableName(), metadataTable.tableSchema(),
+                                progressTable.tableSchema(), dynamoDbClient::query, dynamoDbClient::batchGetItem,
+                                Thread::sleep);
+                this.progressCompactor = new ProgressCompactor(goalReader, requestFactory,
+                                dynamoDbClient::transactWriteItems, batchProgressWriter);
         }
 
         @Override
         public Goal createGoal(Goal goal) {
-                validateGoal(goal);
+                GoalWriteRequestFactory.validateGoal(goal);
 
                 log.info("Creating goal for user {} targeting {}", goal.getUserId(), goal.getTargetAttribute());
                 log.info("Creating new goal for user: {}, character: {}, targetAttribute: {}",
@@ -209,14 +204,15 @@ public class GoalRepositoryImpl implements GoalRepository {
                 Instant now = Instant.now();
 
                 // Create the goal metadata item
-                DynamoGoalMetadataItem metadataItem = createMetadataItem(goal.getUserId(), goal.getCharacterName(),
-                                goalId, goal, now);
+                DynamoGoalMetadataItem metadataItem = requestFactory.createMetadataItem(goal.getUserId(),
+                                goal.getCharacterName(), goalId, goal, now);
                 log.debug("Created metadata item with goalId: {}, pk: {}, sk: {}",
                                 goalId, metadataItem.getPk(), metadataItem.getSk());
 
                 // Create transaction request with all items
-                TransactWriteItemsRequest transactionRequest = createTransactionRequest(goal.getUserId(),
-                                goal.getCharacterName(), goalId, metadataItem, now, goal.getCurrentProgress());
+                TransactWriteItemsRequest transactionRequest = requestFactory.createTransactionRequest(
+                                goal.getUserId(), goal.getCharacterName(), goalId, metadataItem, now,
+                                goal.getCurrentProgress());
                 log.debug("Initiating transaction to create goal and progress records");
 
                 try {
@@ -235,32 +231,402 @@ public class GoalRepositoryImpl implements GoalRepository {
 
         @Override
         public void createGoalProgress(Goal goal) {
-                validateGoalForProgress(goal);
+                GoalWriteRequestFactory.validateGoalForProgress(goal);
 
                 log.info("Creating goal progress for user: {}, character: {}, goalId: {}",
                                 goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
 
-                Instant now = Instant.now();
+                if (recentProgressEvents.isDuplicate(goal)) {
+                        log.info("Skipping redelivered progress event {} for goalId: {}", goal.getProgressEventId(),
+                                        goal.getGoalId());
+                        return;
+                }
+                Instant timestamp = requestFactory.progressTimestamp(goal);
+                if (progressWriteSuppressor.isKnownUnchanged(goal, timestamp)) {
+                        log.debug("Skipping unchanged goal progress for goalId: {}", goal.getGoalId());
+                        return;
+                }
+
+                boolean flushDue = false;
+                ReentrantLock lock = goalLocks.lockFor(goal.getUserId(), goal.getGoalId());
+                lock.lock();
+                try {
+                        if (latestProgressBuffer.isEnabled()) {
+                                flushDue = writeHistoryAndStageLatest(goal, timestamp);
+                        } else {
+                                writeProgressTransaction(goal, timestamp);
+                        }
+                } finally {
+                        lock.unlock();
+                }
+                // The flush takes the stripe locks of the goals it writes, so it runs after this one is released
+                if (flushDue) {
+                        flushProgress();
+                }
+        }
+
+        @Override
+        public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+                GoalWriteRequestFactory.validateNotNull(goals, "goals");
+                log.info("Creating goal progress for batch of {} goals", goals.size());
+
+                GoalProgressWriteResult[] results = new GoalProgressWriteResult[goals.size()];
+                Map<String, Integer> lastIndexByGoal = new HashMap<>();
+                Map<String, Integer> latestIndexByGoal = new HashMap<>();
+                Map<String, Set<Instant>> timestampsByGoal = new HashMap<>();
+                Set<String> eventIdsInBatch = new HashSet<>();
+                Instant[] timestamps = new Instant[goals.size()];
+                List<TaggedPut> puts = new ArrayList<>(goals.size());
+
+                for (int i = 0; i < goals.size(); i++) {
+                        Goal goal = goals.get(i);
+                        try {
+                                GoalWriteRequestFactory.validateGoalForProgress(goal);
+                        } catch (IllegalArgumentException e) {
+                                results[i] = GoalProgressWriteResult.failed(goal, e.getMessage());
+                                continue;
+                        }
+                        if (recentProgressEvents.isDuplicate(goal) || (goal.getProgressEventId() != null
+                                        && !eventIdsInBatch.add(goal.getProgressEventId()))) {
+                                results[i] = GoalProgressWriteResult.succeeded(goal);
+                                continue;
+                        }
+                        String goalKey = goal.getUserId() + "#" + goal.getCharacterName() + "#" + goal.getGoalId();
+                        Set<Instant> usedTimestamps = timestampsByGoal.computeIfAbsent(goalKey, key -> new HashSet<>());
+                        timestamps[i] = unusedTimestamp(goal, usedTimestamps);
+                        Integer previous = lastIndexByGoal.get(goalKey);
+                        if (isRedundant(goal, previous == null ? null : goals.get(previous), timestamps[i])) {
+                                results[i] = GoalProgressWriteResult.succeeded(goal);
+                                continue;
+                        }
+                        usedTimestamps.add(timestamps[i]);
+                        lastIndexByGoal.put(goalKey, i);
+                        Integer latest = latestIndexByGoal.get(goalKey);
+                        if (latest == null || timestamps[i].isAfter(timestamps[latest])) {
+                                latestIndexByGoal.put(goalKey, i);
+                        }
+                        puts.add(taggedPut(i, requestFactory.createHistoryItem(goal.getUserId(),
+                                        goal.getCharacterName(), goal.getGoalId(), goal.getFrequency(), timestamps[i],
+                                        goal.getCurrentProgress())));
+                }
+
+                Map<Integer, String> failures = new HashMap<>(
+                                batchProgressWriter.write(requestFactory.progressTableName(), puts));
+                if (latestProgressBuffer.isEnabled()) {
+                        stageAndFlushLatest(goals, timestamps, latestIndexByGoal.values(), failures);
+                } else {
+                        putLatestRows(goals, timestamps, latestIndexByGoal.values(), failures);
+                }
+                for (int i = 0; i < goals.size(); i++) {
+                        if (results[i] == null) {
+                                results[i] = failures.containsKey(i)
+                                                ? GoalProgressWriteResult.failed(goals.get(i), failures.get(i))
+                                                : GoalProgressWriteResult.succeeded(goals.get(i));
+                        }
+                }
+                for (int i : latestIndexByGoal.values()) {
+                        if (!failures.containsKey(i)) {
+                                progressWriteSuppressor.recordWritten(goals.get(i), timestamps[i]);
+                        }
+                }
+                for (GoalProgressWriteResult result : results) {
+                        if (result.isSuccess()) {
+                                recentProgressEvents.recordWritten(result.getGoal());
+                        }
+                }
+                log.info("Created goal progress for batch of {} goals with {} failures", goals.size(),
+                                failures.size());
+                return Arrays.asList(results);
+        }
+
+        /**
+         * Writes the #LATEST rows held back by the latest progress buffer, one
+         * conditional put per goal. Rows that cannot be written are kept by
+         * the buffer for the next flush and returned as goals.
+         */
+        @Override
+        public List<Goal> flushProgress() {
+                List<DynamoGoalProgressItem> failed = latestProgressBuffer.flush(this::writeLatestRows, Instant.now());
+                List<Goal> failedGoals = new ArrayList<>(failed.size());
+                for (DynamoGoalProgressItem item : failed) {
+                        failedGoals.add(Goal.builder()
+                                        .userId(item.getUserId())
+                                        .characterName(item.getCharacterName())
+                                        .goalId(item.getGoalId())
+                                        .currentProgress(item.getProgressValue())
+                                        .progressTimestamp(item.getCreatedAt())
+                                        .build());
+                }
+                return failedGoals;
+        }
+
+        @Override
+        public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+                log.debug("Getting goal {} for user: {}, character: {}", goalId, userId, characterName);
+                return goalReader.getGoal(userId, characterName, goalId);
+        }
 
+        @Override
+        public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+                log.debug("Listing goals for user: {}, character: {}", userId, characterName);
+                return goalReader.listGoalsForCharacter(userId, characterName, cursor, limit);
+        }
+
+        @Override
+        public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+                log.debug("Listing goals for user: {}", userId);
+                return goalReader.listGoalsForUser(userId, cursor, limit);
+        }
+
+        @Override
+        public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+                        Instant from, Instant to, String cursor, int limit) {
+                log.debug("Listing progress for user: {}, character: {}, goalId: {} between {} and {}", userId,
+                                characterName, goalId, from, to);
+                return goalReader.listGoalProgress(userId, characterName, goalId, from, to, cursor, limit);
+        }
+
+        @Override
+        public Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName,
+                        String goalId) {
+                log.debug("Getting progress snapshot of goal {} for user: {}, character: {}", goalId, userId,
+                                characterName);
+                return goalReader.getGoalProgressSnapshot(userId, characterName, goalId);
+        }
+
+        @Override
+        public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+                        ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+                log.debug("Listing {} progress rollups for user: {}, character: {}, goalId: {} between {} and {}",
+                                interval, userId, characterName, goalId, from, to);
+                return goalReader.listGoalProgressRollups(userId, characterName, goalId, interval, from, to, cursor,
+                                limit);
+        }
+
+        @Override
+        public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+                        Instant olderThan) {
+                log.info("Compacting progress older than {} for user: {}, character: {}, goalId: {}", olderThan,
+                                userId, characterName, goalId);
+                return progressCompactor.compact(userId, characterName, goalId, olderThan);
+        }
+
+        /**
+         * Returns whether a batch update can be skipped because its value is
+         * unchanged from an earlier update of the same goal in the batch or
+         * from the value this container last wrote. Batch history writes
+         * cannot carry conditions, so updates not ruled out here are written.
+         */
+        private boolean isRedundant(Goal goal, Goal previousInBatch, Instant timestamp) {
+                if (!progressWriteSuppressor.isEnabled()) {
+                        return false;
+                }
+                if (previousInBatch != null) {
+                        return previousInBatch.getCurrentProgress() == goal.getCurrentProgress();
+                }
+                return progressWriteSuppressor.isKnownUnchanged(goal, timestamp);
+        }
+
+        /**
+         * Writes a progress update's history and #LATEST rows in one
+         * transaction. If the transaction is cancelled because #LATEST is
+         * already newer, the update arrived out of order: its history row is
+         * written on its own and #LATEST is left alone.
+         */
+        private void writeProgressTransaction(Goal goal, Instant timestamp) {
                 // Create transaction request with progress items
-                TransactWriteItemsRequest transactionRequest = createProgressTransactionRequest(
+                TransactWriteItemsRequest transactionRequest = requestFactory.createProgressTransactionRequest(
                                 goal.getUserId(),
                                 goal.getCharacterName(),
                                 goal.getGoalId(),
-                                now,
-                                goal.getCurrentProgress());
+                                timestamp,
+                                goal.getCurrentProgress(),
+                                goal.getFrequency(),
+                                progressWriteSuppressor.heartbeatCutoff(timestamp));
 
                 log.debug("Initiating transaction to create goal progress records");
 
                 try {
                         dynamoDbClient.transactWriteItems(transactionRequest);
+                        progressWriteSuppressor.recordWritten(goal, timestamp);
+                        recentProgressEvents.recordWritten(goal);
                         log.info("Successfully created goal progress for user: {}, character: {}, goalId: {}",
                                         goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
                 } catch (Exception e) {
+                        if (GoalWriteRequestFactory.isSupersededByNewerLatest(e, timestamp)) {
+                                log.info("Goal progress for goalId: {} at {} is older than its latest progress,"
+                                                + " writing history only", goal.getGoalId(), timestamp);
+                                putHistoryRow(goal, timestamp);
+                                recentProgressEvents.recordWritten(goal);
+                                return;
+                        }
+                        if (GoalWriteRequestFactory.isCancelledByCondition(e)) {
+                                log.debug("Goal progress for goalId: {} already recorded or unchanged, nothing written",
+                                                goal.getGoalId());
+                                recentProgressEvents.recordWritten(goal);
+                                return;
+                        }
                         log.error("Failed to create goal progress for user: {}, character: {}, goalId: {}, error: {}",
                                         goal.getUserId(), goal.getCharacterName(), goal.getGoalId(),
                                         e.getMessage());
                         throw e;
                 }
         }
+
+        /**
+         * Writes the history row of a progress update on its own and stages
+         * the goal's #LATEST row in the latest progress buffer, returning
+         * whether one of the buffer's thresholds is reached. The row is staged
+         * even when the history row is already recorded, so a redelivery
+         * repairs a #LATEST row an earlier flush failed to write; its put is
+         * conditional on being newer, so staging it again is safe. In
+         * on-change mode unchanged values are only skipped when this
+         * container's cache rules them out.
+         */
+        private boolean writeHistoryAndStageLatest(Goal goal, Instant timestamp) {
+                if (putHistoryRow(goal, timestamp)) {
+                        progressWriteSuppressor.recordWritten(goal, timestamp);
+                }
+                recentProgressEvents.recordWritten(goal);
+                Instant now = Instant.now();
+                latestProgressBuffer.stage(latestItem(goal, timestamp), now);
+                log.info("Created goal progress for user: {}, character: {}, goalId: {} with latest progress deferred",
+                                goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
+                return latestProgressBuffer.isFlushDue(now);
+        }
+
+        /**
+         * Puts a progress history row without its #LATEST row, returning
+         * false if a row with the same value is already recorded.
+         */
+        private boolean putHistoryRow(Goal goal, Instant timestamp) {
+                try {
+                        dynamoDbClient.putItem(requestFactory.createHistoryPutRequest(goal.getUserId(),
+                                        goal.getCharacterName(), goal.getGoalId(), timestamp,
+                                        goal.getCurrentProgress(), goal.getFrequency()));
+                        return true;
+                } catch (ConditionalCheckFailedException e) {
+                        log.debug("Goal progress for goalId: {} already recorded, nothing written", goal.getGoalId());
+                        return false;
+                }
+        }
+
+        /**
+         * Stages the #LATEST rows of the batch's goals whose history was
+         * written and flushes the buffer. A goal whose #LATEST row the flush
+         * could not write is added to failures, so its message is redelivered
+         * rather than left to a later flush by this container.
+         */
+        private void stageAndFlushLatest(List<Goal> goals, Instant[] timestamps, Collection<Integer> latestIndexes,
+                        Map<Integer, String> failures) {
+                Instant now = Instant.now();
+                Map<String, Integer> stagedIndexByKey = new HashMap<>();
+                for (int i : latestIndexes) {
+                        if (!failures.containsKey(i)) {
+                                DynamoGoalProgressItem item = latestItem(goals.get(i), timestamps[i]);
+                                latestProgressBuffer.stage(item, now);
+                                stagedIndexByKey.put(item.getPk() + "#" + item.getSk(), i);
+                        }
+                }
+                List<DynamoGoalProgressItem> failed;
+                try {
+                        failed = latestProgressBuffer.flush(this::writeLatestRows, now);
+                } catch (RuntimeException e) {
+                        log.error("Failed to flush latest progress for batch: {}", e.getMessage());
+                        stagedIndexByKey.values().forEach(i -> failures.put(i, e.getMessage()));
+                        return;
+                }
+                for (DynamoGoalProgressItem item : failed) {
+                        Integer i = stagedIndexByKey.get(item.getPk() + "#" + item.getSk());
+                        if (i != null) {
+                                failures.put(i, "Latest progress not written");
+                        }
+                }
+        }
+
+        /**
+         * Puts the #LATEST row of each of the batch's goals whose history was
+         * written. A goal whose row cannot be written is added to failures.
+         */
+        private void putLatestRows(List<Goal> goals, Instant[] timestamps, Collection<Integer> latestIndexes,
+                        Map<Integer, String> failures) {
+                for (int i : latestIndexes) {
+                        if (failures.containsKey(i)) {
+                                continue;
+                        }
+                        try {
+                                putLatestRow(latestItem(goals.get(i), timestamps[i]));
+                        } catch (RuntimeException e) {
+                                log.error("Failed to write latest progress for goalId: {}, error: {}",
+                                                goals.get(i).getGoalId(), e.getMessage());
+                                failures.put(i, e.getMessage());
+                        }
+                }
+        }
+
+        /**
+         * Writes #LATEST rows drained from the latest progress buffer and
+         * returns those that could not be written.
+         */
+        private List<DynamoGoalProgressItem> writeLatestRows(List<DynamoGoalProgressItem> rows) {
+                List<DynamoGoalProgressItem> failed = new ArrayList<>();
+                for (DynamoGoalProgressItem row : rows) {
+                        try {
+                                putLatestRow(row);
+                        } catch (RuntimeException e) {
+                                log.debug("Failed to flush latest progress for goalId: {}, error: {}",
+                                                row.getGoalId(), e.getMessage());
+                                failed.add(row);
+                        }
+                }
+                if (failed.isEmpty()) {
+                        log.debug("Flushed {} coalesced latest progress rows", rows.size());
+                } else {
+                        log.warn("Failed to flush {} of {} coalesced latest progress rows, kept for the next flush",
+                                        failed.size(), rows.size());
+                }
+                return failed;
+        }
+
+        /**
+         * Puts a goal's #LATEST row on its own, holding the goal's stripe lock
+         * and conditional on the stored row being older. A failed condition
+         * means a newer update is already recorded, so there is nothing left
+         * to write.
+         */
+        private void putLatestRow(DynamoGoalProgressItem latestItem) {
+                ReentrantLock lock = goalLocks.lockFor(latestItem.getUserId(), latestItem.getGoalId());
+                lock.lock();
+                try {
+                        dynamoDbClient.putItem(requestFactory.createLatestPutRequest(latestItem));
+                } catch (ConditionalCheckFailedException e) {
+                        log.debug("Latest progress for goalId: {} at {} is superseded by a newer update",
+                                        latestItem.getGoalId(), latestItem.getCreatedAt());
+                } finally {
+                        lock.unlock();
+                }
+        }
+
+        private DynamoGoalProgressItem latestItem(Goal goal, Instant timestamp) {
+                return requestFactory.createLatestItem(goal.getUserId(), goal.getCharacterName(), goal.getGoalId(),
+                                timestamp, goal.getCurrentProgress());
+        }
+
+        /**
+         * Returns the update's timestamp, moved on by a nanosecond at a time
+         * while another update of the same goal in the batch already uses it,
+         * so both keep a history row. Updates at different times keep their
+         * own timestamps, whatever order they arrive in.
+         */
+        private Instant unusedTimestamp(Goal goal, Set<Instant> usedTimestamps) {
+                Instant timestamp = requestFactory.progressTimestamp(goal);
+                while (usedTimestamps.contains(timestamp)) {
+                        timestamp = timestamp.plusNanos(1);
+                }
+                return timestamp;
+        }
+
+        private TaggedPut taggedPut(int goalIndex, DynamoGoalProgressItem item) {
+                return new TaggedPut(goalIndex, item.getPk(), item.getSk(), requestFactory.progressItemToMap(item));
+        }
 }
\ No newline at end of file
@@ -0,0 +1,533 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressRollupItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Validates goals and builds the DynamoDB items and write requests shared by
+ * the synchronous and asynchronous goal repositories.
+ */
+class GoalWriteRequestFactory {
+        private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+        private static final String LATEST_NEWER_CONDITION = "attribute_not_exists(#sk)"
+                        + " OR (attribute_not_exists(#createdAtNanos) OR #createdAtNanos < :createdAtNanos)";
+
+        private final String metadataTableName;
+        private final TableSchema<DynamoGoalMetadataItem> metadataSchema;
+        private final String progressTableName;
+        private final TableSchema<DynamoGoalProgressItem> progressSchema;
+        private final ProgressRetentionPolicy retentionPolicy;
+        private final ProgressHistoryLayout historyLayout;
+
+        /**
+         * Constructor for GoalWriteRequestFactory that keeps progress history
+         * forever.
+         *
+         * @param metadataTableName
+         *                The name of the table holding goal metadata.
+         * @param metadataSchema
+         *                The schema of goal metadata items.
+         * @param progressTableName
+         *                The name of the table holding goal progress.
+         * @param progressSchema
+         *                The schema of goal progress items.
+         */
+        GoalWriteRequestFactory(
+                        String metadataTableName,
+                        TableSchema<DynamoGoalMetadataItem> metadataSchema,
+                        String progressTableName,
+                        TableSchema<DynamoGoalProgressItem> progressSchema) {
+                this(metadataTableName, metadataSchema, progressTableName, progressSchema,
+                                ProgressRetentionPolicy.DISABLED, ProgressHistoryLayout.USER);
+        }
+
+        /**
+         * Constructor for GoalWriteRequestFactory.
+         *
+         * @param metadataTableName
+         *                The name of the table holding goal metadata.
+         * @param metadataSchema
+         *                The schema of goal metadata items.
+         * @param progressTableName
+         *                The name of the table holding goal progress.
+         * @param progressSchema
+         *                The schema of goal progress items.
+         * @param retentionPolicy
+         *                Decides when progress history rows expire.
+         * @param historyLayout
+         *                Decides which partition progress history rows are
+         *                written to.
+         */
+        GoalWriteRequestFactory(
+                        String metadataTableName,
+                        TableSchema<DynamoGoalMetadataItem> metadataSchema,
+                        String progressTableName,
+                        TableSchema<DynamoGoalProgressItem> progressSchema,
+                        ProgressRetentionPolicy retentionPolicy,
+                        ProgressHistoryLayout historyLayout) {
+                this.metadataTableName = metadataTableName;
+                this.metadataSchema = metadataSchema;
+                this.progressTableName = progressTableName;
+                this.progressSchema = progressSchema;
+                this.retentionPolicy = retentionPolicy;
+                this.historyLayout = historyLayout;
+        }
+
+        String progressTableName() {
+                return progressTableName;
+        }
+
+        static void validateNotNull(Object value, String fieldName) {
+                if (value == null) {
+                        throw new IllegalArgumentException(fieldName + " cannot be null");
+                }
+        }
+
+        private static void validateStringNotEmpty(String value, String fieldName) {
+                if (value == null || value.trim().isEmpty()) {
+                        throw new IllegalArgumentException(fieldName + " cannot be null or empty");
+                }
+        }
+
+        private static void validateNonNegative(long value, String fieldName) {
+                if (value < 0) {
+                        throw new IllegalArgumentException(fieldName + " cannot be negative");
+                }
+        }
+
+        static void validateGoal(Goal goal) {
+                validateNotNull(goal, "goal");
+                validateStringNotEmpty(goal.getUserId(), "userId");
+                validateStringNotEmpty(goal.getCharacterName(), "characterName");
+                validateStringNotEmpty(goal.getTargetAttribute(), "targetAttribute");
+                validateStringNotEmpty(goal.getTargetType(), "targetType");
+                validateStringNotEmpty(goal.getGoalId(), "goalId");
+                validateNotNull(goal.getTargetValue(), "targetValue");
+                validateNotNull(goal.getCurrentProgress(), "currentProgress");
+                validateNonNegative(goal.getCurrentProgress(), "currentProgress");
+        }
+
+        static void validateGoalForProgress(Goal goal) {
+                validateNotNull(goal, "goal");
+                validateStringNotEmpty(goal.getUserId(), "userId");
+                validateStringNotEmpty(goal.getCharacterName(), "characterName");
+                validateStringNotEmpty(goal.getGoalId(), "goalId");
+                validateNotNull(goal.getCurrentProgress(), "currentProgress");
+                validateNonNegative(goal.getCurrentProgress(), "currentProgress");
+        }
+
+        /**
+         * Returns the timestamp of a progress update: the time carried by its
+         * event, or now when the goal has none.
+         *
+         * @param goal
+         *                The goal carrying the progress update.
+         * @return The progress timestamp
+         */
+        Instant progressTimestamp(Goal goal) {
+                return goal.getProgressTimestamp() != null ? goal.getProgressTimestamp() : Instant.now();
+        }
+
+        DynamoGoalMetadataItem createMetadataItem(String userId, String characterName, String goalId,
+                        Goal goal, Instant timestamp) {
+                return DynamoGoalMetadataItem.builder()
+                                .pk("USER#" + userId)
+                                .sk(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId))
+                                .userId(userId)
+                                .characterName(characterName)
+                                .goalId(goalId)
+                                .targetAttribute(goal.getTargetAttribute())
+                                .targetType(goal.getTargetType())
+                                .targetValue(goal.getTargetValue())
+                                .targetDate(goal.getTargetDate())
+                                .notificationChannelType(goal.getNotificationChannelType())
+                                .frequency(goal.getFrequency())
+                                .createdAt(timestamp)
+                                .updatedAt(timestamp)
+                                .build();
+        }
+
+        DynamoGoalProgressItem createProgressItem(String userId, String characterName, String goalId,
+                        Instant timestamp, String sortKey, long currentValue) {
+                return DynamoGoalProgressItem.builder()
+                                .pk("USER#" + userId)
+                                .sk(sortKey)
+                                .userId(userId)
+                                .characterName(characterName)
+                                .goalId(goalId)
+                                .progressValue(currentValue)
+                                .createdAt(timestamp)
+                                .build();
+        }
+
+        /**
+         * Builds the #LATEST row of a goal, stamped with its timestamp in
+         * nanoseconds so that conditional puts can keep the newest row.
+         *
+         * @param userId
+         *                The ID of the user.
+         * @param characterName
+         *                The name of the character.
+         * @param goalId
+         *                The ID of the goal.
+         * @param timestamp
+         *                The time of the update.
+         * @param currentValue
+         *                The progress value.
+         * @return The #LATEST item
+         */
+        DynamoGoalProgressItem createLatestItem(String userId, String characterName, String goalId,
+                        Instant timestamp, long currentValue) {
+                DynamoGoalProgressItem item = createProgressItem(userId, characterName, goalId, timestamp,
+                                SortKeyUtil.buildGoalLatestSortKey(characterName, goalId), currentValue);
+                item.setCreatedAtNanos(epochNanos(timestamp));
+                return item;
+        }
+
+        /**
+         * Builds a timestamped progress history row in the partition the
+         * history layout chooses, stamped with the expiry the retention policy
+         * gives the goal's frequency.
+         *
+         * @param userId
+         *                The ID of the user.
+         * @param characterName
+         *                The name of the character.
+         * @param goalId
+         *                The ID of the goal.
+         * @param frequency
+         *                The goal's notification frequency, or null.
+         * @param timestamp
+         *                The time of the update.
+         * @param currentValue
+         *                The progress value.
+         * @return The history item
+         */
+        DynamoGoalProgressItem createHistoryItem(String userId, String characterName, String goalId,
+                        String frequency, Instant timestamp, long currentValue) {
+                DynamoGoalProgressItem item = createProgressItem(userId, characterName, goalId, timestamp,
+                                SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp),
+                                currentValue);
+                item.setPk(historyLayout.historyPartitionKey(userId, goalId));
+                item.setTtl(retentionPolicy.expiresAt(frequency, timestamp));
+                return item;
+        }
+
+        Map<String, AttributeValue> progressItemToMap(DynamoGoalProgressItem item) {
+                return progressSchema.itemToMap(item, true);
+        }
+
+        TransactWriteItemsRequest createTransactionRequest(String userId, String characterName, String goalId,
+                        DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
+                // Create progress items
+                DynamoGoalProgressItem progressItem = createHistoryItem(userId, characterName, goalId,
+                                metadataItem.getFrequency(), timestamp, currentValue);
+                DynamoGoalProgressItem latestItem = createLatestItem(userId, characterName, goalId, timestamp,
+                                currentValue);
+                DynamoGoalProgressItem earliestItem = createProgressItem(userId, characterName, goalId,
+                                timestamp, SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId), currentValue);
+
+                return TransactWriteItemsRequest.builder()
+                                .transactItems(Arrays.asList(
+                                                transactPut(metadataTableName,
+                                                                metadataSchema.itemToMap(metadataItem, true)),
+                                                transactPut(progressTableName, progressItemToMap(progressItem)),
+                                                transactPut(progressTableName, progressItemToMap(latestItem)),
+                                                transactPut(progressTableName, progressItemToMap(earliestItem))))
+                                .build();
+        }
+
+        TransactWriteItemsRequest createProgressTransactionRequest(String userId, String characterName,
+                        String goalId,
+                        Instant timestamp, long currentValue) {
+                return createProgressTransactionRequest(userId, characterName, goalId, timestamp, currentValue,
+                                null, null);
+        }
+
+        /**
+         * Builds the transaction writing a progress history row and the
+         * #LATEST row. The history put is conditional on no row with the same
+         * value existing at its timestamp, so a redelivered event cancels the
+         * transaction instead of rewriting #LATEST. The #LATEST put is
+         * conditional on the current row being older, so an update that
+         * arrives after a newer one cannot move #LATEST back; rows written
+         * before createdAtNanos existed are always replaced. With a heartbeat
+         * cutoff, the #LATEST put is also conditional on the value having
+         * changed or the current row's createdAtNanos being at or before the
+         * cutoff, compared as numbers for the same reason. A failed #LATEST condition returns the current row, so
+         * {@link #isSupersededByNewerLatest} can tell the two apart.
+         *
+         * @param userId
+         *                The ID of the user.
+         * @param characterName
+         *                The name of the character.
+         * @param goalId
+         *                The ID of the goal.
+         * @param timestamp
+         *                The time of the update.
+         * @param currentValue
+         *                The progress value.
+         * @param frequency
+         *                The goal's notification frequency, or null.
+         * @param heartbeatCutoff
+         *                The cutoff for rewriting unchanged progress, or null
+         *                to write unchanged progress too.
+         * @return The transaction request
+         */
+        TransactWriteItemsRequest createProgressTransactionRequest(String userId, String characterName,
+                        String goalId, Instant timestamp, long currentValue, String frequency,
+                        Instant heartbeatCutoff) {
+                // Create progress items
+                DynamoGoalProgressItem progressItem = createHistoryItem(userId, characterName, goalId, frequency,
+                                timestamp, currentValue);
+                DynamoGoalProgressItem latestItem = createLatestItem(userId, characterName, goalId, timestamp,
+                                currentValue);
+
+                Put historyPut = historyPut(progressItem, currentValue);
+                Map<String, String> names = new HashMap<>(Map.of("#sk", "sk", "#createdAtNanos", "createdAtNanos"));
+                Map<String, AttributeValue> values = new HashMap<>(Map.of(":createdAtNanos",
+                                AttributeValue.fromN(Long.toString(latestItem.getCreatedAtNanos()))));
+                String condition = LATEST_NEWER_CONDITION;
+                if (heartbeatCutoff != null) {
+                        condition = "attribute_not_exists(#sk) OR attribute_not_exists(#createdAtNanos)"
+                                        + " OR (#createdAtNanos < :createdAtNanos AND (#progressValue <> :progressValue"
+                                        + " OR #createdAtNanos <= :heartbeatCutoffNanos))";
+                        names.put("#progressValue", "progressValue");
+                        values.put(":progressValue", AttributeValue.fromN(Long.toString(currentValue)));
+                        values.put(":heartbeatCutoffNanos",
+                                        AttributeValue.fromN(Long.toString(epochNanos(heartbeatCutoff))));
+                }
+                Put latestPut = Put.builder()
+                                .tableName(progressTableName)
+                                .item(progressItemToMap(latestItem))
+                                .conditionExpression(condition)
+                                .expressionAttributeNames(names)
+                                .expressionAttributeValues(values)
+                                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                                .build();
+
+                return TransactWriteItemsRequest.builder()
+                                .transactItems(Arrays.asList(
+                                                TransactWriteItem.builder().put(historyPut).build(),
+                                                TransactWriteItem.builder().put(latestPut).build()))
+                                .build();
+        }
+
+        /**
+         * Builds the put of a #LATEST row on its own, for when its history row
+         * is written separately. Like the #LATEST put of the progress
+         * transaction, it is conditional on the current row being older, so a
+         * failed condition means a newer update is already recorded.
+         *
+         * @param latestItem
+         *                The #LATEST row, as built by createLatestItem.
+         * @return The put request
+         */
+        PutItemRequest createLatestPutRequest(DynamoGoalProgressItem latestItem) {
+                return PutItemRequest.builder()
+                                .tableName(progressTableName)
+                                .item(progressItemToMap(latestItem))
+                                .conditionExpression(LATEST_NEWER_CONDITION)
+                                .expressionAttributeNames(Map.of("#sk", "sk", "#createdAtNanos", "createdAtNanos"))
+                                .expressionAttributeValues(Map.of(":createdAtNanos",
+                                                AttributeValue.fromN(Long.toString(latestItem.getCreatedAtNanos()))))
+                                .build();
+        }
+
+        /**
+         * Builds the put of a progress history row on its own, for when the
+         * #LATEST row is written separately. Like the history put of the
+         * progress transaction, it is conditional on no row with the same
+         * value existing at its timestamp.
+         *
+         * @param userId
+         *                The ID of the user.
+         * @param characterName
+         *                The name of the character.
+         * @param goalId
+         *                The ID of the goal.
+         * @param timestamp
+         *                The time of the update.
+         * @param currentValue
+         *                The progress value.
+         * @param frequency
+         *                The goal's notification frequency, or null.
+         * @return The put request
+         */
+        PutItemRequest createHistoryPutRequest(String userId, String characterName, String goalId,
+                        Instant timestamp, long currentValue, String frequency) {
+                Put historyPut = historyPut(createHistoryItem(userId, characterName, goalId, frequency, timestamp,
+                                currentValue), currentValue);
+                return PutItemRequest.builder()
+                                .tableName(historyPut.tableName())
+                                .item(historyPut.item())
+                                .conditionExpression(historyPut.conditionExpression())
+                                .expressionAttributeNames(historyPut.expressionAttributeNames())
+                                .expressionAttributeValues(historyPut.expressionAttributeValues())
+                                .build();
+        }
+
+        /**
+         * Builds the transaction writing one week of progress rollups together
+         * with the goal's compaction checkpoint. The checkpoint put is
+         * conditional on no later week having been compacted, so a run that
+         * races another run over the same week is cancelled without writing.
+         *
+         * @param userId
+         *                The ID of the user.
+         * @param characterName
+         *                The name of the character.
+         * @param goalId
+         *                The ID of the goal.
+         * @param rollups
+         *                The daily and weekly rollups of the week.
+         * @param weekStart
+         *                The start of the week being compacted.
+         * @param compactedThrough
+         *                The end of the week, recorded as the checkpoint.
+         * @return The transaction request
+         */
+        TransactWriteItemsRequest createCompactionTransactionRequest(String userId, String characterName,
+                        String goalId, List<DynamoGoalProgressRollupItem> rollups, Instant weekStart,
+                        Instant compactedThrough) {
+                List<TransactWriteItem> items = new ArrayList<>(rollups.size() + 1);
+                for (DynamoGoalProgressRollupItem rollup : rollups) {
+                        items.add(transactPut(progressTableName, GoalTableSchemas.ROLLUP.itemToMap(rollup, true)));
+                }
+                Map<String, AttributeValue> checkpoint = Map.of(
+                                "pk", AttributeValue.fromS("USER#" + userId),
+                                "sk", AttributeValue.fromS(SortKeyUtil.buildGoalCompactionSortKey(characterName,
+                                                goalId)),
+                                "userId", AttributeValue.fromS(userId),
+                                "characterName", AttributeValue.fromS(characterName),
+                                "goalId", AttributeValue.fromS(goalId),
+                                "compactedThrough", AttributeValue.fromS(compactedThrough.toString()));
+                items.add(TransactWriteItem.builder()
+                                .put(Put.builder()
+                                                .tableName(progressTableName)
+                                                .item(checkpoint)
+                                                .conditionExpression("attribute_not_exists(#sk)"
+                                                                + " OR #compactedThrough <= :weekStart")
+                                                .expressionAttributeNames(Map.of("#sk", "sk",
+                                                                "#compactedThrough", "compactedThrough"))
+                                                .expressionAttributeValues(Map.of(":weekStart",
+                                                                AttributeValue.fromS(weekStart.toString())))
+                                                .build())
+                                .build());
+                return TransactWriteItemsRequest.builder()
+                                .transactItems(items)
+                                .build();
+        }
+
+        /**
+         * Returns whether a progress transaction was cancelled only by its
+         * conditions, meaning the update was a redelivery or unchanged and
+         * nothing needed to be written.
+         *
+         * @param error
+         *                The failure, possibly wrapped in a
+         *                CompletionException.
+         * @return true if the transaction was cancelled by a condition
+         */
+        static boolean isCancelledByCondition(Throwable error) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                if (!(cause instanceof TransactionCanceledException cancelled)
+                                || !cancelled.hasCancellationReasons()) {
+                        return false;
+                }
+                boolean conditionFailed = false;
+                for (CancellationReason reason : cancelled.cancellationReasons()) {
+                        if (CONDITIONAL_CHECK_FAILED.equalsIgnoreCase(reason.code())) {
+                                conditionFailed = true;
+                        } else if (reason.code() != null && !"None".equalsIgnoreCase(reason.code())) {
+                                return false;
+                        }
+                }
+                return conditionFailed;
+        }
+
+        /**
+         * Returns whether a progress transaction was cancelled only because
+         * the goal's #LATEST row is at least as new as the update, so the
+         * update arrived out of order. Its history row was not a duplicate
+         * and can still be written on its own.
+         *
+         * @param error
+         *                The failure, possibly wrapped in a
+         *                CompletionException.
+         * @param timestamp
+         *                The time of the update.
+         * @return true if a newer #LATEST row cancelled the transaction
+         */
+        static boolean isSupersededByNewerLatest(Throwable error, Instant timestamp) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                if (!(cause instanceof TransactionCanceledException cancelled)
+                                || cancelled.cancellationReasons().size() != 2) {
+                        return false;
+                }
+                CancellationReason history = cancelled.cancellationReasons().get(0);
+                CancellationReason latest = cancelled.cancellationReasons().get(1);
+                if (CONDITIONAL_CHECK_FAILED.equalsIgnoreCase(history.code())
+                                || !CONDITIONAL_CHECK_FAILED.equalsIgnoreCase(latest.code())
+                                || !latest.hasItem() || latest.item().get("createdAtNanos") == null) {
+                        return false;
+                }
+                return Long.parseLong(latest.item().get("createdAtNanos").n()) >= epochNanos(timestamp);
+        }
+
+        /**
+         * Returns an instant as nanoseconds since the epoch.
+         *
+         * @param timestamp
+         *                The instant.
+         * @return The nanoseconds since the epoch
+         */
+        static long epochNanos(Instant timestamp) {
+                return Math.addExact(Math.multiplyExact(timestamp.getEpochSecond(), 1_000_000_000L),
+                                timestamp.getNano());
+        }
+
+        private Put historyPut(DynamoGoalProgressItem progressItem, long currentValue) {
+                return Put.builder()
+                                .tableName(progressTableName)
+                                .item(progressItemToMap(progressItem))
+                                .conditionExpression("attribute_not_exists(#sk) OR #progressValue <> :progressValue")
+                                .expressionAttributeNames(Map.of("#sk", "sk", "#progressValue", "progressValue"))
+                                .expressionAttributeValues(Map.of(":progressValue",
+                                                AttributeValue.fromN(Long.toString(currentValue))))
+                                .build();
+        }
+
+        private TransactWriteItem transactPut(String tableName, Map<String, AttributeValue> item) {
+                return TransactWriteItem.builder()
+                                .put(Put.builder()
+                                                .tableName(tableName)
+                                                .item(item)
+                                                .build())
+                                .build();
+        }
+}
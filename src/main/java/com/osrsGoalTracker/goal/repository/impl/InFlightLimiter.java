@@ -0,0 +1,107 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of asynchronous requests in flight without blocking the
+ * caller. Requests submitted while the cap is reached are queued and started
+ * as earlier requests complete. Queued requests are started in a loop by
+ * whichever thread frees capacity first; a request that completes while it
+ * is being started, such as one failing synchronously, hands its slot back
+ * to that loop instead of starting the next request from its own callback.
+ */
+class InFlightLimiter {
+    private final int maxInFlight;
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+    private boolean draining;
+
+    /**
+     * Constructor for InFlightLimiter.
+     *
+     * @param maxInFlight The maximum number of requests allowed in flight
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    InFlightLimiter(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Starts the request now if there is capacity, or once capacity frees up.
+     *
+     * @param request Starts the request and returns its future
+     * @param <T>     The result type of the request
+     * @return A future completing with the result of the request
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> start(request, result);
+        boolean startNow;
+        synchronized (this) {
+            startNow = inFlight < maxInFlight && waiting.isEmpty();
+            if (startNow) {
+                inFlight++;
+            } else {
+                waiting.addLast(start);
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     *
+     * @return The in-flight request count
+     */
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, error) -> {
+            release();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                if (inFlight >= maxInFlight || waiting.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                next = waiting.pollFirst();
+                inFlight++;
+            }
+            next.run();
+        }
+    }
+}
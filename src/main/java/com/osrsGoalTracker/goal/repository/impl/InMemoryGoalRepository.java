@@ -0,0 +1,414 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GoalRepository kept entirely in memory, for benchmarks, load runs and
+ * running the handlers without DynamoDB.
+ * Each user has its own sorted key spaces, keyed by the same SortKeyUtil sort
+ * keys the DynamoDB repositories write, so listings, progress ranges, cursors
+ * and limits behave the same way: goal metadata rows in one, progress history
+ * with the #LATEST and #EARLIEST rows in another, and rollups and compaction
+ * checkpoints in their own. Reads never lock; writes to one goal are
+ * serialized on one of a fixed set of striped locks, so a progress write, its
+ * duplicate check and the #LATEST update are atomic like the DynamoDB
+ * transaction, and like it an update older than #LATEST leaves #LATEST alone.
+ * Progress writes are never suppressed and rows never expire.
+ */
+@Slf4j
+@Singleton
+public class InMemoryGoalRepository implements GoalRepository {
+    private final Map<String, UserPartition> partitions = new ConcurrentHashMap<>();
+    private final GoalLockStripes locks = new GoalLockStripes();
+
+    /**
+     * Creates an empty repository.
+     */
+    public InMemoryGoalRepository() {
+    }
+
+    @Override
+    public Goal createGoal(Goal goal) {
+        GoalWriteRequestFactory.validateGoal(goal);
+        String goalId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        Goal metadata = copy(goal);
+        metadata.setGoalId(goalId);
+        metadata.setCurrentProgress(0L);
+        GoalProgressPoint point = GoalProgressPoint.builder()
+                .timestamp(now)
+                .progressValue(goal.getCurrentProgress())
+                .build();
+
+        UserPartition partition = partition(goal.getUserId());
+        ReentrantLock lock = locks.lockFor(goal.getUserId(), goalId);
+        lock.lock();
+        try {
+            partition.goals.put(SortKeyUtil.buildGoalMetadataSortKey(goal.getCharacterName(), goalId), metadata);
+            partition.progress.put(SortKeyUtil.buildGoalProgressSortKey(goal.getCharacterName(), goalId, now), point);
+            partition.progress.put(SortKeyUtil.buildGoalLatestSortKey(goal.getCharacterName(), goalId), point);
+            partition.progress.put(SortKeyUtil.buildGoalEarliestSortKey(goal.getCharacterName(), goalId), point);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Created goal {} in memory for user: {}", goalId, goal.getUserId());
+
+        goal.setGoalId(goalId);
+        return goal;
+    }
+
+    @Override
+    public void createGoalProgress(Goal goal) {
+        GoalWriteRequestFactory.validateGoalForProgress(goal);
+        writeProgress(goal, progressTimestamp(goal));
+    }
+
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        GoalWriteRequestFactory.validateNotNull(goals, "goals");
+        List<GoalProgressWriteResult> results = new ArrayList<>(goals.size());
+        Map<String, Set<Instant>> timestampsByGoal = new HashMap<>();
+        for (Goal goal : goals) {
+            try {
+                GoalWriteRequestFactory.validateGoalForProgress(goal);
+            } catch (IllegalArgumentException e) {
+                results.add(GoalProgressWriteResult.failed(goal, e.getMessage()));
+                continue;
+            }
+            String goalKey = goal.getUserId() + "#" + goal.getGoalId();
+            Set<Instant> usedTimestamps = timestampsByGoal.computeIfAbsent(goalKey, key -> new HashSet<>());
+            Instant timestamp = progressTimestamp(goal);
+            while (!usedTimestamps.add(timestamp)) {
+                timestamp = timestamp.plusNanos(1);
+            }
+            writeProgress(goal, timestamp);
+            results.add(GoalProgressWriteResult.succeeded(goal));
+        }
+        return results;
+    }
+
+    @Override
+    public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return Optional.empty();
+        }
+        Goal metadata = partition.goals.get(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId));
+        return metadata == null ? Optional.empty() : Optional.of(withProgress(partition, metadata));
+    }
+
+    @Override
+    public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        GoalReader.validateLimit(limit, GoalReader.MAX_PAGE_SIZE);
+        String prefix = SortKeyUtil.buildGoalMetadataSortKeyPrefix(characterName);
+        String startSk = GoalReader.decodeGoalCursor(cursor, prefix);
+        return listGoals(userId, prefix, SortKeyUtil.buildCharacterSortKeyUpperBound(characterName), startSk, limit);
+    }
+
+    @Override
+    public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        GoalReader.validateLimit(limit, GoalReader.MAX_PAGE_SIZE);
+        String startSk = GoalReader.decodeGoalCursor(cursor, SortKeyUtil.CHARACTER_PREFIX);
+        return listGoals(userId, SortKeyUtil.CHARACTER_PREFIX, SortKeyUtil.CHARACTER_PREFIX_UPPER_BOUND, startSk,
+                limit);
+    }
+
+    @Override
+    public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        GoalReader.validateLimit(limit, GoalReader.MAX_HISTORY_PAGE_SIZE);
+        String startSk = GoalReader.decodeCursor(cursor,
+                SortKeyUtil.buildGoalProgressSortKeyPrefix(characterName, goalId));
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return Page.<GoalProgressPoint>builder().items(List.of()).build();
+        }
+
+        NavigableMap<String, GoalProgressPoint> range = partition.progress.subMap(
+                SortKeyUtil.buildGoalProgressSortKeyLowerBound(characterName, goalId, from), true,
+                SortKeyUtil.buildGoalProgressSortKeyUpperBound(characterName, goalId, to), true);
+        if (startSk != null) {
+            range = range.tailMap(startSk, false);
+        }
+        List<GoalProgressPoint> points = new ArrayList<>(Math.min(limit, 64));
+        String lastSk = null;
+        Iterator<Map.Entry<String, GoalProgressPoint>> rows = range.entrySet().iterator();
+        while (rows.hasNext() && points.size() < limit) {
+            Map.Entry<String, GoalProgressPoint> row = rows.next();
+            Instant timestamp = row.getValue().getTimestamp();
+            if (!timestamp.isBefore(from) && !timestamp.isAfter(to)) {
+                points.add(row.getValue());
+            }
+            lastSk = row.getKey();
+        }
+        String endSk = GoalReader.inTimeOrder(points, GoalProgressPoint::getTimestamp, characterName, goalId,
+                rows.hasNext() ? lastSk : null);
+        return Page.<GoalProgressPoint>builder()
+                .items(points)
+                .nextCursor(endSk == null ? null : GoalReader.encodeCursor(endSk))
+                .build();
+    }
+
+    @Override
+    public Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName,
+            String goalId) {
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return Optional.empty();
+        }
+        Goal metadata = partition.goals.get(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId));
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        return Optional.of(GoalProgressSnapshot.builder()
+                .goal(withProgress(partition, metadata))
+                .earliest(partition.progress.get(SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId)))
+                .latest(partition.progress.get(SortKeyUtil.buildGoalLatestSortKey(characterName, goalId)))
+                .build());
+    }
+
+    @Override
+    public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        GoalReader.validateLimit(limit, GoalReader.MAX_HISTORY_PAGE_SIZE);
+        String startSk = GoalReader.decodeCursor(cursor,
+                SortKeyUtil.buildGoalProgressSortKeyPrefix(characterName, goalId));
+        String fromSk = SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, interval,
+                interval.bucketStart(from));
+        String toSk = SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, interval, interval.bucketStart(to));
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return Page.<GoalProgressRollup>builder().items(List.of()).build();
+        }
+
+        NavigableMap<String, GoalProgressRollup> range = partition.rollups.subMap(fromSk, true, toSk, true);
+        if (startSk != null) {
+            range = range.tailMap(startSk, false);
+        }
+        List<GoalProgressRollup> rollups = new ArrayList<>(Math.min(limit, 64));
+        String lastSk = null;
+        Iterator<Map.Entry<String, GoalProgressRollup>> rows = range.entrySet().iterator();
+        while (rows.hasNext() && rollups.size() < limit) {
+            Map.Entry<String, GoalProgressRollup> row = rows.next();
+            rollups.add(row.getValue());
+            lastSk = row.getKey();
+        }
+        return Page.<GoalProgressRollup>builder()
+                .items(rollups)
+                .nextCursor(rows.hasNext() ? GoalReader.encodeCursor(lastSk) : null)
+                .build();
+    }
+
+    @Override
+    public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Instant olderThan) {
+        Instant cutoff = ProgressInterval.WEEK.bucketStart(olderThan);
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return ProgressCompactionResult.builder().goalsProcessed(1).build();
+        }
+        String checkpointSk = SortKeyUtil.buildGoalCompactionSortKey(characterName, goalId);
+        ProgressCompactionResult result = ProgressCompactionResult.builder().goalsProcessed(1).build();
+
+        ReentrantLock lock = locks.lockFor(userId, goalId);
+        lock.lock();
+        try {
+            NavigableMap<String, GoalProgressPoint> history = partition.progress.subMap(
+                    SortKeyUtil.buildGoalProgressSortKeyLowerBound(characterName, goalId, Instant.EPOCH), true,
+                    SortKeyUtil.buildGoalProgressSortKeyUpperBound(characterName, goalId, cutoff.minusNanos(1)),
+                    true);
+            Map<Instant, List<Map.Entry<String, GoalProgressPoint>>> weeks = new TreeMap<>();
+            for (Map.Entry<String, GoalProgressPoint> row : history.entrySet()) {
+                Instant timestamp = row.getValue().getTimestamp();
+                if (timestamp.isBefore(cutoff)) {
+                    weeks.computeIfAbsent(ProgressInterval.WEEK.bucketStart(timestamp), ignored -> new ArrayList<>())
+                            .add(row);
+                }
+            }
+
+            for (Map.Entry<Instant, List<Map.Entry<String, GoalProgressPoint>>> week : weeks.entrySet()) {
+                Instant compactedThrough = partition.checkpoints.get(checkpointSk);
+                boolean rolledUp = compactedThrough != null && week.getKey().isBefore(compactedThrough);
+                int rollupsWritten = 0;
+                if (!rolledUp) {
+                    rollupsWritten = rollUp(partition, characterName, goalId, week.getKey(), week.getValue());
+                    partition.checkpoints.put(checkpointSk, week.getKey().plus(7, ChronoUnit.DAYS));
+                }
+                for (Map.Entry<String, GoalProgressPoint> row : week.getValue()) {
+                    partition.progress.remove(row.getKey());
+                }
+                result = result.plus(ProgressCompactionResult.builder()
+                        .weeksCompacted(rolledUp ? 0 : 1)
+                        .rollupsWritten(rollupsWritten)
+                        .recordsDeleted(week.getValue().size())
+                        .build());
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    private void writeProgress(Goal goal, Instant timestamp) {
+        UserPartition partition = partition(goal.getUserId());
+        String historySk = SortKeyUtil.buildGoalProgressSortKey(goal.getCharacterName(), goal.getGoalId(),
+                timestamp);
+        GoalProgressPoint point = GoalProgressPoint.builder()
+                .timestamp(timestamp)
+                .progressValue(goal.getCurrentProgress())
+                .build();
+
+        ReentrantLock lock = locks.lockFor(goal.getUserId(), goal.getGoalId());
+        lock.lock();
+        try {
+            GoalProgressPoint existing = partition.progress.get(historySk);
+            if (existing != null && existing.getProgressValue() == point.getProgressValue()) {
+                log.debug("Goal progress for goalId: {} already recorded, nothing written", goal.getGoalId());
+                return;
+            }
+            partition.progress.put(historySk, point);
+            String latestSk = SortKeyUtil.buildGoalLatestSortKey(goal.getCharacterName(), goal.getGoalId());
+            GoalProgressPoint latest = partition.progress.get(latestSk);
+            if (latest == null || latest.getTimestamp().isBefore(timestamp)) {
+                partition.progress.put(latestSk, point);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Page<Goal> listGoals(String userId, String fromSk, String toSk, String startSk, int limit) {
+        UserPartition partition = partitions.get(userId);
+        if (partition == null) {
+            return Page.<Goal>builder().items(List.of()).build();
+        }
+        NavigableMap<String, Goal> range = partition.goals.subMap(fromSk, true, toSk, false);
+        if (startSk != null) {
+            range = range.tailMap(startSk, false);
+        }
+        List<Goal> goals = new ArrayList<>(Math.min(limit, 16));
+        String lastSk = null;
+        Iterator<Map.Entry<String, Goal>> rows = range.entrySet().iterator();
+        while (rows.hasNext() && goals.size() < limit) {
+            Map.Entry<String, Goal> row = rows.next();
+            goals.add(withProgress(partition, row.getValue()));
+            lastSk = row.getKey();
+        }
+        return Page.<Goal>builder()
+                .items(goals)
+                .nextCursor(rows.hasNext() ? GoalReader.encodeCursor(lastSk) : null)
+                .build();
+    }
+
+    private int rollUp(UserPartition partition, String characterName, String goalId, Instant weekStart,
+            List<Map.Entry<String, GoalProgressPoint>> week) {
+        Map<Instant, List<GoalProgressPoint>> days = new TreeMap<>();
+        List<GoalProgressPoint> weekPoints = new ArrayList<>(week.size());
+        for (Map.Entry<String, GoalProgressPoint> row : week) {
+            GoalProgressPoint point = row.getValue();
+            days.computeIfAbsent(ProgressInterval.DAY.bucketStart(point.getTimestamp()), ignored -> new ArrayList<>())
+                    .add(point);
+            weekPoints.add(point);
+        }
+        for (Map.Entry<Instant, List<GoalProgressPoint>> day : days.entrySet()) {
+            partition.rollups.put(SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, ProgressInterval.DAY,
+                    day.getKey()), rollup(ProgressInterval.DAY, day.getKey(), day.getValue()));
+        }
+        partition.rollups.put(SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, ProgressInterval.WEEK,
+                weekStart), rollup(ProgressInterval.WEEK, weekStart, weekPoints));
+        return days.size() + 1;
+    }
+
+    private static GoalProgressRollup rollup(ProgressInterval interval, Instant bucketStart,
+            List<GoalProgressPoint> points) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (GoalProgressPoint point : points) {
+            min = Math.min(min, point.getProgressValue());
+            max = Math.max(max, point.getProgressValue());
+        }
+        GoalProgressPoint first = points.get(0);
+        GoalProgressPoint last = points.get(points.size() - 1);
+        return GoalProgressRollup.builder()
+                .interval(interval)
+                .bucketStart(bucketStart)
+                .count(points.size())
+                .minValue(min)
+                .maxValue(max)
+                .firstValue(first.getProgressValue())
+                .lastValue(last.getProgressValue())
+                .firstTimestamp(first.getTimestamp())
+                .lastTimestamp(last.getTimestamp())
+                .build();
+    }
+
+    private Goal withProgress(UserPartition partition, Goal metadata) {
+        Goal goal = copy(metadata);
+        GoalProgressPoint latest = partition.progress.get(SortKeyUtil.buildGoalLatestSortKey(
+                metadata.getCharacterName(), metadata.getGoalId()));
+        goal.setCurrentProgress(latest == null ? 0L : latest.getProgressValue());
+        return goal;
+    }
+
+    private UserPartition partition(String userId) {
+        return partitions.computeIfAbsent(userId, ignored -> new UserPartition());
+    }
+
+    private static Instant progressTimestamp(Goal goal) {
+        return goal.getProgressTimestamp() != null ? goal.getProgressTimestamp() : Instant.now();
+    }
+
+    private static Goal copy(Goal goal) {
+        return Goal.builder()
+                .userId(goal.getUserId())
+                .characterName(goal.getCharacterName())
+                .goalId(goal.getGoalId())
+                .targetAttribute(goal.getTargetAttribute())
+                .targetType(goal.getTargetType())
+                .targetValue(goal.getTargetValue())
+                .currentProgress(goal.getCurrentProgress())
+                .targetDate(goal.getTargetDate())
+                .notificationChannelType(goal.getNotificationChannelType())
+                .frequency(goal.getFrequency())
+                .build();
+    }
+
+    /**
+     * The sorted key spaces of one user, keyed by sort key.
+     */
+    private static final class UserPartition {
+        private final ConcurrentSkipListMap<String, Goal> goals = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, GoalProgressPoint> progress = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, GoalProgressRollup> rollups = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Instant> checkpoints = new ConcurrentSkipListMap<>();
+    }
+}
@@ -0,0 +1,209 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.GoalRepository;
+
+/**
+ * GoalRepository decorator that records the latency and outcome of each call.
+ */
+@Singleton
+public class InstrumentedGoalRepository implements GoalRepository {
+    /**
+     * Name of the binding holding the GoalRepository being decorated.
+     */
+    public static final String DELEGATE = "instrumentedGoalRepositoryDelegate";
+
+    static final String CREATE_GOAL = "GoalRepository.createGoal";
+    static final String CREATE_GOAL_PROGRESS = "GoalRepository.createGoalProgress";
+    static final String CREATE_GOAL_PROGRESS_BATCH = "GoalRepository.createGoalProgressBatch";
+    static final String FLUSH_PROGRESS = "GoalRepository.flushProgress";
+    static final String GET_GOAL = "GoalRepository.getGoal";
+    static final String LIST_GOALS_FOR_CHARACTER = "GoalRepository.listGoalsForCharacter";
+    static final String LIST_GOALS_FOR_USER = "GoalRepository.listGoalsForUser";
+    static final String LIST_GOAL_PROGRESS = "GoalRepository.listGoalProgress";
+    static final String GET_GOAL_PROGRESS_SNAPSHOT = "GoalRepository.getGoalProgressSnapshot";
+    static final String LIST_GOAL_PROGRESS_ROLLUPS = "GoalRepository.listGoalProgressRollups";
+    static final String COMPACT_GOAL_PROGRESS = "GoalRepository.compactGoalProgress";
+
+    private final GoalRepository delegate;
+    private final GoalMetrics metrics;
+
+    /**
+     * Constructor for InstrumentedGoalRepository.
+     *
+     * @param delegate
+     *            The goal repository being decorated.
+     * @param metrics
+     *            Where the metrics are recorded.
+     */
+    @Inject
+    public InstrumentedGoalRepository(@Named(DELEGATE) GoalRepository delegate, GoalMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Goal createGoal(Goal goal) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Goal created = delegate.createGoal(goal);
+            success = true;
+            return created;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL, start, success);
+        }
+    }
+
+    @Override
+    public void createGoalProgress(Goal goal) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            delegate.createGoalProgress(goal);
+            success = true;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            List<GoalProgressWriteResult> results = delegate.createGoalProgressBatch(goals);
+            success = true;
+            return results;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL_PROGRESS_BATCH, start, success);
+        }
+    }
+
+    @Override
+    public List<Goal> flushProgress() {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            List<Goal> failed = delegate.flushProgress();
+            success = true;
+            return failed;
+        } finally {
+            metrics.recordLatency(FLUSH_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Optional<Goal> goal = delegate.getGoal(userId, characterName, goalId);
+            success = true;
+            return goal;
+        } finally {
+            metrics.recordLatency(GET_GOAL, start, success);
+        }
+    }
+
+    @Override
+    public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<Goal> page = delegate.listGoalsForCharacter(userId, characterName, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOALS_FOR_CHARACTER, start, success);
+        }
+    }
+
+    @Override
+    public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<Goal> page = delegate.listGoalsForUser(userId, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOALS_FOR_USER, start, success);
+        }
+    }
+
+    @Override
+    public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<GoalProgressPoint> page = delegate.listGoalProgress(userId, characterName, goalId, from, to,
+                    cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOAL_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public Optional<GoalProgressSnapshot> getGoalProgressSnapshot(String userId, String characterName,
+            String goalId) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Optional<GoalProgressSnapshot> snapshot = delegate.getGoalProgressSnapshot(userId, characterName,
+                    goalId);
+            success = true;
+            return snapshot;
+        } finally {
+            metrics.recordLatency(GET_GOAL_PROGRESS_SNAPSHOT, start, success);
+        }
+    }
+
+    @Override
+    public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<GoalProgressRollup> page = delegate.listGoalProgressRollups(userId, characterName, goalId,
+                    interval, from, to, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOAL_PROGRESS_ROLLUPS, start, success);
+        }
+    }
+
+    @Override
+    public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Instant olderThan) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            ProgressCompactionResult result = delegate.compactGoalProgress(userId, characterName, goalId,
+                    olderThan);
+            success = true;
+            return result;
+        } finally {
+            metrics.recordLatency(COMPACT_GOAL_PROGRESS, start, success);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+/**
+ * Holds back #LATEST rows so that several progress updates of the same goal
+ * within a warm container cost one #LATEST write instead of one each.
+ * When enabled, the repository writes every timestamped history row at once
+ * and stages the goal's #LATEST row here; a goal staged again keeps whichever
+ * row has the later timestamp. The staged rows are written together at the
+ * end of each batch, or earlier once maxPendingGoals goals are staged or the
+ * oldest staged row has waited maxDelay. One buffer is shared by every
+ * repository that writes through it, so it also runs their flushes one at a
+ * time.
+ */
+public class LatestProgressBuffer {
+    /**
+     * Buffer that never holds a row back, so #LATEST is written with its
+     * history row.
+     */
+    public static final LatestProgressBuffer DISABLED = new LatestProgressBuffer(false, 0, Duration.ZERO);
+
+    private final boolean enabled;
+    private final int maxPendingGoals;
+    private final Duration maxDelay;
+    private final Map<String, DynamoGoalProgressItem> pending = new LinkedHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Instant oldestStagedAt;
+
+    private LatestProgressBuffer(boolean enabled, int maxPendingGoals, Duration maxDelay) {
+        this.enabled = enabled;
+        this.maxPendingGoals = maxPendingGoals;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Creates a buffer that coalesces #LATEST rows until the end of a batch
+     * or until one of its thresholds is reached.
+     *
+     * @param maxPendingGoals The number of staged goals that triggers a flush
+     * @param maxDelay        The longest a staged row waits before a flush is
+     *                        due
+     * @return The buffer
+     * @throws IllegalArgumentException if maxPendingGoals or maxDelay is not
+     *                                  positive
+     */
+    public static LatestProgressBuffer coalescing(int maxPendingGoals, Duration maxDelay) {
+        if (maxPendingGoals <= 0) {
+            throw new IllegalArgumentException("maxPendingGoals must be greater than 0");
+        }
+        if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be greater than 0");
+        }
+        return new LatestProgressBuffer(true, maxPendingGoals, maxDelay);
+    }
+
+    /**
+     * Returns whether #LATEST rows are held back.
+     *
+     * @return true if rows are coalesced
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stages a goal's #LATEST row, unless a row with a later timestamp is
+     * already staged for the goal.
+     *
+     * @param latestItem The #LATEST row
+     * @param now        The time the row is staged
+     */
+    synchronized void stage(DynamoGoalProgressItem latestItem, Instant now) {
+        String key = latestItem.getPk() + "#" + latestItem.getSk();
+        DynamoGoalProgressItem staged = pending.get(key);
+        if (staged != null && staged.getCreatedAt().isAfter(latestItem.getCreatedAt())) {
+            return;
+        }
+        pending.put(key, latestItem);
+        if (oldestStagedAt == null) {
+            oldestStagedAt = now;
+        }
+    }
+
+    /**
+     * Returns whether enough goals are staged, or a row has waited long
+     * enough, that the staged rows should be written now.
+     *
+     * @param now The current time
+     * @return true if a flush is due
+     */
+    synchronized boolean isFlushDue(Instant now) {
+        return !pending.isEmpty()
+                && (pending.size() >= maxPendingGoals || !oldestStagedAt.plus(maxDelay).isAfter(now));
+    }
+
+    /**
+     * Removes every staged row and writes them with the given writer. Rows
+     * the writer reports as not written, or every row if it throws, are
+     * staged again unless a later row was staged for the goal meanwhile, and
+     * are retried by the next flush. Flushes run one at a time, so an older
+     * row drained by one flush cannot land after a newer row written by
+     * another; staging is not blocked while a flush writes.
+     *
+     * @param writer Writes the rows and returns those it could not write
+     * @param now    The time rows that could not be written are staged again
+     * @return The rows that could not be written
+     */
+    List<DynamoGoalProgressItem> flush(Function<List<DynamoGoalProgressItem>, List<DynamoGoalProgressItem>> writer,
+            Instant now) {
+        flushLock.lock();
+        try {
+            List<DynamoGoalProgressItem> drained = drain();
+            if (drained.isEmpty()) {
+                return List.of();
+            }
+            List<DynamoGoalProgressItem> failed;
+            try {
+                failed = writer.apply(drained);
+            } catch (RuntimeException e) {
+                drained.forEach(item -> stage(item, now));
+                throw e;
+            }
+            failed.forEach(item -> stage(item, now));
+            return failed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns every staged row.
+     *
+     * @return The staged rows, in the order their goals were first staged
+     */
+    synchronized List<DynamoGoalProgressItem> drain() {
+        List<DynamoGoalProgressItem> drained = new ArrayList<>(pending.values());
+        pending.clear();
+        oldestStagedAt = null;
+        return drained;
+    }
+}
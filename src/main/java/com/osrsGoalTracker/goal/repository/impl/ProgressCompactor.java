@@ -0,0 +1,195 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressRollupItem;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+/**
+ * Rolls a goal's raw progress records up into daily and weekly rollups and
+ * deletes the raw records, one complete week at a time.
+ * Each week's rollups are written in one transaction together with a
+ * checkpoint holding the end of the compacted history, and only then are the
+ * week's raw records deleted. A run that stops part way resumes from the
+ * checkpoint: raw records before it are already rolled up and are only
+ * deleted. Raw records must therefore not arrive for weeks older than the
+ * compaction age, which holds as long as that age exceeds the longest
+ * redelivery delay of progress events.
+ */
+@Slf4j
+class ProgressCompactor {
+    private static final int PAGE_SIZE = GoalReader.MAX_HISTORY_PAGE_SIZE;
+
+    private final GoalReader goalReader;
+    private final GoalWriteRequestFactory requestFactory;
+    private final Consumer<TransactWriteItemsRequest> transactWrite;
+    private final BatchProgressWriter batchWriter;
+
+    /**
+     * Constructor for ProgressCompactor.
+     *
+     * @param goalReader     Reads the raw records and the checkpoint
+     * @param requestFactory Builds the rollup transaction
+     * @param transactWrite  Runs a TransactWriteItems request
+     * @param batchWriter    Deletes the raw records
+     */
+    ProgressCompactor(GoalReader goalReader, GoalWriteRequestFactory requestFactory,
+            Consumer<TransactWriteItemsRequest> transactWrite, BatchProgressWriter batchWriter) {
+        this.goalReader = goalReader;
+        this.requestFactory = requestFactory;
+        this.transactWrite = transactWrite;
+        this.batchWriter = batchWriter;
+    }
+
+    /**
+     * Compacts every complete week of a goal's raw progress records that ends
+     * at or before the given instant.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param olderThan     Records in weeks that end after this instant are kept
+     * @return What was compacted
+     */
+    ProgressCompactionResult compact(String userId, String characterName, String goalId, Instant olderThan) {
+        Instant cutoff = ProgressInterval.WEEK.bucketStart(olderThan);
+        Instant compactedThrough = goalReader.getCompactedThrough(userId, characterName, goalId);
+        Iterator<Map<String, AttributeValue>> rows = Page.stream((String cursor) -> goalReader
+                .listGoalProgressRows(userId, characterName, goalId, Instant.EPOCH, cutoff.minusNanos(1), cursor,
+                        PAGE_SIZE))
+                .iterator();
+
+        ProgressCompactionResult result = ProgressCompactionResult.builder().goalsProcessed(1).build();
+        List<Map<String, AttributeValue>> week = new ArrayList<>();
+        Instant weekStart = null;
+        while (rows.hasNext()) {
+            Map<String, AttributeValue> row = rows.next();
+            Instant rowWeek = ProgressInterval.WEEK.bucketStart(goalReader.toHistoryPoint(row).getTimestamp());
+            if (weekStart != null && !rowWeek.equals(weekStart)) {
+                result = result.plus(compactWeek(userId, characterName, goalId, weekStart, week, compactedThrough));
+                week.clear();
+            }
+            weekStart = rowWeek;
+            week.add(row);
+        }
+        if (!week.isEmpty()) {
+            result = result.plus(compactWeek(userId, characterName, goalId, weekStart, week, compactedThrough));
+        }
+        log.info("Compacted {} weeks of progress for goalId: {}, deleted {} records", result.getWeeksCompacted(),
+                goalId, result.getRecordsDeleted());
+        return result;
+    }
+
+    private ProgressCompactionResult compactWeek(String userId, String characterName, String goalId,
+            Instant weekStart, List<Map<String, AttributeValue>> week, Instant compactedThrough) {
+        int rollupsWritten = 0;
+        boolean rolledUp = compactedThrough != null && weekStart.isBefore(compactedThrough);
+        if (!rolledUp) {
+            List<DynamoGoalProgressRollupItem> rollups = rollUp(userId, characterName, goalId, weekStart, week);
+            try {
+                transactWrite.accept(requestFactory.createCompactionTransactionRequest(userId, characterName,
+                        goalId, rollups, weekStart, weekStart.plus(7, ChronoUnit.DAYS)));
+                rollupsWritten = rollups.size();
+            } catch (RuntimeException e) {
+                if (!GoalWriteRequestFactory.isCancelledByCondition(e)) {
+                    throw e;
+                }
+                log.info("Week {} of goalId: {} was already compacted by another run", weekStart, goalId);
+            }
+        }
+
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(week.size());
+        for (Map<String, AttributeValue> row : week) {
+            keys.add(Map.of("pk", row.get("pk"), "sk", row.get("sk")));
+        }
+        Map<Integer, String> failures = batchWriter.delete(requestFactory.progressTableName(), keys);
+        if (!failures.isEmpty()) {
+            log.warn("{} raw progress records of goalId: {} were not deleted and are left for the next run",
+                    failures.size(), goalId);
+        }
+        return ProgressCompactionResult.builder()
+                .weeksCompacted(rolledUp ? 0 : 1)
+                .rollupsWritten(rollupsWritten)
+                .recordsDeleted(keys.size() - failures.size())
+                .recordsNotDeleted(failures.size())
+                .build();
+    }
+
+    private List<DynamoGoalProgressRollupItem> rollUp(String userId, String characterName, String goalId,
+            Instant weekStart, List<Map<String, AttributeValue>> week) {
+        Map<Instant, Bucket> days = new LinkedHashMap<>();
+        Bucket weekBucket = new Bucket();
+        for (Map<String, AttributeValue> row : week) {
+            GoalProgressPoint point = goalReader.toHistoryPoint(row);
+            days.computeIfAbsent(ProgressInterval.DAY.bucketStart(point.getTimestamp()), ignored -> new Bucket())
+                    .add(point);
+            weekBucket.add(point);
+        }
+
+        List<DynamoGoalProgressRollupItem> rollups = new ArrayList<>(days.size() + 1);
+        for (Map.Entry<Instant, Bucket> day : days.entrySet()) {
+            rollups.add(day.getValue().toItem(userId, characterName, goalId, ProgressInterval.DAY, day.getKey()));
+        }
+        rollups.add(weekBucket.toItem(userId, characterName, goalId, ProgressInterval.WEEK, weekStart));
+        return rollups;
+    }
+
+    /**
+     * Accumulates the points of one bucket, which may be given out of time
+     * order.
+     */
+    private static final class Bucket {
+        private long count;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private GoalProgressPoint first;
+        private GoalProgressPoint last;
+
+        void add(GoalProgressPoint point) {
+            count++;
+            min = Math.min(min, point.getProgressValue());
+            max = Math.max(max, point.getProgressValue());
+            if (first == null || point.getTimestamp().isBefore(first.getTimestamp())) {
+                first = point;
+            }
+            if (last == null || !point.getTimestamp().isBefore(last.getTimestamp())) {
+                last = point;
+            }
+        }
+
+        DynamoGoalProgressRollupItem toItem(String userId, String characterName, String goalId,
+                ProgressInterval interval, Instant bucketStart) {
+            return DynamoGoalProgressRollupItem.builder()
+                    .pk("USER#" + userId)
+                    .sk(SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, interval, bucketStart))
+                    .userId(userId)
+                    .characterName(characterName)
+                    .goalId(goalId)
+                    .interval(interval.name())
+                    .bucketStart(bucketStart)
+                    .recordCount(count)
+                    .minValue(min)
+                    .maxValue(max)
+                    .firstValue(first.getProgressValue())
+                    .lastValue(last.getProgressValue())
+                    .firstAt(first.getTimestamp())
+                    .lastAt(last.getTimestamp())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.List;
+
+/**
+ * Where timestamped progress history rows are written. Goal metadata,
+ * #LATEST, #EARLIEST, rollup and checkpoint rows always stay in the user's
+ * partition; only history rows, which take the bulk of the writes, can be
+ * moved to a partition per goal so one heavy user's updates spread over many
+ * partitions. History rows keep the same sort key in either layout, and
+ * reads always query both partitions and merge them, so the layout can be
+ * switched on a live table without migrating existing rows.
+ */
+public enum ProgressHistoryLayout {
+    /**
+     * History rows share the user's partition, USER#userId.
+     */
+    USER,
+    /**
+     * History rows are written to a partition per goal,
+     * USER#userId#GOAL#goalId.
+     */
+    GOAL;
+
+    /**
+     * Returns the partition key history rows of a goal are written to.
+     *
+     * @param userId The ID of the user
+     * @param goalId The ID of the goal
+     * @return The partition key
+     */
+    String historyPartitionKey(String userId, String goalId) {
+        return this == GOAL ? goalPartitionKey(userId, goalId) : userPartitionKey(userId);
+    }
+
+    /**
+     * Returns every partition key history rows of a goal can be found under,
+     * in either layout.
+     *
+     * @param userId The ID of the user
+     * @param goalId The ID of the goal
+     * @return The partition keys, the user's partition first
+     */
+    static List<String> historyPartitionKeys(String userId, String goalId) {
+        return List.of(userPartitionKey(userId), goalPartitionKey(userId, goalId));
+    }
+
+    private static String userPartitionKey(String userId) {
+        return "USER#" + userId;
+    }
+
+    private static String goalPartitionKey(String userId, String goalId) {
+        return "USER#" + userId + "#GOAL#" + goalId;
+    }
+}
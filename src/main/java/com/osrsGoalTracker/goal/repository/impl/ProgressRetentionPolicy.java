@@ -0,0 +1,84 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decides how long timestamped progress history rows are kept before
+ * DynamoDB's time to live expires them. Retention is chosen by the goal's
+ * notification frequency, falling back to a default, and is stamped on each
+ * history row as an epoch-seconds "ttl" attribute. The #LATEST, #EARLIEST,
+ * metadata, rollup and checkpoint rows never carry it.
+ * TTL must be enabled on the table for the "ttl" attribute, and DynamoDB
+ * deletes expired rows lazily, so they can still be read for a while after
+ * they expire.
+ */
+public class ProgressRetentionPolicy {
+    /**
+     * Policy that keeps progress history forever.
+     */
+    public static final ProgressRetentionPolicy DISABLED = new ProgressRetentionPolicy(null, Map.of());
+
+    private final Duration defaultRetention;
+    private final Map<String, Duration> retentionByFrequency;
+
+    private ProgressRetentionPolicy(Duration defaultRetention, Map<String, Duration> retentionByFrequency) {
+        this.defaultRetention = defaultRetention;
+        this.retentionByFrequency = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        this.retentionByFrequency.putAll(retentionByFrequency);
+    }
+
+    /**
+     * Creates a policy keeping history rows for the retention of the goal's
+     * frequency, or for the default retention when the frequency has none.
+     *
+     * @param defaultRetention     How long rows are kept when the frequency is
+     *                             unknown or not listed, or null to keep them
+     *                             forever
+     * @param retentionByFrequency How long rows are kept per frequency,
+     *                             matched ignoring case
+     * @return The policy
+     * @throws IllegalArgumentException if a retention is not positive
+     */
+    public static ProgressRetentionPolicy of(Duration defaultRetention, Map<String, Duration> retentionByFrequency) {
+        if (retentionByFrequency == null) {
+            throw new IllegalArgumentException("retentionByFrequency cannot be null");
+        }
+        validatePositive(defaultRetention);
+        retentionByFrequency.values().forEach(ProgressRetentionPolicy::validatePositive);
+        return new ProgressRetentionPolicy(defaultRetention, retentionByFrequency);
+    }
+
+    /**
+     * Returns how long history rows of a goal with the given frequency are
+     * kept.
+     *
+     * @param frequency The goal's notification frequency, or null
+     * @return The retention, or null to keep rows forever
+     */
+    Duration retentionFor(String frequency) {
+        Duration retention = frequency == null ? null : retentionByFrequency.get(frequency);
+        return retention != null ? retention : defaultRetention;
+    }
+
+    /**
+     * Returns the epoch second at which a history row written at the given
+     * time expires.
+     *
+     * @param frequency The goal's notification frequency, or null
+     * @param timestamp The time of the progress row
+     * @return The expiry in epoch seconds, or null if the row never expires
+     */
+    Long expiresAt(String frequency, Instant timestamp) {
+        Duration retention = retentionFor(frequency);
+        return retention == null ? null : timestamp.plus(retention).getEpochSecond();
+    }
+
+    private static void validatePositive(Duration retention) {
+        if (retention != null && (retention.isNegative() || retention.isZero())) {
+            throw new IllegalArgumentException("retention must be greater than 0");
+        }
+    }
+}
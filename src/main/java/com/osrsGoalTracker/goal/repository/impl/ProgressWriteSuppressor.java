@@ -0,0 +1,139 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.model.Goal;
+
+/**
+ * Decides when a goal progress update is redundant and need not be written.
+ * When enabled, an update whose value matches the goal's latest progress is
+ * skipped unless the latest progress is older than the heartbeat interval, so
+ * inactive goals still record a point once per heartbeat.
+ * A bounded cache of the values this container last wrote skips obvious
+ * repeats without calling DynamoDB. Updates the cache cannot rule out are
+ * written with a condition on the #LATEST row, and a failed condition cancels
+ * the history row in the same transaction.
+ */
+public class ProgressWriteSuppressor {
+    /**
+     * Suppressor that never skips a write.
+     */
+    public static final ProgressWriteSuppressor DISABLED = new ProgressWriteSuppressor(false, Duration.ZERO, 0);
+
+    static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final boolean enabled;
+    private final Duration heartbeat;
+    private final Map<String, LastWrite> lastWrites;
+
+    private ProgressWriteSuppressor(boolean enabled, Duration heartbeat, int cacheSize) {
+        this.enabled = enabled;
+        this.heartbeat = heartbeat;
+        this.lastWrites = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LastWrite> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a suppressor that writes progress only when the value changes
+     * or the heartbeat interval has passed since the last write.
+     *
+     * @param heartbeat The longest time between recorded points of a goal
+     * @param cacheSize The number of goals whose last written value is cached
+     * @return The suppressor
+     * @throws IllegalArgumentException if heartbeat is not positive or
+     *                                  cacheSize is negative
+     */
+    public static ProgressWriteSuppressor onChange(Duration heartbeat, int cacheSize) {
+        if (heartbeat == null || heartbeat.isNegative() || heartbeat.isZero()) {
+            throw new IllegalArgumentException("heartbeat must be greater than 0");
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize cannot be negative");
+        }
+        return new ProgressWriteSuppressor(true, heartbeat, cacheSize);
+    }
+
+    /**
+     * Creates a suppressor that writes progress only when the value changes
+     * or the heartbeat interval has passed, caching DEFAULT_CACHE_SIZE goals.
+     *
+     * @param heartbeat The longest time between recorded points of a goal
+     * @return The suppressor
+     */
+    public static ProgressWriteSuppressor onChange(Duration heartbeat) {
+        return onChange(heartbeat, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns whether unchanged progress is suppressed.
+     *
+     * @return true if writes are suppressed when unchanged
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns whether this container last wrote the same value for the goal
+     * within the heartbeat interval, so the update can be skipped without
+     * calling DynamoDB.
+     *
+     * @param goal The goal with its new progress value
+     * @param now  The time of the update
+     * @return true if the update is known to be redundant
+     */
+    boolean isKnownUnchanged(Goal goal, Instant now) {
+        if (!enabled) {
+            return false;
+        }
+        LastWrite lastWrite;
+        synchronized (lastWrites) {
+            lastWrite = lastWrites.get(goalKey(goal));
+        }
+        return lastWrite != null && lastWrite.value() == goal.getCurrentProgress()
+                && lastWrite.writtenAt().plus(heartbeat).isAfter(now);
+    }
+
+    /**
+     * Records that the goal's progress was written.
+     *
+     * @param goal      The goal whose progress was written
+     * @param writtenAt When it was written
+     */
+    void recordWritten(Goal goal, Instant writtenAt) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lastWrites) {
+            lastWrites.put(goalKey(goal), new LastWrite(goal.getCurrentProgress(), writtenAt));
+        }
+    }
+
+    /**
+     * Returns the instant before which a #LATEST row with an unchanged value is
+     * old enough to be rewritten as a heartbeat, or null when disabled.
+     *
+     * @param now The time of the update
+     * @return The heartbeat cutoff, or null
+     */
+    Instant heartbeatCutoff(Instant now) {
+        return enabled ? now.minus(heartbeat) : null;
+    }
+
+    private static String goalKey(Goal goal) {
+        return goal.getUserId() + "#" + goal.getCharacterName() + "#" + goal.getGoalId();
+    }
+
+    /**
+     * The value last written for a goal and when.
+     */
+    private record LastWrite(long value, Instant writtenAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.model.BackpressureException;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * SDK interceptor that passes every DynamoDB request through an
+ * AdaptiveRateLimiter. A request takes a token before it is sent, or fails
+ * with a BackpressureException without being sent. Throttling errors,
+ * transactions cancelled by throttling and BatchWriteItem responses with
+ * unprocessed items lower the rate; other completed requests raise it.
+ * Throttles and refusals are reported to GoalMetrics with the rate they
+ * left. The async client's interceptor never waits for a token, because its
+ * requests may start on SDK completion threads.
+ */
+public class RateLimitingInterceptor implements ExecutionInterceptor {
+    private static final String THROTTLING_ERROR = "ThrottlingError";
+    private static final String PROVISIONED_THROUGHPUT_EXCEEDED = "ProvisionedThroughputExceeded";
+
+    private final AdaptiveRateLimiter limiter;
+    private final boolean mayWait;
+    private final GoalMetrics metrics;
+
+    /**
+     * Constructor for RateLimitingInterceptor.
+     *
+     * @param limiter The limiter shared by the container's clients
+     * @param mayWait Whether a request may block waiting for a token
+     * @param metrics Where throttles and refusals are recorded
+     */
+    public RateLimitingInterceptor(AdaptiveRateLimiter limiter, boolean mayWait, GoalMetrics metrics) {
+        this.limiter = limiter;
+        this.mayWait = mayWait;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        if (!limiter.tryAcquire(mayWait)) {
+            String operation = operationName(executionAttributes);
+            double rate = limiter.currentRate();
+            metrics.recordBackpressure(operation, rate);
+            throw new BackpressureException(operation, rate);
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        if (context.response() instanceof BatchWriteItemResponse batchResponse
+                && batchResponse.hasUnprocessedItems() && !batchResponse.unprocessedItems().isEmpty()) {
+            throttled(executionAttributes);
+        } else {
+            limiter.onSuccess();
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        if (isThrottle(context.exception())) {
+            throttled(executionAttributes);
+        }
+    }
+
+    /**
+     * Returns whether an error means DynamoDB throttled the request.
+     *
+     * @param error The error
+     * @return true if the request was throttled
+     */
+    public static boolean isThrottle(Throwable error) {
+        if (error instanceof TransactionCanceledException cancelled && cancelled.hasCancellationReasons()) {
+            for (CancellationReason reason : cancelled.cancellationReasons()) {
+                if (THROTTLING_ERROR.equalsIgnoreCase(reason.code())
+                        || PROVISIONED_THROUGHPUT_EXCEEDED.equalsIgnoreCase(reason.code())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return error instanceof AwsServiceException serviceException && serviceException.isThrottlingException();
+    }
+
+    private void throttled(ExecutionAttributes executionAttributes) {
+        limiter.onThrottle();
+        metrics.recordThrottle(operationName(executionAttributes), limiter.currentRate());
+    }
+
+    private String operationName(ExecutionAttributes executionAttributes) {
+        return executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    }
+}
@@ -0,0 +1,71 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.model.Goal;
+
+/**
+ * Bounded, least recently used set of the progress event IDs this container
+ * has already written. A warm container skips a redelivered event without
+ * calling DynamoDB; a cold container relies on the condition on the progress
+ * history row instead.
+ */
+final class RecentProgressEvents {
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Map<String, Boolean> eventIds;
+
+    /**
+     * Creates a set holding DEFAULT_CAPACITY event IDs.
+     */
+    RecentProgressEvents() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a set holding up to capacity event IDs.
+     *
+     * @param capacity The number of event IDs remembered
+     */
+    RecentProgressEvents(int capacity) {
+        this.eventIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the event that carried the goal's progress was already
+     * written by this container.
+     *
+     * @param goal The goal carrying the progress update
+     * @return true if the update is a known redelivery
+     */
+    boolean isDuplicate(Goal goal) {
+        String eventId = goal.getProgressEventId();
+        if (eventId == null) {
+            return false;
+        }
+        synchronized (eventIds) {
+            return eventIds.get(eventId) != null;
+        }
+    }
+
+    /**
+     * Records that the event that carried the goal's progress was written.
+     *
+     * @param goal The goal carrying the progress update
+     */
+    void recordWritten(Goal goal) {
+        String eventId = goal.getProgressEventId();
+        if (eventId == null) {
+            return;
+        }
+        synchronized (eventIds) {
+            eventIds.put(eventId, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.osrsGoalTracker.goal.repository.util;
+
+import java.time.Instant;
+
+/**
+ * A goal sort key decoded into its typed parts.
+ *
+ * @param characterName The name of the character the goal belongs to
+ * @param goalId        The ID of the goal
+ * @param kind          The kind of record the sort key addresses
+ * @param timestamp     The timestamp of a progress record or the bucket start of a
+ *                      rollup, or null for other kinds
+ */
+public record SortKey(String characterName, String goalId, Kind kind, Instant timestamp) {
+    /**
+     * The kinds of goal records stored under a character.
+     */
+    public enum Kind {
+        /**
+         * CHARACTER#character_name#GOAL#METADATA#goal_id.
+         */
+        METADATA,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#timestamp.
+         */
+        PROGRESS,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#LATEST.
+         */
+        LATEST,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#EARLIEST.
+         */
+        EARLIEST,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#ROLLUP#DAY#bucket_start.
+         */
+        DAILY_ROLLUP,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#ROLLUP#WEEK#bucket_start.
+         */
+        WEEKLY_ROLLUP,
+        /**
+         * CHARACTER#character_name#GOAL#goal_id#COMPACTION.
+         */
+        COMPACTION
+    }
+
+    /**
+     * Encodes this sort key back into its string form.
+     *
+     * @return The encoded sort key
+     */
+    public String encode() {
+        return switch (kind) {
+            case METADATA -> SortKeyCodec.encodeGoalMetadata(characterName, goalId);
+            case PROGRESS -> SortKeyCodec.encodeGoalProgress(characterName, goalId, timestamp);
+            case LATEST -> SortKeyCodec.encodeGoalLatest(characterName, goalId);
+            case EARLIEST -> SortKeyCodec.encodeGoalEarliest(characterName, goalId);
+            case DAILY_ROLLUP -> SortKeyCodec.encodeGoalDailyRollup(characterName, goalId, timestamp);
+            case WEEKLY_ROLLUP -> SortKeyCodec.encodeGoalWeeklyRollup(characterName, goalId, timestamp);
+            case COMPACTION -> SortKeyCodec.encodeGoalCompaction(characterName, goalId);
+        };
+    }
+}
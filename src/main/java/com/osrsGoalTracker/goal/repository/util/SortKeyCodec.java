@@ -0,0 +1,344 @@
+package com.osrsGoalTracker.goal.repository.util;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Encodes and decodes goal sort keys without String.format or regular
+ * expressions. Encoders size a single StringBuilder up front and write the
+ * timestamp digits directly, producing exactly the same text as
+ * Instant.toString. The parser walks the key with indexOf and only falls back
+ * to Instant.parse for timestamps outside the common
+ * yyyy-MM-ddTHH:mm:ss[.fraction]Z shape.
+ */
+public final class SortKeyCodec {
+    private static final char SEPARATOR = '#';
+    private static final String CHARACTER_PREFIX = "CHARACTER#";
+    private static final String GOAL_SEGMENT = "#GOAL#";
+    private static final String METADATA_SEGMENT = "METADATA#";
+    private static final String LATEST = "LATEST";
+    private static final String EARLIEST = "EARLIEST";
+    private static final String DAILY_ROLLUP = "ROLLUP#DAY#";
+    private static final String WEEKLY_ROLLUP = "ROLLUP#WEEK#";
+    private static final String COMPACTION = "COMPACTION";
+
+    private static final int FIXED_LENGTH = CHARACTER_PREFIX.length() + GOAL_SEGMENT.length() + 1;
+    private static final int MAX_INSTANT_LENGTH = 30;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final long DAYS_PER_400_YEARS = 146_097L;
+    private static final int MAX_FAST_YEAR = 9999;
+    private static final int[] FRACTION_SCALE = {
+        100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private SortKeyCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes the sort key for a goal's metadata record.
+     * Format: CHARACTER#character_name#GOAL#METADATA#goal_id
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The encoded sort key
+     */
+    public static String encodeGoalMetadata(String characterName, String goalId) {
+        String name = String.valueOf(characterName);
+        String id = String.valueOf(goalId);
+        return new StringBuilder(FIXED_LENGTH + METADATA_SEGMENT.length() + name.length() + id.length())
+                .append(CHARACTER_PREFIX).append(name).append(GOAL_SEGMENT)
+                .append(METADATA_SEGMENT).append(id)
+                .toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal progress record.
+     * Format: CHARACTER#character_name#GOAL#goal_id#timestamp
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param timestamp     The timestamp of the progress record
+     * @return The encoded sort key
+     */
+    public static String encodeGoalProgress(String characterName, String goalId, Instant timestamp) {
+        StringBuilder builder = goalPrefix(characterName, goalId, MAX_INSTANT_LENGTH);
+        appendInstant(builder, timestamp);
+        return builder.toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal's latest progress record.
+     * Format: CHARACTER#character_name#GOAL#goal_id#LATEST
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The encoded sort key
+     */
+    public static String encodeGoalLatest(String characterName, String goalId) {
+        return goalPrefix(characterName, goalId, LATEST.length()).append(LATEST).toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal's earliest progress record.
+     * Format: CHARACTER#character_name#GOAL#goal_id#EARLIEST
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The encoded sort key
+     */
+    public static String encodeGoalEarliest(String characterName, String goalId) {
+        return goalPrefix(characterName, goalId, EARLIEST.length()).append(EARLIEST).toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal's daily progress rollup.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#DAY#bucket_start
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param bucketStart   The start of the day the rollup covers
+     * @return The encoded sort key
+     */
+    public static String encodeGoalDailyRollup(String characterName, String goalId, Instant bucketStart) {
+        StringBuilder builder = goalPrefix(characterName, goalId, DAILY_ROLLUP.length() + MAX_INSTANT_LENGTH)
+                .append(DAILY_ROLLUP);
+        return appendInstant(builder, bucketStart).toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal's weekly progress rollup.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#WEEK#bucket_start
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param bucketStart   The start of the week the rollup covers
+     * @return The encoded sort key
+     */
+    public static String encodeGoalWeeklyRollup(String characterName, String goalId, Instant bucketStart) {
+        StringBuilder builder = goalPrefix(characterName, goalId, WEEKLY_ROLLUP.length() + MAX_INSTANT_LENGTH)
+                .append(WEEKLY_ROLLUP);
+        return appendInstant(builder, bucketStart).toString();
+    }
+
+    /**
+     * Encodes the sort key for a goal's progress compaction checkpoint.
+     * Format: CHARACTER#character_name#GOAL#goal_id#COMPACTION
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The encoded sort key
+     */
+    public static String encodeGoalCompaction(String characterName, String goalId) {
+        return goalPrefix(characterName, goalId, COMPACTION.length()).append(COMPACTION).toString();
+    }
+
+    /**
+     * Decodes a goal sort key into its typed parts.
+     *
+     * @param sortKey The sort key to decode
+     * @return The decoded sort key
+     * @throws IllegalArgumentException if the sort key is not a goal sort key
+     */
+    public static SortKey parse(String sortKey) {
+        if (sortKey == null || !sortKey.startsWith(CHARACTER_PREFIX)) {
+            throw invalid(sortKey);
+        }
+        int nameStart = CHARACTER_PREFIX.length();
+        int nameEnd = sortKey.indexOf(GOAL_SEGMENT, nameStart);
+        if (nameEnd <= nameStart) {
+            throw invalid(sortKey);
+        }
+        String characterName = sortKey.substring(nameStart, nameEnd);
+        int restStart = nameEnd + GOAL_SEGMENT.length();
+
+        if (sortKey.startsWith(METADATA_SEGMENT, restStart)) {
+            int idStart = restStart + METADATA_SEGMENT.length();
+            if (idStart >= sortKey.length()) {
+                throw invalid(sortKey);
+            }
+            return new SortKey(characterName, sortKey.substring(idStart), SortKey.Kind.METADATA, null);
+        }
+
+        int idEnd = sortKey.indexOf(SEPARATOR, restStart);
+        if (idEnd <= restStart || idEnd == sortKey.length() - 1) {
+            throw invalid(sortKey);
+        }
+        String goalId = sortKey.substring(restStart, idEnd);
+        int suffixStart = idEnd + 1;
+        int suffixLength = sortKey.length() - suffixStart;
+
+        if (suffixLength == LATEST.length() && sortKey.startsWith(LATEST, suffixStart)) {
+            return new SortKey(characterName, goalId, SortKey.Kind.LATEST, null);
+        }
+        if (suffixLength == EARLIEST.length() && sortKey.startsWith(EARLIEST, suffixStart)) {
+            return new SortKey(characterName, goalId, SortKey.Kind.EARLIEST, null);
+        }
+        if (suffixLength == COMPACTION.length() && sortKey.startsWith(COMPACTION, suffixStart)) {
+            return new SortKey(characterName, goalId, SortKey.Kind.COMPACTION, null);
+        }
+        if (sortKey.startsWith(DAILY_ROLLUP, suffixStart)) {
+            return new SortKey(characterName, goalId, SortKey.Kind.DAILY_ROLLUP,
+                    parseInstant(sortKey, suffixStart + DAILY_ROLLUP.length()));
+        }
+        if (sortKey.startsWith(WEEKLY_ROLLUP, suffixStart)) {
+            return new SortKey(characterName, goalId, SortKey.Kind.WEEKLY_ROLLUP,
+                    parseInstant(sortKey, suffixStart + WEEKLY_ROLLUP.length()));
+        }
+        return new SortKey(characterName, goalId, SortKey.Kind.PROGRESS, parseInstant(sortKey, suffixStart));
+    }
+
+    /**
+     * Appends a timestamp to the builder in exactly the form produced by
+     * Instant.toString.
+     *
+     * @param builder   The builder to append to
+     * @param timestamp The timestamp to append
+     * @return The builder
+     */
+    public static StringBuilder appendInstant(StringBuilder builder, Instant timestamp) {
+        long epochSecond = timestamp.getEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Civil-from-days over 400 year eras, counted from 0000-03-01.
+        long days = epochDay + DAYS_0000_TO_1970 - 60;
+        long era = Math.floorDiv(days, DAYS_PER_400_YEARS);
+        int dayOfEra = (int) (days - era * DAYS_PER_400_YEARS);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = era * 400 + yearOfEra + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > MAX_FAST_YEAR) {
+            return builder.append(timestamp);
+        }
+        appendDigits(builder, (int) year, 4);
+        builder.append('-');
+        appendDigits(builder, month, 2);
+        builder.append('-');
+        appendDigits(builder, day, 2);
+        builder.append('T');
+        appendDigits(builder, secondOfDay / 3600, 2);
+        builder.append(':');
+        appendDigits(builder, secondOfDay / 60 % 60, 2);
+        builder.append(':');
+        appendDigits(builder, secondOfDay % 60, 2);
+
+        int nano = timestamp.getNano();
+        if (nano != 0) {
+            builder.append('.');
+            if (nano % 1_000_000 == 0) {
+                appendDigits(builder, nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                appendDigits(builder, nano / 1_000, 6);
+            } else {
+                appendDigits(builder, nano, 9);
+            }
+        }
+        return builder.append('Z');
+    }
+
+    private static StringBuilder goalPrefix(String characterName, String goalId, int suffixLength) {
+        String name = String.valueOf(characterName);
+        String id = String.valueOf(goalId);
+        return new StringBuilder(FIXED_LENGTH + name.length() + id.length() + suffixLength)
+                .append(CHARACTER_PREFIX).append(name).append(GOAL_SEGMENT)
+                .append(id).append(SEPARATOR);
+    }
+
+    private static void appendDigits(StringBuilder builder, int value, int width) {
+        for (int scale = FRACTION_SCALE[FRACTION_SCALE.length - width]; scale > 0; scale /= 10) {
+            builder.append((char) ('0' + value / scale % 10));
+        }
+    }
+
+    private static Instant parseInstant(String sortKey, int start) {
+        Instant fast = parseInstantFast(sortKey, start);
+        if (fast != null) {
+            return fast;
+        }
+        try {
+            return Instant.parse(sortKey.substring(start));
+        } catch (DateTimeParseException e) {
+            throw invalid(sortKey);
+        }
+    }
+
+    private static Instant parseInstantFast(String text, int start) {
+        int end = text.length();
+        if (end - start < 20 || text.charAt(end - 1) != 'Z'
+                || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-'
+                || text.charAt(start + 10) != 'T' || text.charAt(start + 13) != ':'
+                || text.charAt(start + 16) != ':') {
+            return null;
+        }
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        int second = digits(text, start + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+
+        int nano = 0;
+        int position = start + 19;
+        if (position < end - 1) {
+            int fractionLength = end - 1 - position - 1;
+            if (text.charAt(position) != '.' || fractionLength < 1 || fractionLength > 9) {
+                return null;
+            }
+            int fraction = digits(text, position + 1, fractionLength);
+            if (fraction < 0) {
+                return null;
+            }
+            nano = fraction * FRACTION_SCALE[fractionLength - 1];
+        }
+
+        long epochDay = epochDay(year, month, day);
+        return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second, nano);
+    }
+
+    private static int digits(String text, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        int shiftedYear = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(shiftedYear, 400);
+        int yearOfEra = shiftedYear - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_0000_TO_1970 + 60;
+    }
+
+    private static IllegalArgumentException invalid(String sortKey) {
+        return new IllegalArgumentException("Invalid goal sort key: " + sortKey);
+    }
+}
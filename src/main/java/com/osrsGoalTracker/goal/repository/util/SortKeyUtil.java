@@ -1,19 +1,23 @@
 package com.osrsGoalTracker.goal.repository.util;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import com.osrsGoalTracker.goal.model.ProgressInterval;
 
 /**
  * Utility class for generating sort keys for DynamoDB items.
+ * Goal sort keys are encoded by SortKeyCodec, which can also parse them back
+ * into a SortKey.
  */
 public final class SortKeyUtil {
     private static final String METADATA = "METADATA";
     private static final String NOTIFICATION = "NOTIFICATION";
     private static final String CHARACTER = "CHARACTER";
-    private static final String GOAL = "GOAL";
-    private static final String LATEST = "LATEST";
-    private static final String EARLIEST = "EARLIEST";
 
     public static final String CHARACTER_METADATA_PREFIX = CHARACTER + "#" + METADATA + "#";
+    public static final String CHARACTER_PREFIX = CHARACTER + "#";
+    public static final String CHARACTER_PREFIX_UPPER_BOUND = CHARACTER + "$";
 
     /**
      * Default constructor to prevent instantiation.
@@ -39,7 +43,7 @@ public final class SortKeyUtil {
      * @return The sort key for goal metadata
      */
     public static String getGoalMetadataSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, METADATA, goalId);
+        return SortKeyCodec.encodeGoalMetadata(characterName, goalId);
     }
 
     /**
@@ -50,7 +54,7 @@ public final class SortKeyUtil {
      * @return The sort key for latest goal progress
      */
     public static String getLatestGoalProgressSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, goalId, LATEST);
+        return SortKeyCodec.encodeGoalLatest(characterName, goalId);
     }
 
     /**
@@ -61,7 +65,7 @@ public final class SortKeyUtil {
      * @return The sort key for earliest goal progress
      */
     public static String getEarliestGoalProgressSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, goalId, EARLIEST);
+        return SortKeyCodec.encodeGoalEarliest(characterName, goalId);
     }
 
     /**
@@ -71,7 +75,7 @@ public final class SortKeyUtil {
      * @return The sort key for the notification channel
      */
     public static String getNotificationChannelSortKey(String channelType) {
-        return String.format("%s#%s", NOTIFICATION, channelType);
+        return NOTIFICATION + "#" + channelType;
     }
 
     /**
@@ -81,7 +85,7 @@ public final class SortKeyUtil {
      * @return The sort key for character metadata
      */
     public static String getCharacterMetadataSortKey(String characterName) {
-        return String.format("%s#%s#%s", CHARACTER, METADATA, characterName);
+        return CHARACTER_METADATA_PREFIX + characterName;
     }
 
     /**
@@ -93,7 +97,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's metadata record
      */
     public static String buildGoalMetadataSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#METADATA#%s", characterName, goalId);
+        return SortKeyCodec.encodeGoalMetadata(characterName, goalId);
     }
 
     /**
@@ -105,7 +109,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's earliest progress record
      */
     public static String buildGoalEarliestSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#%s#EARLIEST", characterName, goalId);
+        return SortKeyCodec.encodeGoalEarliest(characterName, goalId);
     }
 
     /**
@@ -118,7 +122,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal progress record
      */
     public static String buildGoalProgressSortKey(String characterName, String goalId, Instant timestamp) {
-        return String.format("CHARACTER#%s#GOAL#%s#%s", characterName, goalId, timestamp.toString());
+        return SortKeyCodec.encodeGoalProgress(characterName, goalId, timestamp);
     }
 
     /**
@@ -130,6 +134,119 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's latest progress record
      */
     public static String buildGoalLatestSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#%s#LATEST", characterName, goalId);
+        return SortKeyCodec.encodeGoalLatest(characterName, goalId);
+    }
+
+    /**
+     * Parses a goal sort key into its typed parts.
+     *
+     * @param sortKey The sort key to parse
+     * @return The parsed sort key
+     * @throws IllegalArgumentException if the sort key is not a goal sort key
+     */
+    public static SortKey parseGoalSortKey(String sortKey) {
+        return SortKeyCodec.parse(sortKey);
+    }
+
+    /**
+     * Builds the sort key prefix shared by every goal metadata record of a
+     * character, for begins_with queries.
+     * Format: CHARACTER#character_name#GOAL#METADATA#
+     *
+     * @param characterName The name of the character
+     * @return The sort key prefix
+     */
+    public static String buildGoalMetadataSortKeyPrefix(String characterName) {
+        return SortKeyCodec.encodeGoalMetadata(characterName, "");
+    }
+
+    /**
+     * Builds the smallest sort key that sorts after every record of a
+     * character, for skipping from one character to the next.
+     * Format: CHARACTER#character_name$
+     *
+     * @param characterName The name of the character
+     * @return The sort key just past the character's records
+     */
+    public static String buildCharacterSortKeyUpperBound(String characterName) {
+        return CHARACTER + "#" + characterName + "$";
+    }
+
+    /**
+     * Builds the sort key prefix shared by every progress record of a goal.
+     * Format: CHARACTER#character_name#GOAL#goal_id#
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The sort key prefix
+     */
+    public static String buildGoalProgressSortKeyPrefix(String characterName, String goalId) {
+        return CHARACTER_PREFIX + characterName + "#GOAL#" + goalId + "#";
+    }
+
+    /**
+     * Builds a sort key that sorts at or before every progress record of a
+     * goal recorded at or after the given instant. Timestamps are encoded
+     * with a variable number of fraction digits, so the bound is the prefix
+     * shared by every timestamp within the instant's second; records earlier
+     * in that second must be filtered out by the caller.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param from          The earliest instant of interest
+     * @return The inclusive lower bound for a BETWEEN key condition
+     */
+    public static String buildGoalProgressSortKeyLowerBound(String characterName, String goalId, Instant from) {
+        String secondKey = buildGoalProgressSortKey(characterName, goalId, from.truncatedTo(ChronoUnit.SECONDS));
+        return secondKey.substring(0, secondKey.length() - 1);
+    }
+
+    /**
+     * Builds a sort key that sorts at or after every progress record of a
+     * goal recorded at or before the given instant. Every timestamp within
+     * the instant's second sorts at or before the bound; records later in
+     * that second must be filtered out by the caller.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param to            The latest instant of interest
+     * @return The inclusive upper bound for a BETWEEN key condition
+     */
+    public static String buildGoalProgressSortKeyUpperBound(String characterName, String goalId, Instant to) {
+        return buildGoalProgressSortKey(characterName, goalId, to.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Builds the sort key for a goal's daily or weekly progress rollup.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#DAY|WEEK#bucket_start
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param interval      DAY or WEEK
+     * @param bucketStart   The start of the bucket the rollup covers
+     * @return The sort key for the rollup
+     * @throws IllegalArgumentException if the interval is not DAY or WEEK
+     */
+    public static String buildGoalRollupSortKey(String characterName, String goalId, ProgressInterval interval,
+            Instant bucketStart) {
+        if (interval == ProgressInterval.DAY) {
+            return SortKeyCodec.encodeGoalDailyRollup(characterName, goalId, bucketStart);
+        }
+        if (interval == ProgressInterval.WEEK) {
+            return SortKeyCodec.encodeGoalWeeklyRollup(characterName, goalId, bucketStart);
+        }
+        throw new IllegalArgumentException("Progress rollups are kept for DAY and WEEK intervals only");
+    }
+
+    /**
+     * Builds the sort key for a goal's progress compaction checkpoint.
+     * Format: CHARACTER#character_name#GOAL#goal_id#COMPACTION
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The sort key for the checkpoint
+     */
+    public static String buildGoalCompactionSortKey(String characterName, String goalId) {
+        return SortKeyCodec.encodeGoalCompaction(characterName, goalId);
     }
 }
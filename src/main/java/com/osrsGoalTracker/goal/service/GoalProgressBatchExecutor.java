@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.goal.service;
+
+import java.util.List;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+
+/**
+ * Strategy for writing a batch of goal progress updates.
+ */
+public interface GoalProgressBatchExecutor {
+    /**
+     * Writes a batch of goal progress updates. Updates for the same goal are
+     * written in the order they appear in the batch, and one failed update does
+     * not prevent the others from being written.
+     *
+     * @param goals
+     *            The goals with updated progress
+     * @return One result per input goal, in the same order as the input
+     * @throws IllegalArgumentException
+     *             if the list itself is null
+     */
+    List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals);
+}
@@ -1,6 +1,22 @@
 package com.osrsGoalTracker.goal.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressAggregation;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressDownsampler;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
 
 /**
  * Service interface for managing goals.
@@ -26,4 +42,254 @@ public interface GoalService {
      *             if the goal is invalid
      */
     void createGoalProgress(Goal goal);
-}
\ No newline at end of file
+
+    /**
+     * Creates goal progress items for a batch of updates. Updates for the same
+     * goal are written in the order they appear in the batch. A failure for one
+     * update does not prevent the others from being written.
+     *
+     * @param goals
+     *            The goals with updated progress
+     * @return One result per input goal, in the same order as the input
+     * @throws IllegalArgumentException
+     *             if the list itself is null
+     */
+    List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals);
+
+    /**
+     * Writes any progress held back by the repository to coalesce writes, so
+     * nothing is left unwritten when the invocation ends.
+     *
+     * @return The goals whose held back progress could not be written, whose
+     *         updates should be reported as failed
+     */
+    default List<Goal> flushProgress() {
+        return List.of();
+    }
+
+    /**
+     * Fetches a single goal with its current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @return The goal, or empty if it does not exist
+     * @throws IllegalArgumentException
+     *             if any key field is null or empty
+     */
+    Optional<Goal> getGoal(String userId, String characterName, String goalId);
+
+    /**
+     * Lists one page of a character's goals with their current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return, from 1 to 100
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the cursor or limit is invalid
+     */
+    Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit);
+
+    /**
+     * Lists one page of every goal of a user with their current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return, from 1 to 100
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if the userId is empty or the cursor or limit is invalid
+     */
+    Page<Goal> listGoalsForUser(String userId, String cursor, int limit);
+
+    /**
+     * Streams every goal of a character, fetching pages of the given size
+     * only as the stream is consumed.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param pageSize
+     *            The number of goals fetched per page, from 1 to 100
+     * @return A lazy stream of the character's goals
+     */
+    default Stream<Goal> streamGoalsForCharacter(String userId, String characterName, int pageSize) {
+        return Page.stream(cursor -> listGoalsForCharacter(userId, characterName, cursor, pageSize));
+    }
+
+    /**
+     * Streams every goal of a user, fetching pages of the given size only as
+     * the stream is consumed.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param pageSize
+     *            The number of goals fetched per page, from 1 to 100
+     * @return A lazy stream of the user's goals
+     */
+    default Stream<Goal> streamGoalsForUser(String userId, int pageSize) {
+        return Page.stream(cursor -> listGoalsForUser(userId, cursor, pageSize));
+    }
+
+    /**
+     * Reads one page of a goal's progress history between two instants, in
+     * time order. A page may hold fewer points than the limit while a next
+     * cursor is still returned.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param from
+     *            The earliest timestamp to include
+     * @param to
+     *            The latest timestamp to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of records to read, from 1 to 1000
+     * @return The page of progress points
+     * @throws IllegalArgumentException
+     *             if a key field is empty, the range is invalid, or the cursor
+     *             or limit is invalid
+     */
+    Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId, Instant from,
+            Instant to, String cursor, int limit);
+
+    /**
+     * Streams a goal's progress history between two instants in time order,
+     * fetching pages only as the stream is consumed.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param from
+     *            The earliest timestamp to include
+     * @param to
+     *            The latest timestamp to include
+     * @param pageSize
+     *            The number of records read per page, from 1 to 1000
+     * @return A lazy stream of progress points
+     */
+    default Stream<GoalProgressPoint> streamGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, int pageSize) {
+        return Page.stream(cursor -> listGoalProgress(userId, characterName, goalId, from, to, cursor, pageSize));
+    }
+
+    /**
+     * Streams a goal's progress history between two instants downsampled to
+     * one point per time bucket, stamped with the bucket start. Pages are
+     * fetched and reduced only as the stream is consumed.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param from
+     *            The earliest timestamp to include
+     * @param to
+     *            The latest timestamp to include
+     * @param pageSize
+     *            The number of records read per page, from 1 to 1000
+     * @param interval
+     *            The size of each bucket
+     * @param aggregation
+     *            How the values in a bucket are reduced
+     * @return A lazy stream with one point per non-empty bucket
+     */
+    default Stream<GoalProgressPoint> streamGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, int pageSize, ProgressInterval interval, ProgressAggregation aggregation) {
+        if (interval == null || aggregation == null) {
+            throw new IllegalArgumentException("interval and aggregation cannot be null");
+        }
+        return ProgressDownsampler.downsample(streamGoalProgress(userId, characterName, goalId, from, to, pageSize),
+                interval, aggregation);
+    }
+
+    /**
+     * Projects when a goal will be completed, the daily rate needed to reach
+     * it by its target date, and whether it is on track.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param estimator
+     *            How the goal's rate of progress is estimated
+     * @return The projection, or empty if the goal does not exist
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the estimator is null
+     */
+    Optional<GoalProjection> projectGoal(String userId, String characterName, String goalId,
+            ProjectionEstimator estimator);
+
+    /**
+     * Reads one page of a goal's daily or weekly progress rollups, the
+     * aggregates that replace raw progress records once they are compacted.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param interval
+     *            DAY or WEEK
+     * @param from
+     *            An instant within the first bucket to include
+     * @param to
+     *            An instant within the last bucket to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of rollups to read, from 1 to 1000
+     * @return The page of rollups
+     * @throws IllegalArgumentException
+     *             if a key field is empty, the interval is not DAY or WEEK,
+     *             the range is invalid, or the cursor or limit is invalid
+     */
+    Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit);
+
+    /**
+     * Rolls a goal's raw progress records that are older than the given age
+     * up into daily and weekly rollups and deletes them. Only complete weeks
+     * are compacted, and an interrupted run is resumed by calling this again.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param minimumAge
+     *            How old a raw record must be before it is compacted
+     * @return What was compacted
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the age is null or negative
+     */
+    ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Duration minimumAge);
+}
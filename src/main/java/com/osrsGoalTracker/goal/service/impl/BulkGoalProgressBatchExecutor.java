@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.util.List;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+/**
+ * Writes a batch of goal progress updates through the service's bulk write
+ * path in a single call.
+ */
+@Singleton
+public class BulkGoalProgressBatchExecutor implements GoalProgressBatchExecutor {
+    private final GoalService goalService;
+
+    /**
+     * Constructor for BulkGoalProgressBatchExecutor.
+     *
+     * @param goalService
+     *            The goal service.
+     */
+    @Inject
+    public BulkGoalProgressBatchExecutor(GoalService goalService) {
+        this.goalService = goalService;
+    }
+
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        return goalService.createGoalProgressBatch(goals);
+    }
+}
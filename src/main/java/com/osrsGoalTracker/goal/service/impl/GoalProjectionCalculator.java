@@ -0,0 +1,196 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
+
+/**
+ * Projects goal completion from a progress series held in primitive arrays.
+ * Each estimator makes a single pass over the arrays without boxing, since
+ * projections are computed for every goal on every notification cycle.
+ */
+final class GoalProjectionCalculator {
+    static final long DAY_MILLIS = 86_400_000L;
+    static final long EWMA_TIME_CONSTANT_MILLIS = 7 * DAY_MILLIS;
+    static final int LEAST_SQUARES_POINTS = 100;
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private GoalProjectionCalculator() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Projects a goal's completion from its progress series.
+     *
+     * @param estimator   How the daily rate is estimated
+     * @param series      The progress points in time order
+     * @param targetValue The value the goal is working towards
+     * @param targetDate  The date by which to reach the target, or null
+     * @param now         The time the projection is made
+     * @return The projection
+     * @throws IllegalArgumentException if the series is empty
+     */
+    static GoalProjection project(ProjectionEstimator estimator, Series series, long targetValue,
+            Instant targetDate, Instant now) {
+        if (series.size() == 0) {
+            throw new IllegalArgumentException("series cannot be empty");
+        }
+        long currentProgress = series.values[series.size() - 1];
+        double dailyRate = dailyRate(estimator, series);
+        long remaining = targetValue - currentProgress;
+
+        GoalProjection.GoalProjectionBuilder projection = GoalProjection.builder()
+                .estimator(estimator)
+                .currentProgress(currentProgress)
+                .targetValue(targetValue)
+                .targetDate(targetDate)
+                .dailyRate(dailyRate);
+        if (remaining <= 0) {
+            return projection
+                    .requiredDailyRate(0d)
+                    .projectedCompletionDate(Instant.ofEpochMilli(series.timestamps[series.size() - 1]))
+                    .onTrack(true)
+                    .build();
+        }
+
+        Instant projected = dailyRate > 0
+                ? now.plusMillis((long) Math.ceil(remaining / dailyRate * DAY_MILLIS))
+                : null;
+        return projection
+                .requiredDailyRate(requiredDailyRate(remaining, targetDate, now))
+                .projectedCompletionDate(projected)
+                .onTrack(projected != null && (targetDate == null || !projected.isAfter(targetDate)))
+                .build();
+    }
+
+    /**
+     * Estimates the progress gained per day.
+     *
+     * @param estimator How the rate is estimated
+     * @param series    The progress points in time order
+     * @return The estimated daily rate, or 0 with fewer than two points
+     */
+    static double dailyRate(ProjectionEstimator estimator, Series series) {
+        if (series.size() < 2) {
+            return 0d;
+        }
+        switch (estimator) {
+            case EWMA:
+                return ewmaDailyRate(series.timestamps, series.values, series.size());
+            case LEAST_SQUARES:
+                return leastSquaresDailyRate(series.timestamps, series.values, series.size());
+            default:
+                return linearDailyRate(series.timestamps, series.values, series.size());
+        }
+    }
+
+    private static double linearDailyRate(long[] timestamps, long[] values, int size) {
+        long elapsed = timestamps[size - 1] - timestamps[0];
+        return elapsed <= 0 ? 0d : (double) (values[size - 1] - values[0]) * DAY_MILLIS / elapsed;
+    }
+
+    /**
+     * Time-weighted EWMA of the rate of each interval: an interval of length
+     * dt moves the average by 1 - e^(-dt / tau) of the way to its own rate.
+     */
+    private static double ewmaDailyRate(long[] timestamps, long[] values, int size) {
+        double average = 0d;
+        boolean initialized = false;
+        for (int i = 1; i < size; i++) {
+            long elapsed = timestamps[i] - timestamps[i - 1];
+            if (elapsed <= 0) {
+                continue;
+            }
+            double rate = (double) (values[i] - values[i - 1]) * DAY_MILLIS / elapsed;
+            if (!initialized) {
+                average = rate;
+                initialized = true;
+            } else {
+                average += (1d - Math.exp(-(double) elapsed / EWMA_TIME_CONSTANT_MILLIS)) * (rate - average);
+            }
+        }
+        return average;
+    }
+
+    /**
+     * Least-squares slope over the last LEAST_SQUARES_POINTS points, with time
+     * and value taken relative to the first of them to keep the sums small.
+     */
+    private static double leastSquaresDailyRate(long[] timestamps, long[] values, int size) {
+        int start = Math.max(0, size - LEAST_SQUARES_POINTS);
+        int count = size - start;
+        long baseTime = timestamps[start];
+        long baseValue = values[start];
+        double sumX = 0d;
+        double sumY = 0d;
+        double sumXX = 0d;
+        double sumXY = 0d;
+        for (int i = start; i < size; i++) {
+            double x = (double) (timestamps[i] - baseTime) / DAY_MILLIS;
+            double y = values[i] - baseValue;
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+        double denominator = count * sumXX - sumX * sumX;
+        return denominator <= 0d ? 0d : (count * sumXY - sumX * sumY) / denominator;
+    }
+
+    private static double requiredDailyRate(long remaining, Instant targetDate, Instant now) {
+        if (targetDate == null) {
+            return 0d;
+        }
+        long millisLeft = targetDate.toEpochMilli() - now.toEpochMilli();
+        return millisLeft <= 0 ? Double.POSITIVE_INFINITY : (double) remaining * DAY_MILLIS / millisLeft;
+    }
+
+    /**
+     * Growable time-ordered progress series backed by primitive arrays.
+     */
+    static final class Series {
+        private long[] timestamps;
+        private long[] values;
+        private int size;
+
+        /**
+         * Constructor for Series.
+         *
+         * @param initialCapacity The number of points to allocate room for
+         */
+        Series(int initialCapacity) {
+            this.timestamps = new long[Math.max(2, initialCapacity)];
+            this.values = new long[timestamps.length];
+        }
+
+        /**
+         * Appends a point; points must be added in time order.
+         *
+         * @param timestampMillis When the progress was recorded, in epoch
+         *                        milliseconds
+         * @param value           The progress value
+         */
+        void add(long timestampMillis, long value) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            timestamps[size] = timestampMillis;
+            values[size] = value;
+            size++;
+        }
+
+        /**
+         * Returns the number of points.
+         *
+         * @return The number of points
+         */
+        int size() {
+            return size;
+        }
+    }
+}
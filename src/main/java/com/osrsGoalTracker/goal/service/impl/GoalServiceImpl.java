@@ -1,11 +1,28 @@
 package com.osrsGoalTracker.goal.service.impl;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
 import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.GoalProjectionCalculator.Series;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -13,8 +30,14 @@ import lombok.extern.slf4j.Slf4j;
  * Implementation of the GoalService interface.
  */
 @Slf4j
+@Singleton
 public class GoalServiceImpl implements GoalService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    private static final Duration PROJECTION_HISTORY_WINDOW = Duration.ofDays(30);
+
     private final GoalRepository goalRepository;
+    private final Clock clock;
 
     /**
      * Constructor for GoalServiceImpl.
@@ -24,7 +47,20 @@ public class GoalServiceImpl implements GoalService {
      */
     @Inject
     public GoalServiceImpl(GoalRepository goalRepository) {
+        this(goalRepository, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for GoalServiceImpl with an explicit clock.
+     *
+     * @param goalRepository
+     *            The goal repository.
+     * @param clock
+     *            The clock projections are made against.
+     */
+    GoalServiceImpl(GoalRepository goalRepository, Clock clock) {
         this.goalRepository = goalRepository;
+        this.clock = clock;
     }
 
     /**
@@ -58,6 +94,288 @@ public class GoalServiceImpl implements GoalService {
         goalRepository.createGoalProgress(goal);
     }
 
+    /**
+     * Creates goal progress items for a batch of updates. Invalid updates are
+     * reported as failed without being written; the remaining updates are
+     * written together through the repository's bulk write path.
+     *
+     * @param goals
+     *            The goals with updated progress
+     * @return One result per input goal, in the same order as the input
+     * @throws IllegalArgumentException
+     *             if the list itself is null
+     */
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        if (goals == null) {
+            throw new IllegalArgumentException("goals cannot be null");
+        }
+        log.info("Creating goal progress for batch of {} updates", goals.size());
+
+        GoalProgressWriteResult[] results = new GoalProgressWriteResult[goals.size()];
+        List<Goal> validGoals = new ArrayList<>(goals.size());
+        List<Integer> validIndexes = new ArrayList<>(goals.size());
+        for (int i = 0; i < goals.size(); i++) {
+            try {
+                validateGoalForProgress(goals.get(i));
+                validGoals.add(goals.get(i));
+                validIndexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = GoalProgressWriteResult.failed(goals.get(i), e.getMessage());
+            }
+        }
+
+        if (!validGoals.isEmpty()) {
+            List<GoalProgressWriteResult> written = goalRepository.createGoalProgressBatch(validGoals);
+            for (int i = 0; i < written.size(); i++) {
+                results[validIndexes.get(i)] = written.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<Goal> flushProgress() {
+        return goalRepository.flushProgress();
+    }
+
+    /**
+     * Fetches a single goal with its current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @return The goal, or empty if it does not exist
+     * @throws IllegalArgumentException
+     *             if any key field is null or empty
+     */
+    @Override
+    public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateField(goalId, "goalId");
+        return goalRepository.getGoal(userId, characterName, goalId);
+    }
+
+    /**
+     * Lists one page of a character's goals with their current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the limit is out of range
+     */
+    @Override
+    public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateLimit(limit);
+        return goalRepository.listGoalsForCharacter(userId, characterName, cursor, limit);
+    }
+
+    /**
+     * Lists one page of every goal of a user with their current progress.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of goals to return
+     * @return The page of goals
+     * @throws IllegalArgumentException
+     *             if the userId is empty or the limit is out of range
+     */
+    @Override
+    public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        validateField(userId, "userId");
+        validateLimit(limit);
+        return goalRepository.listGoalsForUser(userId, cursor, limit);
+    }
+
+    /**
+     * Reads one page of a goal's progress history between two instants.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param from
+     *            The earliest timestamp to include
+     * @param to
+     *            The latest timestamp to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of records to read
+     * @return The page of progress points
+     * @throws IllegalArgumentException
+     *             if a key field is empty, the range is invalid, or the limit
+     *             is out of range
+     */
+    @Override
+    public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateField(goalId, "goalId");
+        validateRange(from, to);
+        if (limit <= 0 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        return goalRepository.listGoalProgress(userId, characterName, goalId, from, to, cursor, limit);
+    }
+
+    /**
+     * Projects a goal's completion. LINEAR_FROM_EARLIEST uses only the
+     * earliest and latest progress records. EWMA and LEAST_SQUARES stream the
+     * progress history of the last 30 days into primitive arrays, and fall
+     * back to the earliest and latest records when that window holds fewer
+     * than two points.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param estimator
+     *            How the goal's rate of progress is estimated
+     * @return The projection, or empty if the goal does not exist
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the estimator is null
+     */
+    @Override
+    public Optional<GoalProjection> projectGoal(String userId, String characterName, String goalId,
+            ProjectionEstimator estimator) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateField(goalId, "goalId");
+        if (estimator == null) {
+            throw new IllegalArgumentException("estimator cannot be null");
+        }
+
+        Optional<GoalProgressSnapshot> snapshot = goalRepository.getGoalProgressSnapshot(userId, characterName,
+                goalId);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        Goal goal = snapshot.get().getGoal();
+        Series series = progressSeries(snapshot.get(), estimator, now);
+        return Optional.of(GoalProjectionCalculator.project(estimator, series, goal.getTargetValue(),
+                goal.getTargetDate(), now));
+    }
+
+    /**
+     * Reads one page of a goal's daily or weekly progress rollups.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param interval
+     *            DAY or WEEK
+     * @param from
+     *            An instant within the first bucket to include
+     * @param to
+     *            An instant within the last bucket to include
+     * @param cursor
+     *            The cursor of the previous page, or null for the first page
+     * @param limit
+     *            The maximum number of rollups to read
+     * @return The page of rollups
+     * @throws IllegalArgumentException
+     *             if a key field is empty, the interval is not DAY or WEEK,
+     *             the range is invalid, or the limit is out of range
+     */
+    @Override
+    public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateField(goalId, "goalId");
+        if (interval != ProgressInterval.DAY && interval != ProgressInterval.WEEK) {
+            throw new IllegalArgumentException("interval must be DAY or WEEK");
+        }
+        validateRange(from, to);
+        if (limit <= 0 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
+        return goalRepository.listGoalProgressRollups(userId, characterName, goalId, interval, from, to, cursor,
+                limit);
+    }
+
+    /**
+     * Compacts a goal's raw progress records that are older than the given
+     * age, measured against this service's clock.
+     *
+     * @param userId
+     *            The ID of the user
+     * @param characterName
+     *            The name of the character
+     * @param goalId
+     *            The ID of the goal
+     * @param minimumAge
+     *            How old a raw record must be before it is compacted
+     * @return What was compacted
+     * @throws IllegalArgumentException
+     *             if a key field is empty or the age is null or negative
+     */
+    @Override
+    public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Duration minimumAge) {
+        validateField(userId, "userId");
+        validateField(characterName, "characterName");
+        validateField(goalId, "goalId");
+        if (minimumAge == null || minimumAge.isNegative()) {
+            throw new IllegalArgumentException("minimumAge cannot be null or negative");
+        }
+        return goalRepository.compactGoalProgress(userId, characterName, goalId,
+                clock.instant().minus(minimumAge));
+    }
+
+    private Series progressSeries(GoalProgressSnapshot snapshot, ProjectionEstimator estimator, Instant now) {
+        Goal goal = snapshot.getGoal();
+        if (estimator != ProjectionEstimator.LINEAR_FROM_EARLIEST) {
+            Series history = new Series(64);
+            streamGoalProgress(goal.getUserId(), goal.getCharacterName(), goal.getGoalId(),
+                    now.minus(PROJECTION_HISTORY_WINDOW), now, MAX_HISTORY_PAGE_SIZE)
+                    .forEach(point -> history.add(point.getTimestamp().toEpochMilli(), point.getProgressValue()));
+            if (history.size() >= 2) {
+                return history;
+            }
+        }
+
+        Series endpoints = new Series(2);
+        addPoint(endpoints, snapshot.getEarliest());
+        addPoint(endpoints, snapshot.getLatest());
+        if (endpoints.size() == 0) {
+            endpoints.add(now.toEpochMilli(), goal.getCurrentProgress());
+        }
+        return endpoints;
+    }
+
+    private void addPoint(Series series, GoalProgressPoint point) {
+        if (point != null && point.getTimestamp() != null) {
+            series.add(point.getTimestamp().toEpochMilli(), point.getProgressValue());
+        }
+    }
+
     private void validateGoalForCreation(Goal goal) {
         validateGoalNotNull(goal);
         validateRequiredFieldsForCreation(goal);
@@ -97,6 +415,21 @@ public class GoalServiceImpl implements GoalService {
         }
     }
 
+    private void validateLimit(int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private void validateRange(Instant from, Instant to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
     private void validateTargetValue(long targetValue) {
         if (targetValue <= 0) {
             throw new IllegalArgumentException("targetValue must be greater than 0");
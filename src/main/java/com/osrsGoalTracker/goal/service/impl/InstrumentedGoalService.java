@@ -0,0 +1,210 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+/**
+ * GoalService decorator that records the latency and outcome of each call.
+ */
+@Singleton
+public class InstrumentedGoalService implements GoalService {
+    /**
+     * Name of the binding holding the GoalService being decorated.
+     */
+    public static final String DELEGATE = "instrumentedGoalServiceDelegate";
+
+    static final String CREATE_GOAL = "GoalService.createGoal";
+    static final String CREATE_GOAL_PROGRESS = "GoalService.createGoalProgress";
+    static final String CREATE_GOAL_PROGRESS_BATCH = "GoalService.createGoalProgressBatch";
+    static final String FLUSH_PROGRESS = "GoalService.flushProgress";
+    static final String GET_GOAL = "GoalService.getGoal";
+    static final String LIST_GOALS_FOR_CHARACTER = "GoalService.listGoalsForCharacter";
+    static final String LIST_GOALS_FOR_USER = "GoalService.listGoalsForUser";
+    static final String LIST_GOAL_PROGRESS = "GoalService.listGoalProgress";
+    static final String PROJECT_GOAL = "GoalService.projectGoal";
+    static final String LIST_GOAL_PROGRESS_ROLLUPS = "GoalService.listGoalProgressRollups";
+    static final String COMPACT_GOAL_PROGRESS = "GoalService.compactGoalProgress";
+
+    private final GoalService delegate;
+    private final GoalMetrics metrics;
+
+    /**
+     * Constructor for InstrumentedGoalService.
+     *
+     * @param delegate
+     *            The goal service being decorated.
+     * @param metrics
+     *            Where the metrics are recorded.
+     */
+    @Inject
+    public InstrumentedGoalService(@Named(DELEGATE) GoalService delegate, GoalMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Goal createGoal(Goal goal) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Goal created = delegate.createGoal(goal);
+            success = true;
+            return created;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL, start, success);
+        }
+    }
+
+    @Override
+    public void createGoalProgress(Goal goal) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            delegate.createGoalProgress(goal);
+            success = true;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            List<GoalProgressWriteResult> results = delegate.createGoalProgressBatch(goals);
+            success = true;
+            return results;
+        } finally {
+            metrics.recordLatency(CREATE_GOAL_PROGRESS_BATCH, start, success);
+        }
+    }
+
+    @Override
+    public List<Goal> flushProgress() {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            List<Goal> failed = delegate.flushProgress();
+            success = true;
+            return failed;
+        } finally {
+            metrics.recordLatency(FLUSH_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Optional<Goal> goal = delegate.getGoal(userId, characterName, goalId);
+            success = true;
+            return goal;
+        } finally {
+            metrics.recordLatency(GET_GOAL, start, success);
+        }
+    }
+
+    @Override
+    public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<Goal> page = delegate.listGoalsForCharacter(userId, characterName, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOALS_FOR_CHARACTER, start, success);
+        }
+    }
+
+    @Override
+    public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<Goal> page = delegate.listGoalsForUser(userId, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOALS_FOR_USER, start, success);
+        }
+    }
+
+    @Override
+    public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<GoalProgressPoint> page = delegate.listGoalProgress(userId, characterName, goalId, from, to,
+                    cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOAL_PROGRESS, start, success);
+        }
+    }
+
+    @Override
+    public Optional<GoalProjection> projectGoal(String userId, String characterName, String goalId,
+            ProjectionEstimator estimator) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Optional<GoalProjection> projection = delegate.projectGoal(userId, characterName, goalId, estimator);
+            success = true;
+            return projection;
+        } finally {
+            metrics.recordLatency(PROJECT_GOAL, start, success);
+        }
+    }
+
+    @Override
+    public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName, String goalId,
+            ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            Page<GoalProgressRollup> page = delegate.listGoalProgressRollups(userId, characterName, goalId,
+                    interval, from, to, cursor, limit);
+            success = true;
+            return page;
+        } finally {
+            metrics.recordLatency(LIST_GOAL_PROGRESS_ROLLUPS, start, success);
+        }
+    }
+
+    @Override
+    public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+            Duration minimumAge) {
+        long start = metrics.startTimer();
+        boolean success = false;
+        try {
+            ProgressCompactionResult result = delegate.compactGoalProgress(userId, characterName, goalId,
+                    minimumAge);
+            success = true;
+            return result;
+        } finally {
+            metrics.recordLatency(COMPACT_GOAL_PROGRESS, start, success);
+        }
+    }
+}
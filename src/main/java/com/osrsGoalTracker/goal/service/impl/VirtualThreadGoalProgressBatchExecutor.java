@@ -0,0 +1,147 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.osrsGoalTracker.goal.model.BackpressureException;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.service.GoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a batch of goal progress updates by fanning out one
+ * GoalService.createGoalProgress call per update onto virtual threads.
+ * Updates for different goals run concurrently, updates for the same goal run
+ * in order on a single virtual thread, and a semaphore shared by all batches
+ * caps how many writes are in progress at once. Once a write is refused by
+ * the DynamoDB rate limiter, the updates of the batch not yet started fail
+ * with the same reason without being attempted. Progress the repository held
+ * back to coalesce writes is flushed once every update has been written;
+ * updates of goals whose held back progress the flush could not write are
+ * reported as failed, and all written updates are if the flush throws.
+ */
+@Slf4j
+@Singleton
+public class VirtualThreadGoalProgressBatchExecutor implements GoalProgressBatchExecutor {
+    /**
+     * Name of the binding holding the maximum number of concurrent writes.
+     */
+    public static final String MAX_CONCURRENCY = "goalProgressMaxConcurrency";
+
+    private final GoalService goalService;
+    private final Semaphore permits;
+
+    /**
+     * Constructor for VirtualThreadGoalProgressBatchExecutor.
+     *
+     * @param goalService
+     *            The goal service used to write each update.
+     * @param maxConcurrency
+     *            The maximum number of writes in progress at once.
+     * @throws IllegalArgumentException
+     *             if maxConcurrency is not positive
+     */
+    @Inject
+    public VirtualThreadGoalProgressBatchExecutor(GoalService goalService, @Named(MAX_CONCURRENCY) int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        this.goalService = goalService;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+        if (goals == null) {
+            throw new IllegalArgumentException("goals cannot be null");
+        }
+        log.info("Fanning out goal progress for batch of {} updates", goals.size());
+
+        GoalProgressWriteResult[] results = new GoalProgressWriteResult[goals.size()];
+        AtomicReference<String> backpressure = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Integer> group : groupIndexesByGoal(goals).values()) {
+                executor.execute(() -> writeGroup(goals, group, results, backpressure));
+            }
+        }
+        Set<String> unflushedGoals;
+        String flushError = "Latest progress not written";
+        try {
+            unflushedGoals = goalService.flushProgress().stream()
+                    .map(VirtualThreadGoalProgressBatchExecutor::goalKey)
+                    .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush held back goal progress: {}", e.getMessage());
+            unflushedGoals = null;
+            flushError = e.getMessage();
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].isSuccess()
+                    && (unflushedGoals == null || unflushedGoals.contains(goalKey(results[i].getGoal())))) {
+                results[i] = GoalProgressWriteResult.failed(results[i].getGoal(), flushError);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static String goalKey(Goal goal) {
+        return goal.getUserId() + "#" + goal.getCharacterName() + "#" + goal.getGoalId();
+    }
+
+    private Map<String, List<Integer>> groupIndexesByGoal(List<Goal> goals) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < goals.size(); i++) {
+            Goal goal = goals.get(i);
+            String key = goal == null ? "#" + i : goalKey(goal);
+            groups.computeIfAbsent(key, ignored -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    private void writeGroup(List<Goal> goals, List<Integer> group, GoalProgressWriteResult[] results,
+            AtomicReference<String> backpressure) {
+        for (int index : group) {
+            results[index] = write(goals.get(index), backpressure);
+        }
+    }
+
+    private GoalProgressWriteResult write(Goal goal, AtomicReference<String> backpressure) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return GoalProgressWriteResult.failed(goal, "Interrupted before write");
+        }
+        try {
+            String refused = backpressure.get();
+            if (refused != null) {
+                return GoalProgressWriteResult.failed(goal, refused);
+            }
+            goalService.createGoalProgress(goal);
+            return GoalProgressWriteResult.succeeded(goal);
+        } catch (RuntimeException e) {
+            log.error("Failed to create goal progress: {}", e.getMessage());
+            if (BackpressureException.isCause(e)) {
+                backpressure.compareAndSet(null, e.getMessage());
+            }
+            return GoalProgressWriteResult.failed(goal, e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+}
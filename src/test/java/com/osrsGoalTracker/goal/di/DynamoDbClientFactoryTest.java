@@ -0,0 +1,98 @@
+package com.osrsGoalTracker.goal.di;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.osrsGoalTracker.goal.repository.impl.AdaptiveRateLimiter;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Test class for DynamoDbClientFactory and the settings GoalModule reads from
+ * the environment.
+ */
+class DynamoDbClientFactoryTest {
+
+    @Test
+    void provideDynamoDbClientSettings_EmptyEnvironment_UsesDefaults() {
+        // Act
+        DynamoDbClientSettings settings = new GoalModule(name -> null).provideDynamoDbClientSettings();
+
+        // Assert
+        assertEquals(GoalModule.DEFAULT_REGION, settings.getRegion());
+        assertNull(settings.getEndpointOverride());
+        assertEquals(GoalModule.DEFAULT_MAX_CONNECTIONS, settings.getMaxConnections());
+        assertEquals(Duration.ofMillis(GoalModule.DEFAULT_API_CALL_TIMEOUT_MS), settings.getApiCallTimeout());
+        assertEquals(GoalModule.DEFAULT_MAX_RETRIES, settings.getMaxRetries());
+    }
+
+    @Test
+    void provideDynamoDbClientSettings_Overrides_ReadsEnvironment() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.REGION_ENV, "eu-west-1");
+        environment.put(GoalModule.ENDPOINT_ENV, "http://localhost:8000");
+        environment.put(GoalModule.MAX_CONNECTIONS_ENV, "8");
+        environment.put(GoalModule.CONNECTION_TTL_ENV, "30000");
+        environment.put(GoalModule.THROTTLING_BASE_DELAY_ENV, " 250 ");
+
+        // Act
+        DynamoDbClientSettings settings = new GoalModule(environment::get).provideDynamoDbClientSettings();
+
+        // Assert
+        assertEquals("eu-west-1", settings.getRegion());
+        assertEquals(URI.create("http://localhost:8000"), settings.getEndpointOverride());
+        assertEquals(8, settings.getMaxConnections());
+        assertEquals(Duration.ofSeconds(30), settings.getConnectionTimeToLive());
+        assertEquals(Duration.ofMillis(250), settings.getThrottlingBaseDelay());
+    }
+
+    @Test
+    void provideAdaptiveRateLimiter_AdaptiveMode_ReadsEnvironment() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.RATE_LIMIT_MODE_ENV, "Adaptive");
+        environment.put(GoalModule.RATE_LIMIT_INITIAL_ENV, "40");
+
+        // Act
+        AdaptiveRateLimiter limiter = new GoalModule(environment::get).provideAdaptiveRateLimiter();
+
+        // Assert
+        assertTrue(limiter.isEnabled());
+        assertEquals(40.0, limiter.currentRate());
+        assertFalse(new GoalModule(name -> null).provideAdaptiveRateLimiter().isEnabled());
+    }
+
+    @Test
+    void createClients_EndpointOverride_AppliesRegionAndEndpoint() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.REGION_ENV, "eu-west-1");
+        environment.put(GoalModule.ENDPOINT_ENV, "http://localhost:8000");
+        DynamoDbClientFactory factory = new DynamoDbClientFactory(
+                new GoalModule(environment::get).provideDynamoDbClientSettings());
+
+        // Act
+        try (DynamoDbClient client = factory.createClient();
+                DynamoDbAsyncClient asyncClient = factory.createAsyncClient()) {
+            // Assert
+            assertEquals(Region.EU_WEST_1, client.serviceClientConfiguration().region());
+            assertEquals(Optional.of(URI.create("http://localhost:8000")),
+                    client.serviceClientConfiguration().endpointOverride());
+            assertEquals(Region.EU_WEST_1, asyncClient.serviceClientConfiguration().region());
+            assertTrue(asyncClient.serviceClientConfiguration().endpointOverride().isPresent());
+        }
+    }
+}
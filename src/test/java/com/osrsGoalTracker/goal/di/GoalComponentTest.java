@@ -0,0 +1,110 @@
+package com.osrsGoalTracker.goal.di;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import com.osrsGoalTracker.goal.repository.GoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.GoalRepositoryImpl;
+import com.osrsGoalTracker.goal.repository.impl.InstrumentedGoalRepository;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.service.GoalService;
+import com.osrsGoalTracker.goal.service.impl.BulkGoalProgressBatchExecutor;
+import com.osrsGoalTracker.goal.service.impl.GoalServiceImpl;
+import com.osrsGoalTracker.goal.service.impl.InstrumentedGoalService;
+import com.osrsGoalTracker.goal.service.impl.VirtualThreadGoalProgressBatchExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Test class for GoalComponent, covering both the Guice and the hand-wired
+ * graph.
+ */
+class GoalComponentTest {
+
+    @Test
+    void create_ManualWiring_BuildsSameImplementationsAsGuice() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.REPOSITORY_MODE_ENV, "memory");
+        environment.put(GoalModule.METRICS_ENABLED_ENV, "true");
+        environment.put(GoalModule.BATCH_MODE_ENV, "virtual-threads");
+        environment.put(GoalModule.COMPACTION_AGE_ENV, "45");
+        GoalComponent guice = GoalComponent.create(new GoalModule(environment::get));
+        environment.put(GoalModule.WIRING_MODE_ENV, "Manual");
+
+        // Act
+        GoalComponent wired = GoalComponent.create(new GoalModule(environment::get));
+
+        // Assert
+        assertInstanceOf(GuiceGoalComponent.class, guice);
+        assertInstanceOf(WiredGoalComponent.class, wired);
+        assertInstanceOf(InstrumentedGoalService.class, wired.goalService());
+        assertEquals(guice.goalService().getClass(), wired.goalService().getClass());
+        assertSame(guice.goalService(), guice.goalService());
+        assertSame(guice.goalProgressBatchExecutor(), guice.goalProgressBatchExecutor());
+        assertInstanceOf(VirtualThreadGoalProgressBatchExecutor.class, wired.goalProgressBatchExecutor());
+        assertEquals(guice.goalProgressBatchExecutor().getClass(), wired.goalProgressBatchExecutor().getClass());
+        assertEquals(Duration.ofDays(45), wired.progressCompactionAge());
+        assertEquals(guice.progressCompactionAge(), wired.progressCompactionAge());
+        assertEquals(guice.isAsyncRepository(), wired.isAsyncRepository());
+    }
+
+    @Test
+    void create_ManualWiringDefaults_BuildsEachObjectOnce() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.WIRING_MODE_ENV, "manual");
+        environment.put(GoalModule.TABLE_NAME_ENV, "goals");
+
+        // Act
+        GoalComponent wired = GoalComponent.create(new GoalModule(environment::get));
+
+        // Assert
+        assertInstanceOf(GoalServiceImpl.class, wired.goalService());
+        assertSame(wired.goalService(), wired.goalService());
+        assertInstanceOf(BulkGoalProgressBatchExecutor.class, wired.goalProgressBatchExecutor());
+        assertFalse(wired.isAsyncRepository());
+        assertSame(wired.dynamoDbClient(), wired.dynamoDbClient());
+        assertSame(wired.progressTable(), wired.progressTable());
+        assertEquals("goals", wired.metadataTable().tableName());
+        assertEquals("goals", wired.asyncProgressTable().tableName());
+        assertSame(wired.dynamoDbAsyncClient(), wired.dynamoDbAsyncClient());
+        assertSame(DynamoGoalProgressItem.class, wired.asyncProgressTable().tableSchema().itemType().rawClass());
+        wired.dynamoDbClient().close();
+        wired.dynamoDbAsyncClient().close();
+    }
+
+    @Test
+    void createInjector_DynamoDbRepositoryWithMetrics_SharesOneRepository() {
+        // Arrange
+        Map<String, String> environment = new HashMap<>();
+        environment.put(GoalModule.METRICS_ENABLED_ENV, "true");
+        environment.put(GoalModule.TABLE_NAME_ENV, "goals");
+        Injector injector = Guice.createInjector(new GoalModule(environment::get));
+        Key<GoalRepository> delegate = Key.get(GoalRepository.class,
+                Names.named(InstrumentedGoalRepository.DELEGATE));
+
+        // Act
+        GoalRepository repository = injector.getInstance(GoalRepository.class);
+
+        // Assert
+        assertInstanceOf(InstrumentedGoalRepository.class, repository);
+        assertSame(repository, injector.getInstance(GoalRepository.class));
+        assertInstanceOf(GoalRepositoryImpl.class, injector.getInstance(delegate));
+        assertSame(injector.getInstance(delegate), injector.getInstance(delegate));
+        assertSame(injector.getInstance(GoalService.class), injector.getInstance(GoalService.class));
+        injector.getInstance(DynamoDbClient.class).close();
+    }
+}
@@ -0,0 +1,100 @@
+package com.osrsGoalTracker.goal.di;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Test class for GoalPrimer.
+ */
+class GoalPrimerTest {
+    private GoalComponent component;
+    private DynamoDbClient dynamoDbClient;
+    private TableSchema<DynamoGoalMetadataItem> metadataSchema;
+    private TableSchema<DynamoGoalProgressItem> progressSchema;
+    private AtomicInteger handlerPrimings;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        component = mock(GoalComponent.class);
+        dynamoDbClient = mock(DynamoDbClient.class);
+        metadataSchema = mock(TableSchema.class);
+        progressSchema = mock(TableSchema.class);
+        DynamoDbTable<DynamoGoalMetadataItem> metadataTable = mock(DynamoDbTable.class);
+        DynamoDbTable<DynamoGoalProgressItem> progressTable = mock(DynamoDbTable.class);
+
+        when(component.isAsyncRepository()).thenReturn(false);
+        when(component.dynamoDbClient()).thenReturn(dynamoDbClient);
+        when(component.metadataTable()).thenReturn(metadataTable);
+        when(component.progressTable()).thenReturn(progressTable);
+        when(metadataTable.tableSchema()).thenReturn(metadataSchema);
+        when(progressTable.tableSchema()).thenReturn(progressSchema);
+        when(progressTable.tableName()).thenReturn("goals");
+        when(metadataSchema.itemToMap(any(DynamoGoalMetadataItem.class), anyBoolean())).thenReturn(new HashMap<>());
+        when(progressSchema.itemToMap(any(DynamoGoalProgressItem.class), anyBoolean())).thenReturn(new HashMap<>());
+        handlerPrimings = new AtomicInteger();
+    }
+
+    @Test
+    void prime_SyncRepository_WarmsSchemasHandlerAndConnection() {
+        // Arrange
+        GoalPrimer primer = new GoalPrimer(component, handlerPrimings::incrementAndGet);
+
+        // Act
+        primer.prime();
+
+        // Assert
+        assertEquals(1, handlerPrimings.get());
+        verify(metadataSchema).mapToItem(any());
+        verify(progressSchema).mapToItem(any());
+        verify(dynamoDbClient).describeTable(DescribeTableRequest.builder().tableName("goals").build());
+        verify(component, never()).dynamoDbAsyncClient();
+    }
+
+    @Test
+    void prime_FailingHandlerAndConnection_DoesNotThrow() {
+        // Arrange
+        GoalPrimer primer = new GoalPrimer(component, () -> {
+            throw new IllegalStateException("priming failed");
+        });
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().message("missing").build());
+
+        // Act & Assert
+        assertDoesNotThrow(primer::prime);
+    }
+
+    @Test
+    void afterRestore_Reconnects() {
+        // Arrange
+        GoalPrimer primer = new GoalPrimer(component, handlerPrimings::incrementAndGet);
+
+        // Act
+        primer.afterRestore(null);
+
+        // Assert
+        assertEquals(0, handlerPrimings.get());
+        verify(dynamoDbClient).describeTable(any(DescribeTableRequest.class));
+    }
+}
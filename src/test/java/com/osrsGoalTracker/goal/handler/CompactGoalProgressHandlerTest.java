@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Test class for CompactGoalProgressHandler.
+ */
+class CompactGoalProgressHandlerTest {
+    private static final Duration AGE = Duration.ofDays(30);
+    private static final ProgressCompactionResult ONE_GOAL = ProgressCompactionResult.builder()
+            .goalsProcessed(1)
+            .weeksCompacted(2)
+            .recordsDeleted(10L)
+            .build();
+
+    @Mock
+    private GoalService goalService;
+
+    @Mock
+    private Context context;
+
+    private CompactGoalProgressHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        handler = new CompactGoalProgressHandler(goalService, AGE);
+        when(context.getRemainingTimeInMillis()).thenReturn(600_000);
+    }
+
+    @Test
+    void handleRequest_SingleGoal_CompactsThatGoal() {
+        // Arrange
+        when(goalService.compactGoalProgress("user1", "Zezima", "goal1", AGE)).thenReturn(ONE_GOAL);
+
+        // Act
+        ProgressCompactionResult result = handler.handleRequest(event(Map.of("userId", "user1",
+                "characterName", "Zezima", "goalId", "goal1")), context);
+
+        // Assert
+        assertEquals(ONE_GOAL, result);
+    }
+
+    @Test
+    void handleRequest_UserOnly_CompactsEveryGoalOfUser() {
+        // Arrange
+        when(goalService.streamGoalsForUser("user1", 100)).thenReturn(Stream.of(goal("Zezima", "goal1"),
+                goal("Lynx Titan", "goal2")));
+        when(goalService.compactGoalProgress("user1", "Zezima", "goal1", AGE)).thenReturn(ONE_GOAL);
+        when(goalService.compactGoalProgress("user1", "Lynx Titan", "goal2", AGE)).thenReturn(ONE_GOAL);
+
+        // Act
+        ProgressCompactionResult result = handler.handleRequest(event(Map.of("userId", "user1")), context);
+
+        // Assert
+        assertEquals(2, result.getGoalsProcessed());
+        assertEquals(4, result.getWeeksCompacted());
+        assertEquals(20L, result.getRecordsDeleted());
+    }
+
+    @Test
+    void handleRequest_TimeRunningOut_StopsBeforeNextGoal() {
+        // Arrange
+        when(goalService.streamGoalsForCharacter("user1", "Zezima", 100)).thenReturn(Stream.of(
+                goal("Zezima", "goal1"), goal("Zezima", "goal2")));
+        when(goalService.compactGoalProgress("user1", "Zezima", "goal1", AGE)).thenReturn(ONE_GOAL);
+        when(context.getRemainingTimeInMillis()).thenReturn(600_000, 1_000);
+
+        // Act
+        ProgressCompactionResult result = handler.handleRequest(event(Map.of("userId", "user1",
+                "characterName", "Zezima")), context);
+
+        // Assert
+        assertEquals(1, result.getGoalsProcessed());
+        verify(goalService, never()).compactGoalProgress("user1", "Zezima", "goal2", AGE);
+    }
+
+    @Test
+    void handleRequest_InvalidDetail_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> handler.handleRequest(null, context));
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handleRequest(event(Map.of("characterName", "Zezima")), context));
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handleRequest(event(Map.of("userId", "user1", "goalId", "goal1")), context));
+        verify(goalService, never()).streamGoalsForUser(anyString(), anyInt());
+    }
+
+    private ScheduledEvent event(Map<String, Object> detail) {
+        ScheduledEvent event = new ScheduledEvent();
+        event.setDetail(detail);
+        return event;
+    }
+
+    private Goal goal(String characterName, String goalId) {
+        return Goal.builder().userId("user1").characterName(characterName).goalId(goalId).build();
+    }
+}
@@ -6,8 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -16,6 +19,7 @@ import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.osrsGoalTracker.goal.model.Goal;
 import com.osrsGoalTracker.goal.service.GoalService;
 
+import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -67,6 +71,48 @@ class CreateGoalProgressItemHandlerTest {
         assertEquals(goalId, result.getGoalId());
         assertEquals(progressValue, result.getCurrentProgress());
         verify(goalService).createGoalProgress(any(Goal.class));
+        verify(goalService).flushProgress();
+    }
+
+    @Test
+    void handleRequest_EventWithTimeAndId_CarriesThemToGoal() {
+        // Arrange
+        ScheduledEvent event = new ScheduledEvent();
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "user1");
+        detail.put("characterName", "testCharacter");
+        detail.put("goalId", "goal1");
+        detail.put("progressValue", 1000L);
+        event.setDetail(detail);
+        event.setId("event-1");
+        event.setTime(new DateTime(1742356800000L));
+
+        // Act
+        Goal result = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals("event-1", result.getProgressEventId());
+        assertEquals(Instant.parse("2025-03-19T04:00:00Z"), result.getProgressTimestamp());
+    }
+
+    @Test
+    void handleRequest_LatestProgressNotFlushed_ThrowsSoEventIsRetried() {
+        // Arrange
+        ScheduledEvent event = new ScheduledEvent();
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("userId", "user1");
+        detail.put("characterName", "testCharacter");
+        detail.put("goalId", "goal1");
+        detail.put("progressValue", 1000L);
+        event.setDetail(detail);
+        when(goalService.flushProgress()).thenReturn(List.of(Goal.builder()
+                .userId("user1")
+                .characterName("testCharacter")
+                .goalId("goal1")
+                .build()));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> handler.handleRequest(event, context));
     }
 
     @Test
@@ -0,0 +1,200 @@
+package com.osrsGoalTracker.goal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.amazonaws.services.lambda.runtime.events.SQSEvent.SQSMessage;
+import com.osrsGoalTracker.goal.model.BackpressureException;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Test class for CreateGoalProgressItemsBatchHandler.
+ */
+class CreateGoalProgressItemsBatchHandlerTest {
+    @Mock
+    private GoalService goalService;
+
+    @Mock
+    private Context context;
+
+    @Captor
+    private ArgumentCaptor<List<Goal>> goalsCaptor;
+
+    private CreateGoalProgressItemsBatchHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        handler = new CreateGoalProgressItemsBatchHandler(goalService);
+        when(goalService.createGoalProgressBatch(anyList())).thenAnswer(invocation -> {
+            List<Goal> goals = invocation.getArgument(0);
+            return goals.stream().map(GoalProgressWriteResult::succeeded).collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    void handleRequest_ValidMessages_WritesAllAndReportsNoFailures() {
+        // Arrange
+        SQSEvent event = createEvent(
+                message("m1", detailJson("user1", "char1", "goal1", 100L)),
+                message("m2", "{\"detail\":" + detailJson("user1", "char1", "goal2", 200L) + "}"));
+
+        // Act
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertTrue(response.getBatchItemFailures().isEmpty());
+        verify(goalService).createGoalProgressBatch(goalsCaptor.capture());
+        List<Goal> goals = goalsCaptor.getValue();
+        assertEquals(2, goals.size());
+        assertEquals("goal1", goals.get(0).getGoalId());
+        assertEquals(100L, goals.get(0).getCurrentProgress());
+        assertEquals("goal2", goals.get(1).getGoalId());
+        assertEquals(200L, goals.get(1).getCurrentProgress());
+    }
+
+    @Test
+    void handleRequest_ValidMessages_CarryEventTimeAndId() {
+        // Arrange
+        SQSMessage raw = message("m1", detailJson("user1", "char1", "goal1", 100L));
+        raw.setAttributes(Map.of("SentTimestamp", "1742356800000"));
+        SQSEvent event = createEvent(raw,
+                message("m2", "{\"id\":\"event-2\",\"time\":\"2025-03-19T04:05:00Z\",\"detail\":"
+                        + detailJson("user1", "char1", "goal2", 200L) + "}"));
+
+        // Act
+        handler.handleRequest(event, context);
+
+        // Assert
+        verify(goalService).createGoalProgressBatch(goalsCaptor.capture());
+        List<Goal> goals = goalsCaptor.getValue();
+        assertEquals("m1", goals.get(0).getProgressEventId());
+        assertEquals(Instant.parse("2025-03-19T04:00:00Z"), goals.get(0).getProgressTimestamp());
+        assertEquals("event-2", goals.get(1).getProgressEventId());
+        assertEquals(Instant.parse("2025-03-19T04:05:00Z"), goals.get(1).getProgressTimestamp());
+    }
+
+    @Test
+    void handleRequest_UnparseableMessage_ReportsOnlyThatMessage() {
+        // Arrange
+        SQSEvent event = createEvent(
+                message("m1", "not json"),
+                message("m2", "{\"userId\":\"user1\"}"),
+                message("m3", detailJson("user1", "char1", "goal1", 100L)),
+                message("m4", "{\"time\":\"yesterday\",\"detail\":"
+                        + detailJson("user1", "char1", "goal1", 100L) + "}"));
+
+        // Act
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(Arrays.asList("m1", "m2", "m4"), failedIds(response));
+        verify(goalService).createGoalProgressBatch(goalsCaptor.capture());
+        assertEquals(1, goalsCaptor.getValue().size());
+    }
+
+    @Test
+    void handleRequest_ServiceReportsFailure_ReportsMatchingMessage() {
+        // Arrange
+        SQSEvent event = createEvent(
+                message("m1", detailJson("user1", "char1", "goal1", 100L)),
+                message("m2", detailJson("user1", "char1", "goal2", 200L)));
+        when(goalService.createGoalProgressBatch(anyList())).thenAnswer(invocation -> {
+            List<Goal> goals = invocation.getArgument(0);
+            return Arrays.asList(
+                    GoalProgressWriteResult.succeeded(goals.get(0)),
+                    GoalProgressWriteResult.failed(goals.get(1), "DynamoDB error"));
+        });
+
+        // Act
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(Arrays.asList("m2"), failedIds(response));
+    }
+
+    @Test
+    void handleRequest_BatchRefusedByRateLimit_ReportsEveryParsedMessage() {
+        // Arrange
+        SQSEvent event = createEvent(
+                message("m1", "not json"),
+                message("m2", detailJson("user1", "char1", "goal1", 100L)),
+                message("m3", detailJson("user1", "char1", "goal2", 200L)));
+        when(goalService.createGoalProgressBatch(anyList()))
+                .thenThrow(new BackpressureException("BatchWriteItem", 5.0));
+
+        // Act
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(Arrays.asList("m1", "m2", "m3"), failedIds(response));
+    }
+
+    @Test
+    void handleRequest_BatchWriteThrows_ReportsEveryParsedMessage() {
+        // Arrange
+        SQSEvent event = createEvent(
+                message("m1", detailJson("user1", "char1", "goal1", 100L)),
+                message("m2", detailJson("user1", "char1", "goal2", 200L)));
+        when(goalService.createGoalProgressBatch(anyList())).thenThrow(new IllegalStateException("flush failed"));
+
+        // Act
+        SQSBatchResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(Arrays.asList("m1", "m2"), failedIds(response));
+    }
+
+    @Test
+    void handleRequest_NullEvent_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handleRequest(null, context));
+    }
+
+    private SQSEvent createEvent(SQSMessage... messages) {
+        SQSEvent event = new SQSEvent();
+        event.setRecords(Arrays.asList(messages));
+        return event;
+    }
+
+    private SQSMessage message(String messageId, String body) {
+        SQSMessage message = new SQSMessage();
+        message.setMessageId(messageId);
+        message.setBody(body);
+        return message;
+    }
+
+    private String detailJson(String userId, String characterName, String goalId, long progressValue) {
+        return String.format("{\"userId\":\"%s\",\"characterName\":\"%s\",\"goalId\":\"%s\",\"progressValue\":%d}",
+                userId, characterName, goalId, progressValue);
+    }
+
+    private List<String> failedIds(SQSBatchResponse response) {
+        return response.getBatchItemFailures().stream()
+                .map(SQSBatchResponse.BatchItemFailure::getItemIdentifier)
+                .collect(Collectors.toList());
+    }
+}
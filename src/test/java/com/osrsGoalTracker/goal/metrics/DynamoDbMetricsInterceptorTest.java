@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.goal.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Test class for DynamoDbMetricsInterceptor.
+ */
+class DynamoDbMetricsInterceptorTest {
+    private static final String OPERATION = "TransactWriteItems";
+
+    private GoalMetrics metrics;
+    private DynamoDbMetricsInterceptor interceptor;
+    private ExecutionAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        metrics = mock(GoalMetrics.class);
+        interceptor = new DynamoDbMetricsInterceptor(metrics);
+        attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, OPERATION);
+    }
+
+    @Test
+    void modifyRequest_WriteRequest_RequestsTotalCapacity() {
+        // Arrange
+        Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+        when(context.request()).thenReturn(TransactWriteItemsRequest.builder().build());
+
+        // Act
+        TransactWriteItemsRequest modified = (TransactWriteItemsRequest) interceptor.modifyRequest(context,
+                attributes);
+
+        // Assert
+        assertEquals(ReturnConsumedCapacity.TOTAL, modified.returnConsumedCapacity());
+    }
+
+    @Test
+    void modifyRequest_OtherRequest_LeavesUnchanged() {
+        // Arrange
+        GetItemRequest request = GetItemRequest.builder().build();
+        Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+        when(context.request()).thenReturn(request);
+
+        // Act & Assert
+        assertSame(request, interceptor.modifyRequest(context, attributes));
+    }
+
+    @Test
+    void afterExecution_TwoAttempts_RecordsRetryAndCapacity() {
+        // Arrange
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.response()).thenReturn(TransactWriteItemsResponse.builder()
+                .consumedCapacity(ConsumedCapacity.builder().capacityUnits(4.0).build(),
+                        ConsumedCapacity.builder().capacityUnits(2.0).build())
+                .build());
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+
+        // Act
+        interceptor.afterExecution(context, attributes);
+
+        // Assert
+        verify(metrics).recordRetries(OPERATION, 1);
+        verify(metrics).recordConsumedCapacity(OPERATION, 6.0);
+    }
+
+    @Test
+    void onExecutionFailure_TransactionCanceled_RecordsReasons() {
+        // Arrange
+        Context.FailedExecution context = mock(Context.FailedExecution.class);
+        when(context.exception()).thenReturn(TransactionCanceledException.builder()
+                .cancellationReasons(CancellationReason.builder().code("None").build(),
+                        CancellationReason.builder().code("ConditionalCheckFailed").build())
+                .build());
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeTransmission(null, attributes);
+
+        // Act
+        interceptor.onExecutionFailure(context, attributes);
+
+        // Assert
+        verify(metrics).recordRetries(OPERATION, 0);
+        verify(metrics).recordTransactionCancellation(OPERATION, "ConditionalCheckFailed");
+        verify(metrics, never()).recordTransactionCancellation(OPERATION, "None");
+    }
+}
@@ -0,0 +1,137 @@
+package com.osrsGoalTracker.goal.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for EmfGoalMetrics.
+ */
+class EmfGoalMetricsTest {
+    private static final long NOW_MILLIS = 1_742_358_306_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<String> lines;
+    private FakeClock clock;
+    private EmfGoalMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        lines = new ArrayList<>();
+        clock = new FakeClock();
+        metrics = new EmfGoalMetrics(lines::add, clock, "GoalService");
+    }
+
+    @Test
+    void recordLatency_FirstAndSecondCall_EmitsEmfWithColdStartOnce() throws Exception {
+        // Arrange
+        long start = metrics.startTimer();
+        clock.nanos += 2_500_000L;
+
+        // Act
+        metrics.recordLatency("GoalService.createGoal", start, true);
+        metrics.recordLatency("GoalService.createGoal", metrics.startTimer(), false);
+
+        // Assert
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        JsonNode directive = first.get("_aws").get("CloudWatchMetrics").get(0);
+        assertEquals(NOW_MILLIS, first.get("_aws").get("Timestamp").asLong());
+        assertEquals("GoalService", directive.get("Namespace").asText());
+        assertEquals("Operation", directive.get("Dimensions").get(0).get(0).asText());
+        assertEquals("Latency", directive.get("Metrics").get(0).get("Name").asText());
+        assertEquals("Milliseconds", directive.get("Metrics").get(0).get("Unit").asText());
+        assertEquals("GoalService.createGoal", first.get("Operation").asText());
+        assertEquals(2.5, first.get("Latency").asDouble());
+        assertEquals(0, first.get("Errors").asInt());
+        assertEquals(1, first.get("ColdStart").asInt());
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(1, second.get("Errors").asInt());
+        assertEquals(0, second.get("ColdStart").asInt());
+    }
+
+    @Test
+    void recordTransactionCancellation_AddsReasonDimension() throws Exception {
+        // Act
+        metrics.recordTransactionCancellation("TransactWriteItems", "ConditionalCheckFailed");
+
+        // Assert
+        JsonNode line = objectMapper.readTree(lines.get(0));
+        JsonNode dimensions = line.get("_aws").get("CloudWatchMetrics").get(0).get("Dimensions").get(0);
+        assertEquals(2, dimensions.size());
+        assertEquals("Reason", dimensions.get(1).asText());
+        assertEquals("ConditionalCheckFailed", line.get("Reason").asText());
+        assertEquals(1, line.get("TransactionCancellations").asInt());
+    }
+
+    @Test
+    void recordConsumedCapacityAndRetries_EmitValues() throws Exception {
+        // Act
+        metrics.recordConsumedCapacity("BatchWriteItem", 12.5);
+        metrics.recordRetries("BatchWriteItem", 2);
+
+        // Assert
+        assertEquals(12.5, objectMapper.readTree(lines.get(0)).get("ConsumedCapacity").asDouble());
+        assertEquals(2, objectMapper.readTree(lines.get(1)).get("Retries").asInt());
+    }
+
+    @Test
+    void recordThrottleAndBackpressure_EmitCountWithRateLimit() throws Exception {
+        // Act
+        metrics.recordThrottle("TransactWriteItems", 50.0);
+        metrics.recordBackpressure("PutItem", 12.5);
+
+        // Assert
+        JsonNode throttle = objectMapper.readTree(lines.get(0));
+        JsonNode definitions = throttle.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics");
+        assertEquals("RateLimit", definitions.get(1).get("Name").asText());
+        assertEquals("Count/Second", definitions.get(1).get("Unit").asText());
+        assertEquals(1, throttle.get("Throttles").asInt());
+        assertEquals(50, throttle.get("RateLimit").asInt());
+        JsonNode backpressure = objectMapper.readTree(lines.get(1));
+        assertEquals(1, backpressure.get("BackpressureRejections").asInt());
+        assertEquals(12.5, backpressure.get("RateLimit").asDouble());
+    }
+
+    @Test
+    void recordLatency_OperationNeedsEscaping_EmitsValidJson() throws Exception {
+        // Act
+        metrics.recordLatency("odd \"name\"\n", metrics.startTimer(), true);
+
+        // Assert
+        assertEquals("odd \"name\"\n", objectMapper.readTree(lines.get(0)).get("Operation").asText());
+    }
+
+    @Test
+    void noOpGoalMetrics_IsDisabled() {
+        // Act & Assert
+        assertTrue(metrics.isEnabled());
+        assertEquals(false, NoOpGoalMetrics.INSTANCE.isEnabled());
+        assertEquals(0L, NoOpGoalMetrics.INSTANCE.startTimer());
+    }
+
+    /**
+     * Clock whose time only moves when the test moves it.
+     */
+    private static final class FakeClock implements MetricsClock {
+        private long nanos = 1_000L;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return NOW_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.osrsGoalTracker.goal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ProgressDownsampler.
+ */
+class ProgressDownsamplerTest {
+
+    @Test
+    void downsample_HourlyLast_KeepsLastValuePerHour() {
+        // Arrange
+        Stream<GoalProgressPoint> points = Stream.of(
+                point("2025-03-19T04:05:00Z", 10),
+                point("2025-03-19T04:55:00Z", 20),
+                point("2025-03-19T06:10:00Z", 30));
+
+        // Act
+        List<GoalProgressPoint> result = ProgressDownsampler.downsample(points, ProgressInterval.HOUR,
+                ProgressAggregation.LAST).toList();
+
+        // Assert
+        assertEquals(List.of(point("2025-03-19T04:00:00Z", 20), point("2025-03-19T06:00:00Z", 30)), result);
+    }
+
+    @Test
+    void downsample_PointsOutOfOrderWithinBucket_KeepsLatestValue() {
+        // Arrange
+        Stream<GoalProgressPoint> points = Stream.of(
+                point("2025-03-19T04:05:01.500Z", 20),
+                point("2025-03-19T04:05:01Z", 10),
+                point("2025-03-19T06:10:00Z", 30));
+
+        // Act
+        List<GoalProgressPoint> result = ProgressDownsampler.downsample(points, ProgressInterval.HOUR,
+                ProgressAggregation.LAST).toList();
+
+        // Assert
+        assertEquals(List.of(point("2025-03-19T04:00:00Z", 20), point("2025-03-19T06:00:00Z", 30)), result);
+    }
+
+    @Test
+    void downsample_WeeklyMax_BucketsFromMonday() {
+        // Arrange
+        Stream<GoalProgressPoint> points = Stream.of(
+                point("2025-03-16T23:00:00Z", 7),
+                point("2025-03-17T00:00:00Z", 5),
+                point("2025-03-19T12:00:00Z", 9),
+                point("2025-03-23T23:59:59Z", 8));
+
+        // Act
+        List<GoalProgressPoint> result = ProgressDownsampler.downsample(points, ProgressInterval.WEEK,
+                ProgressAggregation.MAX).toList();
+
+        // Assert
+        assertEquals(List.of(point("2025-03-10T00:00:00Z", 7), point("2025-03-17T00:00:00Z", 9)), result);
+    }
+
+    @Test
+    void downsample_FirstBucketOnly_ReadsOnePointPastBucket() {
+        // Arrange
+        AtomicInteger read = new AtomicInteger();
+        Stream<GoalProgressPoint> points = Stream.iterate(Instant.parse("2025-03-19T00:00:00Z"),
+                timestamp -> timestamp.plusSeconds(3600))
+                .map(timestamp -> GoalProgressPoint.builder().timestamp(timestamp).progressValue(1).build())
+                .peek(point -> read.incrementAndGet());
+
+        // Act
+        GoalProgressPoint first = ProgressDownsampler.downsample(points, ProgressInterval.DAY,
+                ProgressAggregation.LAST).findFirst().orElseThrow();
+
+        // Assert
+        assertEquals(Instant.parse("2025-03-19T00:00:00Z"), first.getTimestamp());
+        assertEquals(25, read.get());
+    }
+
+    private GoalProgressPoint point(String timestamp, long value) {
+        return GoalProgressPoint.builder()
+                .timestamp(Instant.parse(timestamp))
+                .progressValue(value)
+                .build();
+    }
+}
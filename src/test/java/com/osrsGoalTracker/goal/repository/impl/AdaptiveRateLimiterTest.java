@@ -0,0 +1,82 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for AdaptiveRateLimiter.
+ */
+class AdaptiveRateLimiterTest {
+    private long nanos;
+
+    @Test
+    void reserve_BucketEmpty_WaitsWithinMaxWaitOrRefuses() {
+        // Arrange
+        AdaptiveRateLimiter limiter = AdaptiveRateLimiter.aimd(2, 1, 10, Duration.ofMillis(500), () -> nanos);
+
+        // Act & Assert
+        assertEquals(0L, limiter.reserve(0L));
+        assertEquals(0L, limiter.reserve(0L));
+        assertEquals(-1L, limiter.reserve(0L));
+        assertEquals(500_000_000L, limiter.reserve(Duration.ofMillis(500).toNanos()));
+        assertEquals(1L, limiter.rejectionCount());
+        nanos += Duration.ofSeconds(1).toNanos();
+        assertEquals(0L, limiter.reserve(0L));
+    }
+
+    @Test
+    void onThrottle_BurstOfThrottles_HalvesRateOncePerInterval() {
+        // Arrange
+        AdaptiveRateLimiter limiter = AdaptiveRateLimiter.aimd(100, 10, 200, Duration.ZERO, () -> nanos);
+
+        // Act
+        limiter.onThrottle();
+        limiter.onThrottle();
+        nanos += AdaptiveRateLimiter.DECREASE_INTERVAL.toNanos();
+        limiter.onThrottle();
+        nanos += AdaptiveRateLimiter.DECREASE_INTERVAL.toNanos();
+        limiter.onThrottle();
+
+        // Assert
+        assertEquals(12.5, limiter.currentRate());
+        assertEquals(4L, limiter.throttleCount());
+        nanos += AdaptiveRateLimiter.DECREASE_INTERVAL.toNanos();
+        limiter.onThrottle();
+        assertEquals(10.0, limiter.currentRate());
+    }
+
+    @Test
+    void onSuccess_SecondOfTraffic_RaisesRateByAboutOneUpToMax() {
+        // Arrange
+        AdaptiveRateLimiter limiter = AdaptiveRateLimiter.aimd(50, 10, 51.5, Duration.ZERO, () -> nanos);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limiter.onSuccess();
+        }
+
+        // Assert
+        assertEquals(51.0, limiter.currentRate(), 0.02);
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(51.5, limiter.currentRate());
+    }
+
+    @Test
+    void aimd_InvalidSettings_ThrowsException() {
+        // Act & Assert
+        assertFalse(AdaptiveRateLimiter.DISABLED.isEnabled());
+        assertTrue(AdaptiveRateLimiter.aimd(5, 5, 5, Duration.ZERO).isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveRateLimiter.aimd(5, 0, 10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveRateLimiter.aimd(20, 5, 10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveRateLimiter.aimd(5, 1, 10,
+                Duration.ofMillis(-1)));
+    }
+}
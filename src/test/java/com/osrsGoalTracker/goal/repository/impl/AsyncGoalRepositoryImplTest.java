@@ -0,0 +1,195 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+
+/**
+ * Test class for AsyncGoalRepositoryImpl.
+ */
+class AsyncGoalRepositoryImplTest {
+    private static final int MAX_IN_FLIGHT = 2;
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable;
+
+    @Mock
+    private DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable;
+
+    @Mock
+    private TableSchema<DynamoGoalMetadataItem> metadataSchema;
+
+    @Mock
+    private TableSchema<DynamoGoalProgressItem> progressSchema;
+
+    private List<CompletableFuture<TransactWriteItemsResponse>> pendingWrites;
+
+    private AsyncGoalRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(metadataTable.tableSchema()).thenReturn(metadataSchema);
+        when(progressTable.tableSchema()).thenReturn(progressSchema);
+        when(metadataSchema.itemToMap(any(DynamoGoalMetadataItem.class), anyBoolean())).thenReturn(new HashMap<>());
+        when(progressSchema.itemToMap(any(DynamoGoalProgressItem.class), anyBoolean())).thenReturn(new HashMap<>());
+        when(metadataTable.tableName()).thenReturn("goals");
+        when(progressTable.tableName()).thenReturn("goals");
+        pendingWrites = new ArrayList<>();
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<TransactWriteItemsResponse> future = new CompletableFuture<>();
+            pendingWrites.add(future);
+            return future;
+        });
+        repository = new AsyncGoalRepositoryImpl(dynamoDbAsyncClient, metadataTable, progressTable, MAX_IN_FLIGHT);
+    }
+
+    @Test
+    void createGoalAsync_Success_AssignsGoalId() {
+        // Arrange
+        Goal goal = createValidGoal();
+
+        // Act
+        CompletableFuture<Goal> result = repository.createGoalAsync(goal);
+        completeNextWrite();
+
+        // Assert
+        assertNotNull(result.join().getGoalId());
+    }
+
+    @Test
+    void createGoalProgressAsync_InvalidGoal_ThrowsException() {
+        // Arrange
+        Goal goal = createValidGoal();
+        goal.setGoalId("");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.createGoalProgressAsync(goal));
+    }
+
+    @Test
+    void createGoalProgressBatchAsync_CapsRequestsInFlight() {
+        // Arrange
+        List<Goal> goals = Arrays.asList(createValidGoal(), createValidGoal(), createValidGoal(),
+                createValidGoal());
+
+        // Act
+        CompletableFuture<List<GoalProgressWriteResult>> result = repository.createGoalProgressBatchAsync(goals);
+
+        // Assert
+        assertEquals(MAX_IN_FLIGHT, pendingWrites.size());
+        completeNextWrite();
+        assertEquals(MAX_IN_FLIGHT + 1, pendingWrites.size());
+        while (!result.isDone()) {
+            completeNextWrite();
+        }
+        assertTrue(result.join().stream().allMatch(GoalProgressWriteResult::isSuccess));
+        verify(dynamoDbAsyncClient, times(4)).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void createGoalProgressBatchAsync_FailedWrite_ReportsOnlyThatGoal() {
+        // Arrange
+        Goal failing = createValidGoal();
+        Goal succeeding = createValidGoal();
+
+        // Act
+        CompletableFuture<List<GoalProgressWriteResult>> result = repository.createGoalProgressBatchAsync(
+                Arrays.asList(failing, succeeding));
+        pendingWrites.get(0).completeExceptionally(new RuntimeException("DynamoDB error"));
+        pendingWrites.get(1).complete(TransactWriteItemsResponse.builder().build());
+
+        // Assert
+        List<GoalProgressWriteResult> results = result.join();
+        assertFalse(results.get(0).isSuccess());
+        assertEquals("DynamoDB error", results.get(0).getErrorMessage());
+        assertTrue(results.get(1).isSuccess());
+    }
+
+    @Test
+    void createGoalProgressBatchAsync_SameGoal_WritesSequentially() {
+        // Arrange
+        Goal first = createValidGoal();
+        Goal second = createValidGoal();
+        second.setUserId(first.getUserId());
+        second.setGoalId(first.getGoalId());
+
+        // Act
+        CompletableFuture<List<GoalProgressWriteResult>> result = repository.createGoalProgressBatchAsync(
+                Arrays.asList(first, second));
+
+        // Assert
+        assertEquals(1, pendingWrites.size());
+        completeNextWrite();
+        assertEquals(2, pendingWrites.size());
+        completeNextWrite();
+        assertTrue(result.join().stream().allMatch(GoalProgressWriteResult::isSuccess));
+    }
+
+    @Test
+    void createGoalProgress_Blocking_PropagatesFailure() {
+        // Arrange
+        Goal goal = createValidGoal();
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DynamoDB error")));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> repository.createGoalProgress(goal));
+    }
+
+    private void completeNextWrite() {
+        pendingWrites.stream()
+                .filter(future -> !future.isDone())
+                .findFirst()
+                .ifPresent(future -> future.complete(TransactWriteItemsResponse.builder().build()));
+    }
+
+    private Goal createValidGoal() {
+        return Goal.builder()
+                .userId(UUID.randomUUID().toString())
+                .characterName("testCharacter")
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(1000000L)
+                .currentProgress(0L)
+                .targetDate(Instant.now().plusSeconds(86400))
+                .notificationChannelType("SMS")
+                .frequency("daily")
+                .goalId(UUID.randomUUID().toString())
+                .build();
+    }
+}
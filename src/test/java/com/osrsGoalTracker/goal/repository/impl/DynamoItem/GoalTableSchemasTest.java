@@ -0,0 +1,120 @@
+package com.osrsGoalTracker.goal.repository.impl.DynamoItem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Test class for GoalTableSchemas, checking them against the bean schemas they
+ * replace.
+ */
+class GoalTableSchemasTest {
+    private static final TableSchema<DynamoGoalMetadataItem> BEAN_METADATA =
+            TableSchema.fromClass(DynamoGoalMetadataItem.class);
+    private static final TableSchema<DynamoGoalProgressItem> BEAN_PROGRESS =
+            TableSchema.fromClass(DynamoGoalProgressItem.class);
+
+    private static final Instant CREATED_AT = Instant.parse("2025-03-19T04:25:06.123456789Z");
+
+    @Test
+    void metadataItemToMap_FullItem_MatchesBeanSchema() {
+        // Arrange
+        DynamoGoalMetadataItem item = fullMetadataItem();
+
+        // Act & Assert
+        assertEquals(BEAN_METADATA.itemToMap(item, false), GoalTableSchemas.METADATA.itemToMap(item, false));
+        assertEquals(BEAN_METADATA.itemToMap(item, true), GoalTableSchemas.METADATA.itemToMap(item, true));
+    }
+
+    @Test
+    void metadataItemToMap_SparseItem_MatchesBeanSchema() {
+        // Arrange
+        DynamoGoalMetadataItem item = DynamoGoalMetadataItem.builder()
+                .pk("USER#user")
+                .sk("CHARACTER#character#GOAL#METADATA#goal")
+                .targetValue(0L)
+                .build();
+
+        // Act & Assert
+        assertEquals(BEAN_METADATA.itemToMap(item, false), GoalTableSchemas.METADATA.itemToMap(item, false));
+        assertEquals(BEAN_METADATA.itemToMap(item, true), GoalTableSchemas.METADATA.itemToMap(item, true));
+    }
+
+    @Test
+    void progressItemToMap_FullAndSparseItems_MatchBeanSchema() {
+        // Arrange
+        DynamoGoalProgressItem full = fullProgressItem();
+        DynamoGoalProgressItem sparse = DynamoGoalProgressItem.builder()
+                .pk("USER#user")
+                .sk("CHARACTER#character#GOAL#goal#LATEST")
+                .build();
+
+        // Act & Assert
+        assertEquals(BEAN_PROGRESS.itemToMap(full, false), GoalTableSchemas.PROGRESS.itemToMap(full, false));
+        assertEquals(BEAN_PROGRESS.itemToMap(full, true), GoalTableSchemas.PROGRESS.itemToMap(full, true));
+        assertEquals(BEAN_PROGRESS.itemToMap(sparse, false), GoalTableSchemas.PROGRESS.itemToMap(sparse, false));
+        assertEquals(BEAN_PROGRESS.itemToMap(sparse, true), GoalTableSchemas.PROGRESS.itemToMap(sparse, true));
+    }
+
+    @Test
+    void mapToItem_BeanSchemaMaps_DecodeToSameItems() {
+        // Arrange
+        Map<String, AttributeValue> metadataMap = BEAN_METADATA.itemToMap(fullMetadataItem(), true);
+        Map<String, AttributeValue> progressMap = BEAN_PROGRESS.itemToMap(fullProgressItem(), true);
+
+        // Act & Assert
+        assertEquals(BEAN_METADATA.mapToItem(metadataMap), GoalTableSchemas.METADATA.mapToItem(metadataMap));
+        assertEquals(BEAN_PROGRESS.mapToItem(progressMap), GoalTableSchemas.PROGRESS.mapToItem(progressMap));
+    }
+
+    @Test
+    void tableMetadata_Keys_MatchBeanSchema() {
+        // Act & Assert
+        assertKeysMatch(BEAN_METADATA.tableMetadata(), GoalTableSchemas.METADATA.tableMetadata());
+        assertKeysMatch(BEAN_PROGRESS.tableMetadata(), GoalTableSchemas.PROGRESS.tableMetadata());
+        assertEquals(BEAN_METADATA.attributeNames().size(), GoalTableSchemas.METADATA.attributeNames().size());
+        assertEquals(BEAN_PROGRESS.attributeNames().size(), GoalTableSchemas.PROGRESS.attributeNames().size());
+    }
+
+    private void assertKeysMatch(TableMetadata expected, TableMetadata actual) {
+        assertEquals(expected.primaryPartitionKey(), actual.primaryPartitionKey());
+        assertEquals(expected.primarySortKey(), actual.primarySortKey());
+    }
+
+    private DynamoGoalMetadataItem fullMetadataItem() {
+        return DynamoGoalMetadataItem.builder()
+                .pk("USER#user")
+                .sk("CHARACTER#character#GOAL#METADATA#goal")
+                .userId("user")
+                .characterName("character")
+                .goalId("goal")
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(13_034_431L)
+                .targetDate(CREATED_AT.plusSeconds(86_400))
+                .notificationChannelType("SMS")
+                .frequency("daily")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    private DynamoGoalProgressItem fullProgressItem() {
+        return DynamoGoalProgressItem.builder()
+                .pk("USER#user")
+                .sk("CHARACTER#character#GOAL#goal#" + CREATED_AT)
+                .userId("user")
+                .characterName("character")
+                .goalId("goal")
+                .progressValue(1_000L)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
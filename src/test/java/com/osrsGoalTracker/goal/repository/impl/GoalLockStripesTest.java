@@ -0,0 +1,39 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for GoalLockStripes.
+ */
+class GoalLockStripesTest {
+
+    @Test
+    void lockFor_SameGoal_ReturnsSameLockAndSpreadsGoals() {
+        // Arrange
+        GoalLockStripes stripes = new GoalLockStripes(8);
+        Map<Object, Boolean> used = new IdentityHashMap<>();
+
+        // Act
+        for (int i = 0; i < 256; i++) {
+            used.put(stripes.lockFor("user1", "goal" + i), Boolean.TRUE);
+        }
+
+        // Assert
+        assertSame(stripes.lockFor("user1", "goal1"), stripes.lockFor("user1", "goal1"));
+        assertEquals(8, used.size());
+    }
+
+    @Test
+    void constructor_StripesNotPowerOfTwo_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GoalLockStripes(0));
+        assertThrows(IllegalArgumentException.class, () -> new GoalLockStripes(12));
+    }
+}
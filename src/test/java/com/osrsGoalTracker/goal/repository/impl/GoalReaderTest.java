@@ -0,0 +1,362 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * Test class for GoalReader, run against an in-memory sorted table that
+ * evaluates the reader's key conditions the way DynamoDB does.
+ */
+class GoalReaderTest {
+    private static final String TABLE_NAME = "goals";
+    private static final String USER_ID = "user1";
+    private static final Instant NOW = Instant.parse("2025-03-19T04:25:06Z");
+
+    private final NavigableMap<String, Map<String, AttributeValue>> table = new TreeMap<>();
+    private final List<QueryRequest> queries = new ArrayList<>();
+    private int unprocessedBatchGets;
+    private GoalReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new GoalReader(TABLE_NAME, GoalTableSchemas.METADATA, GoalTableSchemas.PROGRESS, this::query,
+                this::batchGet, millis -> {
+                });
+        putCharacter("Zezima");
+        putCharacter("Lynx Titan");
+    }
+
+    @Test
+    void getGoal_ExistingGoal_ReturnsGoalWithLatestProgress() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1000L);
+
+        // Act
+        Optional<Goal> goal = reader.getGoal(USER_ID, "Zezima", "goal1");
+
+        // Assert
+        assertTrue(goal.isPresent());
+        assertEquals("goal1", goal.get().getGoalId());
+        assertEquals("WOODCUTTING", goal.get().getTargetAttribute());
+        assertEquals(13034431L, goal.get().getTargetValue());
+        assertEquals(1000L, goal.get().getCurrentProgress());
+        assertTrue(queries.isEmpty());
+    }
+
+    @Test
+    void getGoalProgressSnapshot_ExistingGoal_ReturnsEarliestAndLatest() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1000L);
+        put(GoalTableSchemas.PROGRESS.itemToMap(DynamoGoalProgressItem.builder()
+                .pk("USER#" + USER_ID)
+                .sk(SortKeyUtil.buildGoalEarliestSortKey("Zezima", "goal1"))
+                .progressValue(10L)
+                .createdAt(NOW.minusSeconds(3600))
+                .build(), true));
+
+        // Act
+        GoalProgressSnapshot snapshot = reader.getGoalProgressSnapshot(USER_ID, "Zezima", "goal1").orElseThrow();
+
+        // Assert
+        assertEquals(1000L, snapshot.getGoal().getCurrentProgress());
+        assertEquals(10L, snapshot.getEarliest().getProgressValue());
+        assertEquals(NOW.minusSeconds(3600), snapshot.getEarliest().getTimestamp());
+        assertEquals(1000L, snapshot.getLatest().getProgressValue());
+        assertEquals(NOW, snapshot.getLatest().getTimestamp());
+    }
+
+    @Test
+    void getGoal_MissingGoal_ReturnsEmpty() {
+        // Act & Assert
+        assertFalse(reader.getGoal(USER_ID, "Zezima", "missing").isPresent());
+    }
+
+    @Test
+    void listGoalsForCharacter_MultiplePages_ReturnsEveryGoalOnce() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            putGoal("Zezima", "goal" + i, i * 10L);
+        }
+        putGoal("Lynx Titan", "other", 1L);
+
+        // Act
+        Page<Goal> first = reader.listGoalsForCharacter(USER_ID, "Zezima", null, 2);
+        Page<Goal> second = reader.listGoalsForCharacter(USER_ID, "Zezima", first.getNextCursor(), 2);
+        List<Goal> all = Page.<Goal>stream(cursor -> reader.listGoalsForCharacter(USER_ID, "Zezima", cursor, 2))
+                .toList();
+
+        // Assert
+        assertEquals(List.of("goal0", "goal1"), goalIds(first.getItems()));
+        assertEquals(List.of("goal2", "goal3"), goalIds(second.getItems()));
+        assertEquals(List.of("goal0", "goal1", "goal2", "goal3", "goal4"), goalIds(all));
+        assertEquals(40L, all.get(4).getCurrentProgress());
+        assertTrue(queries.stream().allMatch(query -> query.keyConditionExpression().contains("begins_with")));
+    }
+
+    @Test
+    void listGoalsForUser_GoalsAcrossCharacters_PagesInKeyOrder() {
+        // Arrange
+        putGoal("Zezima", "goal1", 5L);
+        putGoal("Zezima", "goal2", 6L);
+        putGoal("Lynx Titan", "goal3", 7L);
+        putCharacter("Woox");
+
+        // Act
+        Page<Goal> first = reader.listGoalsForUser(USER_ID, null, 2);
+        Page<Goal> second = reader.listGoalsForUser(USER_ID, first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of("goal3", "goal1"), goalIds(first.getItems()));
+        assertEquals(List.of("goal2"), goalIds(second.getItems()));
+        assertNull(second.getNextCursor());
+        assertEquals(7L, first.getItems().get(0).getCurrentProgress());
+        assertTrue(queries.stream().allMatch(query -> query.limit() <= 2));
+    }
+
+    @Test
+    void listGoalsForCharacter_UnprocessedLatestKeys_RetriesBatchGet() {
+        // Arrange
+        putGoal("Zezima", "goal1", 42L);
+        unprocessedBatchGets = 2;
+
+        // Act
+        Page<Goal> page = reader.listGoalsForCharacter(USER_ID, "Zezima", null, 10);
+
+        // Assert
+        assertEquals(42L, page.getItems().get(0).getCurrentProgress());
+        assertEquals(0, unprocessedBatchGets);
+    }
+
+    @Test
+    void listGoals_InvalidCursorOrLimit_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.listGoalsForCharacter(USER_ID, "Zezima", "not a cursor!", 10));
+        assertThrows(IllegalArgumentException.class, () -> reader.listGoalsForUser(USER_ID, "Zm9v", 10));
+        assertThrows(IllegalArgumentException.class, () -> reader.listGoalsForUser(USER_ID, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.listGoalsForCharacter(USER_ID, "Zezima", null, GoalReader.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void listGoalProgress_RangeWithinSeconds_ReturnsOnlyPointsInRange() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1L);
+        for (String timestamp : List.of("2025-03-19T05:00:00.500Z", "2025-03-19T05:00:01Z",
+                "2025-03-19T05:00:01.250Z", "2025-03-19T05:00:02Z", "2025-03-19T05:00:03.750Z",
+                "2025-03-19T05:00:04Z")) {
+            putProgress("Zezima", "goal1", Instant.parse(timestamp), 100L);
+        }
+        Instant from = Instant.parse("2025-03-19T05:00:01.100Z");
+        Instant to = Instant.parse("2025-03-19T05:00:03.750Z");
+
+        // Act
+        List<Instant> timestamps = Page.<GoalProgressPoint>stream(cursor -> reader.listGoalProgress(USER_ID,
+                "Zezima", "goal1", from, to, cursor, 2))
+                .map(GoalProgressPoint::getTimestamp)
+                .toList();
+
+        // Assert
+        assertEquals(List.of(Instant.parse("2025-03-19T05:00:01.250Z"), Instant.parse("2025-03-19T05:00:02Z"),
+                to), timestamps);
+        assertTrue(queries.stream().allMatch(query -> query.keyConditionExpression().contains("BETWEEN")));
+    }
+
+    @Test
+    void listGoalProgress_FractionDigitsWithinSecond_ReturnsPointsInTimeOrder() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1L);
+        List<Instant> expected = new ArrayList<>();
+        for (String timestamp : List.of("2025-03-19T05:00:00.900Z", "2025-03-19T05:00:01Z",
+                "2025-03-19T05:00:01.123Z", "2025-03-19T05:00:01.123456Z", "2025-03-19T05:00:02Z")) {
+            expected.add(Instant.parse(timestamp));
+            putProgress("Zezima", "goal1", Instant.parse(timestamp), 100L);
+        }
+        expected.sort(null);
+
+        // Act
+        Page<GoalProgressPoint> firstPage = reader.listGoalProgress(USER_ID, "Zezima", "goal1",
+                expected.get(0), expected.get(expected.size() - 1), null, 3);
+        List<Instant> timestamps = Page.<GoalProgressPoint>stream(cursor -> reader.listGoalProgress(USER_ID,
+                "Zezima", "goal1", expected.get(0), expected.get(expected.size() - 1), cursor, 3))
+                .map(GoalProgressPoint::getTimestamp)
+                .toList();
+
+        // Assert
+        assertEquals(List.of(expected.get(0)), firstPage.getItems().stream()
+                .map(GoalProgressPoint::getTimestamp)
+                .toList());
+        assertEquals(expected, timestamps);
+    }
+
+    @Test
+    void listGoalProgress_HistorySplitAcrossLayouts_MergesPartitionsInOrder() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1L);
+        List<Instant> expected = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            Instant timestamp = NOW.plusSeconds(i);
+            expected.add(timestamp);
+            putProgress(i % 3 == 0 ? ProgressHistoryLayout.USER : ProgressHistoryLayout.GOAL, "Zezima", "goal1",
+                    timestamp, 100L + i);
+        }
+        putProgress(ProgressHistoryLayout.USER, "Zezima", "goal1", NOW.plusSeconds(2), 102L);
+        putProgress(ProgressHistoryLayout.GOAL, "Zezima", "goal2", NOW.plusSeconds(4), 999L);
+
+        // Act
+        List<Instant> timestamps = Page.<GoalProgressPoint>stream(cursor -> reader.listGoalProgress(USER_ID,
+                "Zezima", "goal1", NOW.plusSeconds(1), NOW.plusSeconds(60), cursor, 2))
+                .map(GoalProgressPoint::getTimestamp)
+                .toList();
+
+        // Assert
+        assertEquals(expected, timestamps);
+        assertEquals(List.of("USER#" + USER_ID, "USER#" + USER_ID + "#GOAL#goal1"), queries.stream()
+                .map(query -> query.expressionAttributeValues().get(":pk").s())
+                .distinct()
+                .toList());
+    }
+
+    @Test
+    void listGoalProgress_NoPointsInRange_ReturnsEmptyLastPage() {
+        // Arrange
+        putGoal("Zezima", "goal1", 1L);
+
+        // Act
+        Page<GoalProgressPoint> page = reader.listGoalProgress(USER_ID, "Zezima", "goal1",
+                NOW.plusSeconds(60), NOW.plusSeconds(120), null, 10);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    private List<String> goalIds(List<Goal> goals) {
+        return goals.stream().map(Goal::getGoalId).collect(Collectors.toList());
+    }
+
+    private void putCharacter(String characterName) {
+        put(Map.of("pk", AttributeValue.fromS("USER#" + USER_ID),
+                "sk", AttributeValue.fromS("CHARACTER#METADATA#" + characterName)));
+    }
+
+    private void putGoal(String characterName, String goalId, long progress) {
+        put(GoalTableSchemas.METADATA.itemToMap(DynamoGoalMetadataItem.builder()
+                .pk("USER#" + USER_ID)
+                .sk(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId))
+                .userId(USER_ID)
+                .characterName(characterName)
+                .goalId(goalId)
+                .targetAttribute("WOODCUTTING")
+                .targetType("xp")
+                .targetValue(13034431L)
+                .targetDate(NOW)
+                .createdAt(NOW)
+                .build(), true));
+        for (String sk : List.of(SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, NOW),
+                SortKeyUtil.buildGoalLatestSortKey(characterName, goalId))) {
+            put(GoalTableSchemas.PROGRESS.itemToMap(DynamoGoalProgressItem.builder()
+                    .pk("USER#" + USER_ID)
+                    .sk(sk)
+                    .userId(USER_ID)
+                    .characterName(characterName)
+                    .goalId(goalId)
+                    .progressValue(progress)
+                    .createdAt(NOW)
+                    .build(), true));
+        }
+    }
+
+    private void putProgress(String characterName, String goalId, Instant timestamp, long progress) {
+        putProgress(ProgressHistoryLayout.USER, characterName, goalId, timestamp, progress);
+    }
+
+    private void putProgress(ProgressHistoryLayout layout, String characterName, String goalId, Instant timestamp,
+            long progress) {
+        put(GoalTableSchemas.PROGRESS.itemToMap(DynamoGoalProgressItem.builder()
+                .pk(layout.historyPartitionKey(USER_ID, goalId))
+                .sk(SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp))
+                .progressValue(progress)
+                .createdAt(timestamp)
+                .build(), true));
+    }
+
+    private void put(Map<String, AttributeValue> item) {
+        table.put(tableKey(item.get("pk").s(), item.get("sk").s()), item);
+    }
+
+    private String tableKey(String pk, String sk) {
+        return pk + '\0' + sk;
+    }
+
+    private QueryResponse query(QueryRequest request) {
+        queries.add(request);
+        Map<String, AttributeValue> values = request.expressionAttributeValues();
+        String pk = values.get(":pk").s();
+        NavigableMap<String, Map<String, AttributeValue>> range = request.keyConditionExpression()
+                .contains("begins_with")
+                ? table.subMap(tableKey(pk, values.get(":prefix").s()), true,
+                        tableKey(pk, values.get(":prefix").s() + Character.MAX_VALUE), false)
+                : table.subMap(tableKey(pk, values.get(":from").s()), true, tableKey(pk, values.get(":to").s()),
+                        true);
+        if (request.hasExclusiveStartKey()) {
+            range = range.tailMap(tableKey(pk, request.exclusiveStartKey().get("sk").s()), false);
+        }
+        List<Map<String, AttributeValue>> items = range.values().stream().limit(request.limit()).toList();
+        QueryResponse.Builder response = QueryResponse.builder().items(items);
+        if (items.size() == request.limit()) {
+            Map<String, AttributeValue> last = items.get(items.size() - 1);
+            response.lastEvaluatedKey(Map.of("pk", last.get("pk"), "sk", last.get("sk")));
+        }
+        return response.build();
+    }
+
+    private BatchGetItemResponse batchGet(BatchGetItemRequest request) {
+        KeysAndAttributes keys = request.requestItems().get(TABLE_NAME);
+        if (unprocessedBatchGets > 0) {
+            unprocessedBatchGets--;
+            return BatchGetItemResponse.builder()
+                    .responses(Map.of(TABLE_NAME, List.of()))
+                    .unprocessedKeys(request.requestItems())
+                    .build();
+        }
+        List<Map<String, AttributeValue>> items = keys.keys().stream()
+                .map(key -> table.get(tableKey(key.get("pk").s(), key.get("sk").s())))
+                .filter(item -> item != null)
+                .toList();
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TABLE_NAME, items))
+                .build();
+    }
+}
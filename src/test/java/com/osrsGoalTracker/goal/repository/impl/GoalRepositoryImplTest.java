@@ -3,17 +3,30 @@ package com.osrsGoalTracker.goal.repository.impl;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import com.osrsGoalTracker.goal.model.BackpressureException;
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
 
@@ -21,14 +34,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 /**
  * Test class for GoalRepositoryImpl.
@@ -52,6 +77,12 @@ public class GoalRepositoryImplTest {
         @Captor
         private ArgumentCaptor<TransactWriteItemsRequest> transactionCaptor;
 
+        @Captor
+        private ArgumentCaptor<BatchWriteItemRequest> batchCaptor;
+
+        @Captor
+        private ArgumentCaptor<PutItemRequest> putItemCaptor;
+
         private GoalRepositoryImpl repository;
 
         @BeforeEach
@@ -180,6 +211,242 @@ public class GoalRepositoryImplTest {
                 verify(dynamoDbClient).transactWriteItems(any(TransactWriteItemsRequest.class));
         }
 
+        @Test
+        void createGoalProgress_OnChangeMode_SkipsRepeatedValueAndConditionsLatest() {
+                // Arrange
+                GoalRepositoryImpl onChangeRepository = createBatchRepository(
+                                ProgressWriteSuppressor.onChange(Duration.ofHours(1)));
+                Goal goal = createValidGoal();
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+                // Act
+                onChangeRepository.createGoalProgress(goal);
+                onChangeRepository.createGoalProgress(goal);
+
+                // Assert
+                verify(dynamoDbClient).transactWriteItems(transactionCaptor.capture());
+                Put latestPut = transactionCaptor.getValue().transactItems().get(1).put();
+                assertTrue(latestPut.conditionExpression().contains("#progressValue <> :progressValue"));
+                assertEquals(Long.toString(goal.getCurrentProgress()),
+                                latestPut.expressionAttributeValues().get(":progressValue").n());
+        }
+
+        @Test
+        void createGoalProgress_OnChangeModeConditionFails_WritesNothingWithoutError() {
+                // Arrange
+                GoalRepositoryImpl onChangeRepository = createBatchRepository(
+                                ProgressWriteSuppressor.onChange(Duration.ofHours(1)));
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenThrow(TransactionCanceledException.builder()
+                                                .cancellationReasons(CancellationReason.builder().code("None").build(),
+                                                                CancellationReason.builder()
+                                                                                .code("ConditionalCheckFailed")
+                                                                                .build())
+                                                .build());
+
+                // Act & Assert
+                assertDoesNotThrow(() -> onChangeRepository.createGoalProgress(createValidGoal()));
+        }
+
+        @Test
+        void createGoalProgress_RedeliveredEvent_WritesOnceAtEventTime() {
+                // Arrange
+                useKeyedProgressMaps();
+                Instant eventTime = Instant.parse("2025-03-19T04:00:00Z");
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(eventTime);
+                goal.setProgressEventId("event-1");
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+                // Act
+                repository.createGoalProgress(goal);
+                repository.createGoalProgress(goal);
+
+                // Assert
+                verify(dynamoDbClient).transactWriteItems(transactionCaptor.capture());
+                Put historyPut = transactionCaptor.getValue().transactItems().get(0).put();
+                assertTrue(historyPut.item().get("sk").s().endsWith("#" + eventTime));
+                assertEquals("attribute_not_exists(#sk) OR #progressValue <> :progressValue",
+                                historyPut.conditionExpression());
+        }
+
+        @Test
+        void createGoalProgress_HistoryRowAlreadyWritten_TreatsAsSuccess() {
+                // Arrange
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                goal.setProgressEventId("event-1");
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenThrow(TransactionCanceledException.builder()
+                                                .cancellationReasons(CancellationReason.builder()
+                                                                .code("ConditionalCheckFailed").build(),
+                                                                CancellationReason.builder().code("None").build())
+                                                .build());
+
+                // Act & Assert
+                assertDoesNotThrow(() -> repository.createGoalProgress(goal));
+                assertDoesNotThrow(() -> repository.createGoalProgress(goal));
+                verify(dynamoDbClient).transactWriteItems(any(TransactWriteItemsRequest.class));
+        }
+
+        @Test
+        void createGoalProgress_DefaultMode_WritesLatestOnlyIfNewer() {
+                // Arrange
+                Instant eventTime = Instant.parse("2025-03-19T04:00:00.123456789Z");
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(eventTime);
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+                // Act
+                repository.createGoalProgress(goal);
+                repository.createGoalProgress(goal);
+
+                // Assert
+                verify(dynamoDbClient, times(2)).transactWriteItems(transactionCaptor.capture());
+                Put latestPut = transactionCaptor.getValue().transactItems().get(1).put();
+                assertTrue(latestPut.conditionExpression().contains("#createdAtNanos < :createdAtNanos"));
+                assertFalse(latestPut.conditionExpression().contains(":progressValue"));
+                assertEquals("1742356800123456789", latestPut.expressionAttributeValues().get(":createdAtNanos").n());
+        }
+
+        @Test
+        void createGoalProgress_OlderThanLatest_WritesHistoryRowOnly() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                long newerNanos = GoalWriteRequestFactory.epochNanos(Instant.parse("2025-03-19T04:05:00Z"));
+                CancellationReason newerLatest = CancellationReason.builder()
+                                .code("ConditionalCheckFailed")
+                                .item(Map.of("createdAtNanos", AttributeValue.builder()
+                                                .n(Long.toString(newerNanos)).build()))
+                                .build();
+                when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                                .thenThrow(TransactionCanceledException.builder()
+                                                .cancellationReasons(CancellationReason.builder().code("None").build(),
+                                                                newerLatest)
+                                                .build());
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+                ArgumentCaptor<PutItemRequest> putCaptor = ArgumentCaptor.forClass(PutItemRequest.class);
+
+                // Act
+                assertDoesNotThrow(() -> repository.createGoalProgress(goal));
+
+                // Assert
+                verify(dynamoDbClient).putItem(putCaptor.capture());
+                assertTrue(putCaptor.getValue().item().get("sk").s().endsWith("#2025-03-19T04:00:00Z"));
+        }
+
+        @Test
+        void createGoalProgress_CoalescingLatest_WritesHistoryRowsThenOneLatestRowOnFlush() {
+                // Arrange
+                useKeyedProgressMaps();
+                GoalRepositoryImpl coalescingRepository = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(100, Duration.ofHours(1)));
+                Goal first = createValidGoal();
+                first.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                Goal second = createValidGoal();
+                second.setUserId(first.getUserId());
+                second.setGoalId(first.getGoalId());
+                second.setProgressTimestamp(Instant.parse("2025-03-19T04:01:00Z"));
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+                // Act
+                coalescingRepository.createGoalProgress(first);
+                coalescingRepository.createGoalProgress(second);
+                verify(dynamoDbClient, times(2)).putItem(any(PutItemRequest.class));
+                coalescingRepository.flushProgress();
+                coalescingRepository.flushProgress();
+
+                // Assert
+                verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+                verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+                verify(dynamoDbClient, times(3)).putItem(putItemCaptor.capture());
+                PutItemRequest latestPut = putItemCaptor.getValue();
+                assertTrue(latestPut.item().get("sk").s().endsWith("#LATEST"));
+                assertTrue(latestPut.conditionExpression().contains("#createdAtNanos < :createdAtNanos"));
+                assertEquals(Long.toString(GoalWriteRequestFactory.epochNanos(second.getProgressTimestamp())),
+                                latestPut.expressionAttributeValues().get(":createdAtNanos").n());
+        }
+
+        @Test
+        void createGoalProgress_CoalescingLatestHistoryAlreadyWritten_StillStagesLatestRow() {
+                // Arrange
+                useKeyedProgressMaps();
+                GoalRepositoryImpl coalescingRepository = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(100, Duration.ofHours(1)));
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+                        PutItemRequest request = invocation.getArgument(0);
+                        if (!request.item().get("sk").s().endsWith("#LATEST")) {
+                                throw ConditionalCheckFailedException.builder().message("recorded").build();
+                        }
+                        return PutItemResponse.builder().build();
+                });
+
+                // Act
+                coalescingRepository.createGoalProgress(goal);
+                List<Goal> unflushed = coalescingRepository.flushProgress();
+
+                // Assert
+                assertTrue(unflushed.isEmpty());
+                verify(dynamoDbClient, times(2)).putItem(putItemCaptor.capture());
+                assertTrue(putItemCaptor.getValue().item().get("sk").s().endsWith("#LATEST"));
+        }
+
+        @Test
+        void flushProgress_LatestPutFails_ReturnsGoalAndWritesItOnNextFlush() {
+                // Arrange
+                useKeyedProgressMaps();
+                GoalRepositoryImpl coalescingRepository = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(100, Duration.ofHours(1)));
+                Goal goal = createValidGoal();
+                goal.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                goal.setCurrentProgress(300L);
+                when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                                .thenReturn(PutItemResponse.builder().build())
+                                .thenThrow(DynamoDbException.builder().message("throttled").build())
+                                .thenReturn(PutItemResponse.builder().build());
+                coalescingRepository.createGoalProgress(goal);
+
+                // Act
+                List<Goal> unflushed = coalescingRepository.flushProgress();
+                List<Goal> retried = coalescingRepository.flushProgress();
+
+                // Assert
+                assertEquals(1, unflushed.size());
+                assertEquals(goal.getUserId(), unflushed.get(0).getUserId());
+                assertEquals(goal.getGoalId(), unflushed.get(0).getGoalId());
+                assertEquals(300L, unflushed.get(0).getCurrentProgress());
+                assertEquals(goal.getProgressTimestamp(), unflushed.get(0).getProgressTimestamp());
+                assertTrue(retried.isEmpty());
+                verify(dynamoDbClient, times(3)).putItem(any(PutItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgress_CoalescingLatestPendingLimitReached_FlushesWithoutWaitingForBatchEnd() {
+                // Arrange
+                useKeyedProgressMaps();
+                GoalRepositoryImpl coalescingRepository = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(2, Duration.ofHours(1)));
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+                // Act
+                coalescingRepository.createGoalProgress(createValidGoal());
+                coalescingRepository.createGoalProgress(createValidGoal());
+                coalescingRepository.createGoalProgress(createValidGoal());
+
+                // Assert
+                verify(dynamoDbClient, times(5)).putItem(putItemCaptor.capture());
+                assertEquals(2, putItemCaptor.getAllValues().stream()
+                                .filter(put -> put.item().get("sk").s().endsWith("#LATEST"))
+                                .count());
+        }
+
         @Test
         void createGoalProgress_NullGoal_ThrowsException() {
                 // Act & Assert
@@ -226,6 +493,348 @@ public class GoalRepositoryImplTest {
                 assertThrows(IllegalArgumentException.class, () -> repository.createGoalProgress(goal));
         }
 
+        @Test
+        void createGoalProgressBatch_PacksItemsIntoChunksOf25() {
+                // Arrange
+                useKeyedProgressMaps();
+                List<Goal> goals = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                        goals.add(createValidGoal());
+                }
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository().createGoalProgressBatch(goals);
+
+                // Assert
+                assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+                verify(dynamoDbClient, times(2)).batchWriteItem(batchCaptor.capture());
+                assertEquals(25, batchCaptor.getAllValues().get(0).requestItems().get("goals-progress").size());
+                assertEquals(5, batchCaptor.getAllValues().get(1).requestItems().get("goals-progress").size());
+                verify(dynamoDbClient, times(30)).putItem(any(PutItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgressBatch_RefusedByRateLimit_FailsRemainingChunksWithoutSending() {
+                // Arrange
+                useKeyedProgressMaps();
+                List<Goal> goals = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                        goals.add(createValidGoal());
+                }
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenThrow(new BackpressureException("BatchWriteItem", 5.0));
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository().createGoalProgressBatch(goals);
+
+                // Assert
+                assertTrue(results.stream().noneMatch(GoalProgressWriteResult::isSuccess));
+                assertTrue(results.get(19).getErrorMessage().contains("rate limit"));
+                verify(dynamoDbClient).batchWriteItem(any(BatchWriteItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgressBatch_SameGoalTwice_WritesSingleLatestRow() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal first = createValidGoal();
+                Goal second = createValidGoal();
+                second.setUserId(first.getUserId());
+                second.setGoalId(first.getGoalId());
+                second.setCurrentProgress(50L);
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+
+                // Act
+                createBatchRepository().createGoalProgressBatch(Arrays.asList(first, second));
+
+                // Assert
+                verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+                assertEquals(2, batchCaptor.getValue().requestItems().get("goals-progress").size());
+                verify(dynamoDbClient).putItem(putItemCaptor.capture());
+                assertTrue(putItemCaptor.getValue().item().get("sk").s().endsWith("#LATEST"));
+                assertEquals("50", putItemCaptor.getValue().item().get("progressValue").n());
+        }
+
+        @Test
+        void createGoalProgressBatch_SameGoalOutOfOrder_KeepsTimestampsAndWritesNewestAsLatest() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal newer = createValidGoal();
+                newer.setProgressTimestamp(Instant.parse("2025-03-19T04:00:10Z"));
+                newer.setCurrentProgress(200L);
+                Goal older = createValidGoal();
+                older.setUserId(newer.getUserId());
+                older.setGoalId(newer.getGoalId());
+                older.setProgressTimestamp(Instant.parse("2025-03-19T04:00:05Z"));
+                older.setCurrentProgress(100L);
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+
+                // Act
+                createBatchRepository().createGoalProgressBatch(Arrays.asList(newer, older));
+
+                // Assert
+                verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+                Map<String, String> valuesBySk = new HashMap<>();
+                for (WriteRequest write : batchCaptor.getValue().requestItems().get("goals-progress")) {
+                        Map<String, AttributeValue> item = write.putRequest().item();
+                        valuesBySk.put(item.get("sk").s().substring(item.get("sk").s().lastIndexOf('#') + 1),
+                                        item.get("progressValue").n());
+                }
+                assertEquals(Map.of("2025-03-19T04:00:10Z", "200", "2025-03-19T04:00:05Z", "100"), valuesBySk);
+                verify(dynamoDbClient).putItem(putItemCaptor.capture());
+                assertTrue(putItemCaptor.getValue().item().get("sk").s().endsWith("#LATEST"));
+                assertEquals("200", putItemCaptor.getValue().item().get("progressValue").n());
+        }
+
+        @Test
+        void createGoalProgressBatch_CoalescingLatest_WritesLatestRowsAfterHistoryRows() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal first = createValidGoal();
+                Goal second = createValidGoal();
+                second.setUserId(first.getUserId());
+                second.setGoalId(first.getGoalId());
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+
+                // Act
+                List<GoalProgressWriteResult> results = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(100, Duration.ofHours(1)))
+                                .createGoalProgressBatch(Arrays.asList(first, second, createValidGoal()));
+
+                // Assert
+                assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+                InOrder order = inOrder(dynamoDbClient);
+                order.verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+                order.verify(dynamoDbClient, times(2)).putItem(putItemCaptor.capture());
+                assertEquals(3, batchCaptor.getValue().requestItems().get("goals-progress").size());
+                assertTrue(putItemCaptor.getAllValues().stream()
+                                .allMatch(put -> put.item().get("sk").s().endsWith("#LATEST")));
+        }
+
+        @Test
+        void createGoalProgressBatch_CoalescingLatestNotFlushed_ReportsGoalFailed() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal stuck = createValidGoal();
+                Goal written = createValidGoal();
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+                        PutItemRequest request = invocation.getArgument(0);
+                        if (request.item().get("sk").s().contains(stuck.getGoalId())) {
+                                throw DynamoDbException.builder().message("throttled").build();
+                        }
+                        return PutItemResponse.builder().build();
+                });
+                GoalRepositoryImpl coalescingRepository = createCoalescingRepository(
+                                LatestProgressBuffer.coalescing(100, Duration.ofHours(1)));
+
+                // Act
+                List<GoalProgressWriteResult> results = coalescingRepository
+                                .createGoalProgressBatch(Arrays.asList(stuck, written));
+                List<GoalProgressWriteResult> redelivered = coalescingRepository
+                                .createGoalProgressBatch(Arrays.asList(stuck));
+
+                // Assert
+                assertFalse(results.get(0).isSuccess());
+                assertEquals("Latest progress not written", results.get(0).getErrorMessage());
+                assertTrue(results.get(1).isSuccess());
+                assertFalse(redelivered.get(0).isSuccess());
+        }
+
+        @Test
+        void createGoalProgressBatch_RedeliveredEvents_WritesEachEventOnce() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal first = createValidGoal();
+                first.setProgressTimestamp(Instant.parse("2025-03-19T04:00:00Z"));
+                first.setProgressEventId("event-1");
+                Goal redelivered = createValidGoal();
+                redelivered.setUserId(first.getUserId());
+                redelivered.setGoalId(first.getGoalId());
+                redelivered.setProgressTimestamp(first.getProgressTimestamp());
+                redelivered.setProgressEventId("event-1");
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+                GoalRepositoryImpl batchRepository = createBatchRepository();
+
+                // Act
+                List<GoalProgressWriteResult> results = batchRepository
+                                .createGoalProgressBatch(Arrays.asList(first, redelivered));
+                batchRepository.createGoalProgressBatch(Arrays.asList(redelivered));
+
+                // Assert
+                assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+                verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+                assertEquals(1, batchCaptor.getValue().requestItems().get("goals-progress").size());
+                verify(dynamoDbClient).putItem(any(PutItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgressBatch_OnChangeMode_SkipsUnchangedRepeats() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal first = createValidGoal();
+                Goal repeat = createValidGoal();
+                repeat.setUserId(first.getUserId());
+                repeat.setGoalId(first.getGoalId());
+                repeat.setCurrentProgress(first.getCurrentProgress());
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+                GoalRepositoryImpl onChangeRepository = createBatchRepository(
+                                ProgressWriteSuppressor.onChange(Duration.ofHours(1)));
+
+                // Act
+                List<GoalProgressWriteResult> results = onChangeRepository
+                                .createGoalProgressBatch(Arrays.asList(first, repeat));
+                onChangeRepository.createGoalProgressBatch(Arrays.asList(repeat));
+
+                // Assert
+                assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+                verify(dynamoDbClient).batchWriteItem(batchCaptor.capture());
+                assertEquals(1, batchCaptor.getValue().requestItems().get("goals-progress").size());
+                verify(dynamoDbClient).putItem(any(PutItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgressBatch_LatestPutFails_TreatsNewerLatestAsWrittenAndReportsOtherErrors() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal superseded = createValidGoal();
+                Goal failing = createValidGoal();
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+                when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+                        PutItemRequest request = invocation.getArgument(0);
+                        if (request.item().get("sk").s().contains(superseded.getGoalId())) {
+                                throw ConditionalCheckFailedException.builder().message("newer").build();
+                        }
+                        throw DynamoDbException.builder().message("throttled").build();
+                });
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository()
+                                .createGoalProgressBatch(Arrays.asList(superseded, failing));
+
+                // Assert
+                assertTrue(results.get(0).isSuccess());
+                assertFalse(results.get(1).isSuccess());
+                assertEquals("throttled", results.get(1).getErrorMessage());
+                verify(dynamoDbClient, times(2)).putItem(putItemCaptor.capture());
+                assertTrue(putItemCaptor.getAllValues().stream().allMatch(put -> put.conditionExpression()
+                                .contains("#createdAtNanos < :createdAtNanos")));
+        }
+
+        @Test
+        void createGoalProgressBatch_UnprocessedItems_RetriesUntilWritten() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal goal = createValidGoal();
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenAnswer(invocation -> {
+                                        BatchWriteItemRequest request = invocation.getArgument(0);
+                                        List<WriteRequest> writes = request.requestItems().get("goals-progress");
+                                        return BatchWriteItemResponse.builder()
+                                                        .unprocessedItems(Map.of("goals-progress",
+                                                                        writes.subList(0, 1)))
+                                                        .build();
+                                })
+                                .thenReturn(BatchWriteItemResponse.builder().build());
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository()
+                                .createGoalProgressBatch(Arrays.asList(goal));
+
+                // Assert
+                assertTrue(results.get(0).isSuccess());
+                verify(dynamoDbClient, times(2)).batchWriteItem(batchCaptor.capture());
+                assertEquals(1, batchCaptor.getAllValues().get(1).requestItems().get("goals-progress").size());
+        }
+
+        @Test
+        void createGoalProgressBatch_UnprocessedAfterMaxAttempts_ReportsGoalFailed() {
+                // Arrange
+                useKeyedProgressMaps();
+                Goal stuck = createValidGoal();
+                Goal written = createValidGoal();
+                when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                                .thenAnswer(invocation -> {
+                                        BatchWriteItemRequest request = invocation.getArgument(0);
+                                        List<WriteRequest> unprocessed = new ArrayList<>();
+                                        for (WriteRequest write : request.requestItems().get("goals-progress")) {
+                                                if (write.putRequest().item().get("sk").s()
+                                                                .contains(stuck.getGoalId())) {
+                                                        unprocessed.add(write);
+                                                }
+                                        }
+                                        return BatchWriteItemResponse.builder()
+                                                        .unprocessedItems(Map.of("goals-progress", unprocessed))
+                                                        .build();
+                                });
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository()
+                                .createGoalProgressBatch(Arrays.asList(stuck, written));
+
+                // Assert
+                assertFalse(results.get(0).isSuccess());
+                assertTrue(results.get(1).isSuccess());
+                verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+        }
+
+        @Test
+        void createGoalProgressBatch_InvalidGoal_ReportsFailureWithoutWriting() {
+                // Arrange
+                Goal invalid = createValidGoal();
+                invalid.setGoalId("");
+
+                // Act
+                List<GoalProgressWriteResult> results = createBatchRepository()
+                                .createGoalProgressBatch(Arrays.asList(invalid));
+
+                // Assert
+                assertFalse(results.get(0).isSuccess());
+                verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+        }
+
+        private GoalRepositoryImpl createBatchRepository() {
+                return createBatchRepository(ProgressWriteSuppressor.DISABLED);
+        }
+
+        private GoalRepositoryImpl createBatchRepository(ProgressWriteSuppressor progressWriteSuppressor) {
+                return new GoalRepositoryImpl(dynamoDbClient, metadataTable, progressTable,
+                                new BatchProgressWriter(dynamoDbClient, 3, 1, 1, millis -> {
+                                }), progressWriteSuppressor, ProgressRetentionPolicy.DISABLED,
+                                ProgressHistoryLayout.USER, LatestProgressBuffer.DISABLED);
+        }
+
+        private GoalRepositoryImpl createCoalescingRepository(LatestProgressBuffer latestProgressBuffer) {
+                return new GoalRepositoryImpl(dynamoDbClient, metadataTable, progressTable,
+                                new BatchProgressWriter(dynamoDbClient, 3, 1, 1, millis -> {
+                                }), ProgressWriteSuppressor.DISABLED, ProgressRetentionPolicy.DISABLED,
+                                ProgressHistoryLayout.USER, latestProgressBuffer);
+        }
+
+        private void useKeyedProgressMaps() {
+                when(progressSchema.itemToMap(any(DynamoGoalProgressItem.class), anyBoolean()))
+                                .thenAnswer(invocation -> {
+                                        DynamoGoalProgressItem item = invocation.getArgument(0);
+                                        Map<String, AttributeValue> map = new HashMap<>();
+                                        map.put("pk", AttributeValue.builder().s(item.getPk()).build());
+                                        map.put("sk", AttributeValue.builder().s(item.getSk()).build());
+                                        if (item.getProgressValue() != null) {
+                                                map.put("progressValue", AttributeValue.fromN(
+                                                                item.getProgressValue().toString()));
+                                        }
+                                        return map;
+                                });
+        }
+
         private Goal createValidGoal() {
                 return Goal.builder()
                                 .userId(UUID.randomUUID().toString())
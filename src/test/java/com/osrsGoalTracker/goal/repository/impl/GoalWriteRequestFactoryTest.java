@@ -0,0 +1,204 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Test class for GoalWriteRequestFactory.
+ */
+class GoalWriteRequestFactoryTest {
+    private static final Instant EVENT_TIME = Instant.parse("2025-03-19T04:00:00Z");
+
+    private final GoalWriteRequestFactory requestFactory = new GoalWriteRequestFactory("goals",
+            GoalTableSchemas.METADATA, "goals", GoalTableSchemas.PROGRESS);
+
+    @Test
+    void createProgressTransactionRequest_HistoryPut_IsConditionalOnNewValue() {
+        // Act
+        TransactWriteItemsRequest request = requestFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L);
+
+        // Assert
+        Put historyPut = request.transactItems().get(0).put();
+        assertEquals("CHARACTER#Zezima#GOAL#goal1#" + EVENT_TIME, historyPut.item().get("sk").s());
+        assertEquals("attribute_not_exists(#sk) OR #progressValue <> :progressValue",
+                historyPut.conditionExpression());
+        assertEquals("100", historyPut.expressionAttributeValues().get(":progressValue").n());
+    }
+
+    @Test
+    void createProgressTransactionRequest_LatestPut_IsConditionalOnBeingNewer() {
+        // Act
+        TransactWriteItemsRequest request = requestFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L);
+
+        // Assert
+        Put latestPut = request.transactItems().get(1).put();
+        String nanos = Long.toString(GoalWriteRequestFactory.epochNanos(EVENT_TIME));
+        assertEquals(nanos, latestPut.item().get("createdAtNanos").n());
+        assertEquals(nanos, latestPut.expressionAttributeValues().get(":createdAtNanos").n());
+        assertEquals("attribute_not_exists(#sk) OR (attribute_not_exists(#createdAtNanos)"
+                + " OR #createdAtNanos < :createdAtNanos)", latestPut.conditionExpression());
+        assertFalse(request.transactItems().get(0).put().item().containsKey("createdAtNanos"));
+    }
+
+    @Test
+    void createLatestPutRequest_LatestItem_IsConditionalOnBeingNewer() {
+        // Arrange
+        DynamoGoalProgressItem latestItem = requestFactory.createLatestItem("user1", "Zezima", "goal1", EVENT_TIME,
+                100L);
+
+        // Act
+        PutItemRequest request = requestFactory.createLatestPutRequest(latestItem);
+
+        // Assert
+        Put transactionPut = requestFactory.createProgressTransactionRequest("user1", "Zezima", "goal1", EVENT_TIME,
+                100L).transactItems().get(1).put();
+        assertEquals(transactionPut.item(), request.item());
+        assertEquals(transactionPut.conditionExpression(), request.conditionExpression());
+        assertEquals(transactionPut.expressionAttributeValues(), request.expressionAttributeValues());
+    }
+
+    @Test
+    void createProgressTransactionRequest_HeartbeatCutoff_ComparesCreatedAtNanos() {
+        // Arrange
+        Instant cutoff = Instant.parse("2025-03-18T04:00:00.5Z");
+
+        // Act
+        TransactWriteItemsRequest request = requestFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L, null, cutoff);
+
+        // Assert
+        Put latestPut = request.transactItems().get(1).put();
+        assertEquals("attribute_not_exists(#sk) OR attribute_not_exists(#createdAtNanos)"
+                + " OR (#createdAtNanos < :createdAtNanos AND (#progressValue <> :progressValue"
+                + " OR #createdAtNanos <= :heartbeatCutoffNanos))", latestPut.conditionExpression());
+        assertEquals(Long.toString(GoalWriteRequestFactory.epochNanos(cutoff)),
+                latestPut.expressionAttributeValues().get(":heartbeatCutoffNanos").n());
+        assertFalse(latestPut.expressionAttributeNames().containsKey("#createdAt"));
+    }
+
+    @Test
+    void createProgressTransactionRequest_RetentionPolicy_StampsTtlOnHistoryRowOnly() {
+        // Arrange
+        GoalWriteRequestFactory retainingFactory = new GoalWriteRequestFactory("goals", GoalTableSchemas.METADATA,
+                "goals", GoalTableSchemas.PROGRESS, ProgressRetentionPolicy.of(Duration.ofDays(30),
+                        Map.of("daily", Duration.ofDays(7))), ProgressHistoryLayout.USER);
+
+        // Act
+        TransactWriteItemsRequest daily = retainingFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L, "DAILY", null);
+        TransactWriteItemsRequest unknown = retainingFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L, null, null);
+
+        // Assert
+        assertEquals(Long.toString(EVENT_TIME.plus(Duration.ofDays(7)).getEpochSecond()),
+                daily.transactItems().get(0).put().item().get("ttl").n());
+        assertEquals(Long.toString(EVENT_TIME.plus(Duration.ofDays(30)).getEpochSecond()),
+                unknown.transactItems().get(0).put().item().get("ttl").n());
+        assertFalse(daily.transactItems().get(1).put().item().containsKey("ttl"));
+        assertFalse(requestFactory.createProgressTransactionRequest("user1", "Zezima", "goal1", EVENT_TIME, 100L)
+                .transactItems().get(0).put().item().containsKey("ttl"));
+    }
+
+    @Test
+    void createProgressTransactionRequest_GoalLayout_WritesHistoryRowToGoalPartition() {
+        // Arrange
+        GoalWriteRequestFactory shardedFactory = new GoalWriteRequestFactory("goals", GoalTableSchemas.METADATA,
+                "goals", GoalTableSchemas.PROGRESS, ProgressRetentionPolicy.DISABLED, ProgressHistoryLayout.GOAL);
+
+        // Act
+        TransactWriteItemsRequest request = shardedFactory.createProgressTransactionRequest("user1", "Zezima",
+                "goal1", EVENT_TIME, 100L);
+
+        // Assert
+        assertEquals("USER#user1#GOAL#goal1", request.transactItems().get(0).put().item().get("pk").s());
+        assertEquals("USER#user1", request.transactItems().get(1).put().item().get("pk").s());
+        assertEquals(SortKeyUtil.buildGoalProgressSortKey("Zezima", "goal1", EVENT_TIME),
+                request.transactItems().get(0).put().item().get("sk").s());
+    }
+
+    @Test
+    void progressTimestamp_EventTime_UsesEventTime() {
+        // Arrange
+        Goal fromEvent = Goal.builder().progressTimestamp(EVENT_TIME).build();
+        Goal withoutEvent = Goal.builder().build();
+
+        // Act & Assert
+        assertEquals(EVENT_TIME, requestFactory.progressTimestamp(fromEvent));
+        assertTrue(requestFactory.progressTimestamp(withoutEvent).isAfter(EVENT_TIME));
+    }
+
+    @Test
+    void isCancelledByCondition_OnlyConditionsFailed_ReturnsTrue() {
+        // Act & Assert
+        assertTrue(GoalWriteRequestFactory.isCancelledByCondition(cancelled("ConditionalCheckFailed", "None")));
+        assertTrue(GoalWriteRequestFactory.isCancelledByCondition(new CompletionException(cancelled("None",
+                "ConditionalCheckFailed"))));
+        assertFalse(GoalWriteRequestFactory.isCancelledByCondition(cancelled("ThrottlingError",
+                "ConditionalCheckFailed")));
+        assertFalse(GoalWriteRequestFactory.isCancelledByCondition(cancelled("None", "None")));
+        assertFalse(GoalWriteRequestFactory.isCancelledByCondition(new IllegalStateException("boom")));
+    }
+
+    @Test
+    void isSupersededByNewerLatest_LatestAtLeastAsNew_ReturnsTrue() {
+        // Arrange
+        long eventNanos = GoalWriteRequestFactory.epochNanos(EVENT_TIME);
+
+        // Act & Assert
+        assertTrue(GoalWriteRequestFactory.isSupersededByNewerLatest(latestCancelled("None", eventNanos + 1),
+                EVENT_TIME));
+        assertTrue(GoalWriteRequestFactory.isSupersededByNewerLatest(new CompletionException(latestCancelled("None",
+                eventNanos)), EVENT_TIME));
+        assertFalse(GoalWriteRequestFactory.isSupersededByNewerLatest(latestCancelled("None", eventNanos - 1),
+                EVENT_TIME));
+        assertFalse(GoalWriteRequestFactory.isSupersededByNewerLatest(latestCancelled("ConditionalCheckFailed",
+                eventNanos + 1), EVENT_TIME));
+        assertFalse(GoalWriteRequestFactory.isSupersededByNewerLatest(cancelled("None", "ConditionalCheckFailed"),
+                EVENT_TIME));
+    }
+
+    private TransactionCanceledException latestCancelled(String historyCode, long latestNanos) {
+        return TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(CancellationReason.builder().code(historyCode).build(),
+                        CancellationReason.builder()
+                                .code("ConditionalCheckFailed")
+                                .item(Map.of("createdAtNanos",
+                                        AttributeValue.builder().n(Long.toString(latestNanos)).build()))
+                                .build())
+                .build();
+    }
+
+    private TransactionCanceledException cancelled(String... codes) {
+        CancellationReason[] reasons = new CancellationReason[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            reasons[i] = CancellationReason.builder().code(codes[i]).build();
+        }
+        return TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(reasons)
+                .build();
+    }
+}
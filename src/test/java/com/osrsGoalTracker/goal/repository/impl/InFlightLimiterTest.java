@@ -0,0 +1,73 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for InFlightLimiter.
+ */
+class InFlightLimiterTest {
+
+    @Test
+    void submit_CapReached_StartsQueuedRequestsInOrderAsCapacityFrees() {
+        // Arrange
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<CompletableFuture<Integer>> started = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            results.add(limiter.submit(() -> {
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                started.add(future);
+                return future;
+            }));
+        }
+
+        // Assert
+        assertEquals(2, started.size());
+        assertEquals(2, limiter.inFlight());
+        started.get(0).complete(0);
+        assertEquals(3, started.size());
+        assertEquals(0, results.get(0).join());
+        started.get(1).complete(1);
+        started.get(2).complete(2);
+        started.get(3).complete(3);
+        assertEquals(3, results.get(3).join());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void submit_ManyQueuedRequestsFailSynchronously_StartsThemWithoutRecursing() {
+        // Arrange
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        limiter.submit(() -> first);
+        IllegalStateException failure = new IllegalStateException("rejected");
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            results.add(limiter.submit(() -> {
+                throw failure;
+            }));
+        }
+
+        // Act
+        first.complete(0);
+
+        // Assert
+        assertTrue(results.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+        CompletionException thrown = assertThrows(CompletionException.class,
+                () -> results.get(results.size() - 1).join());
+        assertSame(failure, thrown.getCause());
+        assertEquals(0, limiter.inFlight());
+    }
+}
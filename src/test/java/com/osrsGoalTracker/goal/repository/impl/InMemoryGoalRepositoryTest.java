@@ -0,0 +1,283 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for InMemoryGoalRepository.
+ */
+class InMemoryGoalRepositoryTest {
+    private static final String USER_ID = "user1";
+    private static final Instant START = LocalDate.now(ZoneOffset.UTC).with(TemporalAdjusters.next(DayOfWeek.MONDAY))
+            .atStartOfDay(ZoneOffset.UTC).toInstant();
+    private static final Instant PAST_MONDAY = Instant.parse("2025-03-03T00:00:00Z");
+
+    private InMemoryGoalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryGoalRepository();
+    }
+
+    @Test
+    void createGoal_NewGoal_IsReadBackWithItsProgress() {
+        // Act
+        Goal created = repository.createGoal(newGoal("Zezima", 500L));
+
+        // Assert
+        Goal read = repository.getGoal(USER_ID, "Zezima", created.getGoalId()).orElseThrow();
+        assertEquals("WOODCUTTING", read.getTargetAttribute());
+        assertEquals(500L, read.getCurrentProgress());
+        assertEquals(500L, repository.getGoalProgressSnapshot(USER_ID, "Zezima", created.getGoalId())
+                .orElseThrow().getEarliest().getProgressValue());
+        assertTrue(repository.getGoal(USER_ID, "Lynx Titan", created.getGoalId()).isEmpty());
+        assertTrue(repository.getGoal("user2", "Zezima", created.getGoalId()).isEmpty());
+    }
+
+    @Test
+    void listGoalsForUser_GoalsOfSeveralCharacters_PagesThroughEveryGoal() {
+        // Arrange
+        for (String characterName : List.of("Zezima", "Lynx Titan", "Zezima", "Woox", "Lynx Titan")) {
+            repository.createGoal(newGoal(characterName, 0L));
+        }
+
+        // Act
+        List<Goal> goals = Page.<Goal>stream(cursor -> repository.listGoalsForUser(USER_ID, cursor, 2)).toList();
+        Page<Goal> zezima = repository.listGoalsForCharacter(USER_ID, "Zezima", null, 1);
+
+        // Assert
+        assertEquals(5, goals.size());
+        assertEquals(List.of("Lynx Titan", "Lynx Titan", "Woox", "Zezima", "Zezima"),
+                goals.stream().map(Goal::getCharacterName).toList());
+        assertEquals(1, zezima.getItems().size());
+        assertNotNull(zezima.getNextCursor());
+        Page<Goal> secondPage = repository.listGoalsForCharacter(USER_ID, "Zezima", zezima.getNextCursor(), 1);
+        assertEquals("Zezima", secondPage.getItems().get(0).getCharacterName());
+        assertNull(secondPage.getNextCursor());
+        assertThrows(IllegalArgumentException.class, () -> repository.listGoalsForUser(USER_ID, null, 0));
+    }
+
+    @Test
+    void listGoalProgress_Range_ReturnsOnlyHistoryInsideItInPages() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+        for (int i = 1; i <= 6; i++) {
+            repository.createGoalProgress(progress(goalId, START.plusSeconds(i), i * 100L));
+        }
+
+        // Act
+        List<Long> values = Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(USER_ID, "Zezima",
+                goalId, START.plusSeconds(2), START.plusSeconds(5), cursor, 3))
+                .map(GoalProgressPoint::getProgressValue)
+                .toList();
+
+        // Assert
+        assertEquals(List.of(200L, 300L, 400L, 500L), values);
+        assertEquals(600L, repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress());
+    }
+
+    @Test
+    void listGoalProgress_FractionDigitsWithinSecond_ReturnsHistoryInTimeOrder() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+        for (long millis : List.of(900L, 1_000L, 1_500L, 1_123L, 2_000L)) {
+            repository.createGoalProgress(progress(goalId, START.plusMillis(millis), millis));
+        }
+
+        // Act
+        List<Long> values = Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(USER_ID, "Zezima",
+                goalId, START.plusMillis(900), START.plusSeconds(2), cursor, 3))
+                .map(GoalProgressPoint::getProgressValue)
+                .toList();
+
+        // Assert
+        assertEquals(List.of(900L, 1_000L, 1_123L, 1_500L, 2_000L), values);
+    }
+
+    @Test
+    void createGoalProgress_RedeliveredEvent_IsWrittenOnce() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+        Goal update = progress(goalId, START.plusSeconds(1), 100L);
+
+        // Act
+        repository.createGoalProgress(update);
+        repository.createGoalProgress(update);
+
+        // Assert
+        assertEquals(1, repository.listGoalProgress(USER_ID, "Zezima", goalId, START, START.plusSeconds(60), null,
+                10).getItems().size());
+    }
+
+    @Test
+    void createGoalProgress_OlderUpdateAfterNewer_KeepsNewerLatestAndBothHistoryRows() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+
+        // Act
+        repository.createGoalProgress(progress(goalId, START.plusSeconds(2), 200L));
+        repository.createGoalProgress(progress(goalId, START.plusSeconds(1), 100L));
+
+        // Assert
+        assertEquals(200L, repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress());
+        assertEquals(List.of(100L, 200L), repository.listGoalProgress(USER_ID, "Zezima", goalId, START.plusSeconds(1),
+                START.plusSeconds(60), null, 10).getItems().stream().map(GoalProgressPoint::getProgressValue)
+                .toList());
+    }
+
+    @Test
+    void createGoalProgressBatch_SameGoalOutOfOrder_KeepsNewestAsLatest() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+
+        // Act
+        repository.createGoalProgressBatch(List.of(progress(goalId, START.plusSeconds(10), 200L),
+                progress(goalId, START.plusSeconds(5), 100L)));
+
+        // Assert
+        assertEquals(200L, repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress());
+        assertEquals(List.of(START.plusSeconds(5), START.plusSeconds(10)), repository.listGoalProgress(USER_ID,
+                "Zezima", goalId, START.plusSeconds(1), START.plusSeconds(60), null, 10).getItems().stream()
+                .map(GoalProgressPoint::getTimestamp)
+                .toList());
+    }
+
+    @Test
+    void createGoalProgressBatch_SameTimestampTwice_KeepsBothAndReportsInvalidUpdates() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+        Goal invalid = progress(goalId, START.plusSeconds(1), 100L);
+        invalid.setUserId("");
+
+        // Act
+        List<GoalProgressWriteResult> results = repository.createGoalProgressBatch(List.of(
+                progress(goalId, START.plusSeconds(1), 100L), progress(goalId, START.plusSeconds(1), 200L), invalid));
+
+        // Assert
+        assertEquals(List.of(true, true, false), results.stream().map(GoalProgressWriteResult::isSuccess).toList());
+        assertEquals(List.of(100L, 200L), repository.listGoalProgress(USER_ID, "Zezima", goalId, START,
+                START.plusSeconds(60), null, 10).getItems().stream().map(GoalProgressPoint::getProgressValue).sorted()
+                .toList());
+        assertEquals(200L, repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress());
+    }
+
+    @Test
+    void compactGoalProgress_OldWeeks_RollsUpOnceAndDeletesRawRecords() {
+        // Arrange
+        String goalId = repository.createGoal(newGoal("Zezima", 0L)).getGoalId();
+        for (int i = 0; i < 10; i++) {
+            repository.createGoalProgress(progress(goalId, PAST_MONDAY.plus(i, ChronoUnit.DAYS), i * 100L));
+        }
+        Instant olderThan = PAST_MONDAY.plus(14, ChronoUnit.DAYS);
+        long latest = repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress();
+
+        // Act
+        ProgressCompactionResult result = repository.compactGoalProgress(USER_ID, "Zezima", goalId, olderThan);
+        ProgressCompactionResult rerun = repository.compactGoalProgress(USER_ID, "Zezima", goalId, olderThan);
+
+        // Assert
+        assertEquals(2, result.getWeeksCompacted());
+        assertEquals(12, result.getRollupsWritten());
+        assertEquals(10L, result.getRecordsDeleted());
+        assertEquals(0, rerun.getWeeksCompacted());
+        List<GoalProgressRollup> weeks = repository.listGoalProgressRollups(USER_ID, "Zezima", goalId,
+                ProgressInterval.WEEK, PAST_MONDAY, olderThan, null, 10).getItems();
+        assertEquals(List.of(7L, 3L), weeks.stream().map(GoalProgressRollup::getCount).toList());
+        assertEquals(900L, weeks.get(1).getLastValue());
+        assertEquals(10, repository.listGoalProgressRollups(USER_ID, "Zezima", goalId, ProgressInterval.DAY,
+                PAST_MONDAY, olderThan, null, 100).getItems().size());
+        assertTrue(repository.listGoalProgress(USER_ID, "Zezima", goalId, PAST_MONDAY, olderThan, null, 10)
+                .getItems().isEmpty());
+        assertEquals(latest, repository.getGoal(USER_ID, "Zezima", goalId).orElseThrow().getCurrentProgress());
+    }
+
+    @Test
+    void createGoalProgress_ConcurrentWriters_EveryUpdateLands() throws Exception {
+        // Arrange
+        List<String> goalIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            goalIds.add(repository.createGoal(newGoal("Zezima", 0L)).getGoalId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // Act
+        try {
+            for (int writer = 0; writer < 8; writer++) {
+                int offset = writer;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        String goalId = goalIds.get(i % goalIds.size());
+                        repository.createGoalProgress(progress(goalId, START.plusMillis(offset * 1_000L + i + 1),
+                                i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        long rows = goalIds.stream()
+                .mapToLong(goalId -> Page.<GoalProgressPoint>stream(cursor -> repository.listGoalProgress(USER_ID,
+                        "Zezima", goalId, START.plusMillis(1), START.plusSeconds(60), cursor, 100)).count())
+                .sum();
+        assertEquals(2_000L, rows);
+        assertFalse(repository.listGoalsForUser(USER_ID, null, 10).getItems().isEmpty());
+    }
+
+    private Goal newGoal(String characterName, long currentProgress) {
+        return Goal.builder()
+                .userId(USER_ID)
+                .characterName(characterName)
+                .goalId("new")
+                .targetAttribute("WOODCUTTING")
+                .targetType("xp")
+                .targetValue(13_034_431L)
+                .currentProgress(currentProgress)
+                .targetDate(START.plus(90, ChronoUnit.DAYS))
+                .notificationChannelType("DISCORD")
+                .frequency("daily")
+                .build();
+    }
+
+    private Goal progress(String goalId, Instant timestamp, long value) {
+        return Goal.builder()
+                .userId(USER_ID)
+                .characterName("Zezima")
+                .goalId(goalId)
+                .currentProgress(value)
+                .progressTimestamp(timestamp)
+                .build();
+    }
+}
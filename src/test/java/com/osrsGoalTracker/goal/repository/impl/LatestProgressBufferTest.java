@@ -0,0 +1,152 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for LatestProgressBuffer.
+ */
+class LatestProgressBufferTest {
+    private static final Instant NOW = Instant.parse("2025-03-19T04:00:00Z");
+
+    @Test
+    void stage_SameGoalTwice_KeepsRowWithLaterTimestamp() {
+        // Arrange
+        LatestProgressBuffer buffer = LatestProgressBuffer.coalescing(10, Duration.ofSeconds(1));
+
+        // Act
+        buffer.stage(latest("goal1", NOW.plusSeconds(2), 200L), NOW);
+        buffer.stage(latest("goal1", NOW.plusSeconds(1), 100L), NOW);
+        buffer.stage(latest("goal2", NOW, 50L), NOW);
+
+        // Assert
+        List<DynamoGoalProgressItem> drained = buffer.drain();
+        assertEquals(List.of(200L, 50L), drained.stream().map(DynamoGoalProgressItem::getProgressValue).toList());
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    void isFlushDue_PendingLimitOrDelayReached_ReturnsTrue() {
+        // Arrange
+        LatestProgressBuffer buffer = LatestProgressBuffer.coalescing(2, Duration.ofSeconds(1));
+
+        // Act & Assert
+        assertFalse(buffer.isFlushDue(NOW));
+        buffer.stage(latest("goal1", NOW, 100L), NOW);
+        assertFalse(buffer.isFlushDue(NOW.plusMillis(999)));
+        assertTrue(buffer.isFlushDue(NOW.plusSeconds(1)));
+        buffer.stage(latest("goal2", NOW, 100L), NOW);
+        assertTrue(buffer.isFlushDue(NOW));
+        buffer.drain();
+        assertFalse(buffer.isFlushDue(NOW.plusSeconds(5)));
+    }
+
+    @Test
+    void flush_WriterFailsSomeRows_StagesThemAgainUnlessNewerRowStaged() {
+        // Arrange
+        LatestProgressBuffer buffer = LatestProgressBuffer.coalescing(10, Duration.ofSeconds(1));
+        buffer.stage(latest("goal1", NOW, 100L), NOW);
+        buffer.stage(latest("goal2", NOW, 50L), NOW);
+
+        // Act
+        List<DynamoGoalProgressItem> failed = buffer.flush(rows -> {
+            buffer.stage(latest("goal2", NOW.plusSeconds(1), 60L), NOW);
+            return rows;
+        }, NOW);
+
+        // Assert
+        assertEquals(List.of(100L, 50L), failed.stream().map(DynamoGoalProgressItem::getProgressValue).toList());
+        assertEquals(List.of(60L, 100L), buffer.drain().stream().map(DynamoGoalProgressItem::getProgressValue)
+                .toList());
+        assertTrue(buffer.flush(rows -> {
+            throw new IllegalStateException("nothing to write");
+        }, NOW).isEmpty());
+    }
+
+    @Test
+    void flush_WriterThrows_StagesEveryRowAgainAndRethrows() {
+        // Arrange
+        LatestProgressBuffer buffer = LatestProgressBuffer.coalescing(10, Duration.ofSeconds(1));
+        buffer.stage(latest("goal1", NOW, 100L), NOW);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> buffer.flush(rows -> {
+            throw new IllegalStateException("write failed");
+        }, NOW));
+        assertEquals(List.of(100L), buffer.drain().stream().map(DynamoGoalProgressItem::getProgressValue)
+                .toList());
+    }
+
+    @Test
+    void flush_CalledWhileAnotherFlushWrites_WaitsForIt() throws Exception {
+        // Arrange
+        LatestProgressBuffer buffer = LatestProgressBuffer.coalescing(10, Duration.ofSeconds(1));
+        buffer.stage(latest("goal1", NOW, 100L), NOW);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondWrote = new AtomicBoolean();
+        Thread first = new Thread(() -> buffer.flush(rows -> {
+            writing.countDown();
+            awaitQuietly(release);
+            return List.of();
+        }, NOW));
+        first.start();
+        writing.await();
+        buffer.stage(latest("goal2", NOW, 50L), NOW);
+
+        // Act
+        Thread second = new Thread(() -> buffer.flush(rows -> {
+            secondWrote.set(true);
+            return List.of();
+        }, NOW));
+        second.start();
+        while (second.getState() != Thread.State.WAITING && second.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertFalse(secondWrote.get());
+        release.countDown();
+        first.join();
+        second.join();
+        assertTrue(secondWrote.get());
+    }
+
+    @Test
+    void coalescing_InvalidThresholds_ThrowsException() {
+        // Act & Assert
+        assertFalse(LatestProgressBuffer.DISABLED.isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> LatestProgressBuffer.coalescing(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> LatestProgressBuffer.coalescing(1, Duration.ZERO));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DynamoGoalProgressItem latest(String goalId, Instant timestamp, long value) {
+        return DynamoGoalProgressItem.builder()
+                .pk("USER#user1")
+                .sk("CHARACTER#Zezima#GOAL#" + goalId + "#LATEST")
+                .goalId(goalId)
+                .progressValue(value)
+                .createdAt(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,248 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.repository.impl.DynamoItem.GoalTableSchemas;
+import com.osrsGoalTracker.goal.repository.util.SortKeyUtil;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Test class for ProgressCompactor, run against an in-memory sorted table.
+ */
+class ProgressCompactorTest {
+    private static final String TABLE_NAME = "goals";
+    private static final String USER_ID = "user1";
+    private static final String CHARACTER = "Zezima";
+    private static final String GOAL_ID = "goal1";
+    private static final Instant FIRST_WEEK = Instant.parse("2025-03-03T00:00:00Z");
+    private static final Instant SECOND_WEEK = Instant.parse("2025-03-10T00:00:00Z");
+    private static final Instant CURRENT_WEEK = Instant.parse("2025-03-17T00:00:00Z");
+    private static final Instant NOW = Instant.parse("2025-03-19T04:25:06Z");
+
+    private final NavigableMap<String, Map<String, AttributeValue>> table = new TreeMap<>();
+    private final List<TransactWriteItemsRequest> transactions = new ArrayList<>();
+    private boolean cancelTransactions;
+    private GoalReader reader;
+    private ProgressCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        reader = new GoalReader(TABLE_NAME, GoalTableSchemas.METADATA, GoalTableSchemas.PROGRESS, this::query,
+                this::batchGet, millis -> {
+                });
+        GoalWriteRequestFactory requestFactory = new GoalWriteRequestFactory(TABLE_NAME, GoalTableSchemas.METADATA,
+                TABLE_NAME, GoalTableSchemas.PROGRESS);
+        compactor = new ProgressCompactor(reader, requestFactory, this::transactWrite,
+                new BatchProgressWriter(this::batchWrite, 3, 0L, 0L, millis -> {
+                }));
+    }
+
+    @Test
+    void compact_TwoCompleteWeeks_WritesRollupsAndDeletesRawRecords() {
+        // Arrange
+        putProgress(FIRST_WEEK.plusSeconds(3_600), 100L);
+        putProgress(FIRST_WEEK.plusSeconds(7_200), 90L);
+        putProgress(FIRST_WEEK.plusSeconds(90_000), 150L);
+        putProgress(SECOND_WEEK.plusSeconds(60), 200L);
+        putProgress(CURRENT_WEEK.plusSeconds(60), 300L);
+
+        // Act
+        ProgressCompactionResult result = compactor.compact(USER_ID, CHARACTER, GOAL_ID, NOW);
+
+        // Assert
+        assertEquals(2, result.getWeeksCompacted());
+        assertEquals(5, result.getRollupsWritten());
+        assertEquals(4L, result.getRecordsDeleted());
+        assertEquals(0L, result.getRecordsNotDeleted());
+        assertEquals(1, reader.listGoalProgress(USER_ID, CHARACTER, GOAL_ID, Instant.EPOCH, NOW, null, 10)
+                .getItems().size());
+        assertEquals(CURRENT_WEEK, reader.getCompactedThrough(USER_ID, CHARACTER, GOAL_ID));
+
+        List<GoalProgressRollup> weeks = reader.listGoalProgressRollups(USER_ID, CHARACTER, GOAL_ID,
+                ProgressInterval.WEEK, FIRST_WEEK, NOW, null, 10).getItems();
+        assertEquals(2, weeks.size());
+        GoalProgressRollup firstWeek = weeks.get(0);
+        assertEquals(FIRST_WEEK, firstWeek.getBucketStart());
+        assertEquals(3L, firstWeek.getCount());
+        assertEquals(90L, firstWeek.getMinValue());
+        assertEquals(150L, firstWeek.getMaxValue());
+        assertEquals(100L, firstWeek.getFirstValue());
+        assertEquals(150L, firstWeek.getLastValue());
+        assertEquals(FIRST_WEEK.plusSeconds(3_600), firstWeek.getFirstTimestamp());
+
+        Page<GoalProgressRollup> days = reader.listGoalProgressRollups(USER_ID, CHARACTER, GOAL_ID,
+                ProgressInterval.DAY, FIRST_WEEK, SECOND_WEEK.minusNanos(1), null, 10);
+        assertEquals(List.of(2L, 1L), days.getItems().stream().map(GoalProgressRollup::getCount).toList());
+    }
+
+    @Test
+    void compact_WeekBeforeCheckpoint_OnlyDeletesRawRecords() {
+        // Arrange
+        putProgress(FIRST_WEEK.plusSeconds(60), 100L);
+        putProgress(SECOND_WEEK.plusSeconds(60), 200L);
+        transactWrite(checkpointRequest(SECOND_WEEK));
+        transactions.clear();
+
+        // Act
+        ProgressCompactionResult result = compactor.compact(USER_ID, CHARACTER, GOAL_ID, NOW);
+
+        // Assert
+        assertEquals(1, result.getWeeksCompacted());
+        assertEquals(2L, result.getRecordsDeleted());
+        assertEquals(1, transactions.size());
+        assertEquals(CURRENT_WEEK, reader.getCompactedThrough(USER_ID, CHARACTER, GOAL_ID));
+    }
+
+    @Test
+    void compact_WeekCompactedByAnotherRun_StillDeletesRawRecords() {
+        // Arrange
+        putProgress(FIRST_WEEK.plusSeconds(60), 100L);
+        cancelTransactions = true;
+
+        // Act
+        ProgressCompactionResult result = compactor.compact(USER_ID, CHARACTER, GOAL_ID, NOW);
+
+        // Assert
+        assertEquals(0, result.getRollupsWritten());
+        assertEquals(1L, result.getRecordsDeleted());
+        assertFalse(table.keySet().stream().anyMatch(sk -> sk.contains("#ROLLUP#")));
+    }
+
+    @Test
+    void compact_HistoryInBothLayouts_DeletesRowsFromTheirOwnPartition() {
+        // Arrange
+        putProgress(ProgressHistoryLayout.USER, FIRST_WEEK.plusSeconds(60), 100L);
+        putProgress(ProgressHistoryLayout.GOAL, FIRST_WEEK.plusSeconds(120), 150L);
+        putProgress(ProgressHistoryLayout.GOAL, CURRENT_WEEK.plusSeconds(60), 300L);
+
+        // Act
+        ProgressCompactionResult result = compactor.compact(USER_ID, CHARACTER, GOAL_ID, NOW);
+
+        // Assert
+        assertEquals(2L, result.getRecordsDeleted());
+        assertEquals(2L, reader.listGoalProgressRollups(USER_ID, CHARACTER, GOAL_ID, ProgressInterval.WEEK,
+                FIRST_WEEK, NOW, null, 10).getItems().get(0).getCount());
+        assertEquals(List.of(CURRENT_WEEK.plusSeconds(60)), reader.listGoalProgress(USER_ID, CHARACTER, GOAL_ID,
+                Instant.EPOCH, NOW, null, 10).getItems().stream().map(GoalProgressPoint::getTimestamp).toList());
+    }
+
+    @Test
+    void compact_NothingOldEnough_WritesNothing() {
+        // Arrange
+        putProgress(CURRENT_WEEK.plusSeconds(60), 300L);
+
+        // Act
+        ProgressCompactionResult result = compactor.compact(USER_ID, CHARACTER, GOAL_ID, NOW);
+
+        // Assert
+        assertEquals(1, result.getGoalsProcessed());
+        assertEquals(0, result.getWeeksCompacted());
+        assertTrue(transactions.isEmpty());
+    }
+
+    private TransactWriteItemsRequest checkpointRequest(Instant compactedThrough) {
+        return new GoalWriteRequestFactory(TABLE_NAME, GoalTableSchemas.METADATA, TABLE_NAME,
+                GoalTableSchemas.PROGRESS).createCompactionTransactionRequest(USER_ID, CHARACTER, GOAL_ID,
+                        List.of(), compactedThrough.minusSeconds(7 * 86_400), compactedThrough);
+    }
+
+    private void putProgress(Instant timestamp, long progress) {
+        putProgress(ProgressHistoryLayout.USER, timestamp, progress);
+    }
+
+    private void putProgress(ProgressHistoryLayout layout, Instant timestamp, long progress) {
+        Map<String, AttributeValue> item = GoalTableSchemas.PROGRESS.itemToMap(DynamoGoalProgressItem.builder()
+                .pk(layout.historyPartitionKey(USER_ID, GOAL_ID))
+                .sk(SortKeyUtil.buildGoalProgressSortKey(CHARACTER, GOAL_ID, timestamp))
+                .progressValue(progress)
+                .createdAt(timestamp)
+                .build(), true);
+        put(item);
+    }
+
+    private void put(Map<String, AttributeValue> item) {
+        table.put(tableKey(item.get("pk").s(), item.get("sk").s()), item);
+    }
+
+    private String tableKey(String pk, String sk) {
+        return pk + '\0' + sk;
+    }
+
+    private void transactWrite(TransactWriteItemsRequest request) {
+        transactions.add(request);
+        if (cancelTransactions) {
+            throw TransactionCanceledException.builder()
+                    .message("Transaction cancelled")
+                    .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build())
+                    .build();
+        }
+        for (TransactWriteItem item : request.transactItems()) {
+            put(item.put().item());
+        }
+    }
+
+    private BatchWriteItemResponse batchWrite(BatchWriteItemRequest request) {
+        for (WriteRequest write : request.requestItems().get(TABLE_NAME)) {
+            Map<String, AttributeValue> key = write.deleteRequest().key();
+            table.remove(tableKey(key.get("pk").s(), key.get("sk").s()));
+        }
+        return BatchWriteItemResponse.builder().build();
+    }
+
+    private QueryResponse query(QueryRequest request) {
+        Map<String, AttributeValue> values = request.expressionAttributeValues();
+        String pk = values.get(":pk").s();
+        NavigableMap<String, Map<String, AttributeValue>> range = table.subMap(tableKey(pk, values.get(":from").s()),
+                true, tableKey(pk, values.get(":to").s()), true);
+        if (request.hasExclusiveStartKey()) {
+            range = range.tailMap(tableKey(pk, request.exclusiveStartKey().get("sk").s()), false);
+        }
+        List<Map<String, AttributeValue>> items = range.values().stream().limit(request.limit()).toList();
+        QueryResponse.Builder response = QueryResponse.builder().items(items);
+        if (items.size() == request.limit()) {
+            Map<String, AttributeValue> last = items.get(items.size() - 1);
+            response.lastEvaluatedKey(Map.of("pk", last.get("pk"), "sk", last.get("sk")));
+        }
+        return response.build();
+    }
+
+    private BatchGetItemResponse batchGet(BatchGetItemRequest request) {
+        List<Map<String, AttributeValue>> items = request.requestItems().get(TABLE_NAME).keys().stream()
+                .map(key -> table.get(tableKey(key.get("pk").s(), key.get("sk").s())))
+                .filter(item -> item != null)
+                .toList();
+        return BatchGetItemResponse.builder()
+                .responses(Map.of(TABLE_NAME, items))
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ProgressRetentionPolicy.
+ */
+class ProgressRetentionPolicyTest {
+    private static final Instant NOW = Instant.parse("2025-03-19T04:00:00Z");
+
+    @Test
+    void expiresAt_FrequencyWithRetention_UsesFrequencyRetention() {
+        // Arrange
+        ProgressRetentionPolicy policy = ProgressRetentionPolicy.of(Duration.ofDays(30),
+                Map.of("weekly", Duration.ofDays(365)));
+
+        // Act & Assert
+        assertEquals(NOW.plus(Duration.ofDays(365)).getEpochSecond(), policy.expiresAt("Weekly", NOW));
+        assertEquals(NOW.plus(Duration.ofDays(30)).getEpochSecond(), policy.expiresAt("daily", NOW));
+        assertEquals(NOW.plus(Duration.ofDays(30)).getEpochSecond(), policy.expiresAt(null, NOW));
+    }
+
+    @Test
+    void expiresAt_NoRetention_NeverExpires() {
+        // Arrange
+        ProgressRetentionPolicy policy = ProgressRetentionPolicy.of(null, Map.of("daily", Duration.ofDays(7)));
+
+        // Act & Assert
+        assertNull(ProgressRetentionPolicy.DISABLED.expiresAt("daily", NOW));
+        assertNull(policy.expiresAt("weekly", NOW));
+        assertEquals(NOW.plus(Duration.ofDays(7)).getEpochSecond(), policy.expiresAt("DAILY", NOW));
+    }
+
+    @Test
+    void of_NonPositiveRetention_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ProgressRetentionPolicy.of(Duration.ZERO, Map.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProgressRetentionPolicy.of(null, Map.of("daily", Duration.ofDays(-1))));
+        assertThrows(IllegalArgumentException.class, () -> ProgressRetentionPolicy.of(null, null));
+    }
+}
@@ -0,0 +1,76 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.model.Goal;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ProgressWriteSuppressor.
+ */
+class ProgressWriteSuppressorTest {
+    private static final Instant NOW = Instant.parse("2025-03-19T04:00:00Z");
+
+    @Test
+    void isKnownUnchanged_SameValueWithinHeartbeat_ReturnsTrue() {
+        // Arrange
+        ProgressWriteSuppressor suppressor = ProgressWriteSuppressor.onChange(Duration.ofHours(1));
+        suppressor.recordWritten(goal("goal1", 100L), NOW);
+
+        // Act & Assert
+        assertTrue(suppressor.isKnownUnchanged(goal("goal1", 100L), NOW.plusSeconds(60)));
+        assertFalse(suppressor.isKnownUnchanged(goal("goal1", 101L), NOW.plusSeconds(60)));
+        assertFalse(suppressor.isKnownUnchanged(goal("goal1", 100L), NOW.plus(Duration.ofHours(1))));
+        assertFalse(suppressor.isKnownUnchanged(goal("goal2", 100L), NOW.plusSeconds(60)));
+    }
+
+    @Test
+    void isKnownUnchanged_CacheFull_EvictsLeastRecentlyUsed() {
+        // Arrange
+        ProgressWriteSuppressor suppressor = ProgressWriteSuppressor.onChange(Duration.ofHours(1), 2);
+        suppressor.recordWritten(goal("goal1", 1L), NOW);
+        suppressor.recordWritten(goal("goal2", 2L), NOW);
+        suppressor.isKnownUnchanged(goal("goal1", 1L), NOW);
+        suppressor.recordWritten(goal("goal3", 3L), NOW);
+
+        // Act & Assert
+        assertTrue(suppressor.isKnownUnchanged(goal("goal1", 1L), NOW));
+        assertFalse(suppressor.isKnownUnchanged(goal("goal2", 2L), NOW));
+        assertTrue(suppressor.isKnownUnchanged(goal("goal3", 3L), NOW));
+    }
+
+    @Test
+    void disabled_NeverSuppresses() {
+        // Arrange
+        ProgressWriteSuppressor suppressor = ProgressWriteSuppressor.DISABLED;
+        suppressor.recordWritten(goal("goal1", 100L), NOW);
+
+        // Act & Assert
+        assertFalse(suppressor.isKnownUnchanged(goal("goal1", 100L), NOW));
+        assertNull(suppressor.heartbeatCutoff(NOW));
+    }
+
+    @Test
+    void onChange_InvalidHeartbeat_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ProgressWriteSuppressor.onChange(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProgressWriteSuppressor.onChange(Duration.ofHours(1), -1));
+    }
+
+    private Goal goal(String goalId, long progress) {
+        return Goal.builder()
+                .userId("user1")
+                .characterName("Zezima")
+                .goalId(goalId)
+                .currentProgress(progress)
+                .build();
+    }
+}
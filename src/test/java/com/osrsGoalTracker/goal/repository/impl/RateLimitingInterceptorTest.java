@@ -0,0 +1,114 @@
+package com.osrsGoalTracker.goal.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.model.BackpressureException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Test class for RateLimitingInterceptor.
+ */
+class RateLimitingInterceptorTest {
+    private static final String OPERATION = "BatchWriteItem";
+
+    private GoalMetrics metrics;
+    private AdaptiveRateLimiter limiter;
+    private RateLimitingInterceptor interceptor;
+    private ExecutionAttributes attributes;
+
+    @BeforeEach
+    void setUp() {
+        metrics = mock(GoalMetrics.class);
+        limiter = AdaptiveRateLimiter.aimd(2, 1, 10, Duration.ofSeconds(5));
+        interceptor = new RateLimitingInterceptor(limiter, false, metrics);
+        attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, OPERATION);
+    }
+
+    @Test
+    void beforeExecution_NoTokenAndMayNotWait_ThrowsBackpressure() {
+        // Arrange
+        interceptor.beforeExecution(null, attributes);
+        interceptor.beforeExecution(null, attributes);
+
+        // Act
+        BackpressureException refused = assertThrows(BackpressureException.class,
+                () -> interceptor.beforeExecution(null, attributes));
+
+        // Assert
+        assertEquals(2.0, refused.getPermitsPerSecond());
+        verify(metrics).recordBackpressure(OPERATION, 2.0);
+        assertEquals(1L, limiter.rejectionCount());
+    }
+
+    @Test
+    void afterExecution_UnprocessedItems_LowersRate() {
+        // Arrange
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.response()).thenReturn(BatchWriteItemResponse.builder()
+                .unprocessedItems(Map.of("goals", List.of(WriteRequest.builder().build())))
+                .build());
+
+        // Act
+        interceptor.afterExecution(context, attributes);
+
+        // Assert
+        assertEquals(1.0, limiter.currentRate());
+        verify(metrics).recordThrottle(OPERATION, 1.0);
+    }
+
+    @Test
+    void onExecutionFailure_NonThrottlingError_LeavesRate() {
+        // Arrange
+        Context.FailedExecution context = mock(Context.FailedExecution.class);
+        when(context.exception()).thenReturn(ConditionalCheckFailedException.builder().message("no").build());
+
+        // Act
+        interceptor.onExecutionFailure(context, attributes);
+
+        // Assert
+        assertEquals(2.0, limiter.currentRate());
+        verify(metrics, never()).recordThrottle(OPERATION, 2.0);
+    }
+
+    @Test
+    void isThrottle_ThrottlingErrors_ReturnsTrue() {
+        // Act & Assert
+        assertTrue(RateLimitingInterceptor.isThrottle(ProvisionedThroughputExceededException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .message("slow down").build()));
+        assertTrue(RateLimitingInterceptor.isThrottle(TransactionCanceledException.builder()
+                .cancellationReasons(CancellationReason.builder().code("None").build(),
+                        CancellationReason.builder().code("ThrottlingError").build())
+                .build()));
+        assertFalse(RateLimitingInterceptor.isThrottle(TransactionCanceledException.builder()
+                .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build())
+                .build()));
+        assertFalse(RateLimitingInterceptor.isThrottle(new IllegalStateException("boom")));
+    }
+}
@@ -0,0 +1,143 @@
+package com.osrsGoalTracker.goal.repository.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for SortKeyCodec.
+ */
+class SortKeyCodecTest {
+    private static final String CHARACTER_NAME = "testCharacter";
+    private static final String GOAL_ID = "c2a8a5d4-0d5e-4b43-9d2a-5f0d7a1b6e11";
+
+    @Test
+    void encode_AllKinds_MatchesFormattedKeys() {
+        // Arrange
+        Instant timestamp = Instant.parse("2025-03-19T04:25:06.123Z");
+
+        // Act & Assert
+        assertEquals(String.format("CHARACTER#%s#GOAL#METADATA#%s", CHARACTER_NAME, GOAL_ID),
+                SortKeyCodec.encodeGoalMetadata(CHARACTER_NAME, GOAL_ID));
+        assertEquals(String.format("CHARACTER#%s#GOAL#%s#%s", CHARACTER_NAME, GOAL_ID, timestamp),
+                SortKeyCodec.encodeGoalProgress(CHARACTER_NAME, GOAL_ID, timestamp));
+        assertEquals(String.format("CHARACTER#%s#GOAL#%s#LATEST", CHARACTER_NAME, GOAL_ID),
+                SortKeyCodec.encodeGoalLatest(CHARACTER_NAME, GOAL_ID));
+        assertEquals(String.format("CHARACTER#%s#GOAL#%s#EARLIEST", CHARACTER_NAME, GOAL_ID),
+                SortKeyCodec.encodeGoalEarliest(CHARACTER_NAME, GOAL_ID));
+    }
+
+    @Test
+    void appendInstant_RandomInstants_MatchesInstantToString() {
+        // Arrange
+        Random random = new Random(42);
+        long maxEpochSecond = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+        long minEpochSecond = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond();
+
+        for (int i = 0; i < 10_000; i++) {
+            long epochSecond = minEpochSecond + (long) (random.nextDouble() * (maxEpochSecond - minEpochSecond));
+            int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+
+            // Act
+            String encoded = SortKeyCodec.appendInstant(new StringBuilder(), instant).toString();
+
+            // Assert
+            assertEquals(instant.toString(), encoded);
+            assertEquals(instant, SortKeyCodec.parse(
+                    SortKeyCodec.encodeGoalProgress(CHARACTER_NAME, GOAL_ID, instant)).timestamp());
+        }
+    }
+
+    @Test
+    void appendInstant_OutsideFourDigitYears_FallsBackToInstantToString() {
+        // Arrange
+        Instant future = Instant.parse("+10000-01-01T00:00:00Z");
+        Instant past = Instant.parse("-0001-12-31T23:59:59.5Z");
+
+        // Act & Assert
+        assertEquals(future.toString(), SortKeyCodec.appendInstant(new StringBuilder(), future).toString());
+        assertEquals(past.toString(), SortKeyCodec.appendInstant(new StringBuilder(), past).toString());
+        assertEquals(future, SortKeyCodec.parse(
+                SortKeyCodec.encodeGoalProgress(CHARACTER_NAME, GOAL_ID, future)).timestamp());
+    }
+
+    @Test
+    void parse_ProgressKey_ReturnsTypedParts() {
+        // Arrange
+        Instant timestamp = Instant.parse("2024-02-29T23:59:59.000000001Z");
+
+        // Act
+        SortKey sortKey = SortKeyCodec.parse(SortKeyCodec.encodeGoalProgress(CHARACTER_NAME, GOAL_ID, timestamp));
+
+        // Assert
+        assertEquals(new SortKey(CHARACTER_NAME, GOAL_ID, SortKey.Kind.PROGRESS, timestamp), sortKey);
+    }
+
+    @Test
+    void parse_NonProgressKeys_ReturnsKindWithoutTimestamp() {
+        // Act
+        SortKey metadata = SortKeyCodec.parse(SortKeyCodec.encodeGoalMetadata(CHARACTER_NAME, GOAL_ID));
+        SortKey latest = SortKeyCodec.parse(SortKeyCodec.encodeGoalLatest(CHARACTER_NAME, GOAL_ID));
+        SortKey earliest = SortKeyCodec.parse(SortKeyCodec.encodeGoalEarliest(CHARACTER_NAME, GOAL_ID));
+
+        // Assert
+        assertEquals(SortKey.Kind.METADATA, metadata.kind());
+        assertEquals(GOAL_ID, metadata.goalId());
+        assertEquals(SortKey.Kind.LATEST, latest.kind());
+        assertEquals(CHARACTER_NAME, latest.characterName());
+        assertEquals(SortKey.Kind.EARLIEST, earliest.kind());
+        assertNull(earliest.timestamp());
+    }
+
+    @Test
+    void parse_RollupAndCompactionKeys_ReturnsTypedParts() {
+        // Arrange
+        Instant bucketStart = Instant.parse("2025-03-17T00:00:00Z");
+        String daily = SortKeyCodec.encodeGoalDailyRollup(CHARACTER_NAME, GOAL_ID, bucketStart);
+        String weekly = SortKeyCodec.encodeGoalWeeklyRollup(CHARACTER_NAME, GOAL_ID, bucketStart);
+        String compaction = SortKeyCodec.encodeGoalCompaction(CHARACTER_NAME, GOAL_ID);
+
+        // Act & Assert
+        assertEquals(String.format("CHARACTER#%s#GOAL#%s#ROLLUP#DAY#%s", CHARACTER_NAME, GOAL_ID, bucketStart),
+                daily);
+        assertEquals(SortKey.Kind.DAILY_ROLLUP, SortKeyCodec.parse(daily).kind());
+        assertEquals(bucketStart, SortKeyCodec.parse(daily).timestamp());
+        assertEquals(SortKey.Kind.WEEKLY_ROLLUP, SortKeyCodec.parse(weekly).kind());
+        assertEquals(weekly, SortKeyCodec.parse(weekly).encode());
+        assertEquals(SortKey.Kind.COMPACTION, SortKeyCodec.parse(compaction).kind());
+        assertEquals(GOAL_ID, SortKeyCodec.parse(compaction).goalId());
+    }
+
+    @Test
+    void encode_ParsedKey_RoundTrips() {
+        // Arrange
+        String encoded = SortKeyCodec.encodeGoalProgress(CHARACTER_NAME, GOAL_ID, Instant.ofEpochSecond(0, 500));
+
+        // Act & Assert
+        assertEquals(encoded, SortKeyCodec.parse(encoded).encode());
+    }
+
+    @Test
+    void parse_InvalidKeys_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse("METADATA"));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse("CHARACTER#METADATA#name"));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse("CHARACTER#name#GOAL#id"));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse("CHARACTER#name#GOAL#id#"));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortKeyCodec.parse("CHARACTER#name#GOAL#id#2025-02-30T00:00:00Z"));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyCodec.parse("CHARACTER#name#GOAL#id#NOT_A_TIME"));
+    }
+}
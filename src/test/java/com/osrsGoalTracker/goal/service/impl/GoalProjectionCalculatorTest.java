@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
+import com.osrsGoalTracker.goal.service.impl.GoalProjectionCalculator.Series;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for GoalProjectionCalculator.
+ */
+class GoalProjectionCalculatorTest {
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long DAY = GoalProjectionCalculator.DAY_MILLIS;
+
+    @Test
+    void dailyRate_ConstantRate_AllEstimatorsAgree() {
+        // Arrange
+        Series series = new Series(2);
+        for (int day = 0; day <= 200; day++) {
+            series.add(START.toEpochMilli() + day * DAY, 1_000L * day);
+        }
+
+        // Act & Assert
+        for (ProjectionEstimator estimator : ProjectionEstimator.values()) {
+            assertEquals(1_000d, GoalProjectionCalculator.dailyRate(estimator, series), 1e-6, estimator.name());
+        }
+    }
+
+    @Test
+    void dailyRate_RateChanges_RecentEstimatorsFollowRecentRate() {
+        // Arrange
+        Series series = new Series(2);
+        long value = 0;
+        for (int day = 0; day <= 300; day++) {
+            series.add(START.toEpochMilli() + day * DAY, value);
+            value += day < 150 ? 100 : 1_000;
+        }
+
+        // Act
+        double linear = GoalProjectionCalculator.dailyRate(ProjectionEstimator.LINEAR_FROM_EARLIEST, series);
+        double ewma = GoalProjectionCalculator.dailyRate(ProjectionEstimator.EWMA, series);
+        double leastSquares = GoalProjectionCalculator.dailyRate(ProjectionEstimator.LEAST_SQUARES, series);
+
+        // Assert
+        assertEquals(550d, linear, 1d);
+        assertEquals(1_000d, ewma, 1d);
+        assertEquals(1_000d, leastSquares, 1d);
+    }
+
+    @Test
+    void project_OnPace_ProjectsCompletionBeforeTargetDate() {
+        // Arrange
+        Series series = new Series(2);
+        series.add(START.toEpochMilli(), 0L);
+        series.add(START.toEpochMilli() + 10 * DAY, 10_000L);
+        Instant now = START.plus(Duration.ofDays(10));
+
+        // Act
+        GoalProjection projection = GoalProjectionCalculator.project(ProjectionEstimator.LINEAR_FROM_EARLIEST,
+                series, 30_000L, now.plus(Duration.ofDays(40)), now);
+
+        // Assert
+        assertEquals(1_000d, projection.getDailyRate(), 1e-9);
+        assertEquals(500d, projection.getRequiredDailyRate(), 1e-9);
+        assertEquals(now.plus(Duration.ofDays(20)), projection.getProjectedCompletionDate());
+        assertTrue(projection.isOnTrack());
+    }
+
+    @Test
+    void project_NoProgressAndPastTargetDate_IsNotOnTrack() {
+        // Arrange
+        Series series = new Series(2);
+        series.add(START.toEpochMilli(), 500L);
+        series.add(START.toEpochMilli() + DAY, 500L);
+
+        // Act
+        GoalProjection projection = GoalProjectionCalculator.project(ProjectionEstimator.EWMA, series, 1_000L,
+                START, START.plus(Duration.ofDays(2)));
+
+        // Assert
+        assertNull(projection.getProjectedCompletionDate());
+        assertEquals(Double.POSITIVE_INFINITY, projection.getRequiredDailyRate());
+        assertFalse(projection.isOnTrack());
+    }
+
+    @Test
+    void project_TargetReached_IsCompleteAndOnTrack() {
+        // Arrange
+        Series series = new Series(2);
+        series.add(START.toEpochMilli(), 0L);
+        series.add(START.toEpochMilli() + DAY, 2_000L);
+
+        // Act
+        GoalProjection projection = GoalProjectionCalculator.project(ProjectionEstimator.LEAST_SQUARES, series,
+                1_000L, null, START.plus(Duration.ofDays(3)));
+
+        // Assert
+        assertEquals(START.plus(Duration.ofDays(1)), projection.getProjectedCompletionDate());
+        assertEquals(0d, projection.getRequiredDailyRate());
+        assertTrue(projection.isOnTrack());
+    }
+
+    @Test
+    void project_EmptySeries_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> GoalProjectionCalculator.project(
+                ProjectionEstimator.EWMA, new Series(2), 1L, null, START));
+    }
+}
@@ -5,15 +5,37 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressSnapshot;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
 import com.osrsGoalTracker.goal.repository.GoalRepository;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -172,6 +194,192 @@ public class GoalServiceImplTest {
                 assertThrows(IllegalArgumentException.class, () -> service.createGoalProgress(goal));
         }
 
+        @Test
+        void createGoalProgressBatch_AllValid_DelegatesToBulkWrite() {
+                // Arrange
+                Goal first = createValidGoal();
+                Goal second = createValidGoal();
+                List<Goal> goals = Arrays.asList(first, second);
+                when(goalRepository.createGoalProgressBatch(goals)).thenReturn(Arrays.asList(
+                                GoalProgressWriteResult.succeeded(first),
+                                GoalProgressWriteResult.failed(second, "Unprocessed")));
+
+                // Act
+                List<GoalProgressWriteResult> results = service.createGoalProgressBatch(goals);
+
+                // Assert
+                assertEquals(2, results.size());
+                assertTrue(results.get(0).isSuccess());
+                assertFalse(results.get(1).isSuccess());
+                verify(goalRepository).createGoalProgressBatch(goals);
+        }
+
+        @Test
+        void createGoalProgressBatch_InvalidGoal_ReportsFailureWithoutWriting() {
+                // Arrange
+                Goal valid = createValidGoal();
+                Goal invalid = createValidGoal();
+                invalid.setGoalId("");
+                when(goalRepository.createGoalProgressBatch(Arrays.asList(valid)))
+                                .thenReturn(Arrays.asList(GoalProgressWriteResult.succeeded(valid)));
+
+                // Act
+                List<GoalProgressWriteResult> results = service.createGoalProgressBatch(Arrays.asList(invalid, valid));
+
+                // Assert
+                assertFalse(results.get(0).isSuccess());
+                assertEquals("goalId cannot be null or empty", results.get(0).getErrorMessage());
+                assertTrue(results.get(1).isSuccess());
+                verify(goalRepository).createGoalProgressBatch(Arrays.asList(valid));
+        }
+
+        @Test
+        void createGoalProgressBatch_NoValidGoals_SkipsRepository() {
+                // Arrange
+                Goal invalid = createValidGoal();
+                invalid.setUserId("");
+
+                // Act
+                List<GoalProgressWriteResult> results = service.createGoalProgressBatch(Arrays.asList(invalid));
+
+                // Assert
+                assertFalse(results.get(0).isSuccess());
+                verify(goalRepository, never()).createGoalProgressBatch(anyList());
+        }
+
+        @Test
+        void createGoalProgressBatch_NullList_ThrowsException() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> service.createGoalProgressBatch(null));
+        }
+
+        @Test
+        void getGoal_ValidKey_ReturnsRepositoryGoal() {
+                // Arrange
+                Goal goal = createValidGoal();
+                when(goalRepository.getGoal(goal.getUserId(), goal.getCharacterName(), goal.getGoalId()))
+                                .thenReturn(Optional.of(goal));
+
+                // Act
+                Optional<Goal> result = service.getGoal(goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
+
+                // Assert
+                assertTrue(result.isPresent());
+                assertEquals(goal.getGoalId(), result.get().getGoalId());
+        }
+
+        @Test
+        void listGoalsForCharacter_InvalidArguments_ThrowsException() {
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class,
+                                () -> service.listGoalsForCharacter("", "testCharacter", null, 10));
+                assertThrows(IllegalArgumentException.class,
+                                () -> service.listGoalsForCharacter("user", "testCharacter", null, 101));
+                assertThrows(IllegalArgumentException.class, () -> service.listGoalsForUser("user", null, 0));
+                verify(goalRepository, never()).listGoalsForCharacter(anyString(), anyString(), any(), anyInt());
+        }
+
+        @Test
+        void streamGoalsForUser_MultiplePages_FetchesPagesLazily() {
+                // Arrange
+                Goal first = createValidGoal();
+                Goal second = createValidGoal();
+                when(goalRepository.listGoalsForUser(eq("user"), isNull(), eq(1)))
+                                .thenReturn(Page.<Goal>builder().items(List.of(first)).nextCursor("next").build());
+                when(goalRepository.listGoalsForUser("user", "next", 1))
+                                .thenReturn(Page.<Goal>builder().items(List.of(second)).build());
+
+                // Act
+                Optional<Goal> head = service.streamGoalsForUser("user", 1).findFirst();
+                List<Goal> all = service.streamGoalsForUser("user", 1).toList();
+
+                // Assert
+                assertEquals(first, head.get());
+                assertEquals(Arrays.asList(first, second), all);
+                verify(goalRepository).listGoalsForUser("user", "next", 1);
+        }
+
+        @Test
+        void projectGoal_NoRecentHistory_FallsBackToEarliestAndLatest() {
+                // Arrange
+                Instant now = Instant.parse("2025-03-01T00:00:00Z");
+                GoalServiceImpl clockedService = new GoalServiceImpl(goalRepository,
+                                Clock.fixed(now, ZoneOffset.UTC));
+                Goal goal = createValidGoal();
+                goal.setTargetValue(20_000L);
+                goal.setTargetDate(now.plus(Duration.ofDays(5)));
+                when(goalRepository.getGoalProgressSnapshot(goal.getUserId(), goal.getCharacterName(),
+                                goal.getGoalId())).thenReturn(Optional.of(GoalProgressSnapshot.builder()
+                                                .goal(goal)
+                                                .earliest(point(now.minus(Duration.ofDays(100)), 0L))
+                                                .latest(point(now.minus(Duration.ofDays(50)), 10_000L))
+                                                .build()));
+                when(goalRepository.listGoalProgress(eq(goal.getUserId()), eq(goal.getCharacterName()),
+                                eq(goal.getGoalId()), any(), any(), isNull(), anyInt()))
+                                .thenReturn(Page.<GoalProgressPoint>builder().items(List.of()).build());
+
+                // Act
+                GoalProjection projection = clockedService.projectGoal(goal.getUserId(), goal.getCharacterName(),
+                                goal.getGoalId(), ProjectionEstimator.EWMA).orElseThrow();
+
+                // Assert
+                assertEquals(200d, projection.getDailyRate(), 1e-9);
+                assertEquals(now.plus(Duration.ofDays(50)), projection.getProjectedCompletionDate());
+                assertEquals(2_000d, projection.getRequiredDailyRate(), 1e-9);
+                assertFalse(projection.isOnTrack());
+        }
+
+        @Test
+        void projectGoal_MissingGoal_ReturnsEmpty() {
+                // Arrange
+                when(goalRepository.getGoalProgressSnapshot("user", "testCharacter", "goal"))
+                                .thenReturn(Optional.empty());
+
+                // Act & Assert
+                assertFalse(service.projectGoal("user", "testCharacter", "goal",
+                                ProjectionEstimator.LINEAR_FROM_EARLIEST).isPresent());
+                assertThrows(IllegalArgumentException.class,
+                                () -> service.projectGoal("user", "testCharacter", "goal", null));
+        }
+
+        @Test
+        void compactGoalProgress_ValidAge_CompactsRecordsOlderThanAge() {
+                // Arrange
+                Instant now = Instant.parse("2025-03-19T04:25:06Z");
+                GoalServiceImpl clockedService = new GoalServiceImpl(goalRepository,
+                                Clock.fixed(now, ZoneOffset.UTC));
+                ProgressCompactionResult compacted = ProgressCompactionResult.builder().goalsProcessed(1).build();
+                when(goalRepository.compactGoalProgress("user", "testCharacter", "goal",
+                                now.minus(Duration.ofDays(30)))).thenReturn(compacted);
+
+                // Act & Assert
+                assertEquals(compacted, clockedService.compactGoalProgress("user", "testCharacter", "goal",
+                                Duration.ofDays(30)));
+                assertThrows(IllegalArgumentException.class,
+                                () -> service.compactGoalProgress("user", "testCharacter", "goal", null));
+                assertThrows(IllegalArgumentException.class, () -> service.compactGoalProgress("user",
+                                "testCharacter", "goal", Duration.ofDays(-1)));
+        }
+
+        @Test
+        void listGoalProgressRollups_InvalidInterval_ThrowsException() {
+                // Arrange
+                Instant from = Instant.parse("2025-03-01T00:00:00Z");
+                Instant to = from.plus(Duration.ofDays(7));
+
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class, () -> service.listGoalProgressRollups("user",
+                                "testCharacter", "goal", ProgressInterval.HOUR, from, to, null, 10));
+                assertThrows(IllegalArgumentException.class, () -> service.listGoalProgressRollups("user",
+                                "testCharacter", "goal", ProgressInterval.DAY, to, from, null, 10));
+                verify(goalRepository, never()).listGoalProgressRollups(anyString(), anyString(), anyString(),
+                                any(), any(), any(), any(), anyInt());
+        }
+
+        private GoalProgressPoint point(Instant timestamp, long value) {
+                return GoalProgressPoint.builder().timestamp(timestamp).progressValue(value).build();
+        }
+
         private Goal createValidGoal() {
                 return Goal.builder()
                                 .userId(UUID.randomUUID().toString())
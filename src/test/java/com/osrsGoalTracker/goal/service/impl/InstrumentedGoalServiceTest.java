@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.osrsGoalTracker.goal.metrics.GoalMetrics;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for InstrumentedGoalService.
+ */
+class InstrumentedGoalServiceTest {
+    private GoalService delegate;
+    private GoalMetrics metrics;
+    private InstrumentedGoalService service;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(GoalService.class);
+        metrics = mock(GoalMetrics.class);
+        when(metrics.startTimer()).thenReturn(42L);
+        service = new InstrumentedGoalService(delegate, metrics);
+    }
+
+    @Test
+    void createGoal_Success_RecordsLatency() {
+        // Arrange
+        Goal goal = Goal.builder().userId("user").build();
+        when(delegate.createGoal(goal)).thenReturn(goal);
+
+        // Act
+        Goal result = service.createGoal(goal);
+
+        // Assert
+        assertSame(goal, result);
+        verify(metrics).recordLatency(InstrumentedGoalService.CREATE_GOAL, 42L, true);
+    }
+
+    @Test
+    void createGoalProgress_Failure_RecordsErrorAndRethrows() {
+        // Arrange
+        Goal goal = Goal.builder().userId("user").build();
+        doThrow(new IllegalArgumentException("invalid")).when(delegate).createGoalProgress(goal);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.createGoalProgress(goal));
+        verify(metrics).recordLatency(InstrumentedGoalService.CREATE_GOAL_PROGRESS, 42L, false);
+    }
+}
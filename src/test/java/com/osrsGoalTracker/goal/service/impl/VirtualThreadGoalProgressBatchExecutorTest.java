@@ -0,0 +1,262 @@
+package com.osrsGoalTracker.goal.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrsGoalTracker.goal.model.BackpressureException;
+import com.osrsGoalTracker.goal.model.Goal;
+import com.osrsGoalTracker.goal.model.GoalProgressPoint;
+import com.osrsGoalTracker.goal.model.GoalProgressRollup;
+import com.osrsGoalTracker.goal.model.GoalProgressWriteResult;
+import com.osrsGoalTracker.goal.model.GoalProjection;
+import com.osrsGoalTracker.goal.model.Page;
+import com.osrsGoalTracker.goal.model.ProgressCompactionResult;
+import com.osrsGoalTracker.goal.model.ProgressInterval;
+import com.osrsGoalTracker.goal.model.ProjectionEstimator;
+import com.osrsGoalTracker.goal.service.GoalService;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for VirtualThreadGoalProgressBatchExecutor.
+ */
+class VirtualThreadGoalProgressBatchExecutorTest {
+
+    @Test
+    void createGoalProgressBatch_ManyGoals_NeverExceedsConcurrencyLimit() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(5);
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 3);
+        List<Goal> goals = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            goals.add(goal("goal" + i, i));
+        }
+
+        // Act
+        List<GoalProgressWriteResult> results = executor.createGoalProgressBatch(goals);
+
+        // Assert
+        assertEquals(20, results.size());
+        assertTrue(results.stream().allMatch(GoalProgressWriteResult::isSuccess));
+        assertTrue(goalService.maxConcurrent.get() <= 3);
+        assertTrue(goalService.maxConcurrent.get() > 1);
+    }
+
+    @Test
+    void createGoalProgressBatch_SameGoal_WritesInOrder() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(1);
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 8);
+
+        // Act
+        executor.createGoalProgressBatch(Arrays.asList(goal("goal1", 1), goal("goal2", 1), goal("goal1", 2),
+                goal("goal1", 3)));
+
+        // Assert
+        List<Long> goal1Values = goalService.written.stream()
+                .filter(goal -> goal.getGoalId().equals("goal1"))
+                .map(Goal::getCurrentProgress)
+                .toList();
+        assertEquals(Arrays.asList(1L, 2L, 3L), goal1Values);
+        assertEquals(4, goalService.writtenBeforeFlush.get());
+    }
+
+    @Test
+    void createGoalProgressBatch_WriteFails_AggregatesFailure() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(0);
+        goalService.failingGoalId = "bad";
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 4);
+
+        // Act
+        List<GoalProgressWriteResult> results = executor.createGoalProgressBatch(
+                Arrays.asList(goal("good", 1), goal("bad", 1)));
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("write failed", results.get(1).getErrorMessage());
+    }
+
+    @Test
+    void createGoalProgressBatch_RefusedByRateLimit_FailsLaterUpdatesWithoutWriting() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(0);
+        goalService.refusing = true;
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 4);
+
+        // Act
+        List<GoalProgressWriteResult> results = executor.createGoalProgressBatch(
+                Arrays.asList(goal("goal1", 1), goal("goal1", 2), goal("goal1", 3)));
+
+        // Assert
+        assertTrue(results.stream().noneMatch(GoalProgressWriteResult::isSuccess));
+        assertEquals(results.get(0).getErrorMessage(), results.get(2).getErrorMessage());
+        assertEquals(1, goalService.attempts.get());
+    }
+
+    @Test
+    void createGoalProgressBatch_FlushFails_FailsWrittenUpdates() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(0);
+        goalService.failingGoalId = "bad";
+        goalService.failingFlush = true;
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 4);
+
+        // Act
+        List<GoalProgressWriteResult> results = executor.createGoalProgressBatch(
+                Arrays.asList(goal("good", 1), goal("bad", 1)));
+
+        // Assert
+        assertEquals("flush failed", results.get(0).getErrorMessage());
+        assertEquals("write failed", results.get(1).getErrorMessage());
+        assertEquals("good", results.get(0).getGoal().getGoalId());
+    }
+
+    @Test
+    void createGoalProgressBatch_LatestProgressNotFlushed_FailsThatGoalsUpdates() {
+        // Arrange
+        RecordingGoalService goalService = new RecordingGoalService(0);
+        goalService.unflushed = List.of(goal("goal1", 2));
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(goalService, 4);
+
+        // Act
+        List<GoalProgressWriteResult> results = executor.createGoalProgressBatch(
+                Arrays.asList(goal("goal1", 1), goal("goal2", 1), goal("goal1", 2)));
+
+        // Assert
+        assertEquals("Latest progress not written", results.get(0).getErrorMessage());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+    }
+
+    @Test
+    void createGoalProgressBatch_NullList_ThrowsException() {
+        // Arrange
+        VirtualThreadGoalProgressBatchExecutor executor = new VirtualThreadGoalProgressBatchExecutor(
+                new RecordingGoalService(0), 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> executor.createGoalProgressBatch(null));
+    }
+
+    private Goal goal(String goalId, long progress) {
+        return Goal.builder()
+                .userId("user")
+                .characterName("character")
+                .goalId(goalId)
+                .currentProgress(progress)
+                .build();
+    }
+
+    /**
+     * GoalService stub that records writes and the peak number of concurrent
+     * calls.
+     */
+    private static final class RecordingGoalService implements GoalService {
+        private final long writeMillis;
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final List<Goal> written = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger writtenBeforeFlush = new AtomicInteger(-1);
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile String failingGoalId;
+        private volatile boolean refusing;
+        private volatile boolean failingFlush;
+        private volatile List<Goal> unflushed = List.of();
+
+        RecordingGoalService(long writeMillis) {
+            this.writeMillis = writeMillis;
+        }
+
+        @Override
+        public Goal createGoal(Goal goal) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void createGoalProgress(Goal goal) {
+            int now = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            attempts.incrementAndGet();
+            try {
+                if (refusing) {
+                    throw new BackpressureException("TransactWriteItems", 5.0);
+                }
+                if (goal.getGoalId().equals(failingGoalId)) {
+                    throw new IllegalStateException("write failed");
+                }
+                Thread.sleep(writeMillis);
+                written.add(goal);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+
+        @Override
+        public List<GoalProgressWriteResult> createGoalProgressBatch(List<Goal> goals) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Goal> flushProgress() {
+            writtenBeforeFlush.set(written.size());
+            if (failingFlush) {
+                throw new IllegalStateException("flush failed");
+            }
+            return unflushed;
+        }
+
+        @Override
+        public Optional<Goal> getGoal(String userId, String characterName, String goalId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Goal> listGoalsForCharacter(String userId, String characterName, String cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Goal> listGoalsForUser(String userId, String cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<GoalProgressPoint> listGoalProgress(String userId, String characterName, String goalId,
+                Instant from, Instant to, String cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<GoalProjection> projectGoal(String userId, String characterName, String goalId,
+                ProjectionEstimator estimator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<GoalProgressRollup> listGoalProgressRollups(String userId, String characterName,
+                String goalId, ProgressInterval interval, Instant from, Instant to, String cursor, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProgressCompactionResult compactGoalProgress(String userId, String characterName, String goalId,
+                Duration minimumAge) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}